@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.5"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.deliveranything"
@@ -56,6 +57,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-cache")
     implementation("org.springframework.session:spring-session-data-redis")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310") // 날짜 직렬화
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile") // 이벤트 binary 직렬화
 
     // --- JWT ---
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
@@ -114,4 +116,11 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+}
+
+// --- Benchmark (./gradlew jmh, src/jmh/java) ---
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.deliveranything.domain.product.stock.service;
+
+import com.deliveranything.domain.product.stock.repository.StockShardRepository;
+import com.deliveranything.global.config.QuerydslConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인기 상품 1개에 동시 예약이 몰릴 때 샤드 수별 예약 처리량 - StockShardService 를 실제 StockShardRepositoryImpl 의 조건부
+ * UPDATE 로 H2(MySQL 모드, 메모리) 에 실행, 예약 1건마다 트랜잭션 1개 (커밋까지 샤드 행 잠금 유지) - shards=1 이 분할 전 (행 1개에
+ * 몰림) - 주의: 메모리 H2 는 디스크 기록/네트워크 왕복이 없어 행 잠금을 쥐는 시간이 MySQL 보다 훨씬 짧고 H2 자체 동기화도 함께 잼
+ * (이 코드 경로의 샤드 수별 상대 비교용, 운영 DB 처리량 추정에는 쓰지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class StockShardBenchmark {
+
+  private static final Long STOCK_ID = 1L;
+  private static final String JDBC_URL = "jdbc:h2:mem:stock_shard_bench;MODE=MySQL;"
+      + "DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000;INIT=CREATE SCHEMA IF NOT EXISTS GIS";
+
+  @Param({"1", "2", "4", "8", "16"})
+  public int shards;
+
+  private AnnotationConfigApplicationContext context;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private StockShardService stockShardService;
+
+  // 샤드 행만 넣도록 FK 검사 중지 (상품/가게/재고 행 없이)
+  @Setup(Level.Trial)
+  public void startContext() {
+    context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+    jdbcTemplate = context.getBean(JdbcTemplate.class);
+    transactionTemplate = context.getBean(TransactionTemplate.class);
+    stockShardService = new StockShardService(context.getBean(StockShardRepository.class));
+    jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+  }
+
+  // 반복마다 샤드 행을 다시 채워 품절 없이 측정
+  @Setup(Level.Iteration)
+  public void resetShards() {
+    jdbcTemplate.update("DELETE FROM stock_shards");
+    for (int i = 0; i < shards; i++) {
+      jdbcTemplate.update("INSERT INTO stock_shards (stock_id, shard_index, version, "
+              + "total_quantity, held_quantity) VALUES (?, ?, 0, ?, 0)", STOCK_ID, i,
+          Integer.MAX_VALUE);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void closeContext() {
+    context.close();
+  }
+
+  @Benchmark
+  public void reserve() {
+    transactionTemplate.executeWithoutResult(
+        status -> stockShardService.reserve(STOCK_ID, shards, 1));
+  }
+
+  // Spring Boot 자동 설정 없이 재고 리포지토리와 JPA 만 올림 (Redis/Kafka 등 외부 연결 없음)
+  @Configuration
+  @EnableJpaRepositories(basePackageClasses = StockShardRepository.class)
+  @Import(QuerydslConfig.class)
+  static class BenchmarkConfig {
+
+    @Bean(destroyMethod = "close")
+    HikariDataSource dataSource() {
+      HikariDataSource dataSource = new HikariDataSource();
+      dataSource.setJdbcUrl(JDBC_URL);
+      dataSource.setUsername("sa");
+      dataSource.setMaximumPoolSize(32);
+      return dataSource;
+    }
+
+    // 애플리케이션과 같은 H2 방언과 컬럼 이름 규칙 (camelCase -> snake_case)
+    @Bean
+    LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+      LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+      factory.setDataSource(dataSource);
+      factory.setPackagesToScan("com.deliveranything");
+      factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+      factory.setJpaPropertyMap(Map.of(
+          "hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+          "hibernate.hbm2ddl.auto", "create",
+          "hibernate.physical_naming_strategy",
+          CamelCaseToUnderscoresNamingStrategy.class.getName(),
+          "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+      return factory;
+    }
+
+    @Bean
+    JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+      return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+      return new TransactionTemplate(transactionManager);
+    }
+
+    @Bean
+    JdbcTemplate jdbcTemplate(DataSource dataSource) {
+      return new JdbcTemplate(dataSource);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.deliveranything.global.codec;
+
+import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.global.stream.EventStreamProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * saga 이벤트 1건 인코딩/디코딩 비교 - json*: 기존 경로 (RedisTemplate JSON 직렬화 → 구독자에서 new String 후
+ * ObjectMapper 파싱) - smile*: EventMessageCodec (헤더 + Smile 본문, byte[] 에서 바로 디코딩)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventCodecBenchmark {
+
+  private GenericJackson2JsonRedisSerializer redisJsonSerializer;
+  private ObjectMapper objectMapper;
+  private EventMessageCodec smileCodec;
+
+  private OrderAcceptedEvent event;
+  private byte[] jsonMessage;
+  private byte[] smileMessage;
+
+  @Setup
+  public void setUp() {
+    // RedisConfig.redisTemplate 과 같은 설정
+    redisJsonSerializer = new GenericJackson2JsonRedisSerializer(new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    // 구독자가 쓰는 Spring ObjectMapper 와 같은 설정
+    objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    JsonEventCodec jsonEventCodec = new JsonEventCodec(objectMapper);
+    smileCodec = new EventMessageCodec(List.of(jsonEventCodec, new SmileEventCodec()),
+        jsonEventCodec, new EventStreamProperties());
+
+    event = new OrderAcceptedEvent("1024",
+        List.of(new OrderItemInfo(11L, 2), new OrderItemInfo(12L, 1), new OrderItemInfo(15L, 3)),
+        7L, 3L, "강남 치킨", 127.0276, 37.4979, 127.0396, 37.5012);
+    jsonMessage = redisJsonSerializer.serialize(event);
+    smileMessage = smileCodec.encode(event);
+  }
+
+  @Benchmark
+  public byte[] jsonEncode() {
+    return redisJsonSerializer.serialize(event);
+  }
+
+  @Benchmark
+  public OrderAcceptedEvent jsonDecode() throws Exception {
+    return objectMapper.readValue(new String(jsonMessage), OrderAcceptedEvent.class);
+  }
+
+  @Benchmark
+  public byte[] smileEncode() {
+    return smileCodec.encode(event);
+  }
+
+  @Benchmark
+  public OrderAcceptedEvent smileDecode() {
+    return smileCodec.decode(smileMessage, OrderAcceptedEvent.class);
+  }
+}
@@ -0,0 +1,233 @@
+package com.deliveranything.domain.delivery.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Kakao Mobility 길찾기 공용 클라이언트 - WebClient 1회 생성 후 재사용 - 호출별 제한 시간 - 동시 호출 제한(bulkhead) - 서킷
+ * 브레이커 (OPEN 시 GeoUtil 직선 거리 기반 추정치로 대체) - 선택적 헤지 요청 (hedgeDelay 내 응답이 없으면 동일 요청 1회 추가)
+ */
+@Slf4j
+@Component
+public class KakaoNaviClient {
+
+  // Kakao 다중 출발지 길찾기는 요청당 반경 10km 까지 지원
+  private static final int MAX_RADIUS_METERS = 10_000;
+
+  private final WebClient webClient;
+  private final KakaoNaviProperties properties;
+  private final String kakaoApiKey;
+
+  private final Semaphore bulkhead;
+  private final NaviCircuitBreaker circuitBreaker;
+
+  private final Counter successCounter;
+  private final Counter failureCounter;
+  private final Counter fallbackCounter;
+
+  public KakaoNaviClient(
+      WebClient.Builder webClientBuilder,
+      KakaoNaviProperties properties,
+      MeterRegistry meterRegistry,
+      @Value("${kakao.api.key}") String kakaoApiKey
+  ) {
+    this.webClient = webClientBuilder.clone().baseUrl(properties.getBaseUrl()).build();
+    this.properties = properties;
+    this.kakaoApiKey = kakaoApiKey;
+    this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls());
+
+    KakaoNaviProperties.CircuitBreaker cb = properties.getCircuitBreaker();
+    this.circuitBreaker = new NaviCircuitBreaker(cb.getSlidingWindowSize(), cb.getMinimumCalls(),
+        cb.getFailureRateThreshold(), cb.getOpenDuration(), Clock.systemUTC());
+
+    this.successCounter = Counter.builder("kakao.navi.calls").tag("result", "success")
+        .register(meterRegistry);
+    this.failureCounter = Counter.builder("kakao.navi.calls").tag("result", "failure")
+        .register(meterRegistry);
+    this.fallbackCounter = Counter.builder("kakao.navi.calls").tag("result", "fallback")
+        .register(meterRegistry);
+    Gauge.builder("kakao.navi.bulkhead.available", bulkhead, Semaphore::availablePermits)
+        .register(meterRegistry);
+    Gauge.builder("kakao.navi.circuit.state", circuitBreaker, c -> c.getState().ordinal())
+        .register(meterRegistry);
+  }
+
+  /**
+   * 단일 경로 조회 - 실패/차단 시 직선 거리 기반 추정치 반환 (오류를 전파하지 않음)
+   */
+  public Mono<NaviRoute> route(double fromLat, double fromLon, double toLat, double toLon) {
+    Mono<NaviRoute> call = Mono.defer(() -> webClient.get()
+        .uri(uriBuilder -> uriBuilder
+            .path("/directions")
+            .queryParam("origin", fromLon + "," + fromLat) // lon,lat
+            .queryParam("destination", toLon + "," + toLat)
+            .build())
+        .header("Authorization", "KakaoAK " + kakaoApiKey)
+        .retrieve()
+        .bodyToMono(Map.class)
+        .map(KakaoNaviClient::parseSingleRoute));
+
+    return guarded(call)
+        .onErrorResume(e -> {
+          fallbackCounter.increment();
+          log.warn("Kakao directions unavailable, using estimate: {}", e.getMessage());
+          return Mono.just(NaviRoute.estimate(fromLat, fromLon, toLat, toLon));
+        });
+  }
+
+  /**
+   * 다중 출발지 경로 조회 - origins 의 key 별 결과 반환 - 실패/차단 시 빈 Map (호출 측에서 로컬 추정치로 보완)
+   */
+  public Mono<Map<String, NaviRoute>> multiOriginRoutes(
+      Map<String, Point> origins, double toLat, double toLon
+  ) {
+    if (!isMultiOriginEnabled() || origins.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+
+    List<Map<String, String>> originBody = new ArrayList<>();
+    origins.forEach((key, point) -> originBody.add(Map.of(
+        "x", String.valueOf(point.getX()), // lon
+        "y", String.valueOf(point.getY()), // lat
+        "key", key)));
+
+    Map<String, Object> body = Map.of(
+        "origins", originBody,
+        "destination", Map.of("x", String.valueOf(toLon), "y", String.valueOf(toLat)),
+        "radius", MAX_RADIUS_METERS
+    );
+
+    Mono<Map<String, NaviRoute>> call = Mono.defer(() -> webClient.post()
+        .uri(properties.getMultiOriginUrl())
+        .header("Authorization", "KakaoAK " + kakaoApiKey)
+        .bodyValue(body)
+        .retrieve()
+        .bodyToMono(Map.class)
+        .map(KakaoNaviClient::parseMultiOriginRoutes));
+
+    return guarded(call)
+        .onErrorResume(e -> {
+          fallbackCounter.increment();
+          log.warn("Kakao multi-origin directions unavailable ({} origins): {}", origins.size(),
+              e.getMessage());
+          return Mono.just(Map.of());
+        });
+  }
+
+  public boolean isMultiOriginEnabled() {
+    return properties.getMultiOriginUrl() != null && !properties.getMultiOriginUrl().isBlank();
+  }
+
+  /**
+   * 현재 상태 (actuator 노출용)
+   */
+  public Map<String, Object> snapshot() {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("circuitState", circuitBreaker.getState().name());
+    snapshot.put("failureRate", circuitBreaker.getFailureRate());
+    snapshot.put("availableConcurrentCalls", bulkhead.availablePermits());
+    snapshot.put("maxConcurrentCalls", properties.getMaxConcurrentCalls());
+    snapshot.put("timeoutMs", properties.getTimeout().toMillis());
+    snapshot.put("hedgeDelayMs",
+        properties.getHedgeDelay() != null ? properties.getHedgeDelay().toMillis() : null);
+    snapshot.put("successCount", successCounter.count());
+    snapshot.put("failureCount", failureCounter.count());
+    snapshot.put("fallbackCount", fallbackCounter.count());
+    return snapshot;
+  }
+
+  // 서킷 브레이커 + 헤지 요청 적용
+  private <T> Mono<T> guarded(Mono<T> call) {
+    Mono<T> first = attempt(call);
+    if (properties.getHedgeDelay() == null) {
+      return first;
+    }
+    Mono<T> hedge = Mono.delay(properties.getHedgeDelay()).then(attempt(call));
+    return Mono.firstWithValue(first, hedge);
+  }
+
+  // 1회 시도: 서킷 확인 → bulkhead 획득 → 제한 시간 적용 → 결과 기록
+  private <T> Mono<T> attempt(Mono<T> call) {
+    return Mono.defer(() -> {
+      if (!circuitBreaker.tryAcquirePermission()) {
+        return Mono.error(new IllegalStateException("Kakao navi circuit is OPEN"));
+      }
+      if (!bulkhead.tryAcquire()) {
+        circuitBreaker.onIgnored();
+        return Mono.error(new IllegalStateException("Kakao navi bulkhead is full"));
+      }
+
+      return call
+          .timeout(properties.getTimeout())
+          .doOnSuccess(result -> {
+            circuitBreaker.onSuccess();
+            successCounter.increment();
+          })
+          .doOnError(e -> {
+            circuitBreaker.onFailure();
+            failureCounter.increment();
+          })
+          .doFinally(signal -> {
+            if (signal == SignalType.CANCEL) {
+              circuitBreaker.onIgnored();
+            }
+            bulkhead.release();
+          });
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static NaviRoute parseSingleRoute(Map<String, Object> response) {
+    Map<String, Object> route = (Map<String, Object>) ((List<?>) response.get("routes")).get(0);
+    Map<String, Object> summary = (Map<String, Object>) route.get("summary");
+    if (summary == null) {
+      throw new IllegalStateException("No route found: " + route.get("result_msg"));
+    }
+    return new NaviRoute(
+        ((Number) summary.get("distance")).doubleValue(), // m 단위
+        ((Number) summary.get("duration")).doubleValue(), // 초 단위
+        false
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, NaviRoute> parseMultiOriginRoutes(Map<String, Object> response) {
+    Map<String, NaviRoute> result = new HashMap<>();
+    if (!(response.get("routes") instanceof List<?> routes)) {
+      return result;
+    }
+
+    for (Object item : routes) {
+      Map<String, Object> route = (Map<String, Object>) item;
+      Object resultCode = route.get("result_code");
+      if (resultCode instanceof Number code && code.intValue() != 0) {
+        continue; // 경로 탐색 실패한 출발지는 호출 측에서 추정치로 보완
+      }
+      Map<String, Object> summary = (Map<String, Object>) route.get("summary");
+      if (summary == null || route.get("key") == null) {
+        continue;
+      }
+      result.put(route.get("key").toString(), new NaviRoute(
+          ((Number) summary.get("distance")).doubleValue(),
+          ((Number) summary.get("duration")).doubleValue(),
+          false
+      ));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,23 @@
+package com.deliveranything.domain.delivery.client;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/kakaonavi - 길찾기 클라이언트 서킷/bulkhead 상태 조회
+ */
+@Component
+@Endpoint(id = "kakaonavi")
+@RequiredArgsConstructor
+public class KakaoNaviEndpoint {
+
+  private final KakaoNaviClient kakaoNaviClient;
+
+  @ReadOperation
+  public Map<String, Object> state() {
+    return kakaoNaviClient.snapshot();
+  }
+}
@@ -0,0 +1,36 @@
+package com.deliveranything.domain.delivery.client;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kakao.navi")
+public class KakaoNaviProperties {
+
+  private String baseUrl = "https://apis-navi.kakaomobility.com/v1";
+  private String multiOriginUrl;
+
+  // 호출 1회 제한 시간
+  private Duration timeout = Duration.ofSeconds(2);
+  // 동시 호출 제한 (bulkhead)
+  private int maxConcurrentCalls = 64;
+  // 헤지 요청 지연 시간 (비워두면 헤지 요청 사용 안 함)
+  private Duration hedgeDelay;
+
+  private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+  @Getter
+  @Setter
+  public static class CircuitBreaker {
+
+    private int slidingWindowSize = 20;
+    private int minimumCalls = 10;
+    private int failureRateThreshold = 50; // %
+    private Duration openDuration = Duration.ofSeconds(30);
+  }
+}
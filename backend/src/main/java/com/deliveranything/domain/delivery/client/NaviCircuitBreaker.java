@@ -0,0 +1,124 @@
+package com.deliveranything.domain.delivery.client;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 호출 결과 기반 서킷 브레이커 - 최근 N건 실패율이 임계치를 넘으면 OPEN - OPEN 유지 시간이 지나면 HALF_OPEN 으로 전환해 1건만
+ * 시험 호출 - 시험 호출 성공 시 CLOSED, 실패 시 다시 OPEN
+ */
+public class NaviCircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final int minimumCalls;
+  private final int failureRateThreshold;
+  private final long openDurationMillis;
+  private final Clock clock;
+
+  // 최근 호출 결과 링 버퍼 (true = 실패)
+  private final boolean[] window;
+  private int windowIndex;
+  private int recordedCalls;
+  private int failedCalls;
+
+  private State state = State.CLOSED;
+  private long openedAtMillis;
+  private boolean probeInFlight;
+
+  public NaviCircuitBreaker(int slidingWindowSize, int minimumCalls, int failureRateThreshold,
+      Duration openDuration, Clock clock) {
+    this.window = new boolean[slidingWindowSize];
+    this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationMillis = openDuration.toMillis();
+    this.clock = clock;
+  }
+
+  /**
+   * 호출 가능 여부 - OPEN 이면 false (즉시 fallback)
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN && clock.millis() - openedAtMillis >= openDurationMillis) {
+      state = State.HALF_OPEN;
+      probeInFlight = false;
+    }
+
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> false;
+      case HALF_OPEN -> {
+        if (probeInFlight) {
+          yield false;
+        }
+        probeInFlight = true;
+        yield true;
+      }
+    };
+  }
+
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      reset(State.CLOSED);
+      return;
+    }
+    record(false);
+  }
+
+  public synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      open();
+      return;
+    }
+    record(true);
+    if (recordedCalls >= minimumCalls
+        && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+      open();
+    }
+  }
+
+  // 취소된 호출(헤지 요청에서 진 쪽 등)은 결과로 집계하지 않고 시험 호출 슬롯만 반환
+  public synchronized void onIgnored() {
+    if (state == State.HALF_OPEN) {
+      probeInFlight = false;
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  public synchronized double getFailureRate() {
+    return recordedCalls == 0 ? 0.0 : failedCalls * 100.0 / recordedCalls;
+  }
+
+  private void record(boolean failed) {
+    if (recordedCalls == window.length) {
+      if (window[windowIndex]) {
+        failedCalls--;
+      }
+    } else {
+      recordedCalls++;
+    }
+    window[windowIndex] = failed;
+    if (failed) {
+      failedCalls++;
+    }
+    windowIndex = (windowIndex + 1) % window.length;
+  }
+
+  private void open() {
+    reset(State.OPEN);
+    openedAtMillis = clock.millis();
+  }
+
+  private void reset(State next) {
+    state = next;
+    probeInFlight = false;
+    windowIndex = 0;
+    recordedCalls = 0;
+    failedCalls = 0;
+  }
+}
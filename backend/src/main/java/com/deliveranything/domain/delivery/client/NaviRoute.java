@@ -0,0 +1,27 @@
+package com.deliveranything.domain.delivery.client;
+
+import com.deliveranything.global.util.GeoUtil;
+
+/**
+ * 길찾기 결과 (거리: m, 소요시간: 초) - estimated = true 이면 Kakao 응답이 아닌 직선 거리 기반 추정치
+ */
+public record NaviRoute(
+    double distanceMeters,
+    double durationSeconds,
+    boolean estimated
+) {
+
+  // 로컬 추정치: 직선 거리 x 도로 우회 계수 / 라이더 평균 속도
+  public static final double ROAD_DETOUR_FACTOR = 1.3;
+  public static final double AVG_RIDER_SPEED_KMH = 20.0;
+
+  public static NaviRoute estimate(double fromLat, double fromLon, double toLat, double toLon) {
+    double roadKm = GeoUtil.distanceKm(fromLat, fromLon, toLat, toLon) * ROAD_DETOUR_FACTOR;
+    double durationSeconds = roadKm / AVG_RIDER_SPEED_KMH * 3600.0;
+    return new NaviRoute(roadKm * 1000.0, durationSeconds, true);
+  }
+
+  public double durationMinutes() {
+    return durationSeconds / 60.0;
+  }
+}
@@ -0,0 +1,43 @@
+package com.deliveranything.domain.delivery.config;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "delivery.dispatch")
+public class DispatchProperties {
+
+  // 주문 1건 배차 파이프라인 제한 시간 (초과 시 그때까지 응답한 라이더로 진행)
+  private Duration deadline = Duration.ofSeconds(3);
+  // 이 수만큼 라이더 ETA가 모이면 나머지를 기다리지 않고 진행 (0 이면 제한 없음)
+  private int enoughRiders = 10;
+
+  // 배치 배정 - 수집 구간 동안 모인 주문을 ETA 합이 최소가 되도록 라이더에 배정
+  // 라이더 1명에게 한 구간에 제안하는 최대 주문 수
+  private int offersPerRider = 1;
+  // 주문 1건을 제안하는 최대 라이더 수 (먼저 수락한 라이더가 배정)
+  private int ridersPerOrder = 3;
+  // 배정받지 못한 주문이 다음 구간으로 넘어가는 최대 횟수 (초과 시 라이더 제안 한도와 무관하게 가까운 후보에게 제안)
+  private int maxWaitWindows = 2;
+
+  // 반경 확장 - 후보가 부족하면 반경을 넓혀 재시도 (마지막 반경 이후 재시도는 마지막 반경 유지)
+  private List<Double> radiiKm = List.of(3.0, 5.0, 8.0);
+  // 최대 시도 횟수 (초과 시 배정 실패 알림)
+  private int maxAttempts = 5;
+  // 이 수 이상 후보가 모이면 확장 중단
+  private int minCandidates = 3;
+  // 반경 1회 조회 시 가까운 순 최대 후보 수
+  private int maxCandidatesPerRing = 30;
+  // 후보가 없을 때 다음 시도까지 대기 시간 (시도마다 multiplier 배, 최대 maxBackoff)
+  private Duration initialBackoff = Duration.ofSeconds(5);
+  private double backoffMultiplier = 2.0;
+  private Duration maxBackoff = Duration.ofSeconds(60);
+  // 시도 중인 주문의 점유 시간 (노드 장애로 결과가 기록되지 않으면 이후 다른 노드가 재시도)
+  private Duration attemptLease = Duration.ofSeconds(30);
+}
@@ -7,9 +7,11 @@ import com.deliveranything.domain.delivery.dto.request.RiderToggleStatusRequestD
 import com.deliveranything.domain.delivery.dto.response.CurrentDeliveringDetailsDto;
 import com.deliveranything.domain.delivery.dto.response.CurrentDeliveringResponseDto;
 import com.deliveranything.domain.delivery.dto.response.DeliveredSummaryResponseDto;
+import com.deliveranything.domain.delivery.dto.response.DeliveryTrackResponseDto;
 import com.deliveranything.domain.delivery.dto.response.TodayDeliveringResponseDto;
 import com.deliveranything.domain.delivery.enums.DeliveryStatus;
 import com.deliveranything.domain.delivery.service.DeliveryService;
+import com.deliveranything.domain.delivery.service.DeliveryTrackService;
 import com.deliveranything.global.common.ApiResponse;
 import com.deliveranything.global.security.auth.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,6 +37,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DeliveryController {
 
   private final DeliveryService deliveryService;
+  private final DeliveryTrackService deliveryTrackService;
 
   @PatchMapping("/status")
   @Operation(summary = "라이더 토글 전환", description = "라이더 토글 전환으로 상태를 전환합니다.")
@@ -134,4 +137,16 @@ public class DeliveryController {
     );
     return ResponseEntity.ok(ApiResponse.success(response));
   }
+
+  @GetMapping("/{deliveryId}/track")
+  @Operation(summary = "배달 경로 조회",
+      description = "배달의 라이더 이동 경로를 시각 순으로 조회합니다."
+          + " maxPoints 보다 지점이 많으면 처음/마지막 지점을 포함해 균등 추출합니다.")
+  public ResponseEntity<ApiResponse<DeliveryTrackResponseDto>> getDeliveryTrack(
+      @PathVariable Long deliveryId,
+      @RequestParam(required = false, defaultValue = "500") Integer maxPoints
+  ) {
+    DeliveryTrackResponseDto response = deliveryTrackService.getTrack(deliveryId, maxPoints);
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
 }
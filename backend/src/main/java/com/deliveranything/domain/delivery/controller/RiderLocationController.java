@@ -1,8 +1,7 @@
 package com.deliveranything.domain.delivery.controller;
 
 import com.deliveranything.domain.delivery.dto.RiderLocationDto;
-import com.deliveranything.domain.delivery.service.RiderLocationService;
-import com.deliveranything.domain.delivery.websocket.RiderWebSocketPublisher;
+import com.deliveranything.domain.delivery.service.RiderLocationIngestService;
 import com.deliveranything.global.security.auth.SecurityUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,16 +14,15 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class RiderLocationController {
 
-  private final RiderLocationService riderLocationService;
-  private final RiderWebSocketPublisher webSocketPublisher;
+  private final RiderLocationIngestService riderLocationIngestService;
 
   @MessageMapping("/location") // 클라이언트에서 /app/location 으로 전송
   public void updateLocation(
       @Valid @Payload RiderLocationDto location,
       @AuthenticationPrincipal SecurityUser user
   ) {
-    riderLocationService.saveRiderLocation(user.getCurrentActiveProfileIdSafe(), location);
-    webSocketPublisher.publishLocation(user.getCurrentActiveProfileIdSafe(), location);
+    // 수집 구간마다 라이더별 최신 위치만 Redis 에 저장하고
     // 서버에서 클라이언트로 /topic/rider/location 으로 전송
+    riderLocationIngestService.offer(user.getCurrentActiveProfileIdSafe(), location);
   }
 }
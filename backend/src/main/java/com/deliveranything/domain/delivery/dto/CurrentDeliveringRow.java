@@ -0,0 +1,15 @@
+package com.deliveranything.domain.delivery.dto;
+
+import java.time.LocalDateTime;
+
+// 진행 중인 배달 1행 (배달 + 주문 + 상점을 한 번에 조회)
+public record CurrentDeliveringRow(
+    Long deliveryId,
+    Long orderId,
+    String storeName,
+    String customerAddress,
+    LocalDateTime startedAt,
+    Double expectedTime
+) {
+
+}
@@ -0,0 +1,28 @@
+package com.deliveranything.domain.delivery.dto;
+
+import com.deliveranything.domain.delivery.dto.response.DeliveredDetailsDto;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
+import java.time.LocalDateTime;
+
+// 배달 완료 내역 1행 (배달 + 주문 + 상점 + 라이더 정산 상세를 한 번에 조회)
+public record DeliveredHistoryRow(
+    Long deliveryId, // 커서용
+    Long orderId,
+    String storeName,
+    LocalDateTime completedAt,
+    String customerAddress,
+    SettlementStatus settlementStatus, // 정산 상세가 아직 없으면 null
+    Integer deliveryCharge
+) {
+
+  public DeliveredDetailsDto toDetailsDto() {
+    return DeliveredDetailsDto.builder()
+        .orderId(orderId)
+        .storeName(storeName)
+        .completedAt(completedAt)
+        .customerAddress(customerAddress)
+        .settlementStatus(settlementStatus != null ? settlementStatus.name() : null)
+        .deliveryCharge(deliveryCharge)
+        .build();
+  }
+}
@@ -0,0 +1,34 @@
+package com.deliveranything.domain.delivery.dto;
+
+import com.deliveranything.global.util.GeoUtil;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.locationtech.jts.geom.Point;
+
+// 완료된 배달 1건 (상점 → 고객 구간, 출발 ~ 완료)
+public record EtaTrainingSample(
+    Long storeId,
+    Point storeLocation, // x = 경도, y = 위도
+    Point destination,
+    LocalDateTime startedAt,
+    LocalDateTime completedAt
+) {
+
+  public boolean isValid() {
+    return storeLocation != null && destination != null && startedAt != null
+        && completedAt != null && completedAt.isAfter(startedAt);
+  }
+
+  public double distanceKm() {
+    return GeoUtil.distanceKm(storeLocation.getY(), storeLocation.getX(), destination.getY(),
+        destination.getX());
+  }
+
+  public double actualMinutes() {
+    return Duration.between(startedAt, completedAt).getSeconds() / 60.0;
+  }
+
+  public int hourOfDay() {
+    return startedAt.getHour();
+  }
+}
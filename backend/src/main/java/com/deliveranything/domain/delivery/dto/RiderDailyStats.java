@@ -0,0 +1,18 @@
+package com.deliveranything.domain.delivery.dto;
+
+// 라이더 하루 배달 집계 (완료 건수, 소요 시간이 기록된 건수와 합계, 배달 수익)
+public record RiderDailyStats(
+    long completedCount,
+    long timedCount,
+    long durationSecondsSum,
+    long earnings
+) {
+
+  // 평균 배달 시간 (분 단위, 소수점 첫째 자리까지)
+  public double avgDeliveryMinutes() {
+    if (timedCount == 0) {
+      return 0.0;
+    }
+    return Math.round(durationSecondsSum / 60.0 / timedCount * 10.0) / 10.0;
+  }
+}
@@ -0,0 +1,12 @@
+package com.deliveranything.domain.delivery.dto;
+
+import lombok.Builder;
+
+@Builder
+public record TrackPointDto(
+    long timestamp, // 밀리초 단위
+    double latitude,
+    double longitude
+) {
+
+}
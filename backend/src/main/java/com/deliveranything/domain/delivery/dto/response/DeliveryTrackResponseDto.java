@@ -0,0 +1,14 @@
+package com.deliveranything.domain.delivery.dto.response;
+
+import com.deliveranything.domain.delivery.dto.TrackPointDto;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record DeliveryTrackResponseDto(
+    Long deliveryId,
+    Integer totalPoints, // 다운샘플링 전 전체 지점 수
+    List<TrackPointDto> points
+) {
+
+}
@@ -14,6 +14,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -27,7 +28,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Getter
-@Table(name = "deliveries")
+@Table(
+    name = "deliveries",
+    // 라이더 완료 배달 키셋 페이징 (rider, status 고정 후 완료 시각 + ID 순 범위 스캔)
+    indexes = @Index(name = "idx_delivery_rider_status_completed_at_id",
+        columnList = "rider_profile_id, delivery_status, delivery_completed_at, id")
+)
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Delivery extends BaseEntity {
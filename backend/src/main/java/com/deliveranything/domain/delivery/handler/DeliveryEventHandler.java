@@ -16,14 +16,14 @@ public class DeliveryEventHandler {
   private final DeliveryStatusRedisPublisher deliveryStatusRedisPublisher;
   private final OrderDeliveryStatusRedisPublisher orderDeliveryStatusRedisPublisher; // Kafka → Redis 변경
 
-  // 배달 상태 변경 이벤트 발행
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  // 배달 상태 변경 이벤트 발행 (커밋 직전 outbox 기록)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleDeliveryStatus(DeliveryStatusEvent orderEvent) {
     deliveryStatusRedisPublisher.publish(orderEvent);
   }
 
-  // 배달 수락-거절 이벤트 발행
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  // 배달 수락-거절 이벤트 발행 (커밋 직전 outbox 기록)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderDeliveryStatus(OrderStatusUpdateEvent orderEvent) {
     orderDeliveryStatusRedisPublisher.publish(orderEvent);
   }
@@ -0,0 +1,37 @@
+package com.deliveranything.domain.delivery.handler;
+
+import com.deliveranything.domain.delivery.service.RiderLocationService;
+import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
+import com.deliveranything.domain.user.profile.event.RiderToggleStatusChangedEvent;
+import com.deliveranything.domain.user.profile.repository.RiderProfileRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiderAvailabilityEventHandler {
+
+  private final RiderLocationService riderLocationService;
+  private final RiderProfileRepository riderProfileRepository;
+
+  // 라이더 ON/OFF 변경 커밋 후 가용 인덱스 갱신
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handleToggleStatusChanged(RiderToggleStatusChangedEvent event) {
+    riderLocationService.updateAvailability(event.riderProfileId(), event.status());
+  }
+
+  // 서버 기동 시 DB의 ON 라이더 기준으로 가용 인덱스 보정
+  @EventListener(ApplicationReadyEvent.class)
+  public void reconcileOnStartup() {
+    List<Long> onRiderIds = riderProfileRepository.findIdsByToggleStatus(RiderToggleStatus.ON);
+    riderLocationService.reconcileAvailability(onRiderIds);
+    log.info("Rider availability index reconciled: {} riders ON", onRiderIds.size());
+  }
+}
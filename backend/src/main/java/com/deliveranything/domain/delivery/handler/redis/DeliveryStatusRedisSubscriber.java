@@ -3,53 +3,55 @@ package com.deliveranything.domain.delivery.handler.redis;
 import com.deliveranything.domain.delivery.entity.Delivery;
 import com.deliveranything.domain.delivery.event.dto.DeliveryStatusEvent;
 import com.deliveranything.domain.delivery.repository.DeliveryRepository;
+import com.deliveranything.domain.delivery.service.DeliveryTrackService;
+import com.deliveranything.domain.delivery.service.LearnedEtaService;
+import com.deliveranything.domain.delivery.service.RiderDailyStatsService;
 import com.deliveranything.domain.notification.subscriber.delivery.DeliveryStatusNotifier;
+import com.deliveranything.global.concurrent.KeyedSerialExecutor;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
-public class DeliveryStatusRedisSubscriber implements MessageListener {
+public class DeliveryStatusRedisSubscriber implements RedisEventHandler<DeliveryStatusEvent> {
 
   private static final String CHANNEL = "delivery-status-events";
 
-  private final ObjectMapper objectMapper;
   private final DeliveryStatusNotifier deliveryStatusNotifier;
-  private final RedisMessageListenerContainer container;
   private final DeliveryRepository deliveryRepository;
   private final RedisTemplate<String, Object> redisTemplate;
+  private final DeliveryTrackService deliveryTrackService;
+  private final LearnedEtaService learnedEtaService;
+  private final RiderDailyStatsService riderDailyStatsService;
 
-  @PostConstruct
-  public void subscribe() {
-    container.addMessageListener(this, new PatternTopic(CHANNEL));
+  @Override
+  public String channel() {
+    return CHANNEL;
   }
 
   @Override
-  @Transactional
-  public void onMessage(Message message, byte[] pattern) {
-    try {
-      String body = new String(message.getBody());
-      DeliveryStatusEvent event = objectMapper.readValue(body, DeliveryStatusEvent.class);
+  public Class<DeliveryStatusEvent> eventType() {
+    return DeliveryStatusEvent.class;
+  }
 
-      // 1️⃣ 상태 변경 처리
-      handleStatusChange(event);
-      // 2️⃣ SSE 알림 전송
-      deliveryStatusNotifier.publish(event);
+  @Override
+  public String orderingKey(DeliveryStatusEvent event) {
+    return KeyedSerialExecutor.orderKey(event.orderId());
+  }
 
-    } catch (Exception e) {
-      throw new CustomException(ErrorCode.REDIS_MESSAGE_PROCESSING_ERROR);
-    }
+  @Override
+  @Transactional
+  public void handle(DeliveryStatusEvent event) {
+    // 1️⃣ 상태 변경 처리
+    handleStatusChange(event);
+    // 2️⃣ SSE 알림 전송
+    deliveryStatusNotifier.publish(event);
   }
 
   // 상태 변경 처리
@@ -67,10 +69,31 @@ public class DeliveryStatusRedisSubscriber implements MessageListener {
       }
       case COMPLETED -> {
         delivery.updateCompletedAt(LocalDateTime.now());
+        // 실제 소요 시간을 ETA 모델에 반영
+        learnedEtaService.observeCompleted(delivery.getId());
+        // 라이더 오늘 집계 (대시보드) 증가
+        riderDailyStatsService.recordCompleted(delivery);
       }
     }
 
     // Redis 캐시 갱신
     redisTemplate.opsForValue().set("delivery:" + event.deliveryId(), delivery);
+
+    // 배달 경로 기록 시작/종료
+    updateTracking(event);
+  }
+
+  private void updateTracking(DeliveryStatusEvent event) {
+    if (event.riderProfileId() == null) {
+      return;
+    }
+    switch (event.nextStatus()) {
+      case RIDER_ASSIGNED, PICKED_UP, IN_PROGRESS ->
+          deliveryTrackService.startTracking(event.riderProfileId(), event.deliveryId());
+      case COMPLETED, CANCELED, REJECTED ->
+          deliveryTrackService.stopTracking(event.riderProfileId(), event.deliveryId());
+      default -> {
+      }
+    }
   }
 }
\ No newline at end of file
@@ -1,68 +1,42 @@
 package com.deliveranything.domain.delivery.handler.redis;
 
-import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
-import com.deliveranything.domain.delivery.service.OrderNotificationService;
-import com.deliveranything.domain.notification.subscriber.delivery.OrderAcceptedNotifier;
+import com.deliveranything.domain.delivery.service.RadiusExpansionDispatcher;
 import com.deliveranything.domain.order.event.OrderAcceptedEvent;
-import com.deliveranything.global.exception.CustomException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
-import java.util.List;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
 /**
- * Virtual Thread 기반 Redis Pub/Sub Subscriber - 주문 접수 이벤트를 수신하여 반경 내 라이더에게 알림 전송 - MessageListener를
- * 구현하여 블로킹 방식으로 처리 - RedisMessageListenerContainer의 TaskExecutor가 Virtual Thread를 사용
+ * Redis Pub/Sub Subscriber - 주문 접수 이벤트를 수신하여 반경 확장 배차 시작 - 라이더 조회/ETA 계산/재시도는
+ * RadiusExpansionDispatcher 가 비동기로 처리하고 핸들러는 바로 반환 (블로킹 없음)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderAcceptedRedisSubscriber implements MessageListener {
+public class OrderAcceptedRedisSubscriber implements RedisEventHandler<OrderAcceptedEvent> {
 
   public static final String CHANNEL = "order-accepted-event";
 
-  private final ObjectMapper objectMapper;
-  private final OrderAcceptedNotifier orderAcceptedNotifier;
-  private final OrderNotificationService orderNotificationService;
-  private final RedisMessageListenerContainer container;
+  private final RadiusExpansionDispatcher radiusExpansionDispatcher;
 
-  @PostConstruct
-  public void subscribe() {
-    container.addMessageListener(this, new ChannelTopic(CHANNEL));
+  @Override
+  public String channel() {
+    return CHANNEL;
   }
 
   @Override
-  public void onMessage(Message message, byte[] pattern) {
-    try {
-      String payload = new String(message.getBody());
-      OrderAcceptedEvent event = objectMapper.readValue(payload, OrderAcceptedEvent.class);
-
-      log.info("주문 수락 이벤트 수신 했을 때 도착지의 latitude 위도 -90~90: {} / longitude 경도 -180~180: {}",
-          event.customerLat(), event.customerLon());
-      log.info("주문 수락 이벤트 수신 했을 때 상점의 latitude 위도 -90~90: {} / longitude 경도 -180~180: {}",
-          event.storeLat(), event.storeLon());
+  public Class<OrderAcceptedEvent> eventType() {
+    return OrderAcceptedEvent.class;
+  }
 
-      List<RiderNotificationDto> notifications = orderNotificationService.processOrderEvent(event);
-      if (!notifications.isEmpty()) {
-        orderAcceptedNotifier.publish(notifications);
-      } else {
-        log.warn("No available riders for orderId: {} (This is not an error)", event.orderId());
-      }
+  @Override
+  public void handle(OrderAcceptedEvent event) {
+    log.info("주문 수락 이벤트 수신 했을 때 도착지의 latitude 위도 -90~90: {} / longitude 경도 -180~180: {}",
+        event.customerLat(), event.customerLon());
+    log.info("주문 수락 이벤트 수신 했을 때 상점의 latitude 위도 -90~90: {} / longitude 경도 -180~180: {}",
+        event.storeLat(), event.storeLon());
 
-    } catch (JsonProcessingException e) {
-      log.error("Failed to parse order event: {}", e.getMessage());
-    } catch (CustomException e) {
-      log.error("Business error processing order event: {} - {}", e.getCode(), e.getMessage());
-    } catch (Exception e) {
-      log.error("Unexpected error processing order event: {}", e.getMessage(), e);
-    }
-    // 예외를 throw하지 않음 → Redis 연결 유지
+    radiusExpansionDispatcher.dispatch(event);
   }
 }
@@ -4,54 +4,52 @@ import com.deliveranything.domain.delivery.entity.Delivery;
 import com.deliveranything.domain.delivery.event.dto.OrderStatusUpdateEvent;
 import com.deliveranything.domain.delivery.repository.DeliveryRepository;
 import com.deliveranything.domain.delivery.service.DeliveryService;
+import com.deliveranything.domain.delivery.service.DeliveryTrackService;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.notification.subscriber.delivery.OrderDeliveryStatusNotifier;
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.service.DeliveryOrderService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
+import com.deliveranything.global.concurrent.KeyedSerialExecutor;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
-public class OrderDeliveryStatusRedisSubscriber implements MessageListener {
+public class OrderDeliveryStatusRedisSubscriber implements
+    RedisEventHandler<OrderStatusUpdateEvent> {
 
   private final NotificationService notificationService;
-  private final ObjectMapper objectMapper;
-  private final RedisMessageListenerContainer container;
   private final DeliveryOrderService deliveryOrderService;
   private final DeliveryRepository deliveryRepository;
   private final DeliveryService deliveryService;
   private final OrderDeliveryStatusNotifier orderDeliveryStatusNotifier;
+  private final DeliveryTrackService deliveryTrackService;
 
-  @PostConstruct
-  public void subscribe() {
-    container.addMessageListener(this, new PatternTopic("order-delivery-status"));
+  @Override
+  public String channel() {
+    return "order-delivery-status";
+  }
+
+  @Override
+  public Class<OrderStatusUpdateEvent> eventType() {
+    return OrderStatusUpdateEvent.class;
+  }
+
+  @Override
+  public String orderingKey(OrderStatusUpdateEvent event) {
+    return KeyedSerialExecutor.orderKey(event.orderId());
   }
 
   @Override
   @Transactional
-  public void onMessage(Message message, byte[] pattern) {
-    try {
-      String body = new String(message.getBody());
-      OrderStatusUpdateEvent event = objectMapper.readValue(body, OrderStatusUpdateEvent.class);
-
-      // 1️⃣ 상태 변경 처리 (이벤트 기반)
-      handleStatusChange(event);
-      // 2️⃣ 알림 전송
-      sendNotifications(event);
-
-    } catch (JsonProcessingException e) {
-      e.printStackTrace();
-    }
+  public void handle(OrderStatusUpdateEvent event) {
+    // 1️⃣ 상태 변경 처리 (이벤트 기반)
+    handleStatusChange(event);
+    // 2️⃣ 알림 전송
+    sendNotifications(event);
   }
 
   // 상태 변경 처리
@@ -67,6 +65,9 @@ public class OrderDeliveryStatusRedisSubscriber implements MessageListener {
       // Delivery 생성
       Delivery delivery = deliveryService.createDelivery(order, riderId, event.eta());
       deliveryRepository.save(delivery);
+
+      // 배정 시점부터 라이더 위치를 배달 경로로 기록
+      deliveryTrackService.startTracking(riderId, delivery.getId());
     }
   }
 
@@ -1,21 +1,35 @@
 package com.deliveranything.domain.delivery.repository;
 
+import com.deliveranything.domain.delivery.dto.EtaTrainingSample;
 import com.deliveranything.domain.delivery.entity.Delivery;
 import com.deliveranything.domain.delivery.enums.DeliveryStatus;
 import io.lettuce.core.dynamic.annotation.Param;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
+public interface DeliveryRepository extends JpaRepository<Delivery, Long>,
+    DeliveryRepositoryCustom {
 
-  @Query("SELECT COUNT(d) FROM Delivery d WHERE d.status = 'COMPLETED' " +
-         "AND d.riderProfile.id = :riderProfileId " +
-         "AND FUNCTION('DATE', d.completedAt) = CURRENT_DATE")
-    // DATE() -> FUNCTION('DATE', ...) 수정
-  Long countTodayCompletedDeliveriesByRider(Long riderProfileId);
+  // 오늘 = [오늘 0시, 내일 0시) (completedAt 을 기록하는 서버 시간대 기준)
+  // completedAt 을 함수로 감싸지 않아 인덱스 범위 스캔 가능
+  default Long countTodayCompletedDeliveriesByRider(Long riderProfileId) {
+    LocalDate today = LocalDate.now();
+    return countCompletedDeliveriesByRiderBetween(riderProfileId, today.atStartOfDay(),
+        today.plusDays(1).atStartOfDay());
+  }
+
+  // 완료 시각 [from, to) 범위 - 인덱스 (rider_profile_id, delivery_status, delivery_completed_at, id) 만으로 집계
+  @Query("SELECT COUNT(d) FROM Delivery d WHERE d.riderProfile.id = :riderProfileId " +
+         "AND d.status = 'COMPLETED' AND d.completedAt >= :from AND d.completedAt < :to")
+  Long countCompletedDeliveriesByRiderBetween(
+      @Param("riderProfileId") Long riderProfileId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to
+  );
 
   @Query("SELECT COUNT(d) FROM Delivery d WHERE d.riderProfile.id = :riderProfileId " +
          "AND d.status = 'COMPLETED' AND d.completedAt >= :weekStart")
@@ -24,10 +38,19 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
       @Param("weekStart") LocalDateTime weekStart
   );
 
+  default List<Delivery> findTodayCompletedDeliveriesByRider(Long riderProfileId) {
+    LocalDate today = LocalDate.now();
+    return findCompletedDeliveriesByRiderBetween(riderProfileId, today.atStartOfDay(),
+        today.plusDays(1).atStartOfDay());
+  }
+
   @Query("SELECT d FROM Delivery d WHERE d.riderProfile.id = :riderProfileId " +
-         "AND d.status = 'COMPLETED' AND FUNCTION('DATE', d.completedAt) = CURRENT_DATE")
-    // DATE() -> FUNCTION('DATE', ...) 수정
-  List<Delivery> findTodayCompletedDeliveriesByRider(@Param("riderProfileId") Long riderProfileId);
+         "AND d.status = 'COMPLETED' AND d.completedAt >= :from AND d.completedAt < :to")
+  List<Delivery> findCompletedDeliveriesByRiderBetween(
+      @Param("riderProfileId") Long riderProfileId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to
+  );
 
   // IN_PROGRESS 같은 단일 배달 조회용 (Optional)
   Optional<Delivery> findFirstByRiderProfileIdAndStatusOrderByStartedAtDesc(
@@ -48,4 +71,17 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
       @Param("riderProfileId") Long riderProfileId,
       @Param("status") DeliveryStatus status
   );
+
+  // ETA 학습용 완료 배달 (상점 위치, 고객 위치, 출발/완료 시각)
+  @Query("SELECT new com.deliveranything.domain.delivery.dto.EtaTrainingSample(" +
+         "s.id, s.location, o.destination, d.startedAt, d.completedAt) " +
+         "FROM Order o JOIN o.delivery d JOIN d.store s " +
+         "WHERE d.status = 'COMPLETED' AND d.startedAt IS NOT NULL AND d.completedAt >= :since")
+  List<EtaTrainingSample> findEtaTrainingSamples(@Param("since") LocalDateTime since);
+
+  @Query("SELECT new com.deliveranything.domain.delivery.dto.EtaTrainingSample(" +
+         "s.id, s.location, o.destination, d.startedAt, d.completedAt) " +
+         "FROM Order o JOIN o.delivery d JOIN d.store s " +
+         "WHERE d.id = :deliveryId AND d.status = 'COMPLETED'")
+  Optional<EtaTrainingSample> findEtaTrainingSample(@Param("deliveryId") Long deliveryId);
 }
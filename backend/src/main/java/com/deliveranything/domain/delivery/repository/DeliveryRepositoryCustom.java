@@ -0,0 +1,14 @@
+package com.deliveranything.domain.delivery.repository;
+
+import com.deliveranything.domain.delivery.dto.CurrentDeliveringRow;
+import com.deliveranything.domain.delivery.dto.DeliveredHistoryRow;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DeliveryRepositoryCustom {
+
+  List<DeliveredHistoryRow> findDeliveredHistoryByRider(Long riderProfileId, boolean latest,
+      LocalDateTime lastCompletedAt, Long lastDeliveryId, int size);
+
+  List<CurrentDeliveringRow> findCurrentDeliveringByRider(Long riderProfileId);
+}
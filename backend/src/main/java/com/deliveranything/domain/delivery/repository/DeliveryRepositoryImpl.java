@@ -0,0 +1,109 @@
+package com.deliveranything.domain.delivery.repository;
+
+import com.deliveranything.domain.delivery.dto.CurrentDeliveringRow;
+import com.deliveranything.domain.delivery.dto.DeliveredHistoryRow;
+import com.deliveranything.domain.delivery.entity.QDelivery;
+import com.deliveranything.domain.delivery.enums.DeliveryStatus;
+import com.deliveranything.domain.order.entity.QOrder;
+import com.deliveranything.domain.settlement.entity.QSettlementDetail;
+import com.deliveranything.domain.store.store.entity.QStore;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DeliveryRepositoryImpl implements DeliveryRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  /**
+   * 라이더 배달 완료 내역 키셋 페이징 - (completedAt, id) 기준 LATEST(내림차순) / OLDEST(오름차순) - 인덱스
+   * (rider_profile_id, delivery_status, delivery_completed_at, id) 범위 스캔으로 페이지 크기만큼만 읽음 - 주문,
+   * 상점, 라이더 정산 상세를 함께 조인해 행별 추가 조회 없음
+   */
+  @Override
+  public List<DeliveredHistoryRow> findDeliveredHistoryByRider(Long riderProfileId,
+      boolean latest, LocalDateTime lastCompletedAt, Long lastDeliveryId, int size) {
+    QDelivery delivery = QDelivery.delivery;
+    QOrder order = QOrder.order;
+    QStore store = QStore.store;
+    QSettlementDetail settlementDetail = QSettlementDetail.settlementDetail;
+
+    OrderSpecifier<?>[] orderSpecifiers = latest
+        ? new OrderSpecifier[]{delivery.completedAt.desc(), delivery.id.desc()}
+        : new OrderSpecifier[]{delivery.completedAt.asc(), delivery.id.asc()};
+
+    return queryFactory
+        .select(Projections.constructor(DeliveredHistoryRow.class,
+            delivery.id,
+            order.id,
+            store.name,
+            delivery.completedAt,
+            order.address,
+            settlementDetail.status,
+            delivery.charge))
+        .from(order)
+        .join(order.delivery, delivery)
+        .join(delivery.store, store)
+        .leftJoin(settlementDetail).on(
+            settlementDetail.orderId.eq(order.id),
+            settlementDetail.targetId.eq(riderProfileId))
+        .where(
+            delivery.riderProfile.id.eq(riderProfileId),
+            delivery.status.eq(DeliveryStatus.COMPLETED),
+            completedCursorCondition(latest, lastCompletedAt, lastDeliveryId)
+        )
+        .orderBy(orderSpecifiers)
+        .limit(size)
+        .fetch();
+  }
+
+  /**
+   * 라이더 진행 중 배달 - 주문, 상점을 함께 조인해 한 번에 조회
+   */
+  @Override
+  public List<CurrentDeliveringRow> findCurrentDeliveringByRider(Long riderProfileId) {
+    QDelivery delivery = QDelivery.delivery;
+    QOrder order = QOrder.order;
+    QStore store = QStore.store;
+
+    return queryFactory
+        .select(Projections.constructor(CurrentDeliveringRow.class,
+            delivery.id,
+            order.id,
+            store.name,
+            order.address,
+            delivery.startedAt,
+            delivery.expectedTime))
+        .from(order)
+        .join(order.delivery, delivery)
+        .join(delivery.store, store)
+        .where(
+            delivery.riderProfile.id.eq(riderProfileId),
+            delivery.status.eq(DeliveryStatus.IN_PROGRESS)
+        )
+        .orderBy(delivery.startedAt.asc(), delivery.id.asc())
+        .fetch();
+  }
+
+  // 완료 시각 + ID 커서
+  private BooleanExpression completedCursorCondition(boolean latest,
+      LocalDateTime lastCompletedAt, Long lastDeliveryId) {
+    // 첫 페이지 조회 시 커서 조건 없음
+    if (lastCompletedAt == null || lastDeliveryId == null) {
+      return null;
+    }
+
+    QDelivery delivery = QDelivery.delivery;
+
+    return latest
+        ? delivery.completedAt.lt(lastCompletedAt)
+            .or(delivery.completedAt.eq(lastCompletedAt).and(delivery.id.lt(lastDeliveryId)))
+        : delivery.completedAt.gt(lastCompletedAt)
+            .or(delivery.completedAt.eq(lastCompletedAt).and(delivery.id.gt(lastDeliveryId)));
+  }
+}
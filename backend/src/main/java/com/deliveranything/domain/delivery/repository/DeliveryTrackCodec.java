@@ -0,0 +1,148 @@
+package com.deliveranything.domain.delivery.repository;
+
+import com.deliveranything.domain.delivery.dto.TrackPointDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 배달 경로 청크 인코딩 - [버전][플래그][본문] - 본문은 지점 수 + (시각, 위도, 경도) 직전 지점 대비 차이를 zigzag varint 로 기록 - 위경도는
+ * 1e-6도(약 0.1m) 정수로 저장 - 압축 결과가 더 작을 때만 Deflate 적용
+ */
+public final class DeliveryTrackCodec {
+
+  static final byte VERSION = 1;
+  private static final byte FLAG_DEFLATED = 1;
+  private static final double COORDINATE_SCALE = 1_000_000.0;
+
+  private DeliveryTrackCodec() {
+  }
+
+  public static byte[] encode(List<TrackPointDto> points) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(points.size() * 8 + 4);
+    writeVarLong(out, points.size());
+
+    long prevTimestamp = 0;
+    long prevLat = 0;
+    long prevLon = 0;
+    for (TrackPointDto point : points) {
+      long lat = Math.round(point.latitude() * COORDINATE_SCALE);
+      long lon = Math.round(point.longitude() * COORDINATE_SCALE);
+      writeVarLong(out, zigzag(point.timestamp() - prevTimestamp));
+      writeVarLong(out, zigzag(lat - prevLat));
+      writeVarLong(out, zigzag(lon - prevLon));
+      prevTimestamp = point.timestamp();
+      prevLat = lat;
+      prevLon = lon;
+    }
+
+    byte[] raw = out.toByteArray();
+    byte[] deflated = deflate(raw);
+    boolean useDeflate = deflated.length < raw.length;
+    byte[] body = useDeflate ? deflated : raw;
+
+    byte[] chunk = new byte[body.length + 2];
+    chunk[0] = VERSION;
+    chunk[1] = useDeflate ? FLAG_DEFLATED : 0;
+    System.arraycopy(body, 0, chunk, 2, body.length);
+    return chunk;
+  }
+
+  public static List<TrackPointDto> decode(byte[] chunk) {
+    if (chunk.length < 2 || chunk[0] != VERSION) {
+      throw new IllegalArgumentException("Unsupported track chunk version");
+    }
+    byte[] raw = (chunk[1] & FLAG_DEFLATED) != 0
+        ? inflate(chunk, 2, chunk.length - 2)
+        : Arrays.copyOfRange(chunk, 2, chunk.length);
+
+    ByteArrayInputStream in = new ByteArrayInputStream(raw);
+    int count = (int) readVarLong(in);
+    List<TrackPointDto> points = new ArrayList<>(count);
+
+    long timestamp = 0;
+    long lat = 0;
+    long lon = 0;
+    for (int i = 0; i < count; i++) {
+      timestamp += unzigzag(readVarLong(in));
+      lat += unzigzag(readVarLong(in));
+      lon += unzigzag(readVarLong(in));
+      points.add(new TrackPointDto(timestamp, lat / COORDINATE_SCALE, lon / COORDINATE_SCALE));
+    }
+    return points;
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void writeVarLong(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarLong(ByteArrayInputStream in) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.read();
+      if (b < 0) {
+        throw new IllegalArgumentException("Truncated track chunk");
+      }
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint in track chunk");
+  }
+
+  private static byte[] deflate(byte[] raw) {
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    try {
+      deflater.setInput(raw);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length);
+      byte[] buffer = new byte[512];
+      while (!deflater.finished()) {
+        int length = deflater.deflate(buffer);
+        out.write(buffer, 0, length);
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] data, int offset, int length) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(data, offset, length);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(length * 4);
+      byte[] buffer = new byte[512];
+      while (!inflater.finished()) {
+        int inflated = inflater.inflate(buffer);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("Truncated track chunk");
+        }
+        out.write(buffer, 0, inflated);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("Corrupted track chunk", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
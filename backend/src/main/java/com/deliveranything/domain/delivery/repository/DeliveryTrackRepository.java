@@ -0,0 +1,95 @@
+package com.deliveranything.domain.delivery.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배달 경로 저장소 (Redis) - 배달별 Stream 에 인코딩된 경로 청크를 추가만 함 - 마지막 기록 후 retention 동안 보관 - 라이더별 진행 중 배달
+ * 목록 (위치 수신 시 어느 배달의 경로인지 판단)
+ */
+@Component
+@RequiredArgsConstructor
+public class DeliveryTrackRepository {
+
+  static final String TRACK_KEY_PREFIX = "delivery:track:";
+  static final String ACTIVE_DELIVERIES_KEY_PREFIX = "riders:active-deliveries:";
+  private static final byte[] CHUNK_FIELD = "c".getBytes(StandardCharsets.UTF_8);
+  // 완료 이벤트를 놓쳐도 진행 중 배달 목록이 남지 않도록 만료
+  private static final Duration ACTIVE_DELIVERIES_TTL = Duration.ofDays(1);
+
+  private final StringRedisTemplate redisTemplate;
+
+  // 청크 추가 + 보관 기간 갱신 (1 round-trip)
+  public void appendChunk(Long deliveryId, byte[] chunk, Duration retention) {
+    byte[] key = trackKey(deliveryId);
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      connection.streamCommands().xAdd(
+          StreamRecords.rawBytes(Map.of(CHUNK_FIELD, chunk)).withStreamKey(key));
+      connection.keyCommands().expire(key, retention.toSeconds());
+      return null;
+    });
+  }
+
+  public List<byte[]> findChunks(Long deliveryId) {
+    List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>)
+        connection -> connection.streamCommands().xRange(trackKey(deliveryId), Range.unbounded()));
+
+    List<byte[]> chunks = new ArrayList<>();
+    if (records != null) {
+      // byte[] 키는 equals 비교가 안 되므로 필드 값만 꺼냄 (필드는 1개)
+      records.forEach(record -> chunks.addAll(record.getValue().values()));
+    }
+    return chunks;
+  }
+
+  public void addActiveDelivery(Long riderProfileId, Long deliveryId) {
+    String key = ACTIVE_DELIVERIES_KEY_PREFIX + riderProfileId;
+    redisTemplate.opsForSet().add(key, String.valueOf(deliveryId));
+    redisTemplate.expire(key, ACTIVE_DELIVERIES_TTL);
+  }
+
+  public void removeActiveDelivery(Long riderProfileId, Long deliveryId) {
+    redisTemplate.opsForSet()
+        .remove(ACTIVE_DELIVERIES_KEY_PREFIX + riderProfileId, String.valueOf(deliveryId));
+  }
+
+  /**
+   * 라이더별 진행 중 배달 조회 - 라이더 수와 관계없이 1 round-trip
+   *
+   * @return Map<riderProfileId, deliveryIds> (진행 중 배달이 없는 라이더는 제외)
+   */
+  @SuppressWarnings("unchecked")
+  public Map<Long, List<Long>> findActiveDeliveries(List<Long> riderProfileIds) {
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      riderProfileIds.forEach(riderProfileId -> connection.setCommands().sMembers(
+          (ACTIVE_DELIVERIES_KEY_PREFIX + riderProfileId).getBytes(StandardCharsets.UTF_8)));
+      return null;
+    });
+
+    Map<Long, List<Long>> activeDeliveries = new HashMap<>();
+    for (int i = 0; i < riderProfileIds.size(); i++) {
+      Set<String> deliveryIds = (Set<String>) results.get(i);
+      if (deliveryIds != null && !deliveryIds.isEmpty()) {
+        activeDeliveries.put(riderProfileIds.get(i),
+            deliveryIds.stream().map(Long::valueOf).toList());
+      }
+    }
+    return activeDeliveries;
+  }
+
+  private static byte[] trackKey(Long deliveryId) {
+    return (TRACK_KEY_PREFIX + deliveryId).getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,166 @@
+package com.deliveranything.domain.delivery.repository;
+
+import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배차 대기 주문 저장소 (Redis) - ZSET(score = 다음 시도 시각) + 주문별 상태 HASH - 노드가 재시작되어도 반경 확장 재시도가 이어짐 - 시도
+ * 전에 점유 시간만큼 시각을 미뤄 두므로 결과를 기록하지 못한 주문은 점유 만료 후 다시 꺼내짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingDispatchRepository {
+
+  static final String DUE_KEY = "dispatch:pending";
+  static final String STATE_KEY = "dispatch:pending:state";
+  static final String START_KEY_PREFIX = "dispatch:started:";
+
+  // 상태 저장 + 다음 시도 시각 등록 (1 round-trip)
+  static final RedisScript<Long> SCHEDULE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+      return redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+      """, Long.class);
+
+  // 주문별 시작 표시를 SET NX 로 선점한 경우에만 상태 저장 + 시도 시각 등록 (선점 1, 이미 시작됨 0)
+  // 주문 접수 이벤트는 모든 노드에 전달되므로 1곳만 첫 시도를 실행
+  static final RedisScript<Long> START_SCRIPT = new DefaultRedisScript<>("""
+      if not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[4]) then
+        return 0
+      end
+      redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+      redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+      return 1
+      """, Long.class);
+
+  // 시도 시각이 지난 주문을 점유 (시각을 now + lease 로 미룸) 후 (orderId, 상태) 반복으로 반환
+  // 여러 노드가 동시에 호출해도 1곳만 가져감
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+      local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+      local states = {}
+      for _, id in ipairs(ids) do
+        local state = redis.call('HGET', KEYS[2], id)
+        if state then
+          redis.call('ZADD', KEYS[1], ARGV[2], id)
+          table.insert(states, id)
+          table.insert(states, state)
+        else
+          redis.call('ZREM', KEYS[1], id)
+        end
+      end
+      return states
+      """, List.class);
+
+  // 점유 연장 - 대기 상태가 남아 있는 주문만 (이미 삭제된 주문은 다시 등록하지 않음)
+  static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+      local extended = 0
+      for i = 2, #ARGV do
+        extended = extended + redis.call('ZADD', KEYS[1], 'XX', 'CH', ARGV[1], ARGV[i])
+      end
+      return extended
+      """, Long.class);
+
+  static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('HDEL', KEYS[2], ARGV[1])
+      return redis.call('ZREM', KEYS[1], ARGV[1])
+      """, Long.class);
+
+  private static final List<String> KEYS = List.of(DUE_KEY, STATE_KEY);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 주문 상태 저장 후 dueAtMillis 에 시도하도록 등록 (같은 주문이 있으면 덮어씀)
+   */
+  public void schedule(PendingDispatch pending, long dueAtMillis) {
+    try {
+      redisTemplate.execute(SCHEDULE_SCRIPT, KEYS, pending.order().orderId(),
+          String.valueOf(dueAtMillis), objectMapper.writeValueAsString(pending));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize pending dispatch", e);
+    }
+  }
+
+  /**
+   * 첫 시도 선점 - 같은 주문을 startTtl 안에 먼저 시작한 노드가 있으면 false - 선점하면 schedule 과 같이 상태를 저장하고
+   * dueAtMillis 에 시도하도록 등록
+   */
+  public boolean start(PendingDispatch pending, long dueAtMillis, Duration startTtl) {
+    String orderId = pending.order().orderId();
+    try {
+      Long started = redisTemplate.execute(START_SCRIPT,
+          List.of(DUE_KEY, STATE_KEY, START_KEY_PREFIX + orderId), orderId,
+          String.valueOf(dueAtMillis), objectMapper.writeValueAsString(pending),
+          String.valueOf(startTtl.toMillis()));
+      return started != null && started == 1L;
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize pending dispatch", e);
+    }
+  }
+
+  /**
+   * 시도 시각이 지난 주문을 최대 limit 건 점유 - 점유한 주문은 leaseUntilMillis 전까지 다시 꺼내지지 않음
+   */
+  public List<PendingDispatch> claimDue(long nowMillis, long leaseUntilMillis, int limit) {
+    List<?> states = redisTemplate.execute(CLAIM_SCRIPT, KEYS, String.valueOf(nowMillis),
+        String.valueOf(leaseUntilMillis), String.valueOf(limit));
+
+    List<PendingDispatch> claimed = new ArrayList<>();
+    if (states == null) {
+      return claimed;
+    }
+    for (int i = 0; i + 1 < states.size(); i += 2) {
+      String orderId = states.get(i).toString();
+      try {
+        claimed.add(objectMapper.readValue(states.get(i + 1).toString(), PendingDispatch.class));
+      } catch (JsonProcessingException e) {
+        // 읽을 수 없는 상태는 점유 만료 후 계속 꺼내지지 않도록 삭제
+        log.error("Dropping unreadable pending dispatch for orderId: {} - {}", orderId,
+            e.getMessage());
+        remove(orderId);
+      }
+    }
+    return claimed;
+  }
+
+  /**
+   * 시도는 끝났지만 아직 처리 중인 주문(배치 배정 대기 등)의 점유를 leaseUntilMillis 까지 연장 - 노드가 그 전에 멈추면 점유 만료 후 다른
+   * 노드가 다시 시도
+   */
+  public void extendLease(Collection<String> orderIds, long leaseUntilMillis) {
+    if (orderIds.isEmpty()) {
+      return;
+    }
+    List<String> args = new ArrayList<>(orderIds.size() + 1);
+    args.add(String.valueOf(leaseUntilMillis));
+    args.addAll(orderIds);
+    redisTemplate.execute(EXTEND_SCRIPT, List.of(DUE_KEY), args.toArray());
+  }
+
+  public void remove(String orderId) {
+    redisTemplate.execute(REMOVE_SCRIPT, KEYS, orderId);
+  }
+
+  /**
+   * 배차 대기 주문 상태 - attempt 번째 시도 (0부터)
+   */
+  public record PendingDispatch(OrderAcceptedEvent order, int attempt) {
+
+    public PendingDispatch next() {
+      return new PendingDispatch(order, attempt + 1);
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.deliveranything.domain.delivery.repository;
+
+import com.deliveranything.domain.delivery.dto.RiderDailyStats;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 라이더 일별 배달 집계 저장소 (Redis HASH) - 배달 완료 시 증가만 하므로 대시보드 조회는 HGETALL 1회 - 같은 배달이 두 번 반영되지 않도록
+ * 반영한 배달 ID 집합을 함께 보관 - 집계가 없는 날(기동 직후, 만료 후)은 DB 집계로 한 번 채운 뒤부터 증가 - 집계가 채워지기 전에
+ * 완료된 배달은 대기 hash 에 두었다가 채울 때 (DB 집계에 빠져 있으면) 함께 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class RiderDailyStatsRepository {
+
+  static final String STATS_KEY_PREFIX = "rider:daily-stats:";
+  static final String DELIVERIES_KEY_SUFFIX = ":deliveries";
+  static final String PENDING_KEY_SUFFIX = ":pending";
+  // 자정 이후 전날 집계를 조회할 일은 없으므로 하루 여유만 둠
+  private static final Duration RETENTION = Duration.ofDays(2);
+
+  private static final String COUNT_FIELD = "count";
+  private static final String TIMED_FIELD = "timed";
+  private static final String DURATION_FIELD = "durationSeconds";
+  private static final String EARNINGS_FIELD = "earnings";
+
+  // 완료 1건 반영 - 집계가 아직 없으면(-1) 대기 hash 에 보관, 이미 반영한 배달이면(0) 무시
+  static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('HSET', KEYS[3], ARGV[1], ARGV[2] .. ',' .. ARGV[3] .. ',' .. ARGV[4])
+        redis.call('EXPIRE', KEYS[3], ARGV[5])
+        return -1
+      end
+      if redis.call('SADD', KEYS[2], ARGV[1]) == 0 then
+        return 0
+      end
+      redis.call('HINCRBY', KEYS[1], 'count', 1)
+      redis.call('HINCRBY', KEYS[1], 'timed', ARGV[2])
+      redis.call('HINCRBY', KEYS[1], 'durationSeconds', ARGV[3])
+      redis.call('HINCRBY', KEYS[1], 'earnings', ARGV[4])
+      redis.call('EXPIRE', KEYS[2], ARGV[5])
+      return 1
+      """, Long.class);
+
+  // DB 집계로 채우기 - 이미 집계가 있으면 덮어쓰지 않음, ARGV[6..] 는 반영된 배달 ID
+  // 대기 중인 완료 배달 중 DB 집계에 없던 것(읽은 뒤 커밋된 배달)은 이어서 반영
+  static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        return 0
+      end
+      redis.call('HSET', KEYS[1], 'count', ARGV[1], 'timed', ARGV[2],
+          'durationSeconds', ARGV[3], 'earnings', ARGV[4])
+      redis.call('EXPIRE', KEYS[1], ARGV[5])
+      for i = 6, #ARGV do
+        redis.call('SADD', KEYS[2], ARGV[i])
+      end
+      local pending = redis.call('HGETALL', KEYS[3])
+      for i = 1, #pending, 2 do
+        if redis.call('SADD', KEYS[2], pending[i]) == 1 then
+          local timed, duration, earnings =
+              string.match(pending[i + 1], '(%-?%d+),(%-?%d+),(%-?%d+)')
+          redis.call('HINCRBY', KEYS[1], 'count', 1)
+          redis.call('HINCRBY', KEYS[1], 'timed', timed)
+          redis.call('HINCRBY', KEYS[1], 'durationSeconds', duration)
+          redis.call('HINCRBY', KEYS[1], 'earnings', earnings)
+        end
+      end
+      redis.call('DEL', KEYS[3])
+      redis.call('EXPIRE', KEYS[2], ARGV[5])
+      return 1
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 완료 1건 반영
+   *
+   * @return 반영 여부 (집계가 없어 대기 중이거나 이미 반영한 배달이면 false)
+   */
+  public boolean recordCompleted(Long riderProfileId, LocalDate date, Long deliveryId,
+      Long durationSeconds, long earnings) {
+    Long result = redisTemplate.execute(RECORD_SCRIPT, keys(riderProfileId, date),
+        String.valueOf(deliveryId),
+        durationSeconds != null ? "1" : "0",
+        String.valueOf(durationSeconds != null ? durationSeconds : 0),
+        String.valueOf(earnings),
+        String.valueOf(RETENTION.toSeconds()));
+    return result != null && result == 1;
+  }
+
+  public Optional<RiderDailyStats> find(Long riderProfileId, LocalDate date) {
+    Map<Object, Object> fields = redisTemplate.opsForHash()
+        .entries(statsKey(riderProfileId, date));
+    if (fields.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(new RiderDailyStats(
+        longField(fields, COUNT_FIELD),
+        longField(fields, TIMED_FIELD),
+        longField(fields, DURATION_FIELD),
+        longField(fields, EARNINGS_FIELD)));
+  }
+
+  /**
+   * 집계가 없을 때만 DB 집계로 채움 (그 사이 다른 요청이 채웠으면 무시)
+   */
+  public void seed(Long riderProfileId, LocalDate date, RiderDailyStats stats,
+      Collection<Long> deliveryIds) {
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(stats.completedCount()));
+    args.add(String.valueOf(stats.timedCount()));
+    args.add(String.valueOf(stats.durationSecondsSum()));
+    args.add(String.valueOf(stats.earnings()));
+    args.add(String.valueOf(RETENTION.toSeconds()));
+    deliveryIds.forEach(id -> args.add(String.valueOf(id)));
+
+    redisTemplate.execute(SEED_SCRIPT, keys(riderProfileId, date), args.toArray());
+  }
+
+  private static List<String> keys(Long riderProfileId, LocalDate date) {
+    String statsKey = statsKey(riderProfileId, date);
+    return List.of(statsKey, statsKey + DELIVERIES_KEY_SUFFIX, statsKey + PENDING_KEY_SUFFIX);
+  }
+
+  private static String statsKey(Long riderProfileId, LocalDate date) {
+    return STATS_KEY_PREFIX + riderProfileId + ":" + date;
+  }
+
+  private static long longField(Map<Object, Object> fields, String field) {
+    Object value = fields.get(field);
+    return value != null ? Long.parseLong(value.toString()) : 0L;
+  }
+}
@@ -0,0 +1,136 @@
+package com.deliveranything.domain.delivery.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로(거리/소요시간) 인메모리 캐시 - 키: (출발 geo-cell, 도착 geo-cell, 15분 시간대) - LRU 제거 + TTL 만료 - 상점→고객,
+ * 라이더→고객 경로 재조회 시 Kakao API 호출 생략
+ */
+@Component
+public class RouteCacheRepository {
+
+  // 약 200m 격자 (위도 0.002도 ≈ 222m)
+  static final double CELL_DEGREES = 0.002;
+  static final int TIME_BUCKET_MINUTES = 15;
+  private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
+  private final int maxEntries;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  // accessOrder = true 로 LRU 순서 유지
+  private final LinkedHashMap<RouteKey, CachedRoute> routes;
+
+  @Autowired
+  public RouteCacheRepository(
+      MeterRegistry meterRegistry,
+      @Value("${delivery.route-cache.max-entries:10000}") int maxEntries,
+      @Value("${delivery.route-cache.ttl:10m}") Duration ttl
+  ) {
+    this(meterRegistry, maxEntries, ttl, Clock.system(SERVICE_ZONE));
+  }
+
+  RouteCacheRepository(MeterRegistry meterRegistry, int maxEntries, Duration ttl, Clock clock) {
+    this.maxEntries = maxEntries;
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.routes = new LinkedHashMap<>(256, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<RouteKey, CachedRoute> eldest) {
+        return size() > RouteCacheRepository.this.maxEntries;
+      }
+    };
+
+    this.hitCounter = Counter.builder("delivery.route.cache")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("delivery.route.cache")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder("delivery.route.cache.size", this, RouteCacheRepository::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시된 경로 조회 - 만료된 항목은 제거 후 miss 처리
+   */
+  public Optional<RouteSummary> find(double fromLat, double fromLon, double toLat, double toLon) {
+    RouteKey key = keyOf(fromLat, fromLon, toLat, toLon);
+    long now = clock.millis();
+
+    synchronized (routes) {
+      CachedRoute cached = routes.get(key);
+      if (cached != null && cached.expiresAtMillis() > now) {
+        hitCounter.increment();
+        return Optional.of(cached.summary());
+      }
+      if (cached != null) {
+        routes.remove(key);
+      }
+    }
+    missCounter.increment();
+    return Optional.empty();
+  }
+
+  public void save(double fromLat, double fromLon, double toLat, double toLon,
+      RouteSummary summary) {
+    RouteKey key = keyOf(fromLat, fromLon, toLat, toLon);
+    CachedRoute cached = new CachedRoute(summary, clock.millis() + ttlMillis);
+
+    synchronized (routes) {
+      routes.put(key, cached);
+    }
+  }
+
+  public int size() {
+    synchronized (routes) {
+      return routes.size();
+    }
+  }
+
+  private RouteKey keyOf(double fromLat, double fromLon, double toLat, double toLon) {
+    int minuteOfDay = LocalTime.now(clock).toSecondOfDay() / 60;
+    return new RouteKey(
+        cellOf(fromLat, fromLon),
+        cellOf(toLat, toLon),
+        minuteOfDay / TIME_BUCKET_MINUTES
+    );
+  }
+
+  // 위도/경도 격자 인덱스를 하나의 long으로 결합
+  static long cellOf(double lat, double lon) {
+    long latIdx = (long) Math.floor(lat / CELL_DEGREES);
+    long lonIdx = (long) Math.floor(lon / CELL_DEGREES);
+    return (latIdx << 32) | (lonIdx & 0xffffffffL);
+  }
+
+  /**
+   * 경로 요약 (거리: m, 소요시간: 초)
+   */
+  public record RouteSummary(double distanceMeters, double durationSeconds) {
+
+  }
+
+  private record RouteKey(long originCell, long destinationCell, int timeBucket) {
+
+  }
+
+  private record CachedRoute(RouteSummary summary, long expiresAtMillis) {
+
+  }
+}
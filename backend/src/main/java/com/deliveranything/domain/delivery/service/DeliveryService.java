@@ -1,5 +1,7 @@
 package com.deliveranything.domain.delivery.service;
 
+import com.deliveranything.domain.delivery.dto.DeliveredHistoryRow;
+import com.deliveranything.domain.delivery.dto.RiderDailyStats;
 import com.deliveranything.domain.delivery.dto.request.DeliveryAreaRequestDto;
 import com.deliveranything.domain.delivery.dto.request.RiderDecisionRequestDto;
 import com.deliveranything.domain.delivery.dto.request.RiderToggleStatusRequestDto;
@@ -23,6 +25,7 @@ import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.user.profile.entity.CustomerProfile;
 import com.deliveranything.domain.user.profile.entity.RiderProfile;
 import com.deliveranything.domain.user.profile.entity.SellerProfile;
+import com.deliveranything.domain.user.profile.event.RiderToggleStatusChangedEvent;
 import com.deliveranything.domain.user.profile.service.CustomerProfileService;
 import com.deliveranything.domain.user.profile.service.RiderProfileService;
 import com.deliveranything.domain.user.profile.service.SellerProfileService;
@@ -51,10 +54,13 @@ public class DeliveryService {
   private final ApplicationEventPublisher eventPublisher;
   private final CustomerProfileService customerProfileService;
   private final SettlementDetailService settlementDetailService;
+  private final RiderDailyStatsService riderDailyStatsService;
 
   public void updateRiderStatus(Long riderId, RiderToggleStatusRequestDto riderStatusRequestDto) {
     RiderProfile riderProfile = riderProfileService.getRiderProfileById(riderId);
     riderProfile.updateToggleStatus(riderStatusRequestDto.riderStatus());
+    eventPublisher.publishEvent(
+        new RiderToggleStatusChangedEvent(riderId, riderProfile.getToggleStatus()));
   }
 
   public void updateDeliveryArea(Long riderId, DeliveryAreaRequestDto deliveryAreaRequestDto) {
@@ -106,38 +112,32 @@ public class DeliveryService {
         .build();
   }
 
-  // 오늘 라이더의 작업 내역 조회
+  // 오늘 라이더의 작업 내역 조회 - 배달 완료 시 갱신되는 집계 1회 조회
   public TodayDeliveringResponseDto getTodayDeliveringInfo(Long riderProfileId) {
     RiderProfile riderProfile = riderProfileService.getRiderProfileById(riderProfileId);
+    RiderDailyStats todayStats = riderDailyStatsService.getToday(riderProfileId);
 
     return TodayDeliveringResponseDto.builder()
         .now(LocalDateTime.now())
         .currentStatus(riderProfile.getToggleStatus().name())
-        .todayDeliveryCount(getTodayCompletedCountByRider(riderProfileId))
-        .todayEarningAmount(getTodayEarningAmountByRiderId(riderProfileId))
-        .avgDeliveryTime(getAvgDeliveryTimeByRiderId(riderProfileId))
+        .todayDeliveryCount(todayStats.completedCount())
+        .todayEarningAmount(todayStats.earnings())
+        .avgDeliveryTime(todayStats.avgDeliveryMinutes())
         .build();
   }
 
   // 진행 중인 배달 정보 조회
   // 페이지네이션 까지 필요 없음 -> List 반환
   public List<CurrentDeliveringResponseDto> getCurrentDeliveringInfo(Long riderProfileId) {
-    // JOIN FETCH로 Store와 Order를 한 번에 가져옴
-    List<Delivery> currentDeliveries = deliveryRepository.findByRiderProfileIdAndStatus(
-        riderProfileId, DeliveryStatus.IN_PROGRESS);
-
-    return currentDeliveries.stream()
-        .map(delivery -> {
-          OrderResponse currentOrder = deliveryOrderService.getOrderByDeliveryId(
-              delivery.getId());  // 이미 JOIN FETCH로 가져옴
-          return CurrentDeliveringResponseDto.builder()
-              .orderId(delivery.getId())
-              .deliveryId(delivery.getId())
-              .storeName(delivery.getStore().getName())  // 이미 JOIN FETCH로 가져옴
-              .customerAddress(currentOrder.address())
-              .remainingTime(getRemainingTime(delivery))
-              .build();
-        })
+    // 배달 + 주문 + 상점을 한 번에 조회
+    return deliveryRepository.findCurrentDeliveringByRider(riderProfileId).stream()
+        .map(row -> CurrentDeliveringResponseDto.builder()
+            .orderId(row.orderId())
+            .deliveryId(row.deliveryId())
+            .storeName(row.storeName())
+            .customerAddress(row.customerAddress())
+            .remainingTime(getRemainingTime(row.startedAt(), row.expectedTime()))
+            .build())
         .toList();
   }
 
@@ -197,9 +197,9 @@ public class DeliveryService {
       String nextPageToken,
       int size
   ) {
-    // 커서 디코딩
+    // 커서 디코딩 (완료 시각, 배달 ID)
     LocalDateTime lastCompletedAt = null;
-    Long lastOrderId = null;
+    Long lastDeliveryId = null;
 
     if (nextPageToken != null) {
       Object[] decoded = CursorUtil.decode(nextPageToken);
@@ -207,80 +207,34 @@ public class DeliveryService {
       if (decoded != null && decoded.length == 2) {
         try {
           lastCompletedAt = LocalDateTime.parse(decoded[0].toString());
-          lastOrderId = Long.parseLong(decoded[1].toString());
+          lastDeliveryId = Long.parseLong(decoded[1].toString());
         } catch (Exception e) {
           lastCompletedAt = null;
-          lastOrderId = null;
+          lastDeliveryId = null;
         }
       }
     }
 
-    final LocalDateTime finalLastCompletedAt = lastCompletedAt;
-    final Long finalLastOrderId = lastOrderId;
-
-    // 완료된 배달 조회 (size + 1개 조회하여 hasNext 판단)
-    List<Delivery> allCompletedDeliveries = deliveryRepository
-        .findByRiderProfileIdAndStatus(riderProfileId, DeliveryStatus.COMPLETED);
-
     // 정렬 결정 (filter에 따라 LATEST 또는 OLDEST)
     boolean isLatest = filter == null || "LATEST".equalsIgnoreCase(filter);
 
-    // 정렬 및 필터링
-    List<Delivery> filteredDeliveries = allCompletedDeliveries.stream()
-        .sorted((d1, d2) -> {
-          // 1차: completedAt 기준 정렬 (LATEST: 내림차순, OLDEST: 오름차순)
-          int dateCompare = isLatest
-              ? d2.getCompletedAt().compareTo(d1.getCompletedAt())
-              : d1.getCompletedAt().compareTo(d2.getCompletedAt());
-          if (dateCompare != 0) {
-            return dateCompare;
-          }
-          // 2차: id 기준 정렬
-          return isLatest
-              ? Long.compare(d2.getId(), d1.getId())
-              : Long.compare(d1.getId(), d2.getId());
-        })
-        .filter(d -> {
-          if (finalLastCompletedAt == null) {
-            return true;
-          }
-          int compareDate = d.getCompletedAt().compareTo(finalLastCompletedAt);
-          // 더 이전 날짜
-          if (compareDate < 0) {
-            return true;
-          }
-          if (compareDate == 0 && d.getId() < finalLastOrderId) {
-            return true; // 같은 날짜, 더 작은 ID
-          }
-          return false;
-        })
-        .limit(size + 1) // hasNext 판단용 1개 추가
-        .toList();
+    // 완료된 배달 키셋 조회 - 주문/상점/정산 상세까지 한 번에 (size + 1개 조회하여 hasNext 판단)
+    List<DeliveredHistoryRow> rows = deliveryRepository.findDeliveredHistoryByRider(
+        riderProfileId, isLatest, lastCompletedAt, lastDeliveryId, size + 1);
 
     // hasNext 판단
-    boolean hasNext = filteredDeliveries.size() > size;
-    List<Delivery> pageDeliveries = hasNext ?
-        filteredDeliveries.subList(0, size) : filteredDeliveries;
-
-    // DTO 변환 (이미 JOIN FETCH로 Store와 Order를 가져왔으므로 추가 쿼리 없음)
-    List<DeliveredDetailsDto> deliveredDetailsList = pageDeliveries.stream()
-        .map(delivery -> {
-          OrderResponse order = deliveryOrderService.getOrderByDeliveryId(delivery.getId());
-          return DeliveredDetailsDto.builder()
-              .orderId(order.id())
-              .storeName(delivery.getStore().getName())
-              .completedAt(delivery.getCompletedAt())
-              .customerAddress(order.address())
-              .settlementStatus(getCompletedDeliverySettlementStatus(order.id(), riderProfileId))
-              .deliveryCharge(delivery.getCharge())
-              .build();
-        })
+    boolean hasNext = rows.size() > size;
+    List<DeliveredHistoryRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+    List<DeliveredDetailsDto> deliveredDetailsList = pageRows.stream()
+        .map(DeliveredHistoryRow::toDetailsDto)
         .toList();
 
     // 다음 페이지 토큰 생성
-    if (hasNext && !deliveredDetailsList.isEmpty()) {
-      DeliveredDetailsDto last = deliveredDetailsList.getLast();
-      nextPageToken = CursorUtil.encode(last.completedAt(), last.orderId());
+    nextPageToken = null;
+    if (hasNext && !pageRows.isEmpty()) {
+      DeliveredHistoryRow last = pageRows.getLast();
+      nextPageToken = CursorUtil.encode(last.completedAt(), last.deliveryId());
     }
 
     return new CursorPageResponse<>(
@@ -326,11 +280,14 @@ public class DeliveryService {
 
   // 남은 예상 시간 계산 (분 단위) -> 지연될 경우 - eta보다 더 걸릴 경우 (0분)으로 표시
   private static double getRemainingTime(Delivery currentDelivery) {
+    return getRemainingTime(currentDelivery.getStartedAt(), currentDelivery.getExpectedTime());
+  }
+
+  private static double getRemainingTime(LocalDateTime startedAt, Double expectedTime) {
     double remainingTime = 0.0;
-    if (currentDelivery.getStartedAt() != null && currentDelivery.getExpectedTime() != null) {
-      long elapsedMinutes = Duration.between(currentDelivery.getStartedAt(), LocalDateTime.now())
-          .toMinutes();
-      remainingTime = Math.max(0, currentDelivery.getExpectedTime() - elapsedMinutes);
+    if (startedAt != null && expectedTime != null) {
+      long elapsedMinutes = Duration.between(startedAt, LocalDateTime.now()).toMinutes();
+      remainingTime = Math.max(0, expectedTime - elapsedMinutes);
     }
     return remainingTime;
   }
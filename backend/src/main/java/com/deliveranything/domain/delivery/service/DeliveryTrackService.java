@@ -0,0 +1,230 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.dto.RiderLocationDto;
+import com.deliveranything.domain.delivery.dto.TrackPointDto;
+import com.deliveranything.domain.delivery.dto.response.DeliveryTrackResponseDto;
+import com.deliveranything.domain.delivery.repository.DeliveryRepository;
+import com.deliveranything.domain.delivery.repository.DeliveryTrackCodec;
+import com.deliveranything.domain.delivery.repository.DeliveryTrackRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 배달 경로 기록 서비스 - 위치 수집 flush 시점에 진행 중 배달별로 경로 지점 누적 (컨트롤러 경로와 무관) - minInterval 보다 촘촘한 지점은
+ * 버림 (다운샘플링) - chunkSize 개 또는 maxChunkAge 가 지나면 인코딩해 저장 - 조회 시 maxPoints 이하로 균등 추출
+ */
+@Slf4j
+@Service
+public class DeliveryTrackService {
+
+  private final DeliveryTrackRepository deliveryTrackRepository;
+  private final DeliveryRepository deliveryRepository;
+  private final long minIntervalMillis;
+  private final int chunkSize;
+  private final long maxChunkAgeMillis;
+  private final Duration retention;
+  private final Clock clock;
+
+  // 아직 저장하지 않은 배달별 경로 지점
+  private final Map<Long, TrackBuffer> buffers = new ConcurrentHashMap<>();
+
+  @Autowired
+  public DeliveryTrackService(
+      DeliveryTrackRepository deliveryTrackRepository,
+      DeliveryRepository deliveryRepository,
+      @Value("${delivery.track.min-interval:5s}") Duration minInterval,
+      @Value("${delivery.track.chunk-size:30}") int chunkSize,
+      @Value("${delivery.track.max-chunk-age:60s}") Duration maxChunkAge,
+      @Value("${delivery.track.retention:30d}") Duration retention
+  ) {
+    this(deliveryTrackRepository, deliveryRepository, minInterval, chunkSize, maxChunkAge,
+        retention, Clock.systemUTC());
+  }
+
+  DeliveryTrackService(
+      DeliveryTrackRepository deliveryTrackRepository,
+      DeliveryRepository deliveryRepository,
+      Duration minInterval,
+      int chunkSize,
+      Duration maxChunkAge,
+      Duration retention,
+      Clock clock
+  ) {
+    this.deliveryTrackRepository = deliveryTrackRepository;
+    this.deliveryRepository = deliveryRepository;
+    this.minIntervalMillis = minInterval.toMillis();
+    this.chunkSize = chunkSize;
+    this.maxChunkAgeMillis = maxChunkAge.toMillis();
+    this.retention = retention;
+    this.clock = clock;
+  }
+
+  // 라이더 배정 ~ 배달 완료 사이에만 경로 기록
+  public void startTracking(Long riderProfileId, Long deliveryId) {
+    deliveryTrackRepository.addActiveDelivery(riderProfileId, deliveryId);
+  }
+
+  public void stopTracking(Long riderProfileId, Long deliveryId) {
+    deliveryTrackRepository.removeActiveDelivery(riderProfileId, deliveryId);
+    TrackBuffer buffer = buffers.remove(deliveryId);
+    if (buffer != null) {
+      write(deliveryId, buffer.drain());
+    }
+  }
+
+  /**
+   * 위치 수집 flush 결과 기록 - 진행 중 배달이 있는 라이더만 대상
+   */
+  public void record(Map<Long, RiderLocationDto> locations) {
+    Map<Long, List<Long>> activeDeliveries =
+        deliveryTrackRepository.findActiveDeliveries(List.copyOf(locations.keySet()));
+
+    long now = clock.millis();
+    activeDeliveries.forEach((riderProfileId, deliveryIds) -> {
+      RiderLocationDto location = locations.get(riderProfileId);
+      TrackPointDto point = new TrackPointDto(location.timestamp(), location.latitude(),
+          location.longitude());
+      for (Long deliveryId : deliveryIds) {
+        List<TrackPointDto> full = addPoint(deliveryId, point, now);
+        if (full != null) {
+          write(deliveryId, full);
+        }
+      }
+    });
+  }
+
+  // 한동안 위치가 오지 않은 배달의 남은 지점 저장
+  @Scheduled(fixedDelayString = "${delivery.track.flush-interval-ms:10000}")
+  public void flushAged() {
+    long threshold = clock.millis() - maxChunkAgeMillis;
+    buffers.forEach((deliveryId, buffer) -> {
+      List<TrackPointDto> aged = buffer.drainIfOlderThan(threshold);
+      if (aged != null) {
+        write(deliveryId, aged);
+      } else {
+        // 완료 이벤트를 받지 못한 배달 정리 - 유휴 판단과 삭제를 한 번에 (그 사이 추가된 지점을 지우지 않음)
+        buffers.computeIfPresent(deliveryId,
+            (id, current) -> current.isIdleSince(threshold) ? null : current);
+      }
+    });
+  }
+
+  /**
+   * 배달 경로 재생 - 저장된 청크 + 아직 저장 전인 지점을 시각 순으로 반환
+   */
+  public DeliveryTrackResponseDto getTrack(Long deliveryId, int maxPoints) {
+    if (!deliveryRepository.existsById(deliveryId)) {
+      throw new CustomException(ErrorCode.DELIVERY_NOT_FOUND);
+    }
+
+    List<TrackPointDto> points = new ArrayList<>();
+    for (byte[] chunk : deliveryTrackRepository.findChunks(deliveryId)) {
+      points.addAll(DeliveryTrackCodec.decode(chunk));
+    }
+    TrackBuffer buffer = buffers.get(deliveryId);
+    if (buffer != null) {
+      points.addAll(buffer.snapshot());
+    }
+    points.sort(Comparator.comparingLong(TrackPointDto::timestamp));
+
+    return DeliveryTrackResponseDto.builder()
+        .deliveryId(deliveryId)
+        .totalPoints(points.size())
+        .points(downsample(points, maxPoints))
+        .build();
+  }
+
+  // 처음과 마지막 지점을 포함해 maxPoints 개로 균등 추출
+  static List<TrackPointDto> downsample(List<TrackPointDto> points, int maxPoints) {
+    if (maxPoints <= 0 || points.size() <= maxPoints) {
+      return points;
+    }
+    if (maxPoints == 1) {
+      return List.of(points.get(points.size() - 1));
+    }
+    List<TrackPointDto> sampled = new ArrayList<>(maxPoints);
+    double step = (points.size() - 1) / (double) (maxPoints - 1);
+    for (int i = 0; i < maxPoints; i++) {
+      sampled.add(points.get((int) Math.round(i * step)));
+    }
+    return sampled;
+  }
+
+  // 버퍼 조회와 지점 추가를 한 번에 - flushAged 가 유휴 버퍼를 지우는 중에도 지점이 지워진 버퍼에 들어가지 않음
+  private List<TrackPointDto> addPoint(Long deliveryId, TrackPointDto point, long now) {
+    AtomicReference<List<TrackPointDto>> full = new AtomicReference<>();
+    buffers.compute(deliveryId, (id, buffer) -> {
+      TrackBuffer target = buffer != null ? buffer : new TrackBuffer();
+      full.set(target.add(point, now));
+      return target;
+    });
+    return full.get();
+  }
+
+  private void write(Long deliveryId, List<TrackPointDto> points) {
+    if (points.isEmpty()) {
+      return;
+    }
+    try {
+      deliveryTrackRepository.appendChunk(deliveryId, DeliveryTrackCodec.encode(points),
+          retention);
+    } catch (Exception e) {
+      // 경로 기록은 부가 기능이므로 실패해도 배달 흐름에 영향을 주지 않음
+      log.warn("Failed to write {} track points for deliveryId: {} - {}", points.size(),
+          deliveryId, e.getMessage());
+    }
+  }
+
+  private class TrackBuffer {
+
+    private final List<TrackPointDto> points = new ArrayList<>();
+    private TrackPointDto lastKept;
+    private long firstAddedAt;
+    private long lastAddedAt;
+
+    // 청크가 가득 차면 비운 뒤 내용 반환
+    synchronized List<TrackPointDto> add(TrackPointDto point, long now) {
+      lastAddedAt = now;
+      if (lastKept != null && point.timestamp() - lastKept.timestamp() < minIntervalMillis) {
+        return null;
+      }
+      if (points.isEmpty()) {
+        firstAddedAt = now;
+      }
+      points.add(point);
+      lastKept = point;
+      return points.size() >= chunkSize ? drain() : null;
+    }
+
+    synchronized List<TrackPointDto> drainIfOlderThan(long threshold) {
+      return !points.isEmpty() && firstAddedAt <= threshold ? drain() : null;
+    }
+
+    synchronized boolean isIdleSince(long threshold) {
+      return points.isEmpty() && lastAddedAt <= threshold;
+    }
+
+    synchronized List<TrackPointDto> drain() {
+      List<TrackPointDto> drained = List.copyOf(points);
+      points.clear();
+      return drained;
+    }
+
+    synchronized List<TrackPointDto> snapshot() {
+      return List.copyOf(points);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수집 구간 내 주문-라이더 배정 (탐욕 매칭) - 전체 (주문, 라이더, ETA) 를 ETA 오름차순으로 보며 라이더별 제안 수와 주문별 제안 라이더 수 한도
+ * 안에서 배정 - 배정받지 못한 주문은 다음 구간으로 넘기고, 대기 한도를 넘으면 가까운 후보에게 제안
+ */
+public final class DispatchAssignmentSolver {
+
+  private DispatchAssignmentSolver() {
+  }
+
+  /**
+   * @param offers   이번 구간에 제안할 주문별 라이더
+   * @param deferred 다음 구간으로 넘길 주문별 후보
+   */
+  public record Result(
+      Map<String, List<RiderNotificationDto>> offers,
+      Map<String, List<RiderNotificationDto>> deferred
+  ) {
+
+  }
+
+  /**
+   * @param candidates    라이더 ETA 가 계산된 주문 (orderId 별 후보 목록)
+   * @param waitedWindows 주문별로 이미 넘어간 구간 수
+   */
+  public static Result solve(
+      Map<String, List<RiderNotificationDto>> candidates,
+      Map<String, Integer> waitedWindows,
+      int offersPerRider,
+      int ridersPerOrder,
+      int maxWaitWindows
+  ) {
+    List<RiderNotificationDto> edges = new ArrayList<>();
+    candidates.values().forEach(edges::addAll);
+    edges.sort(Comparator.comparingDouble(RiderNotificationDto::etaMinutes));
+
+    Map<String, Integer> riderLoad = new HashMap<>();
+    Map<String, List<RiderNotificationDto>> offers = new LinkedHashMap<>();
+    for (RiderNotificationDto edge : edges) {
+      String orderId = edge.orderDetailsDto().orderId();
+      List<RiderNotificationDto> orderOffers = offers.computeIfAbsent(orderId,
+          id -> new ArrayList<>());
+      if (orderOffers.size() >= ridersPerOrder
+          || riderLoad.getOrDefault(edge.riderId(), 0) >= offersPerRider) {
+        continue;
+      }
+      orderOffers.add(edge);
+      riderLoad.merge(edge.riderId(), 1, Integer::sum);
+    }
+
+    Map<String, List<RiderNotificationDto>> assigned = new LinkedHashMap<>();
+    Map<String, List<RiderNotificationDto>> deferred = new LinkedHashMap<>();
+    candidates.forEach((orderId, orderCandidates) -> {
+      List<RiderNotificationDto> orderOffers = offers.getOrDefault(orderId, List.of());
+      if (!orderOffers.isEmpty()) {
+        assigned.put(orderId, orderOffers);
+      } else if (waitedWindows.getOrDefault(orderId, 0) >= maxWaitWindows) {
+        // 이미 maxWaitWindows 번 넘어갔으면 더 기다리지 않고 가까운 후보에게 제안 (라이더 제안 한도 무시)
+        assigned.put(orderId, orderCandidates.stream()
+            .sorted(Comparator.comparingDouble(RiderNotificationDto::etaMinutes))
+            .limit(ridersPerOrder)
+            .toList());
+      } else {
+        deferred.put(orderId, orderCandidates);
+      }
+    });
+    return new Result(assigned, deferred);
+  }
+}
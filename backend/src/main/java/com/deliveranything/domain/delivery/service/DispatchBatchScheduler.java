@@ -0,0 +1,113 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.config.DispatchProperties;
+import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
+import com.deliveranything.domain.delivery.repository.PendingDispatchRepository;
+import com.deliveranything.domain.notification.subscriber.delivery.OrderAcceptedNotifier;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 배차 스케줄러 - 수집 구간(batch-window-ms) 동안 라이더 ETA 가 계산된 주문을 모음 - 구간마다 DispatchAssignmentSolver 로
+ * 배정 후 라이더에게는 배정된 주문만 제안 - 같은 라이더에게 여러 주문이 동시에 몰리지 않도록 함 - 모으는 동안 주문은 메모리에만 있으므로
+ * Redis 대기 상태는 제안을 보낸 뒤 삭제하고, 그 전까지는 구간마다 점유를 연장 (노드가 멈추면 점유 만료 후 다른 노드가 다시 시도)
+ */
+@Slf4j
+@Component
+public class DispatchBatchScheduler {
+
+  private final OrderAcceptedNotifier orderAcceptedNotifier;
+  private final PendingDispatchRepository pendingDispatchRepository;
+  private final DispatchProperties dispatchProperties;
+  private final Clock clock;
+
+  // 다음 구간에 배정할 주문 (orderId -> 후보 라이더)
+  private final Map<String, List<RiderNotificationDto>> pending = new LinkedHashMap<>();
+  // 배정받지 못하고 넘어간 구간 수
+  private final Map<String, Integer> waitedWindows = new HashMap<>();
+
+  @Autowired
+  public DispatchBatchScheduler(
+      OrderAcceptedNotifier orderAcceptedNotifier,
+      PendingDispatchRepository pendingDispatchRepository,
+      DispatchProperties dispatchProperties
+  ) {
+    this(orderAcceptedNotifier, pendingDispatchRepository, dispatchProperties,
+        Clock.systemUTC());
+  }
+
+  DispatchBatchScheduler(
+      OrderAcceptedNotifier orderAcceptedNotifier,
+      PendingDispatchRepository pendingDispatchRepository,
+      DispatchProperties dispatchProperties,
+      Clock clock
+  ) {
+    this.orderAcceptedNotifier = orderAcceptedNotifier;
+    this.pendingDispatchRepository = pendingDispatchRepository;
+    this.dispatchProperties = dispatchProperties;
+    this.clock = clock;
+  }
+
+  public void submit(String orderId, List<RiderNotificationDto> candidates) {
+    synchronized (pending) {
+      pending.put(orderId, candidates);
+      waitedWindows.remove(orderId); // 같은 주문 재수신 시 새로 계산된 후보 기준
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${delivery.dispatch.batch-window-ms:2000}")
+  public void dispatchWindow() {
+    Map<String, List<RiderNotificationDto>> window;
+    Map<String, Integer> waited;
+    synchronized (pending) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      window = new LinkedHashMap<>(pending);
+      waited = new HashMap<>(waitedWindows);
+      pending.clear();
+      waitedWindows.clear();
+    }
+
+    DispatchAssignmentSolver.Result result = DispatchAssignmentSolver.solve(window, waited,
+        dispatchProperties.getOffersPerRider(), dispatchProperties.getRidersPerOrder(),
+        dispatchProperties.getMaxWaitWindows());
+
+    synchronized (pending) {
+      result.deferred().forEach((orderId, candidates) -> {
+        // 대기 중 같은 주문이 다시 들어왔으면 새 후보 유지
+        if (pending.putIfAbsent(orderId, candidates) == null) {
+          waitedWindows.put(orderId, waited.getOrDefault(orderId, 0) + 1);
+        }
+      });
+    }
+
+    try {
+      pendingDispatchRepository.extendLease(List.copyOf(result.deferred().keySet()),
+          clock.millis() + dispatchProperties.getAttemptLease().toMillis());
+    } catch (Exception e) {
+      // 연장하지 못하면 점유 만료 후 다른 노드가 같은 주문을 다시 시도할 수 있음
+      log.warn("Failed to extend lease for {} deferred orders - {}", result.deferred().size(),
+          e.getMessage());
+    }
+
+    result.offers().forEach((orderId, offers) -> {
+      try {
+        orderAcceptedNotifier.publish(offers);
+        // 제안을 보낸 뒤에만 대기 상태 삭제 (실패하면 점유 만료 후 다시 시도)
+        pendingDispatchRepository.remove(orderId);
+      } catch (Exception e) {
+        log.error("Failed to offer orderId: {} - {}", orderId, e.getMessage());
+      }
+    });
+    log.info("Dispatch window: {} orders offered, {} deferred", result.offers().size(),
+        result.deferred().size());
+  }
+}
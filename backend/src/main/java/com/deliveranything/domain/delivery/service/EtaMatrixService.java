@@ -0,0 +1,170 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.client.KakaoNaviClient;
+import com.deliveranything.domain.delivery.client.NaviRoute;
+import com.deliveranything.domain.delivery.event.dto.OrderAssignFailedEvent;
+import com.deliveranything.domain.delivery.repository.RouteCacheRepository;
+import com.deliveranything.domain.delivery.repository.RouteCacheRepository.RouteSummary;
+import com.deliveranything.domain.delivery.service.LearnedEtaModel.Prediction;
+import com.deliveranything.domain.notification.subscriber.delivery.OrderAssignFailedNotifier;
+import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * 라이더 후보 전체의 ETA 행렬 계산 서비스 - 다중 출발지 길찾기 API가 설정된 경우 한 번의 호출(최대 30명 단위)로 계산 - 경로
+ * 캐시에 있거나 학습 모델 신뢰도가 높은 라이더는 호출에서 제외 - 나머지는 학습 모델 예측값 순으로 요청 - 설정되지 않았거나 실패한 라이더는
+ * 학습 모델 예측값 또는 로컬 도로 거리 추정치로 계산 - 배차 파이프라인용 스트림 제공
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EtaMatrixService {
+
+  // Kakao 다중 출발지 길찾기는 요청당 최대 30개 출발지까지 지원
+  private static final int MAX_ORIGINS_PER_REQUEST = 30;
+
+  private final KakaoNaviClient kakaoNaviClient;
+  private final OrderAssignFailedNotifier orderAssignFailedNotifier;
+  private final RouteCacheRepository routeCacheRepository;
+  private final LearnedEtaService learnedEtaService;
+
+  /**
+   * 주문 도착지 기준 라이더별 ETA 계산 (분 단위) - 주문당 한 번 호출
+   *
+   * @return Map<riderId, etaMinutes>
+   */
+  public Map<String, Double> getEtaMatrix(
+      OrderAcceptedEvent order,
+      List<Point> riderPoints,
+      List<String> riderIds
+  ) {
+    Map<String, Double> result = streamEtaMatrix(order, riderPoints, riderIds)
+        .collectMap(Map.Entry::getKey, Map.Entry::getValue, HashMap::new)
+        .block();
+
+    log.info("Calculated ETA matrix for {} riders (multi-origin: {})", result.size(),
+        kakaoNaviClient.isMultiOriginEnabled());
+
+    if (result.isEmpty()) {
+      orderAssignFailedNotifier.publish(new OrderAssignFailedEvent(order));
+    }
+
+    return result;
+  }
+
+  /**
+   * 라이더별 ETA 스트림 (분 단위) - 캐시 hit 라이더가 먼저, 이후 다중 출발지 호출 묶음(최대 30명)이 응답하는 순서대로 방출 - 구독
+   * 취소 시 진행 중인 Kakao 호출도 함께 취소됨
+   */
+  public Flux<Map.Entry<String, Double>> streamEtaMatrix(
+      OrderAcceptedEvent order,
+      List<Point> riderPoints,
+      List<String> riderIds
+  ) {
+    double userLat = order.customerLat();
+    double userLon = order.customerLon();
+
+    return Flux.defer(() -> {
+      // 다중 출발지 API 미설정 시 학습 모델/로컬 추정치로 계산
+      if (!kakaoNaviClient.isMultiOriginEnabled()) {
+        return Flux.range(0, riderIds.size())
+            .map(i -> Map.entry(riderIds.get(i),
+                fallbackEtaMinutes(riderPoints.get(i), userLat, userLon)));
+      }
+
+      // 캐시에 있거나 학습 모델 신뢰도가 높은 라이더는 외부 호출에서 제외
+      List<Map.Entry<String, Double>> known = new ArrayList<>();
+      List<RankedRider> misses = new ArrayList<>();
+      for (int i = 0; i < riderIds.size(); i++) {
+        String riderId = riderIds.get(i);
+        Point riderPoint = riderPoints.get(i);
+        Optional<RouteSummary> cached = routeCacheRepository.find(
+            riderPoint.getY(), riderPoint.getX(), userLat, userLon);
+        if (cached.isPresent()) {
+          known.add(Map.entry(riderId, cached.get().durationSeconds() / 60.0));
+          continue;
+        }
+
+        Optional<Prediction> learned = learnedEtaService.predict(
+            riderPoint.getY(), riderPoint.getX(), userLat, userLon, null);
+        if (learned.isPresent() && learned.get().confident()) {
+          known.add(Map.entry(riderId, roundMinutes(learned.get().minutes())));
+          continue;
+        }
+        double prior = learned.map(Prediction::minutes).orElseGet(
+            () -> estimateEtaMinutes(riderPoint.getY(), riderPoint.getX(), userLat, userLon));
+        misses.add(new RankedRider(riderId, riderPoint, roundMinutes(prior)));
+      }
+
+      // 예상 ETA 가 짧은 라이더부터 묶어 요청 - 묶음은 병렬로 요청하되 순위 순서대로 방출
+      misses.sort(Comparator.comparingDouble(RankedRider::priorMinutes));
+      Flux<Map.Entry<String, Double>> fetched = Flux.range(0,
+              (misses.size() + MAX_ORIGINS_PER_REQUEST - 1) / MAX_ORIGINS_PER_REQUEST)
+          .map(chunk -> misses.subList(chunk * MAX_ORIGINS_PER_REQUEST,
+              Math.min((chunk + 1) * MAX_ORIGINS_PER_REQUEST, misses.size())))
+          .flatMapSequential(chunk -> requestMultiOrigin(chunk, userLat, userLon));
+
+      return Flux.fromIterable(known).concatWith(fetched);
+    });
+  }
+
+  /**
+   * 로컬 도로 거리 기반 ETA 추정 (분 단위)
+   */
+  public static double estimateEtaMinutes(double fromLat, double fromLon, double toLat,
+      double toLon) {
+    return roundMinutes(NaviRoute.estimate(fromLat, fromLon, toLat, toLon).durationMinutes());
+  }
+
+  // 다중 출발지 길찾기 1회 호출 (응답에 없는 라이더는 사전 예측값으로 보완)
+  private Flux<Map.Entry<String, Double>> requestMultiOrigin(
+      List<RankedRider> chunk, double userLat, double userLon
+  ) {
+    Map<String, Point> origins = new LinkedHashMap<>();
+    chunk.forEach(rider -> origins.put(rider.riderId(), rider.point()));
+
+    return kakaoNaviClient.multiOriginRoutes(origins, userLat, userLon)
+        .flatMapIterable(routes -> {
+          List<Map.Entry<String, Double>> etas = new ArrayList<>();
+          for (RankedRider rider : chunk) {
+            NaviRoute route = routes.get(rider.riderId());
+            if (route == null) {
+              etas.add(Map.entry(rider.riderId(), rider.priorMinutes()));
+              continue;
+            }
+            Point riderPoint = rider.point();
+            routeCacheRepository.save(riderPoint.getY(), riderPoint.getX(), userLat, userLon,
+                new RouteSummary(route.distanceMeters(), route.durationSeconds()));
+            etas.add(Map.entry(rider.riderId(), route.durationMinutes()));
+          }
+          return etas;
+        });
+  }
+
+  // 학습 모델 예측값 (신뢰도 무관) → 없으면 로컬 추정치
+  private double fallbackEtaMinutes(Point riderPoint, double userLat, double userLon) {
+    return learnedEtaService.predict(riderPoint.getY(), riderPoint.getX(), userLat, userLon, null)
+        .map(prediction -> roundMinutes(prediction.minutes()))
+        .orElseGet(
+            () -> estimateEtaMinutes(riderPoint.getY(), riderPoint.getX(), userLat, userLon));
+  }
+
+  private static double roundMinutes(double minutes) {
+    return Math.round(minutes * 10.0) / 10.0;
+  }
+
+  private record RankedRider(String riderId, Point point, double priorMinutes) {
+
+  }
+}
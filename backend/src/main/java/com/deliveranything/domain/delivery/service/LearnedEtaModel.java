@@ -0,0 +1,154 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.dto.EtaTrainingSample;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 완료 배달 기반 ETA 회귀 모델 - (시간대, 거리 구간) 격자별 직선 거리 → 소요 시간 단순 선형 회귀 - 표본이 부족하면 시간대 전체, 전체 순으로
+ * 상위 수준 사용 - 상점별 보정값(잔차 평균, 표본 수에 따라 축소) 적용 - 예측은 Map 조회 + 사칙연산만으로 수행
+ */
+public class LearnedEtaModel {
+
+  // 거리 구간 경계 (km)
+  private static final double[] DISTANCE_BANDS = {1.0, 2.0, 3.0, 5.0, 8.0};
+  private static final int ALL = -1;
+  // 상점 보정값 축소 강도 (표본이 이 수만큼 있으면 보정값의 절반만 반영)
+  private static final double STORE_SHRINKAGE = 10.0;
+  private static final double MIN_MINUTES = 1.0;
+
+  private final int minSamples;
+  private final double maxRelativeError;
+
+  private final Map<CellKey, CellStats> cells = new ConcurrentHashMap<>();
+  private final Map<Long, StoreStats> stores = new ConcurrentHashMap<>();
+
+  public LearnedEtaModel(int minSamples, double maxRelativeError) {
+    this.minSamples = minSamples;
+    this.maxRelativeError = maxRelativeError;
+  }
+
+  /**
+   * @param minutes    예측 소요 시간 (분)
+   * @param confident  표본 수와 오차 기준을 모두 만족하면 true (외부 호출 생략 가능)
+   * @param samples    예측에 사용한 격자의 표본 수
+   */
+  public record Prediction(double minutes, boolean confident, long samples) {
+
+  }
+
+  // 완료 배달 1건 반영 (학습/온라인 갱신 공용)
+  public void observe(EtaTrainingSample sample) {
+    if (!sample.isValid()) {
+      return;
+    }
+    double km = sample.distanceKm();
+    double minutes = sample.actualMinutes();
+    int hour = sample.hourOfDay();
+
+    // 상점 보정값은 반영 전 모델 기준 잔차로 갱신
+    if (sample.storeId() != null) {
+      Optional<Prediction> before = predictWithoutStore(hour, km);
+      before.ifPresent(p -> stores.merge(sample.storeId(),
+          new StoreStats(1, minutes - p.minutes()), StoreStats::plus));
+    }
+
+    CellStats point = CellStats.of(km, minutes);
+    cells.merge(new CellKey(hour, band(km)), point, CellStats::plus);
+    cells.merge(new CellKey(hour, ALL), point, CellStats::plus);
+    cells.merge(new CellKey(ALL, ALL), point, CellStats::plus);
+  }
+
+  public Optional<Prediction> predict(int hour, double km, Long storeId) {
+    Optional<Prediction> base = predictWithoutStore(hour, km);
+    if (base.isEmpty() || storeId == null) {
+      return base;
+    }
+    StoreStats store = stores.get(storeId);
+    if (store == null) {
+      return base;
+    }
+    double adjusted = base.get().minutes()
+        + store.residualSum() / (store.count() + STORE_SHRINKAGE);
+    return Optional.of(new Prediction(Math.max(MIN_MINUTES, adjusted), base.get().confident(),
+        base.get().samples()));
+  }
+
+  public long sampleCount() {
+    CellStats all = cells.get(new CellKey(ALL, ALL));
+    return all == null ? 0 : all.n();
+  }
+
+  private Optional<Prediction> predictWithoutStore(int hour, double km) {
+    // 가장 구체적인 수준부터 표본이 충분한 격자 사용
+    CellKey[] levels = {
+        new CellKey(hour, band(km)), new CellKey(hour, ALL), new CellKey(ALL, ALL)
+    };
+    for (int level = 0; level < levels.length; level++) {
+      CellStats stats = cells.get(levels[level]);
+      if (stats == null || stats.n() < minSamples) {
+        continue;
+      }
+      double minutes = Math.max(MIN_MINUTES, stats.predict(km));
+      // 신뢰 판단은 (시간대, 거리 구간) 격자에서만
+      boolean confident = level == 0 && stats.residualStdDev() <= maxRelativeError * minutes;
+      return Optional.of(new Prediction(minutes, confident, stats.n()));
+    }
+    return Optional.empty();
+  }
+
+  private static int band(double km) {
+    for (int i = 0; i < DISTANCE_BANDS.length; i++) {
+      if (km < DISTANCE_BANDS[i]) {
+        return i;
+      }
+    }
+    return DISTANCE_BANDS.length;
+  }
+
+  private record CellKey(int hour, int band) {
+
+  }
+
+  private record StoreStats(long count, double residualSum) {
+
+    StoreStats plus(StoreStats other) {
+      return new StoreStats(count + other.count, residualSum + other.residualSum);
+    }
+  }
+
+  // 단순 선형 회귀 충분 통계량 (y = a + b * x)
+  private record CellStats(long n, double sx, double sy, double sxx, double sxy, double syy) {
+
+    static CellStats of(double x, double y) {
+      return new CellStats(1, x, y, x * x, x * y, y * y);
+    }
+
+    CellStats plus(CellStats o) {
+      return new CellStats(n + o.n, sx + o.sx, sy + o.sy, sxx + o.sxx, sxy + o.sxy, syy + o.syy);
+    }
+
+    private double slope() {
+      double varX = n * sxx - sx * sx;
+      // 거리가 거의 같은 표본뿐이면 평균 속도 기준
+      return varX < 1e-9 * n * n ? (sx > 0 ? sy / sx : 0.0) : (n * sxy - sx * sy) / varX;
+    }
+
+    double predict(double x) {
+      double b = slope();
+      double a = (sy - b * sx) / n;
+      return a + b * x;
+    }
+
+    double residualStdDev() {
+      if (n < 3) {
+        return Double.MAX_VALUE;
+      }
+      double b = slope();
+      double a = (sy - b * sx) / n;
+      double sse = syy - 2 * a * sy - 2 * b * sxy + n * a * a + 2 * a * b * sx + b * b * sxx;
+      return Math.sqrt(Math.max(0.0, sse) / (n - 2));
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.dto.EtaTrainingSample;
+import com.deliveranything.domain.delivery.repository.DeliveryRepository;
+import com.deliveranything.domain.delivery.service.LearnedEtaModel.Prediction;
+import com.deliveranything.global.util.GeoUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 학습 기반 ETA 서비스 - 최근 완료 배달로 LearnedEtaModel 학습 (기동 시 + 매시간 재학습) - 배달 완료 시 온라인 반영 - 외부 호출 전 라이더
+ * 사전 정렬 및 신뢰도가 높을 때 Kakao 호출 대체에 사용
+ */
+@Slf4j
+@Service
+public class LearnedEtaService {
+
+  private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
+  private final DeliveryRepository deliveryRepository;
+  private final int trainingDays;
+  private final int minSamples;
+  private final double maxRelativeError;
+  private final Clock clock;
+
+  private final AtomicReference<LearnedEtaModel> model;
+
+  private final Counter confidentCounter;
+  private final Counter uncertainCounter;
+  private final Counter noModelCounter;
+
+  @Autowired
+  public LearnedEtaService(
+      DeliveryRepository deliveryRepository,
+      MeterRegistry meterRegistry,
+      @Value("${delivery.learned-eta.training-days:28}") int trainingDays,
+      @Value("${delivery.learned-eta.min-samples:30}") int minSamples,
+      @Value("${delivery.learned-eta.max-relative-error:0.2}") double maxRelativeError
+  ) {
+    this(deliveryRepository, meterRegistry, trainingDays, minSamples, maxRelativeError,
+        Clock.system(SERVICE_ZONE));
+  }
+
+  LearnedEtaService(
+      DeliveryRepository deliveryRepository,
+      MeterRegistry meterRegistry,
+      int trainingDays,
+      int minSamples,
+      double maxRelativeError,
+      Clock clock
+  ) {
+    this.deliveryRepository = deliveryRepository;
+    this.trainingDays = trainingDays;
+    this.minSamples = minSamples;
+    this.maxRelativeError = maxRelativeError;
+    this.clock = clock;
+    this.model = new AtomicReference<>(new LearnedEtaModel(minSamples, maxRelativeError));
+
+    this.confidentCounter = Counter.builder("delivery.learned.eta.predictions")
+        .tag("result", "confident")
+        .register(meterRegistry);
+    this.uncertainCounter = Counter.builder("delivery.learned.eta.predictions")
+        .tag("result", "uncertain")
+        .register(meterRegistry);
+    this.noModelCounter = Counter.builder("delivery.learned.eta.predictions")
+        .tag("result", "none")
+        .register(meterRegistry);
+    Gauge.builder("delivery.learned.eta.samples", model, m -> m.get().sampleCount())
+        .register(meterRegistry);
+  }
+
+  /**
+   * 최근 trainingDays 일 완료 배달로 모델 재학습 후 교체 (학습 중에도 기존 모델로 예측)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "0 5 * * * *")
+  public void retrain() {
+    LocalDateTime since = LocalDateTime.now(clock).minusDays(trainingDays);
+    List<EtaTrainingSample> samples = deliveryRepository.findEtaTrainingSamples(since);
+
+    LearnedEtaModel trained = new LearnedEtaModel(minSamples, maxRelativeError);
+    samples.forEach(trained::observe);
+    model.set(trained);
+    log.info("Learned ETA model retrained with {} completed deliveries", trained.sampleCount());
+  }
+
+  // 배달 완료 시 바로 반영 (다음 재학습 전까지)
+  public void observeCompleted(Long deliveryId) {
+    try {
+      deliveryRepository.findEtaTrainingSample(deliveryId)
+          .ifPresent(sample -> model.get().observe(sample));
+    } catch (Exception e) {
+      // 모델 반영은 부가 기능이므로 실패해도 배달 완료 처리에 영향을 주지 않음
+      log.warn("Failed to observe completed deliveryId: {} - {}", deliveryId, e.getMessage());
+    }
+  }
+
+  /**
+   * 두 지점 사이 예측 소요 시간 - 현재 시간대 기준, 상점 출발이면 storeId 로 상점 보정
+   */
+  public Optional<Prediction> predict(double fromLat, double fromLon, double toLat, double toLon,
+      Long storeId) {
+    double km = GeoUtil.distanceKm(fromLat, fromLon, toLat, toLon);
+    Optional<Prediction> prediction = model.get()
+        .predict(LocalDateTime.now(clock).getHour(), km, storeId);
+
+    if (prediction.isEmpty()) {
+      noModelCounter.increment();
+    } else if (prediction.get().confident()) {
+      confidentCounter.increment();
+    } else {
+      uncertainCounter.increment();
+    }
+    return prediction;
+  }
+}
@@ -1,18 +1,23 @@
 package com.deliveranything.domain.delivery.service;
 
+import com.deliveranything.domain.delivery.config.DispatchProperties;
 import com.deliveranything.domain.delivery.dto.OrderDetailsDto;
 import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
 import com.deliveranything.domain.order.enums.OrderStatus;
 import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
- * Virtual Thread 기반 주문 알림 처리 서비스 - 주문 접수 시 반경 내 라이더에게 알림 전송 - 블로킹 방식이지만 Virtual Thread에서 효율적으로 동작
+ * Reactor 기반 주문 알림 처리 서비스 - 주문 접수 시 반경 내 라이더에게 알림 전송 - 상점-고객 거리 계산과 라이더 ETA 조회를 동시에 실행 -
+ * 주문별 제한 시간 내에 응답한 라이더만으로 부분 결과 반환
  */
 @Slf4j
 @Service
@@ -21,55 +26,79 @@ public class OrderNotificationService {
 
   private final ReactiveRiderEtaService reactiveRiderEtaService;
   private final EtaService etaService;
+  private final DispatchProperties dispatchProperties;
 
   /**
-   * 주문 이벤트 처리 (동기식, Virtual Thread에서 실행) - 상점-고객 거리 계산 - 반경 내 라이더 조회 및 ETA 계산 - 라이더별 알림 DTO 생성
+   * 주문 이벤트 처리 (비동기) - 상점-고객 거리 계산 - 반경 radiusKm 내 라이더 조회 및 ETA 계산 - 라이더별 알림 DTO 생성 - 구독 취소
+   * 시 진행 중인 외부 호출까지 함께 취소 - 반경 확장은 RadiusExpansionDispatcher 가 담당
    */
-  public List<RiderNotificationDto> processOrderEvent(OrderAcceptedEvent orderEvent) {
-    double customerLat = orderEvent.customerLat();
-    double customerLon = orderEvent.customerLon();
-    String orderId = orderEvent.orderId();
+  public Mono<List<RiderNotificationDto>> processOrderEvent(
+      OrderAcceptedEvent orderEvent, double radiusKm
+  ) {
+    Duration deadline = dispatchProperties.getDeadline();
 
-    // 1. 상점 → 고객 거리 계산 (블로킹, but Virtual Thread)
-    Map<String, Double> distanceMap = etaService.getDistance(orderEvent);
+    // 1. 상점 → 고객 거리 계산 (제한 시간 초과/실패 시 추정 거리)
+    Mono<Double> estimatedDistance = Mono.fromSupplier(
+        () -> etaService.estimateDistanceKm(orderEvent));
+    Mono<Double> distance = etaService.distanceKm(orderEvent)
+        .timeout(deadline, estimatedDistance)
+        .switchIfEmpty(estimatedDistance)
+        .onErrorResume(e -> {
+          log.warn("Distance lookup failed for orderId: {} - {}", orderEvent.orderId(),
+              e.getMessage());
+          return estimatedDistance;
+        });
 
-    double distanceKm = distanceMap.getOrDefault("distance", 0.0);
-
-    // 2. 예상 배송비 계산
-    int expectedCharge = 3000;
-    if (distanceKm > 3.0) {
-      expectedCharge += (int) Math.ceil((distanceKm - 3.0) * 1000); // 3km 초과 시 추가 요금
+    // 2. 반경 내 라이더 ETA 조회 (1과 동시에 실행, 충분한 라이더가 모이거나 제한 시간이 지나면 그때까지의 결과로 진행)
+    Flux<Map.Entry<String, Double>> riderEtas = reactiveRiderEtaService.streamNearbyRidersEta(
+        orderEvent, radiusKm, dispatchProperties.getMaxCandidatesPerRing());
+    if (dispatchProperties.getEnoughRiders() > 0) {
+      riderEtas = riderEtas.take(dispatchProperties.getEnoughRiders());
     }
+    Mono<List<Map.Entry<String, Double>>> etas = riderEtas
+        .take(deadline)
+        .onErrorResume(e -> {
+          log.warn("Rider ETA lookup failed for orderId: {} - {}", orderEvent.orderId(),
+              e.getMessage());
+          return Flux.empty();
+        })
+        .collectList();
 
-    // 3. 반경 내 라이더 ETA 조회 (블로킹, but Virtual Thread)
-    Map<String, Double> etaMap = reactiveRiderEtaService.findNearbyRidersEta(
-        orderEvent, 3.0
-    );
+    return Mono.zip(distance, etas)
+        .map(tuple -> toNotifications(orderEvent, tuple.getT1(), tuple.getT2()));
+  }
 
-    if (etaMap.isEmpty()) {
+  // 3. 라이더별 알림 DTO 생성
+  private List<RiderNotificationDto> toNotifications(
+      OrderAcceptedEvent orderEvent, double distanceKm, List<Map.Entry<String, Double>> etas
+  ) {
+    if (etas.isEmpty()) {
       return new ArrayList<>();
     }
 
-    // 4. 라이더별 알림 DTO 생성
-    List<RiderNotificationDto> dtoList = new ArrayList<>();
-    int finalExpectedCharge = expectedCharge;
+    // 예상 배송비 계산
+    int expectedCharge = 3000;
+    if (distanceKm > 3.0) {
+      expectedCharge += (int) Math.ceil((distanceKm - 3.0) * 1000); // 3km 초과 시 추가 요금
+    }
 
-    etaMap.forEach((riderId, etaMinutes) -> {
+    List<RiderNotificationDto> dtoList = new ArrayList<>();
+    for (Map.Entry<String, Double> eta : etas) {
       RiderNotificationDto dto = RiderNotificationDto.builder()
           .orderDetailsDto(
               OrderDetailsDto.builder()
-                  .orderId(orderId)
+                  .orderId(orderEvent.orderId())
                   .storeName(orderEvent.storeName())
                   .distance(distanceKm)
-                  .expectedCharge(finalExpectedCharge)
+                  .expectedCharge(expectedCharge)
                   .build()
           )
-          .riderId(riderId)
-          .etaMinutes(etaMinutes)
+          .riderId(eta.getKey())
+          .etaMinutes(eta.getValue())
           .orderDeliveryStatus(OrderStatus.RIDER_ASSIGNED)
           .build();
       dtoList.add(dto);
-    });
+    }
 
     return dtoList;
   }
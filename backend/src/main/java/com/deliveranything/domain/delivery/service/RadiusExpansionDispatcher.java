@@ -0,0 +1,206 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.config.DispatchProperties;
+import com.deliveranything.domain.delivery.event.dto.OrderAssignFailedEvent;
+import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
+import com.deliveranything.domain.delivery.repository.PendingDispatchRepository;
+import com.deliveranything.domain.delivery.repository.PendingDispatchRepository.PendingDispatch;
+import com.deliveranything.domain.notification.subscriber.delivery.OrderAssignFailedNotifier;
+import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 반경 확장 배차 - 첫 반경에서 후보가 부족하면 반경을 넓혀 재시도 - 후보가 없으면 시도마다 대기 시간을 늘려(backoff) 재시도 - 충분한 후보가
+ * 모이면 바로 배치 배정에 제출 (대기 상태는 배치 배정이 제안을 보낸 뒤 삭제) - 대기 상태는 Redis 에 저장하므로 노드가 재시작되어도 이어지고,
+ * 리스너/스케줄러 스레드는 블로킹하지 않음 - 모든 시도가 실패하면 배정 실패 알림
+ */
+@Slf4j
+@Service
+public class RadiusExpansionDispatcher {
+
+  // 폴링 1회당 최대 점유 주문 수
+  static final int CLAIM_LIMIT = 100;
+
+  private final OrderNotificationService orderNotificationService;
+  private final DispatchBatchScheduler dispatchBatchScheduler;
+  private final OrderAssignFailedNotifier orderAssignFailedNotifier;
+  private final PendingDispatchRepository pendingDispatchRepository;
+  private final DispatchProperties dispatchProperties;
+  private final Clock clock;
+
+  // 이 노드에서 진행 중인 시도 (orderId -> 구독)
+  private final Map<String, Disposable> inFlight = new ConcurrentHashMap<>();
+
+  private final Counter matchedCounter;
+  private final Counter expandedCounter;
+  private final Counter failedCounter;
+
+  @Autowired
+  public RadiusExpansionDispatcher(
+      OrderNotificationService orderNotificationService,
+      DispatchBatchScheduler dispatchBatchScheduler,
+      OrderAssignFailedNotifier orderAssignFailedNotifier,
+      PendingDispatchRepository pendingDispatchRepository,
+      DispatchProperties dispatchProperties,
+      MeterRegistry meterRegistry
+  ) {
+    this(orderNotificationService, dispatchBatchScheduler, orderAssignFailedNotifier,
+        pendingDispatchRepository, dispatchProperties, meterRegistry, Clock.systemUTC());
+  }
+
+  RadiusExpansionDispatcher(
+      OrderNotificationService orderNotificationService,
+      DispatchBatchScheduler dispatchBatchScheduler,
+      OrderAssignFailedNotifier orderAssignFailedNotifier,
+      PendingDispatchRepository pendingDispatchRepository,
+      DispatchProperties dispatchProperties,
+      MeterRegistry meterRegistry,
+      Clock clock
+  ) {
+    this.orderNotificationService = orderNotificationService;
+    this.dispatchBatchScheduler = dispatchBatchScheduler;
+    this.orderAssignFailedNotifier = orderAssignFailedNotifier;
+    this.pendingDispatchRepository = pendingDispatchRepository;
+    this.dispatchProperties = dispatchProperties;
+    this.clock = clock;
+
+    this.matchedCounter = Counter.builder("delivery.dispatch.attempts")
+        .tag("result", "matched")
+        .register(meterRegistry);
+    this.expandedCounter = Counter.builder("delivery.dispatch.attempts")
+        .tag("result", "expanded")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("delivery.dispatch.attempts")
+        .tag("result", "failed")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 주문 배차 시작 - 주문 접수 이벤트는 모든 노드가 받으므로 Redis 에서 첫 시도를 선점한 노드만 실행 - 선점과 함께 대기 상태를 저장(점유
+   * 상태)한 뒤 첫 반경으로 시도 - 점유 시간이 지난 뒤 같은 주문이 다시 들어오면 처음부터 다시 시도
+   */
+  public void dispatch(OrderAcceptedEvent order) {
+    PendingDispatch first = new PendingDispatch(order, 0);
+    if (!pendingDispatchRepository.start(first, leaseUntil(),
+        dispatchProperties.getAttemptLease())) {
+      log.debug("Dispatch for orderId: {} already started on another node", order.orderId());
+      return;
+    }
+    attempt(first);
+  }
+
+  /**
+   * 재시도 시각이 지난 주문 실행 - 다른 노드가 점유한 주문은 가져오지 않음
+   */
+  @Scheduled(fixedDelayString = "${delivery.dispatch.expansion-poll-ms:1000}")
+  public void pollDue() {
+    List<PendingDispatch> due = pendingDispatchRepository.claimDue(clock.millis(), leaseUntil(),
+        CLAIM_LIMIT);
+    due.forEach(this::attempt);
+  }
+
+  @PreDestroy
+  public void cancelInFlight() {
+    // 취소된 시도는 Redis 에 점유 상태로 남아 점유 만료 후 다시 실행됨
+    inFlight.values().forEach(Disposable::dispose);
+    inFlight.clear();
+  }
+
+  /**
+   * attempt 번째 반경 (마지막 반경 이후는 마지막 반경 유지)
+   */
+  double radiusFor(int attempt) {
+    List<Double> radii = dispatchProperties.getRadiiKm();
+    return radii.get(Math.min(attempt, radii.size() - 1));
+  }
+
+  /**
+   * 후보가 없을 때 attempt 번째 시도 후 대기 시간 - initialBackoff * multiplier^attempt (최대 maxBackoff)
+   */
+  long backoffMillis(int attempt) {
+    double backoff = dispatchProperties.getInitialBackoff().toMillis()
+        * Math.pow(dispatchProperties.getBackoffMultiplier(), attempt);
+    return (long) Math.min(backoff, dispatchProperties.getMaxBackoff().toMillis());
+  }
+
+  private void attempt(PendingDispatch pending) {
+    String orderId = pending.order().orderId();
+    double radiusKm = radiusFor(pending.attempt());
+
+    Disposable.Swap subscription = Disposables.swap();
+    Disposable previous = inFlight.put(orderId, subscription);
+    if (previous != null) {
+      previous.dispose();
+    }
+
+    // 결과 기록(Redis 호출)은 Kakao 응답 스레드가 아닌 boundedElastic 에서 실행
+    subscription.update(orderNotificationService.processOrderEvent(pending.order(), radiusKm)
+        .publishOn(Schedulers.boundedElastic())
+        .doFinally(signal -> inFlight.remove(orderId, subscription))
+        .subscribe(
+            notifications -> onResult(pending, radiusKm, notifications),
+            e -> {
+              log.error("Dispatch attempt {} failed for orderId: {} - {}", pending.attempt(),
+                  orderId, e.getMessage(), e);
+              onResult(pending, radiusKm, List.of());
+            }
+        ));
+  }
+
+  private void onResult(PendingDispatch pending, double radiusKm,
+      List<RiderNotificationDto> notifications) {
+    String orderId = pending.order().orderId();
+    int attempt = pending.attempt();
+    boolean lastAttempt = attempt + 1 >= dispatchProperties.getMaxAttempts();
+    // 반경을 넓혀도 더 찾을 수 없으면 부족하더라도 지금 후보로 진행
+    boolean widerRingLeft = radiusFor(attempt + 1) > radiusKm;
+
+    try {
+      if (notifications.size() >= dispatchProperties.getMinCandidates()
+          || (!notifications.isEmpty() && (lastAttempt || !widerRingLeft))) {
+        // 대기 상태는 점유 중인 채로 두고 배치 배정이 제안을 보낸 뒤 삭제
+        dispatchBatchScheduler.submit(orderId, notifications);
+        matchedCounter.increment();
+        log.info("Dispatch attempt {} found {} riders within {}km for orderId: {}", attempt,
+            notifications.size(), radiusKm, orderId);
+        return;
+      }
+
+      if (lastAttempt) {
+        pendingDispatchRepository.remove(orderId);
+        failedCounter.increment();
+        log.warn("No available riders for orderId: {} after {} attempts", orderId, attempt + 1);
+        orderAssignFailedNotifier.publish(new OrderAssignFailedEvent(pending.order()));
+        return;
+      }
+
+      // 일부 후보만 있으면 바로 다음 반경, 후보가 없으면 backoff 후 재시도
+      long delay = notifications.isEmpty() ? backoffMillis(attempt) : 0;
+      pendingDispatchRepository.schedule(pending.next(), clock.millis() + delay);
+      expandedCounter.increment();
+      log.info("Dispatch attempt {} found {} riders within {}km for orderId: {}, retry in {}ms",
+          attempt, notifications.size(), radiusKm, orderId, delay);
+    } catch (Exception e) {
+      // 상태를 기록하지 못하면 점유 만료 후 같은 시도가 다시 실행됨
+      log.error("Failed to record dispatch attempt for orderId: {} - {}", orderId,
+          e.getMessage(), e);
+    }
+  }
+
+  private long leaseUntil() {
+    return clock.millis() + dispatchProperties.getAttemptLease().toMillis();
+  }
+}
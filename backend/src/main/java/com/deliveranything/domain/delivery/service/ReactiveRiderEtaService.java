@@ -1,96 +1,70 @@
 package com.deliveranything.domain.delivery.service;
 
-import static com.deliveranything.domain.delivery.service.RiderLocationService.RIDER_GEO_KEY;
-
 import com.deliveranything.domain.order.event.OrderAcceptedEvent;
-import com.deliveranything.domain.user.profile.entity.RiderProfile;
-import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
-import com.deliveranything.domain.user.profile.repository.RiderProfileRepository;
-import com.deliveranything.global.exception.CustomException;
-import com.deliveranything.global.exception.ErrorCode;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
-import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
 import org.springframework.data.redis.connection.RedisGeoCommands;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.domain.geo.GeoReference;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
- * Virtual Thread 기반 라이더 ETA 서비스 - 반경 내 라이더 조회 (Redis GEOSEARCH) - ETA 계산 (Kakao API, 병렬 처리) - 블로킹
- * 방식이지만 Virtual Thread에서 효율적으로 동작
+ * Reactor 기반 라이더 ETA 서비스 - 반경 내 ON 라이더 조회 (가용 라이더 GEO 인덱스, GEOSEARCH 1회) - ETA 행렬 계산 (주문당
+ * 1회) - 라이더별 ETA를 응답 순서대로 방출하는 스트림 제공
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReactiveRiderEtaService {
 
-  private final StringRedisTemplate redisTemplate;
-  private final EtaService etaService;
-  private final RiderProfileRepository riderProfileRepository;
+  private final RiderLocationService riderLocationService;
+  private final EtaMatrixService etaMatrixService;
 
   /**
-   * 반경 내 라이더 검색 후 ETA 계산 (동기식) - Redis GEOSEARCH로 반경 내 라이더 조회
+   * 반경 내 라이더 검색 후 ETA 스트림 - 가용 라이더 인덱스에는 ON 라이더만 있으므로 DB 조회 없음 - 가까운 순 최대 maxCandidates
+   * 명만 ETA 계산 - GEOSEARCH(블로킹 Redis 호출)는 boundedElastic 에서 실행 - 구독 취소 시 이후 단계(Kakao 호출 포함)도 함께 취소
    *
-   * @return Map<riderId, etaMinutes>
+   * @return Flux<(riderId, etaMinutes)>
    */
-  public Map<String, Double> findNearbyRidersEta(
-      OrderAcceptedEvent order, double radiusKm
+  public Flux<Map.Entry<String, Double>> streamNearbyRidersEta(
+      OrderAcceptedEvent order, double radiusKm, int maxCandidates
   ) {
     double customerLat = order.customerLat();
     double customerLon = order.customerLon();
-    // 1. Redis GEOSEARCH로 반경 내 라이더 조회
-    GeoResults<RedisGeoCommands.GeoLocation<String>> nearbyRiders =
-        redisTemplate.opsForGeo().search(
-            RIDER_GEO_KEY,
-            GeoReference.fromCoordinate(customerLon, customerLat),
-            new Distance(radiusKm, Metrics.KILOMETERS),
-            RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs().includeDistance()
-        );
 
-    if (nearbyRiders == null || nearbyRiders.getContent().isEmpty()) {
-      return new HashMap<>();
-    }
+    // 1. 가용 라이더 인덱스에서 반경 내 ON 라이더 조회
+    return Mono.fromCallable(() -> riderLocationService.findAvailableRiders(
+            customerLon, customerLat, radiusKm, maxCandidates))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMapMany(nearbyRiders -> {
+          if (nearbyRiders.getContent().isEmpty()) {
+            return Flux.empty();
+          }
+
+          List<String> riderIds = new ArrayList<>();
+          List<Point> riderPoints = new ArrayList<>();
+          collectCandidates(nearbyRiders, riderIds, riderPoints);
 
-    // 2. ON 상태 라이더만 필터링
-    List<String> riderIds = new ArrayList<>();
-    List<Point> riderPoints = new ArrayList<>();
+          // 2. 후보 라이더 전체 ETA 행렬 계산 (주문당 1회 호출)
+          return etaMatrixService.streamEtaMatrix(order, riderPoints, riderIds);
+        });
+  }
 
+  private static void collectCandidates(
+      GeoResults<RedisGeoCommands.GeoLocation<String>> nearbyRiders,
+      List<String> riderIds, List<Point> riderPoints
+  ) {
     for (GeoResult<RedisGeoCommands.GeoLocation<String>> result : nearbyRiders) {
       RedisGeoCommands.GeoLocation<String> loc = result.getContent();
-
-      try {
-        RiderProfile riderProfile = riderProfileRepository.findById(Long.parseLong(loc.getName()))
-            .orElseThrow(() -> new CustomException(ErrorCode.RIDER_NOT_FOUND));
-
-        if (riderProfile.getToggleStatus() == RiderToggleStatus.OFF) {
-          continue; // OFF 상태 라이더는 제외
-        }
-
-        riderIds.add(loc.getName());
-        riderPoints.add(loc.getPoint());
-      } catch (CustomException e) {
-        continue;
-      }
-    }
-
-    if (riderIds.isEmpty()) {
-      return new HashMap<>();
+      riderIds.add(loc.getName());
+      riderPoints.add(loc.getPoint());
     }
-
-    // 3. Kakao Map API로 ETA 계산 (병렬 처리, Virtual Thread)
-    Map<String, Double> etaMap = etaService.getEtaForMultiple(
-        order, riderPoints, riderIds
-    );
-
-    return etaMap;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.dto.RiderDailyStats;
+import com.deliveranything.domain.delivery.entity.Delivery;
+import com.deliveranything.domain.delivery.repository.DeliveryRepository;
+import com.deliveranything.domain.delivery.repository.RiderDailyStatsRepository;
+import com.deliveranything.domain.order.service.DeliveryOrderService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 라이더 오늘 배달 집계 서비스 - 배달 완료가 커밋되면 집계 증가 (건수, 소요 시간, 배달 수익) - 대시보드는 집계 1회 조회 - 집계가 없으면
+ * DB 에서 한 번 계산해 채움 (수익은 증가와 같은 기준인 주문 배달비 합계)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RiderDailyStatsService {
+
+  private final RiderDailyStatsRepository riderDailyStatsRepository;
+  private final DeliveryRepository deliveryRepository;
+  private final DeliveryOrderService deliveryOrderService;
+
+  /**
+   * 완료된 배달 1건 반영 - 상태 변경 트랜잭션이 커밋된 뒤 반영 (롤백되면 반영하지 않음) - 상태 변경과 같은 흐름에서 호출되므로 실패해도
+   * 예외를 던지지 않음
+   */
+  public void recordCompleted(Delivery delivery) {
+    try {
+      Long riderProfileId = delivery.getRiderProfile().getId();
+      Long durationSeconds = delivery.getStartedAt() != null
+          ? Duration.between(delivery.getStartedAt(), delivery.getCompletedAt()).getSeconds()
+          : null;
+      // 라이더 정산 금액 = 주문 배달비
+      long earnings = deliveryOrderService.getOrderByDeliveryId(delivery.getId()).deliveryPrice();
+
+      LocalDate date = delivery.getCompletedAt().toLocalDate();
+      afterCommit(delivery.getId(), () -> riderDailyStatsRepository.recordCompleted(
+          riderProfileId, date, delivery.getId(), durationSeconds, earnings));
+    } catch (Exception e) {
+      // 집계가 틀어지면 다음 날 새 집계부터 바로잡힘 - 배달 완료 처리는 계속 진행
+      log.warn("Failed to record daily stats for deliveryId: {} - {}", delivery.getId(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * 라이더 오늘 집계
+   */
+  public RiderDailyStats getToday(Long riderProfileId) {
+    LocalDate today = LocalDate.now();
+    return riderDailyStatsRepository.find(riderProfileId, today)
+        .orElseGet(() -> rebuild(riderProfileId, today));
+  }
+
+  // 오늘 완료 배달과 그 주문 배달비 합계로 집계 계산 후 저장
+  private RiderDailyStats rebuild(Long riderProfileId, LocalDate today) {
+    List<Delivery> completed = deliveryRepository.findTodayCompletedDeliveriesByRider(
+        riderProfileId);
+
+    long timedCount = 0;
+    long durationSecondsSum = 0;
+    for (Delivery delivery : completed) {
+      if (delivery.getStartedAt() != null && delivery.getCompletedAt() != null) {
+        timedCount++;
+        durationSecondsSum += Duration.between(delivery.getStartedAt(),
+            delivery.getCompletedAt()).getSeconds();
+      }
+    }
+    List<Long> deliveryIds = completed.stream().map(Delivery::getId).toList();
+    long earnings = deliveryOrderService.sumDeliveryPriceByDeliveryIds(deliveryIds);
+
+    RiderDailyStats stats = new RiderDailyStats(completed.size(), timedCount,
+        durationSecondsSum, earnings);
+    riderDailyStatsRepository.seed(riderProfileId, today, stats, deliveryIds);
+    return stats;
+  }
+
+  private static void afterCommit(Long deliveryId, Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      run(deliveryId, task);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        run(deliveryId, task);
+      }
+    });
+  }
+
+  // 커밋 후에는 예외가 배달 완료 처리로 돌아가지 않으므로 여기서 기록
+  private static void run(Long deliveryId, Runnable task) {
+    try {
+      task.run();
+    } catch (Exception e) {
+      log.warn("Failed to record daily stats for deliveryId: {} - {}", deliveryId,
+          e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.deliveranything.domain.delivery.service;
+
+import com.deliveranything.domain.delivery.dto.RiderLocationDto;
+import com.deliveranything.domain.delivery.websocket.RiderWebSocketPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 라이더 위치 수집 서비스 - 수집 구간(flush 주기) 동안 라이더별 최신 위치만 보관 - 주기마다 Redis 일괄 저장 후 라이더당 위치 프레임 1건
+ * 전송 및 배달 경로 기록 - 오래된(staleAfter 초과) 위치와 이미 받은 것보다 이전 시각의 위치는 버림 - 미래 시각은 수신 시각으로 보정
+ */
+@Slf4j
+@Service
+public class RiderLocationIngestService {
+
+  private final RiderLocationService riderLocationService;
+  private final RiderWebSocketPublisher webSocketPublisher;
+  private final DeliveryTrackService deliveryTrackService;
+  private final long staleAfterMillis;
+  private final Clock clock;
+
+  // 다음 flush 때 저장할 라이더별 최신 위치
+  private final ConcurrentHashMap<Long, RiderLocationDto> pending = new ConcurrentHashMap<>();
+  // 라이더별 마지막으로 받아들인 위치 시각 (순서 역전 판단용)
+  private final ConcurrentHashMap<Long, Long> lastAcceptedAt = new ConcurrentHashMap<>();
+
+  private final Counter acceptedCounter;
+  private final Counter staleCounter;
+  private final Counter outOfOrderCounter;
+  private final DistributionSummary flushSize;
+
+  @Autowired
+  public RiderLocationIngestService(
+      RiderLocationService riderLocationService,
+      RiderWebSocketPublisher webSocketPublisher,
+      DeliveryTrackService deliveryTrackService,
+      MeterRegistry meterRegistry,
+      @Value("${delivery.location.stale-after:30s}") Duration staleAfter
+  ) {
+    this(riderLocationService, webSocketPublisher, deliveryTrackService, meterRegistry, staleAfter,
+        Clock.systemUTC());
+  }
+
+  RiderLocationIngestService(
+      RiderLocationService riderLocationService,
+      RiderWebSocketPublisher webSocketPublisher,
+      DeliveryTrackService deliveryTrackService,
+      MeterRegistry meterRegistry,
+      Duration staleAfter,
+      Clock clock
+  ) {
+    this.riderLocationService = riderLocationService;
+    this.webSocketPublisher = webSocketPublisher;
+    this.deliveryTrackService = deliveryTrackService;
+    this.staleAfterMillis = staleAfter.toMillis();
+    this.clock = clock;
+
+    this.acceptedCounter = Counter.builder("delivery.location.pings")
+        .tag("result", "accepted")
+        .register(meterRegistry);
+    this.staleCounter = Counter.builder("delivery.location.pings")
+        .tag("result", "stale")
+        .register(meterRegistry);
+    this.outOfOrderCounter = Counter.builder("delivery.location.pings")
+        .tag("result", "out_of_order")
+        .register(meterRegistry);
+    this.flushSize = DistributionSummary.builder("delivery.location.flush.size")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 위치 수신 - Redis 호출 없이 최신 위치만 보관
+   *
+   * @return 받아들였으면 true, 오래되었거나 순서가 역전된 위치면 false
+   */
+  public boolean offer(Long riderProfileId, RiderLocationDto location) {
+    long now = clock.millis();
+    // timestamp 를 보내지 않았거나 수신 시각보다 앞선(기기 시계 오차) 위치는 수신 시각 기준
+    // - 미래 시각을 그대로 기록하면 그 시각까지 들어오는 위치가 모두 순서 역전으로 버려짐
+    RiderLocationDto stamped = location.timestamp() > 0 && location.timestamp() <= now
+        ? location
+        : new RiderLocationDto(location.latitude(), location.longitude(), now);
+
+    if (now - stamped.timestamp() > staleAfterMillis) {
+      staleCounter.increment();
+      return false;
+    }
+
+    boolean[] accepted = {false};
+    lastAcceptedAt.compute(riderProfileId, (id, last) -> {
+      if (last != null && stamped.timestamp() <= last) {
+        return last;
+      }
+      accepted[0] = true;
+      return stamped.timestamp();
+    });
+    if (!accepted[0]) {
+      outOfOrderCounter.increment();
+      return false;
+    }
+
+    // 동시에 들어온 위치끼리도 더 최신 시각만 남김
+    pending.merge(riderProfileId, stamped,
+        (prev, next) -> next.timestamp() >= prev.timestamp() ? next : prev);
+    acceptedCounter.increment();
+    return true;
+  }
+
+  /**
+   * 수집 구간 종료 - 라이더별 최신 위치 일괄 저장 후 위치 프레임 전송
+   */
+  @Scheduled(fixedDelayString = "${delivery.location.flush-interval-ms:1000}")
+  public void flush() {
+    Map<Long, RiderLocationDto> batch = drain();
+    if (!batch.isEmpty()) {
+      flushSize.record(batch.size());
+      try {
+        riderLocationService.saveRiderLocations(batch);
+      } catch (Exception e) {
+        // 저장 실패 시 다음 위치 수신 때 다시 저장되므로 재시도하지 않음
+        log.error("Failed to flush {} rider locations: {}", batch.size(), e.getMessage(), e);
+      }
+      batch.forEach(webSocketPublisher::publishLocation);
+      try {
+        deliveryTrackService.record(batch);
+      } catch (Exception e) {
+        log.warn("Failed to record delivery tracks: {}", e.getMessage());
+      }
+    }
+
+    // staleAfter 보다 오래된 기록은 어차피 새 위치보다 이전이므로 정리
+    long threshold = clock.millis() - staleAfterMillis;
+    lastAcceptedAt.values().removeIf(acceptedAt -> acceptedAt < threshold);
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private Map<Long, RiderLocationDto> drain() {
+    Map<Long, RiderLocationDto> batch = new HashMap<>();
+    for (Long riderProfileId : pending.keySet()) {
+      RiderLocationDto location = pending.remove(riderProfileId);
+      if (location != null) {
+        batch.put(riderProfileId, location);
+      }
+    }
+    return batch;
+  }
+}
@@ -1,10 +1,23 @@
 package com.deliveranything.domain.delivery.service;
 
 import com.deliveranything.domain.delivery.dto.RiderLocationDto;
+import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.geo.Point;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.redis.connection.RedisGeoCommands;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.domain.geo.GeoReference;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,11 +28,119 @@ public class RiderLocationService {
   private final StringRedisTemplate redisTemplate;
 
   public static final String RIDER_GEO_KEY = "riders:location";
+  // 배달 가능(ON) 라이더만 담는 GEO 인덱스 - 배차 시 이 키만 조회
+  public static final String AVAILABLE_RIDER_GEO_KEY = "riders:location:available";
+  public static final String RIDER_ON_KEY = "riders:on";
+
+  // 위치 저장 - ON 라이더라면 가용 인덱스도 함께 갱신 (1 round-trip)
+  static final RedisScript<Long> SAVE_LOCATION_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('GEOADD', KEYS[1], ARGV[1], ARGV[2], ARGV[3])
+      if redis.call('SISMEMBER', KEYS[3], ARGV[3]) == 1 then
+        redis.call('GEOADD', KEYS[2], ARGV[1], ARGV[2], ARGV[3])
+        return 1
+      end
+      return 0
+      """, Long.class);
+
+  // 여러 라이더 위치 일괄 저장 - ARGV 는 (lon, lat, id) 반복, 라이더 수와 관계없이 1 round-trip
+  static final RedisScript<Long> SAVE_LOCATIONS_SCRIPT = new DefaultRedisScript<>("""
+      local available = 0
+      for i = 1, #ARGV, 3 do
+        redis.call('GEOADD', KEYS[1], ARGV[i], ARGV[i + 1], ARGV[i + 2])
+        if redis.call('SISMEMBER', KEYS[3], ARGV[i + 2]) == 1 then
+          redis.call('GEOADD', KEYS[2], ARGV[i], ARGV[i + 1], ARGV[i + 2])
+          available = available + 1
+        end
+      end
+      return available
+      """, Long.class);
+
+  // 스크립트 1회당 최대 라이더 수 (Redis 단일 스크립트 실행 시간 제한)
+  static final int MAX_LOCATIONS_PER_SCRIPT = 500;
+
+  // ON 전환 - 마지막 위치가 있으면 가용 인덱스로 복사
+  static final RedisScript<Long> MARK_AVAILABLE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('SADD', KEYS[3], ARGV[1])
+      local pos = redis.call('GEOPOS', KEYS[1], ARGV[1])[1]
+      if pos then
+        redis.call('GEOADD', KEYS[2], pos[1], pos[2], ARGV[1])
+        return 1
+      end
+      return 0
+      """, Long.class);
+
+  // OFF 전환 - 가용 인덱스에서 제거
+  static final RedisScript<Long> MARK_UNAVAILABLE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('SREM', KEYS[3], ARGV[1])
+      return redis.call('ZREM', KEYS[2], ARGV[1])
+      """, Long.class);
+
+  private static final List<String> INDEX_KEYS =
+      List.of(RIDER_GEO_KEY, AVAILABLE_RIDER_GEO_KEY, RIDER_ON_KEY);
 
   public void saveRiderLocation(Long riderProfileId, RiderLocationDto location) {
     // Redis GEOADD 명령어를 사용하여 라이더 위치 저장
-    redisTemplate.opsForGeo().add(RIDER_GEO_KEY,
-        new Point(location.longitude(), location.latitude()),
+    redisTemplate.execute(SAVE_LOCATION_SCRIPT, INDEX_KEYS,
+        String.valueOf(location.longitude()),
+        String.valueOf(location.latitude()),
         String.valueOf(riderProfileId));
   }
+
+  // 수집 구간 동안 모인 라이더별 최신 위치 일괄 저장 (MAX_LOCATIONS_PER_SCRIPT 단위)
+  public void saveRiderLocations(Map<Long, RiderLocationDto> locations) {
+    List<String> args = new ArrayList<>(Math.min(locations.size(), MAX_LOCATIONS_PER_SCRIPT) * 3);
+    for (Map.Entry<Long, RiderLocationDto> entry : locations.entrySet()) {
+      args.add(String.valueOf(entry.getValue().longitude()));
+      args.add(String.valueOf(entry.getValue().latitude()));
+      args.add(String.valueOf(entry.getKey()));
+      if (args.size() == MAX_LOCATIONS_PER_SCRIPT * 3) {
+        redisTemplate.execute(SAVE_LOCATIONS_SCRIPT, INDEX_KEYS, args.toArray());
+        args.clear();
+      }
+    }
+    if (!args.isEmpty()) {
+      redisTemplate.execute(SAVE_LOCATIONS_SCRIPT, INDEX_KEYS, args.toArray());
+    }
+  }
+
+  // 라이더 ON/OFF 상태를 가용 인덱스에 반영
+  public void updateAvailability(Long riderProfileId, RiderToggleStatus status) {
+    RedisScript<Long> script = status == RiderToggleStatus.ON
+        ? MARK_AVAILABLE_SCRIPT
+        : MARK_UNAVAILABLE_SCRIPT;
+    redisTemplate.execute(script, INDEX_KEYS, String.valueOf(riderProfileId));
+  }
+
+  // 서버 기동 시 DB 기준 ON 라이더로 가용 인덱스 보정 (다른 노드가 사용 중일 수 있어 키를 지우지 않음)
+  public void reconcileAvailability(Collection<Long> onRiderProfileIds) {
+    Set<String> onIds = onRiderProfileIds.stream()
+        .map(String::valueOf)
+        .collect(Collectors.toSet());
+
+    Set<String> indexed = redisTemplate.opsForSet().members(RIDER_ON_KEY);
+    if (indexed != null) {
+      indexed.stream()
+          .filter(id -> !onIds.contains(id))
+          .forEach(id -> updateAvailability(Long.parseLong(id), RiderToggleStatus.OFF));
+    }
+    onRiderProfileIds.forEach(id -> updateAvailability(id, RiderToggleStatus.ON));
+  }
+
+  /**
+   * 반경 내 배달 가능(ON) 라이더 조회 - GEOSEARCH 1회 - 가까운 순 최대 limit 명
+   */
+  public GeoResults<RedisGeoCommands.GeoLocation<String>> findAvailableRiders(
+      double lon, double lat, double radiusKm, int limit
+  ) {
+    return redisTemplate.opsForGeo().search(
+        AVAILABLE_RIDER_GEO_KEY,
+        GeoReference.fromCoordinate(lon, lat),
+        new Distance(radiusKm, Metrics.KILOMETERS),
+        RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs()
+            .includeDistance()
+            .includeCoordinates()
+            .sortAscending()
+            .limit(limit)
+    );
+  }
 }
@@ -4,44 +4,36 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.customer.OrderCreateFailedForCustomerEvent;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderCreateFailedCustomerNotifier implements MessageListener {
+public class OrderCreateFailedCustomerNotifier implements
+    RedisEventHandler<OrderCreateFailedForCustomerEvent> {
 
-  private final RedisMessageListenerContainer container;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
-  @PostConstruct
-  public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-created-failed-for-customer-event"));
+  @Override
+  public String channel() {
+    return "order-created-failed-for-customer-event";
+  }
+
+  @Override
+  public Class<OrderCreateFailedForCustomerEvent> eventType() {
+    return OrderCreateFailedForCustomerEvent.class;
   }
 
   @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderCreateFailedForCustomerEvent event = objectMapper.readValue(message.getBody(),
-          OrderCreateFailedForCustomerEvent.class);
-      notificationService.sendNotification(
-          event.customerId(),
-          NotificationType.ORDER_CREATED_FAILED_CUSTOMER,
-          NotificationMessage.ORDER_CREATED_FAILED_CUSTOMER.getMessage(),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order created failed for customer event from Redis", e);
-    }
+  public void handle(OrderCreateFailedForCustomerEvent event) throws Exception {
+    notificationService.sendNotification(
+        event.customerId(),
+        NotificationType.ORDER_CREATED_FAILED_CUSTOMER,
+        NotificationMessage.ORDER_CREATED_FAILED_CUSTOMER.getMessage(),
+        objectMapper.writeValueAsString(event)
+    );
   }
 }
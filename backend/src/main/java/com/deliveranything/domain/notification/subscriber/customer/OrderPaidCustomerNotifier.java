@@ -4,47 +4,35 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.customer.OrderPaidForCustomerEvent;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderPaidCustomerNotifier implements MessageListener {
+public class OrderPaidCustomerNotifier implements RedisEventHandler<OrderPaidForCustomerEvent> {
 
-  private final RedisMessageListenerContainer container;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
-  @PostConstruct
-  public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-paid-for-customer-event"));
+  @Override
+  public String channel() {
+    return "order-paid-for-customer-event";
   }
 
   @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderPaidForCustomerEvent event = objectMapper.readValue(message.getBody(),
-          OrderPaidForCustomerEvent.class);
-      notificationService.sendNotification(
-          event.customerId(),
-          NotificationType.ORDER_PAID_CUSTOMER,
-          NotificationMessage.ORDER_PAID_CUSTOMER.getMessage(),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order paid for customer event from Redis", e);
-    }
+  public Class<OrderPaidForCustomerEvent> eventType() {
+    return OrderPaidForCustomerEvent.class;
   }
-}
-
-
 
+  @Override
+  public void handle(OrderPaidForCustomerEvent event) throws Exception {
+    notificationService.sendNotification(
+        event.customerId(),
+        NotificationType.ORDER_PAID_CUSTOMER,
+        NotificationMessage.ORDER_PAID_CUSTOMER.getMessage(),
+        objectMapper.writeValueAsString(event)
+    );
+  }
+}
@@ -4,44 +4,36 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.customer.OrderPreparingForCustomerEvent;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderPreparingCustomerNotifier implements MessageListener {
+public class OrderPreparingCustomerNotifier implements
+    RedisEventHandler<OrderPreparingForCustomerEvent> {
 
-  private final RedisMessageListenerContainer container;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
-  @PostConstruct
-  public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-preparing-for-customer-event"));
+  @Override
+  public String channel() {
+    return "order-preparing-for-customer-event";
+  }
+
+  @Override
+  public Class<OrderPreparingForCustomerEvent> eventType() {
+    return OrderPreparingForCustomerEvent.class;
   }
 
   @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderPreparingForCustomerEvent event = objectMapper.readValue(message.getBody(),
-          OrderPreparingForCustomerEvent.class);
-      notificationService.sendNotification(
-          event.customerId(),
-          NotificationType.ORDER_PREPARING_CUSTOMER,
-          NotificationMessage.ORDER_PREPARING_CUSTOMER.getMessage(),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order preparing for customer event from Redis", e);
-    }
+  public void handle(OrderPreparingForCustomerEvent event) throws Exception {
+    notificationService.sendNotification(
+        event.customerId(),
+        NotificationType.ORDER_PREPARING_CUSTOMER,
+        NotificationMessage.ORDER_PREPARING_CUSTOMER.getMessage(),
+        objectMapper.writeValueAsString(event)
+    );
   }
 }
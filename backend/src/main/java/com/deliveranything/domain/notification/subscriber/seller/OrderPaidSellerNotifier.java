@@ -4,44 +4,35 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.seller.OrderPaidForSellerEvent;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderPaidSellerNotifier implements MessageListener {
+public class OrderPaidSellerNotifier implements RedisEventHandler<OrderPaidForSellerEvent> {
 
-  private final RedisMessageListenerContainer container;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
-  @PostConstruct
-  public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-paid-for-seller-event"));
+  @Override
+  public String channel() {
+    return "order-paid-for-seller-event";
+  }
+
+  @Override
+  public Class<OrderPaidForSellerEvent> eventType() {
+    return OrderPaidForSellerEvent.class;
   }
 
   @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderPaidForSellerEvent event = objectMapper.readValue(message.getBody(),
-          OrderPaidForSellerEvent.class);
-      notificationService.sendNotification(
-          event.sellerId(),
-          NotificationType.ORDER_PAID_SELLER,
-          NotificationMessage.ORDER_PAID_SELLER.getMessage(),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order paid for seller event from Redis", e);
-    }
+  public void handle(OrderPaidForSellerEvent event) throws Exception {
+    notificationService.sendNotification(
+        event.sellerId(),
+        NotificationType.ORDER_PAID_SELLER,
+        NotificationMessage.ORDER_PAID_SELLER.getMessage(),
+        objectMapper.writeValueAsString(event)
+    );
   }
 }
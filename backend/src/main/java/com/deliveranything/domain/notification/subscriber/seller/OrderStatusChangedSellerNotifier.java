@@ -4,44 +4,36 @@ import com.deliveranything.domain.notification.enums.NotificationMessage;
 import com.deliveranything.domain.notification.enums.NotificationType;
 import com.deliveranything.domain.notification.service.NotificationService;
 import com.deliveranything.domain.order.event.sse.seller.OrderStatusChangedForSellerEvent;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderStatusChangedSellerNotifier implements MessageListener {
+public class OrderStatusChangedSellerNotifier implements
+    RedisEventHandler<OrderStatusChangedForSellerEvent> {
 
-  private final RedisMessageListenerContainer container;
   private final ObjectMapper objectMapper;
   private final NotificationService notificationService;
 
-  @PostConstruct
-  public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-status-changed-for-seller-event"));
+  @Override
+  public String channel() {
+    return "order-status-changed-for-seller-event";
+  }
+
+  @Override
+  public Class<OrderStatusChangedForSellerEvent> eventType() {
+    return OrderStatusChangedForSellerEvent.class;
   }
 
   @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      OrderStatusChangedForSellerEvent event = objectMapper.readValue(message.getBody(),
-          OrderStatusChangedForSellerEvent.class);
-      notificationService.sendNotification(
-          event.sellerId(),
-          NotificationType.ORDER_STATUS_CHANGED_SELLER,
-          NotificationMessage.getMessageByOrderStatus(event.orderStatus()),
-          objectMapper.writeValueAsString(event)
-      );
-    } catch (Exception e) {
-      log.error("Failed to process order status changed for seller event from Redis", e);
-    }
+  public void handle(OrderStatusChangedForSellerEvent event) throws Exception {
+    notificationService.sendNotification(
+        event.sellerId(),
+        NotificationType.ORDER_STATUS_CHANGED_SELLER,
+        NotificationMessage.getMessageByOrderStatus(event.orderStatus()),
+        objectMapper.writeValueAsString(event)
+    );
   }
 }
@@ -5,7 +5,9 @@ import com.deliveranything.domain.payment.event.PaymentCancelFailedEvent;
 import com.deliveranything.domain.payment.event.PaymentCancelSuccessEvent;
 import com.deliveranything.domain.payment.event.PaymentFailedEvent;
 import com.deliveranything.domain.payment.event.PaymentSuccessEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.codec.EventMessageCodec;
+import com.deliveranything.global.concurrent.KeyedSerialExecutor;
+import com.deliveranything.global.idempotency.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,34 +17,52 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PaymentEventHandler {
 
-  private final ObjectMapper objectMapper;
+  private static final String CONSUMER = "order";
+
+  private final EventMessageCodec eventMessageCodec;
   private final OrderService orderService;
+  private final KeyedSerialExecutor keyedSerialExecutor;
+  private final IdempotencyStore idempotencyStore;
 
-  public void handle(String topic, String json) {
+  public void handle(String topic, byte[] payload) {
     try {
       switch (topic) {
         case "payment-completed-event" -> {
-          PaymentSuccessEvent event = objectMapper.readValue(json, PaymentSuccessEvent.class);
-          orderService.processPaymentCompletion(event.merchantUid());
+          PaymentSuccessEvent event = eventMessageCodec.decode(payload, PaymentSuccessEvent.class);
+          inOrder(topic, event.merchantUid(),
+              () -> orderService.processPaymentCompletion(event.merchantUid()));
         }
         case "payment-failed-event" -> {
-          PaymentFailedEvent event = objectMapper.readValue(json, PaymentFailedEvent.class);
-          orderService.processPaymentFailure(event.merchantUid());
+          PaymentFailedEvent event = eventMessageCodec.decode(payload, PaymentFailedEvent.class);
+          inOrder(topic, event.merchantUid(),
+              () -> orderService.processPaymentFailure(event.merchantUid()));
         }
         case "payment-cancel-success-event" -> {
-          PaymentCancelSuccessEvent event = objectMapper.readValue(json,
+          PaymentCancelSuccessEvent event = eventMessageCodec.decode(payload,
               PaymentCancelSuccessEvent.class);
-          orderService.processPaymentCancelSuccess(event.merchantUid(), event.publisher());
+          inOrder(topic, event.merchantUid(),
+              () -> orderService.processPaymentCancelSuccess(event.merchantUid(),
+                  event.publisher()));
         }
         case "payment-cancel-failed-event" -> {
-          PaymentCancelFailedEvent event = objectMapper.readValue(json,
+          PaymentCancelFailedEvent event = eventMessageCodec.decode(payload,
               PaymentCancelFailedEvent.class);
-          orderService.processPaymentCancelFailed(event.merchantId());
+          inOrder(topic, event.merchantId(),
+              () -> orderService.processPaymentCancelFailed(event.merchantId()));
         }
         default -> log.warn("Unknown topic: {}", topic);
       }
     } catch (Exception e) {
       log.error("Failed to process payment event in order [{}]: {}", topic, e.getMessage(), e);
+      // ack 하지 않고 stream 에 남겨 재전달
+      throw e;
     }
   }
+
+  // 결제 이벤트에는 merchantUid 만 있으므로 주문 id 를 찾아 재고/배달 이벤트와 같은 키로 실행, 중복 이벤트는 1번만
+  private void inOrder(String topic, String merchantUid, Runnable task) {
+    Long orderId = orderService.getOrderIdByMerchantId(merchantUid);
+    keyedSerialExecutor.run(KeyedSerialExecutor.orderKey(orderId),
+        () -> idempotencyStore.runOnce(CONSUMER, topic, merchantUid, task));
+  }
 }
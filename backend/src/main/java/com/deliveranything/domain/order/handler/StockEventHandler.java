@@ -6,7 +6,9 @@ import com.deliveranything.domain.product.stock.event.StockReleasedEvent;
 import com.deliveranything.domain.product.stock.event.StockReplenishedEvent;
 import com.deliveranything.domain.product.stock.event.StockReserveFailedEvent;
 import com.deliveranything.domain.product.stock.event.StockReservedEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.codec.EventMessageCodec;
+import com.deliveranything.global.concurrent.KeyedSerialExecutor;
+import com.deliveranything.global.idempotency.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -16,37 +18,53 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class StockEventHandler {
 
-  private final ObjectMapper objectMapper;
+  private static final String CONSUMER = "order";
+
+  private final EventMessageCodec eventMessageCodec;
   private final OrderService orderService;
+  private final KeyedSerialExecutor keyedSerialExecutor;
+  private final IdempotencyStore idempotencyStore;
 
-  public void handle(String topic, String json) {
+  public void handle(String topic, byte[] payload) {
     try {
       switch (topic) {
         case "stock-reserved-event" -> {
-          StockReservedEvent event = objectMapper.readValue(json, StockReservedEvent.class);
-          orderService.processStockReserved(event.orderId());
+          StockReservedEvent event = eventMessageCodec.decode(payload, StockReservedEvent.class);
+          inOrder(topic, event.orderId(), () -> orderService.processStockReserved(event.orderId()));
         }
         case "stock-reserve-failed-event" -> {
-          StockReserveFailedEvent event = objectMapper.readValue(json,
+          StockReserveFailedEvent event = eventMessageCodec.decode(payload,
               StockReserveFailedEvent.class);
-          orderService.processStockReserveFailed(event.orderId(), event.reason());
+          inOrder(topic, event.orderId(),
+              () -> orderService.processStockReserveFailed(event.orderId(), event.reason()));
         }
         case "stock-committed-event" -> {
-          StockCommittedEvent event = objectMapper.readValue(json, StockCommittedEvent.class);
-          orderService.processStockCommitted(event.orderId());
+          StockCommittedEvent event = eventMessageCodec.decode(payload, StockCommittedEvent.class);
+          inOrder(topic, event.orderId(),
+              () -> orderService.processStockCommitted(event.orderId()));
         }
         case "stock-released-event" -> {
-          StockReleasedEvent event = objectMapper.readValue(json, StockReleasedEvent.class);
-          orderService.processStockReleased(event.orderId());
+          StockReleasedEvent event = eventMessageCodec.decode(payload, StockReleasedEvent.class);
+          inOrder(topic, event.orderId(), () -> orderService.processStockReleased(event.orderId()));
         }
         case "stock-replenished-event" -> {
-          StockReplenishedEvent event = objectMapper.readValue(json, StockReplenishedEvent.class);
-          orderService.processStockReplenished(event.orderId());
+          StockReplenishedEvent event = eventMessageCodec.decode(payload,
+              StockReplenishedEvent.class);
+          inOrder(topic, event.orderId(),
+              () -> orderService.processStockReplenished(event.orderId()));
         }
         default -> log.warn("Unknown topic: {}", topic);
       }
     } catch (Exception e) {
       log.error("Failed to process stock event in order [{}]: {}", topic, e.getMessage(), e);
+      // ack 하지 않고 stream 에 남겨 재전달
+      throw e;
     }
   }
+
+  // 같은 주문의 이벤트는 (다른 stream, 배달 이벤트 포함) 하나씩, 중복 이벤트는 1번만 실행
+  private void inOrder(String topic, Long orderId, Runnable task) {
+    keyedSerialExecutor.run(KeyedSerialExecutor.orderKey(orderId),
+        () -> idempotencyStore.runOnce(CONSUMER, topic, orderId, task));
+  }
 }
@@ -23,8 +23,8 @@ import com.deliveranything.domain.order.event.sse.seller.OrderCanceledForSellerE
 import com.deliveranything.domain.order.event.sse.seller.OrderPaidForSellerEvent;
 import com.deliveranything.domain.order.event.sse.seller.OrderPreparingForSellerEvent;
 import com.deliveranything.domain.order.event.sse.seller.OrderStatusChangedForSellerEvent;
+import com.deliveranything.global.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -33,120 +33,120 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class OrderEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxWriter outboxWriter;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCreatedEvent(OrderCreatedEvent event) {
-    redisTemplate.convertAndSend("order-created-event", event);
+    outboxWriter.append("order-created-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderPaymentRequestedEvent(OrderPaymentRequestedEvent event) {
-    redisTemplate.convertAndSend("order-payment-requested-event", event);
+    outboxWriter.append("order-payment-requested-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderPaymentSucceededEvent(OrderPaymentSucceededEvent event) {
-    redisTemplate.convertAndSend("order-payment-succeeded-event", event);
+    outboxWriter.append("order-payment-succeeded-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderPaymentFailedEvent(OrderPaymentFailedEvent event) {
-    redisTemplate.convertAndSend("order-payment-Succeeded-event", event);
+    outboxWriter.append("order-payment-failed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderRejectedEvent(OrderRejectedEvent event) {
-    redisTemplate.convertAndSend("order-rejected-event", event);
+    outboxWriter.append("order-rejected-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderAcceptedEvent(OrderAcceptedEvent event) {
-    redisTemplate.convertAndSend("order-accepted-event", event);
+    outboxWriter.append("order-accepted-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderAssignedEvent(OrderAssignedEvent event) {
-    redisTemplate.convertAndSend("order-assigned-event", event);
+    outboxWriter.append("order-assigned-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCompletedEvent(OrderCompletedEvent event) {
-    redisTemplate.convertAndSend("order-completed-event", event);
+    outboxWriter.append("order-completed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCancelEvent(OrderCancelEvent event) {
-    redisTemplate.convertAndSend("order-cancel-event", event);
+    outboxWriter.append("order-cancel-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCancelSucceededEvent(OrderCancelSucceededEvent event) {
-    redisTemplate.convertAndSend("order-cancel-succeeded-event", event);
+    outboxWriter.append("order-cancel-succeeded-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderPaidForCustomerEvent(OrderPaidForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-paid-for-customer-event", event);
+    outboxWriter.append("order-paid-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderPaidForSellerEvent(OrderPaidForSellerEvent event) {
-    redisTemplate.convertAndSend("order-paid-for-seller-event", event);
+    outboxWriter.append("order-paid-for-seller-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderPaymentFailedForCustomerEvent(OrderPaymentFailedForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-payment-failed-for-customer-event", event);
+    outboxWriter.append("order-payment-failed-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCanceledForCustomerEvent(OrderCanceledForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-canceled-for-customer-event", event);
+    outboxWriter.append("order-canceled-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCanceledForSellerEvent(OrderCanceledForSellerEvent event) {
-    redisTemplate.convertAndSend("order-canceled-for-seller-event", event);
+    outboxWriter.append("order-canceled-for-seller-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCancelFailedForCustomerEvent(OrderCancelFailedForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-cancel-failed-for-customer-event", event);
+    outboxWriter.append("order-cancel-failed-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCancelFailedForSellerEvent(OrderCancelFailedForSellerEvent event) {
-    redisTemplate.convertAndSend("order-cancel-failed-for-seller-event", event);
+    outboxWriter.append("order-cancel-failed-for-seller-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderStatusChangedForCustomerEvent(OrderStatusChangedForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-status-changed-for-customer-event", event);
+    outboxWriter.append("order-status-changed-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderStatusChangedForSellerEvent(OrderStatusChangedForSellerEvent event) {
-    redisTemplate.convertAndSend("order-status-changed-for-seller-event", event);
+    outboxWriter.append("order-status-changed-for-seller-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderPreparedForCustomerEvent(OrderPreparingForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-preparing-for-customer-event", event);
+    outboxWriter.append("order-preparing-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderPreparedForSellerEvent(OrderPreparingForSellerEvent event) {
-    redisTemplate.convertAndSend("order-preparing-for-seller-event", event);
+    outboxWriter.append("order-preparing-for-seller-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCreatedForCustomerEvent(OrderCreatedForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-created-for-customer-event", event);
+    outboxWriter.append("order-created-for-customer-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleOrderCreateFailedForCustomerEvent(OrderCreateFailedForCustomerEvent event) {
-    redisTemplate.convertAndSend("order-created-failed-for-customer-event", event);
+    outboxWriter.append("order-created-failed-for-customer-event", event);
   }
 }
@@ -2,6 +2,7 @@ package com.deliveranything.domain.order.repository;
 
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.enums.OrderStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +12,13 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
   Optional<Order> findByMerchantId(String merchantId);
 
+  @Query("SELECT COALESCE(SUM(o.deliveryPrice), 0) FROM Order o "
+      + "WHERE o.delivery.id IN :deliveryIds")
+  Long sumDeliveryPriceByDeliveryIds(Collection<Long> deliveryIds);
+
+  @Query("SELECT o.id FROM Order o WHERE o.merchantId = :merchantId")
+  Optional<Long> findIdByMerchantId(String merchantId);
+
   @Query("SELECT o FROM Order o JOIN FETCH o.store WHERE o.id = :orderId")
   Optional<Order> findOrderWithStoreById(Long orderId);
 
@@ -5,6 +5,7 @@ import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.repository.OrderRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -29,6 +30,15 @@ public class DeliveryOrderService {
         .toList();
   }
 
+  // 배달들의 주문 배달비 합계 (라이더 정산 금액)
+  @Transactional(readOnly = true)
+  public long sumDeliveryPriceByDeliveryIds(Collection<Long> deliveryIds) {
+    if (deliveryIds.isEmpty()) {
+      return 0L;
+    }
+    return orderRepository.sumDeliveryPriceByDeliveryIds(deliveryIds);
+  }
+
   public Order getOrderById(Long orderId) {
     return orderRepository.findById(orderId)
         .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
@@ -133,7 +133,8 @@ public class OrderService {
     eventPublisher.publishEvent(OrderStatusChangedForSellerEvent.fromOrder(order));
   }
 
-  @Transactional(readOnly = true)
+  // 이벤트가 outbox 에 기록되므로 쓰기 트랜잭션
+  @Transactional
   public void processStockReserved(Long orderId) {
     Order order = getOrderById(orderId);
     log.info("주문 재고 홀드 됨. 클라이언트에게 주문 생성 관련 정보 전달.");
@@ -152,6 +153,15 @@ public class OrderService {
     log.info("주문 [{}] 취소 처리 완료.", orderId);
   }
 
+  /**
+   * 결제 이벤트 순서 키 - merchant_id unique 인덱스로 id 만 조회
+   */
+  @Transactional(readOnly = true)
+  public Long getOrderIdByMerchantId(String merchantUid) {
+    return orderRepository.findIdByMerchantId(merchantUid).orElseThrow(() -> new CustomException(
+        ErrorCode.ORDER_NOT_FOUND));
+  }
+
   private Order getOrderWithStoreByMerchantId(String merchantUid) {
     return orderRepository.findOrderWithStoreByMerchantId(merchantUid)
         .orElseThrow(() -> new CustomException(
@@ -5,6 +5,7 @@ import com.deliveranything.domain.order.enums.Publisher;
 import com.deliveranything.domain.order.event.OrderCancelEvent;
 import com.deliveranything.domain.order.event.OrderPaymentRequestedEvent;
 import com.deliveranything.domain.order.repository.OrderRepository;
+import com.deliveranything.domain.product.stock.service.StockFacadeService;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class PaymentOrderService {
 
   private final ApplicationEventPublisher eventPublisher;
   private final OrderRepository orderRepository;
+  private final StockFacadeService stockFacadeService;
 
   @Transactional
   public void payOrder(String merchantUid, String paymentKey) {
@@ -27,6 +29,8 @@ public class PaymentOrderService {
 
     Order order = getOrderByMerchantId(merchantUid);
     order.isPayable();
+    // 승인 요청 전에 재고 예약을 고정 - 이후에는 결제 대기 시간(payment-ttl)이 지나야 만료 정리가 예약을 풂
+    stockFacadeService.holdForPayment(order.getId());
 
     eventPublisher.publishEvent(
         OrderPaymentRequestedEvent.fromOrderAndPaymentKey(order, paymentKey));
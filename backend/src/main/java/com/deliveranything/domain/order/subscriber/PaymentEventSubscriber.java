@@ -1,35 +1,37 @@
 package com.deliveranything.domain.order.subscriber;
 
+import static com.deliveranything.global.enums.RedisStreamTopic.PAYMENT_CANCEL_FAILED;
+import static com.deliveranything.global.enums.RedisStreamTopic.PAYMENT_CANCEL_SUCCESS;
+import static com.deliveranything.global.enums.RedisStreamTopic.PAYMENT_COMPLETED;
+import static com.deliveranything.global.enums.RedisStreamTopic.PAYMENT_FAILED;
+
 import com.deliveranything.domain.order.handler.PaymentEventHandler;
-import com.deliveranything.global.enums.RedisTopic;
+import com.deliveranything.global.stream.RedisStreamEventBus;
 import jakarta.annotation.PostConstruct;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class PaymentEventSubscriber implements MessageListener {
+public class PaymentEventSubscriber {
+
+  private static final String CONSUMER_GROUP = "order";
 
-  private final RedisMessageListenerContainer container;
+  private final RedisStreamEventBus redisStreamEventBus;
   private final PaymentEventHandler paymentEventHandler;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new PatternTopic(RedisTopic.PAYMENT_EVENT.getPattern()));
+    redisStreamEventBus.subscribe(CONSUMER_GROUP,
+        List.of(PAYMENT_COMPLETED, PAYMENT_FAILED, PAYMENT_CANCEL_SUCCESS, PAYMENT_CANCEL_FAILED),
+        this::onEvent);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    String topic = new String(message.getChannel());
-    String json = new String(message.getBody());
-    log.debug("Received Redis event topic={}, body={}", topic, json);
-    paymentEventHandler.handle(topic, json);
+  private void onEvent(String topic, byte[] payload) {
+    log.debug("Received Redis stream event topic={}, bytes={}", topic, payload.length);
+    paymentEventHandler.handle(topic, payload);
   }
 }
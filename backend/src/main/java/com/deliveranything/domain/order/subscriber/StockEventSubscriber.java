@@ -1,35 +1,39 @@
 package com.deliveranything.domain.order.subscriber;
 
+import static com.deliveranything.global.enums.RedisStreamTopic.STOCK_COMMITTED;
+import static com.deliveranything.global.enums.RedisStreamTopic.STOCK_RELEASED;
+import static com.deliveranything.global.enums.RedisStreamTopic.STOCK_REPLENISHED;
+import static com.deliveranything.global.enums.RedisStreamTopic.STOCK_RESERVED;
+import static com.deliveranything.global.enums.RedisStreamTopic.STOCK_RESERVE_FAILED;
+
 import com.deliveranything.domain.order.handler.StockEventHandler;
-import com.deliveranything.global.enums.RedisTopic;
+import com.deliveranything.global.stream.RedisStreamEventBus;
 import jakarta.annotation.PostConstruct;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class StockEventSubscriber implements MessageListener {
+public class StockEventSubscriber {
+
+  private static final String CONSUMER_GROUP = "order";
 
-  private final RedisMessageListenerContainer container;
+  private final RedisStreamEventBus redisStreamEventBus;
   private final StockEventHandler stockEventHandler;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new PatternTopic(RedisTopic.STOCK_EVENT.getPattern()));
+    redisStreamEventBus.subscribe(CONSUMER_GROUP,
+        List.of(STOCK_RESERVED, STOCK_RESERVE_FAILED, STOCK_COMMITTED, STOCK_RELEASED,
+            STOCK_REPLENISHED),
+        this::onEvent);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    String topic = new String(pattern);
-    String json = new String(message.getBody());
-    log.debug("Received Redis event topic={}, body={}", topic, json);
-    stockEventHandler.handle(topic, json);
+  private void onEvent(String topic, byte[] payload) {
+    log.debug("Received Redis stream event topic={}, bytes={}", topic, payload.length);
+    stockEventHandler.handle(topic, payload);
   }
-}
\ No newline at end of file
+}
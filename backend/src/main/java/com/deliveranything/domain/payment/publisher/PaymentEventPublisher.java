@@ -4,8 +4,8 @@ import com.deliveranything.domain.payment.event.PaymentCancelFailedEvent;
 import com.deliveranything.domain.payment.event.PaymentCancelSuccessEvent;
 import com.deliveranything.domain.payment.event.PaymentFailedEvent;
 import com.deliveranything.domain.payment.event.PaymentSuccessEvent;
+import com.deliveranything.global.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -14,25 +14,25 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class PaymentEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxWriter outboxWriter;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handlePaymentCompletedEvent(PaymentSuccessEvent event) {
-    redisTemplate.convertAndSend("payment-completed-event", event);
+    outboxWriter.append("payment-completed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handlePaymentFailedEvent(PaymentFailedEvent event) {
-    redisTemplate.convertAndSend("payment-failed-event", event);
+    outboxWriter.append("payment-failed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handlePaymentCancelSuccessEvent(PaymentCancelSuccessEvent event) {
-    redisTemplate.convertAndSend("payment-cancel-success-event", event);
+    outboxWriter.append("payment-cancel-success-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handlePaymentCancelFailedEvent(PaymentCancelFailedEvent event) {
-    redisTemplate.convertAndSend("payment-cancel-failed-event", event);
+    outboxWriter.append("payment-cancel-failed-event", event);
   }
 }
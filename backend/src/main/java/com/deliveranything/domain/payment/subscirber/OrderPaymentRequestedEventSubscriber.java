@@ -2,48 +2,54 @@ package com.deliveranything.domain.payment.subscirber;
 
 import com.deliveranything.domain.order.event.OrderPaymentRequestedEvent;
 import com.deliveranything.domain.payment.service.PaymentService;
+import com.deliveranything.global.codec.EventMessageCodec;
+import com.deliveranything.global.enums.RedisStreamTopic;
 import com.deliveranything.global.exception.CustomException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.idempotency.IdempotencyStore;
+import com.deliveranything.global.stream.RedisStreamEventBus;
 import jakarta.annotation.PostConstruct;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderPaymentRequestedEventSubscriber implements MessageListener {
+public class OrderPaymentRequestedEventSubscriber {
 
-  private final ObjectMapper objectMapper;
+  // 노드 수와 관계없이 이벤트마다 결제 처리 1번
+  private static final String CONSUMER_GROUP = "payment";
+
+  private final EventMessageCodec eventMessageCodec;
   private final PaymentService paymentService;
-  private final RedisMessageListenerContainer container;
+  private final RedisStreamEventBus redisStreamEventBus;
+  private final IdempotencyStore idempotencyStore;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-payment-requested-event"));
+    redisStreamEventBus.subscribe(CONSUMER_GROUP,
+        List.of(RedisStreamTopic.ORDER_PAYMENT_REQUESTED), this::onEvent);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
+  private void onEvent(String topic, byte[] payload) {
     OrderPaymentRequestedEvent event = null;
     try {
-      event = objectMapper.readValue(new String(message.getBody()),
-          OrderPaymentRequestedEvent.class);
-      paymentService.createPayment(event.paymentKey(), event.merchantUid(), event.amount());
-      paymentService.confirmPayment(event.paymentKey(), event.merchantUid(), event.amount());
+      event = eventMessageCodec.decode(payload, OrderPaymentRequestedEvent.class);
+      OrderPaymentRequestedEvent requested = event;
+      // 재전달된 이벤트로 결제를 다시 승인하지 않음
+      idempotencyStore.runOnce(CONSUMER_GROUP, topic, event.merchantUid(), () -> {
+        paymentService.createPayment(requested.paymentKey(), requested.merchantUid(),
+            requested.amount());
+        paymentService.confirmPayment(requested.paymentKey(), requested.merchantUid(),
+            requested.amount());
+      });
     } catch (CustomException e) {
       if (event != null) {
         log.warn("Payment failed for order {}: {}", event.orderId(), e.getMessage());
       } else {
         log.error("Failed to get payment request message from Redis", e);
       }
-    } catch (Exception e) {
-      log.error("Failed to process order payment requested event from Redis", e);
     }
   }
 }
@@ -2,46 +2,51 @@ package com.deliveranything.domain.payment.subscirber;
 
 import com.deliveranything.domain.order.event.OrderRejectedEvent;
 import com.deliveranything.domain.payment.service.PaymentService;
+import com.deliveranything.global.codec.EventMessageCodec;
+import com.deliveranything.global.enums.RedisStreamTopic;
 import com.deliveranything.global.exception.CustomException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.idempotency.IdempotencyStore;
+import com.deliveranything.global.stream.RedisStreamEventBus;
 import jakarta.annotation.PostConstruct;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderRejectedEventSubscriber implements MessageListener {
+public class OrderRejectedEventSubscriber {
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
+  // 노드 수와 관계없이 이벤트마다 결제 처리 1번
+  private static final String CONSUMER_GROUP = "payment";
+
+  private final EventMessageCodec eventMessageCodec;
   private final PaymentService paymentService;
+  private final RedisStreamEventBus redisStreamEventBus;
+  private final IdempotencyStore idempotencyStore;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new ChannelTopic("order-rejected-event"));
+    redisStreamEventBus.subscribe(CONSUMER_GROUP, List.of(RedisStreamTopic.ORDER_REJECTED),
+        this::onEvent);
   }
 
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
+  private void onEvent(String topic, byte[] payload) {
     OrderRejectedEvent event = null;
     try {
-      event = objectMapper.readValue(new String(message.getBody()), OrderRejectedEvent.class);
-      paymentService.cancelPayment(event.merchantUid(), event.cancelReason(), event.publisher());
+      event = eventMessageCodec.decode(payload, OrderRejectedEvent.class);
+      OrderRejectedEvent rejected = event;
+      // 재전달된 이벤트로 결제를 다시 취소하지 않음
+      idempotencyStore.runOnce(CONSUMER_GROUP, topic, event.merchantUid(),
+          () -> paymentService.cancelPayment(rejected.merchantUid(), rejected.cancelReason(),
+              rejected.publisher()));
     } catch (CustomException e) {
       if (event != null) {
         log.warn("Payment cancel failed for order {}: {}", event.orderId(), e.getMessage());
       } else {
         log.error("Failed to get payment request message from Redis", e);
       }
-    } catch (Exception e) {
-      log.error("Failed to process order rejected event from Redis", e);
     }
   }
 }
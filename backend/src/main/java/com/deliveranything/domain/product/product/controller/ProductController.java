@@ -6,6 +6,7 @@ import com.deliveranything.domain.product.product.dto.ProductResponse;
 import com.deliveranything.domain.product.product.dto.ProductSearchRequest;
 import com.deliveranything.domain.product.product.dto.ProductUpdateRequest;
 import com.deliveranything.domain.product.product.service.ProductService;
+import com.deliveranything.domain.product.stock.dto.StockShardRequest;
 import com.deliveranything.global.common.ApiResponse;
 import com.deliveranything.global.common.CursorPageResponse;
 import com.deliveranything.global.security.auth.SecurityUser;
@@ -97,6 +98,19 @@ public class ProductController {
     return ResponseEntity.ok(ApiResponse.success(productService.updateProduct(storeId, productId, request)));
   }
 
+  @Operation(summary = "상품 재고 분할 설정", description = "인기 상품 재고를 여러 카운터로 나눕니다. (1: 해제)")
+  @PutMapping("/{productId}/stock/shards")
+  @PreAuthorize("@profileSecurity.isSeller(#securityUser) and @storeSecurity.isOwner(#storeId, #securityUser)")
+  public ResponseEntity<ApiResponse<ProductResponse>> changeStockShardCount(
+      @Parameter(description = "상점 ID") @PathVariable Long storeId,
+      @Parameter(description = "재고를 분할할 상품 ID") @PathVariable Long productId,
+      @Valid @RequestBody StockShardRequest request,
+      @AuthenticationPrincipal SecurityUser securityUser
+  ) {
+    return ResponseEntity.ok(ApiResponse.success(
+        productService.changeStockShardCount(storeId, productId, request.shardCount())));
+  }
+
   @Operation(summary = "상품 삭제", description = "특정 상품을 삭제합니다.")
   @DeleteMapping("/{productId}")
   @PreAuthorize("@profileSecurity.isSeller(#securityUser) and @storeSecurity.isOwner(#storeId, #securityUser)")
@@ -1,6 +1,7 @@
 package com.deliveranything.domain.product.product.dto;
 
 import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
 
 public record ProductDetailResponse(
     Long productId,
@@ -25,4 +26,18 @@ public record ProductDetailResponse(
         product.getImageUrl()
     );
   }
+
+  // 재고는 재고 조회 캐시 값으로
+  public static ProductDetailResponse from(Product product, StockSnapshot stock) {
+    return new ProductDetailResponse(
+        product.getId(),
+        product.getStore().getId(),
+        product.getName(),
+        product.getDescription(),
+        product.getPrice(),
+        stock.totalQuantity(),
+        stock.totalQuantity() - stock.heldQuantity(),
+        product.getImageUrl()
+    );
+  }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.deliveranything.domain.product.product.dto;
 
 import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
 
 public record ProductResponse(
     Long productId,
@@ -21,4 +22,16 @@ public record ProductResponse(
         product.getImageUrl()
     );
   }
+
+  // 재고는 재고 조회 캐시 값으로
+  public static ProductResponse from(Product product, StockSnapshot stock) {
+    return new ProductResponse(
+        product.getId(),
+        product.getStore().getId(),
+        product.getName(),
+        product.getPrice(),
+        stock.totalQuantity() - stock.heldQuantity(),
+        product.getImageUrl()
+    );
+  }
 }
\ No newline at end of file
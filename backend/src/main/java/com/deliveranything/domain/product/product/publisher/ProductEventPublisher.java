@@ -1,8 +1,8 @@
 package com.deliveranything.domain.product.product.publisher;
 
 import com.deliveranything.domain.product.product.event.ProductKeywordsChangedEvent;
+import com.deliveranything.global.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -11,10 +11,10 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class ProductEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxWriter outboxWriter;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleProductKeywordsChangedEvent(ProductKeywordsChangedEvent event) {
-    redisTemplate.convertAndSend("product-keywords-events", event);
+    outboxWriter.append("product-keywords-events", event);
   }
 }
\ No newline at end of file
@@ -8,8 +8,14 @@ import com.deliveranything.domain.product.product.dto.ProductUpdateRequest;
 import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.domain.product.product.event.ProductKeywordsChangedEvent;
 import com.deliveranything.domain.product.product.repository.ProductRepository;
+import com.deliveranything.domain.product.stock.cache.StockAvailabilityCache;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import com.deliveranything.domain.product.stock.event.StockAvailabilityChangedEvent;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.store.store.service.StoreService;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Slice;
@@ -24,6 +30,8 @@ public class ProductService {
   private final StoreService storeService;
   private final KeywordGenerationService keywordGenerationService;
   private final ApplicationEventPublisher eventPublisher;
+  private final StockEngine stockEngine;
+  private final StockAvailabilityCache stockAvailabilityCache;
 
   @Transactional
   public ProductResponse createProduct(Long storeId, ProductCreateRequest request) {
@@ -65,8 +73,11 @@ public class ProductService {
 
     product.update(request.name(), request.description(), request.price(), request.imageUrl());
 
-    if(request.newStockQuantity() != null)
+    if(request.newStockQuantity() != null) {
       product.getStock().setTotalQuantity(request.newStockQuantity());
+      stockEngine.overwriteTotal(productId, request.newStockQuantity());
+      eventPublisher.publishEvent(new StockAvailabilityChangedEvent(List.of(productId)));
+    }
 
     if (!oldName.equals(request.name()) || !oldDescription.equals(request.description())) {
       keywordGenerationService.generateAndSaveKeywords(product.getId());
@@ -75,20 +86,37 @@ public class ProductService {
     return ProductResponse.from(product);
   }
 
+  @Transactional
+  public ProductResponse changeStockShardCount(Long storeId, Long productId, int shardCount) {
+    Product product = productRepository.getById(productId);
+    product.validateStore(storeId);
+
+    stockEngine.changeShardCount(productId, shardCount);
+
+    return ProductResponse.from(product);
+  }
+
   @Transactional(readOnly = true)
   public ProductDetailResponse getProduct(Long storeId, Long productId) {
     Product product = productRepository.getById(productId);
     product.validateStore(storeId);
-    return ProductDetailResponse.from(product);
+    return stockAvailabilityCache.find(productId)
+        .map(stock -> ProductDetailResponse.from(product, stock))
+        .orElseGet(() -> ProductDetailResponse.from(product));
   }
 
+  // 재고는 목록 상품을 모아 재고 조회 캐시에서 한 번에 (상품마다 Stock 을 읽지 않음)
   @Transactional(readOnly = true)
   public Slice<ProductResponse> searchProducts(Long storeId, ProductSearchRequest request) {
     storeService.getStoreById(storeId);
 
     Slice<Product> results = productRepository.search(storeId, request);
+    Map<Long, StockSnapshot> stocks = stockAvailabilityCache.findAll(
+        results.getContent().stream().map(Product::getId).toList());
 
-    return results.map(ProductResponse::from);
+    return results.map(product -> stocks.containsKey(product.getId())
+        ? ProductResponse.from(product, stocks.get(product.getId()))
+        : ProductResponse.from(product));
   }
 
   @Transactional(readOnly = true)
@@ -0,0 +1,154 @@
+package com.deliveranything.domain.product.stock.cache;
+
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 재고 조회 인메모리 캐시 (노드별) - 메뉴/재고 조회는 메모리에서, 없는 상품만 StockEngine 에서 한 번에 적재 - 재고 이벤트
+ * 커밋 후 무효화 (StockAvailabilityChangedSubscriber), 무효화를 놓쳐도 ttl 이 지나면 다시 적재 - LRU 제거
+ */
+@Component
+public class StockAvailabilityCache {
+
+  private final StockEngine stockEngine;
+  private final int maxEntries;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  // accessOrder = true 로 LRU 순서 유지
+  private final LinkedHashMap<Long, CachedStock> stocks;
+  // 적재 중인 상품별 표시 - 적재 중 그 상품이 무효화되면 표시가 지워져 읽은 값을 캐시에 넣지 않음 (다른 상품 적재는 영향 없음)
+  private final Map<Long, Object> loading = new HashMap<>();
+
+  @Autowired
+  public StockAvailabilityCache(
+      StockEngine stockEngine,
+      MeterRegistry meterRegistry,
+      @Value("${stock.availability-cache.max-entries:50000}") int maxEntries,
+      @Value("${stock.availability-cache.ttl:3s}") Duration ttl
+  ) {
+    this(stockEngine, meterRegistry, maxEntries, ttl, Clock.systemUTC());
+  }
+
+  StockAvailabilityCache(StockEngine stockEngine, MeterRegistry meterRegistry, int maxEntries,
+      Duration ttl, Clock clock) {
+    this.stockEngine = stockEngine;
+    this.maxEntries = maxEntries;
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.stocks = new LinkedHashMap<>(256, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, CachedStock> eldest) {
+        return size() > StockAvailabilityCache.this.maxEntries;
+      }
+    };
+
+    this.hitCounter = Counter.builder("stock.availability.cache")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("stock.availability.cache")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder("stock.availability.cache.size", this, StockAvailabilityCache::size)
+        .register(meterRegistry);
+    Gauge.builder("stock.availability.cache.hit_ratio", this, StockAvailabilityCache::hitRatio)
+        .register(meterRegistry);
+  }
+
+  public Optional<StockSnapshot> find(Long productId) {
+    return Optional.ofNullable(findAll(List.of(productId)).get(productId));
+  }
+
+  /**
+   * 상품별 재고 값 - 만료되었거나 없는 상품만 모아 한 번에 적재 (없는 상품은 결과에서 빠짐)
+   */
+  public Map<Long, StockSnapshot> findAll(Collection<Long> productIds) {
+    Map<Long, StockSnapshot> found = new HashMap<>();
+    List<Long> missing = new ArrayList<>();
+    long now = clock.millis();
+    Object loadToken = new Object();
+
+    synchronized (stocks) {
+      for (Long productId : productIds) {
+        CachedStock cached = stocks.get(productId);
+        if (cached != null && cached.expiresAtMillis() > now) {
+          found.put(productId, cached.snapshot());
+        } else {
+          missing.add(productId);
+          loading.put(productId, loadToken);
+        }
+      }
+    }
+    hitCounter.increment(found.size());
+    if (missing.isEmpty()) {
+      return found;
+    }
+    missCounter.increment(missing.size());
+
+    List<StockSnapshot> loaded;
+    try {
+      loaded = stockEngine.snapshots(missing);
+    } catch (RuntimeException e) {
+      synchronized (stocks) {
+        missing.forEach(productId -> loading.remove(productId, loadToken));
+      }
+      throw e;
+    }
+    long expiresAt = clock.millis() + ttlMillis;
+    synchronized (stocks) {
+      for (StockSnapshot snapshot : loaded) {
+        found.put(snapshot.productId(), snapshot);
+        if (loading.remove(snapshot.productId(), loadToken)) {
+          stocks.put(snapshot.productId(), new CachedStock(snapshot, expiresAt));
+        }
+      }
+      // 없는 상품의 표시 정리
+      missing.forEach(productId -> loading.remove(productId, loadToken));
+    }
+    return found;
+  }
+
+  public void invalidate(Collection<Long> productIds) {
+    synchronized (stocks) {
+      productIds.forEach(productId -> {
+        stocks.remove(productId);
+        loading.remove(productId);
+      });
+    }
+  }
+
+  public int size() {
+    synchronized (stocks) {
+      return stocks.size();
+    }
+  }
+
+  // 시작 후 누적 적중률
+  double hitRatio() {
+    double hits = hitCounter.count();
+    double total = hits + missCounter.count();
+    return total == 0 ? 0 : hits / total;
+  }
+
+  private record CachedStock(StockSnapshot snapshot, long expiresAtMillis) {
+
+  }
+}
@@ -12,4 +12,11 @@ public record StockResponse(
         stock.getTotalQuantity()
     );
   }
+
+  public static StockResponse from(StockSnapshot snapshot) {
+    return new StockResponse(
+        snapshot.productId(),
+        snapshot.totalQuantity()
+    );
+  }
 }
\ No newline at end of file
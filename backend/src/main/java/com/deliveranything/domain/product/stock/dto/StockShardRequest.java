@@ -0,0 +1,14 @@
+package com.deliveranything.domain.product.stock.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record StockShardRequest(
+    @NotNull(message = "재고 샤드 수는 필수입니다.")
+    @Min(value = 1, message = "재고 샤드 수는 1 이상 64 이하만 가능합니다.")
+    @Max(value = 64, message = "재고 샤드 수는 1 이상 64 이하만 가능합니다.")
+    Integer shardCount
+) {
+
+}
@@ -0,0 +1,15 @@
+package com.deliveranything.domain.product.stock.dto;
+
+/**
+ * 분할 재고 샤드 1개의 수량 (엔티티로 읽지 않고 조회)
+ */
+public record StockShardSnapshot(
+    Integer shardIndex,
+    Integer totalQuantity,
+    Integer heldQuantity
+) {
+
+  public int availableQuantity() {
+    return totalQuantity - heldQuantity;
+  }
+}
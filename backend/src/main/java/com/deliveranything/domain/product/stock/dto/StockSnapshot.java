@@ -0,0 +1,13 @@
+package com.deliveranything.domain.product.stock.dto;
+
+/**
+ * 재고 엔진 적재/재반영용 재고 값 (엔티티와 연관 엔티티를 읽지 않고 한 번에 조회)
+ */
+public record StockSnapshot(
+    Long productId,
+    Long storeId,
+    Integer totalQuantity,
+    Integer heldQuantity
+) {
+
+}
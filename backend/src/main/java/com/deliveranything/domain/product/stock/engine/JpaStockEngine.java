@@ -0,0 +1,104 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker;
+import com.deliveranything.domain.product.stock.service.StockCommandService;
+import jakarta.persistence.OptimisticLockException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB 재고 엔진 - 예약은 모든 품목을 조건부 UPDATE 1번으로 처리 - 그 밖의 변경은 품목마다 Stock 행을 읽어 바꾸고
+ * @Version 충돌 시 재시도 - 분할 재고 상품은 샤드 행에서 변경 - 변경은 호출한 트랜잭션과 함께 커밋/롤백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.engine.type", havingValue = "jpa")
+public class JpaStockEngine implements StockEngine {
+
+  private static final int MAX_RETRIES = 3;
+
+  private final StockCommandService stockCommandService;
+  private final StockRepository stockRepository;
+  private final StockReservationTracker stockReservationTracker;
+
+  // 행을 읽지 않고 조건부 UPDATE 1번으로 예약 (충돌 재시도 없음), 예약 기록은 커밋 후
+  @Override
+  public void reserve(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    stockCommandService.reserveAll(storeId, StockEngine.quantitiesByProduct(items));
+    stockReservationTracker.track(orderId, storeId, items);
+  }
+
+  @Override
+  public void commit(Long storeId, List<OrderItemInfo> items) {
+    apply(storeId, items, stockCommandService::commitStock);
+  }
+
+  @Override
+  public void release(Long storeId, List<OrderItemInfo> items) {
+    apply(storeId, items, stockCommandService::releaseStock);
+  }
+
+  @Override
+  public void replenish(Long storeId, List<OrderItemInfo> items) {
+    apply(storeId, items, stockCommandService::replenishStock);
+  }
+
+  @Override
+  public void overwriteTotal(Long productId, int totalQuantity) {
+    // Stock 엔티티가 곧 원본이므로 할 일 없음
+  }
+
+  // 분할 재고는 예약이 한 행 잠금을 기다리지 않고 샤드 행으로 흩어짐
+  @Override
+  public void changeShardCount(Long productId, int shardCount) {
+    stockCommandService.changeShardCount(productId, shardCount);
+  }
+
+  // 분할 재고는 행의 수량 컬럼을 쓰지 않으므로 샤드 합계로 바꿔 넣음
+  @Override
+  @Transactional(readOnly = true)
+  public List<StockSnapshot> snapshots(Collection<Long> productIds) {
+    Map<Long, Stock> sharded = stockRepository.findShardedByProductIdIn(productIds).stream()
+        .collect(Collectors.toMap(stock -> stock.getProduct().getId(), Function.identity()));
+    return stockRepository.findSnapshotsByProductIdIn(productIds).stream()
+        .map(snapshot -> {
+          Stock stock = sharded.get(snapshot.productId());
+          return stock == null ? snapshot : new StockSnapshot(snapshot.productId(),
+              snapshot.storeId(), stock.getTotalQuantity(), stock.getHeldQuantity());
+        })
+        .toList();
+  }
+
+  private void apply(Long storeId, List<OrderItemInfo> items, BiConsumer<Stock, Integer> change) {
+    int retries = 0;
+    while (true) {
+      try {
+        for (var item : items) {
+          Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
+          change.accept(stock, item.quantity());
+        }
+        return;
+      } catch (OptimisticLockException e) {
+        retries++;
+        log.warn("Optimistic lock conflict, retry {}/{}", retries, MAX_RETRIES);
+        if (retries >= MAX_RETRIES) {
+          throw e;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,404 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker.ReservationRecord;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis 재고 엔진 - 상품마다 hash(stock:{productId} = total, held, store) 를 두고 주문의 모든 품목을 Lua 스크립트 1번으로
+ * 확인 후 변경 - 행 잠금/낙관적 락 재시도 없이 인기 상품 주문도 Redis 안에서 차례로 처리 - 처음 보는 상품은 DB 값을 적재 후 다시
+ * 실행 - 바뀐 상품은 dirty set 에 기록, StockWriteBehind 가 모아서 DB 에 반영 (DB 는 flush 주기만큼 늦음) - 예약은 예약
+ * 기록(StockReservationTracker)도 같은 스크립트에서 남김 (예약 후 기록 전에 노드가 죽어 held 만 남는 일이 없고, 재전송된 주문은
+ * 다시 잡지 않음) - 호출한 트랜잭션이 롤백되면 반대 변경으로 되돌림
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.engine.type", havingValue = "redis", matchIfMissing = true)
+public class RedisStockEngine implements StockEngine {
+
+  static final String KEY_PREFIX = "stock:";
+  static final String DIRTY_KEY = "stock:dirty-products";
+  static final String TOTAL = "total";
+  static final String HELD = "held";
+  static final String STORE = "store";
+  private static final byte[][] SNAPSHOT_FIELDS = {
+      TOTAL.getBytes(StandardCharsets.UTF_8),
+      HELD.getBytes(StandardCharsets.UTF_8),
+      STORE.getBytes(StandardCharsets.UTF_8)
+  };
+
+  static final String OK = "ok";
+  static final String MISSING = "missing";
+  static final String DUPLICATE = "duplicate";
+
+  enum Operation {
+    RESERVE, COMMIT, RELEASE, REPLENISH
+  }
+
+  // KEYS = [dirty set, 예약 set, 품목 hash, 만료 표시 키, 상품 키...]
+  // ARGV = [방향(1 | -1), storeId, orderId, 만료 시각(ms), 예약 품목, 수량...]
+  // 방향이 -1 이면 확인 없이 되돌림 (롤백 보상) - 그 사이 기록을 가져갔으면 가져간 쪽이 처리하므로 그대로 둠
+  // 결과: {'ok'} | {'duplicate'} (이미 예약한 주문) | {'missing', 위치...} | {'store' | 'insufficient', 위치}
+  static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+      if tonumber(ARGV[1]) < 0 then
+        if redis.call('ZREM', KEYS[2], ARGV[3]) == 0 then
+          return {'claimed'}
+        end
+        redis.call('HDEL', KEYS[3], ARGV[3])
+        for i = 5, #KEYS do
+          redis.call('HINCRBY', KEYS[i], 'held', -tonumber(ARGV[i + 1]))
+          redis.call('SADD', KEYS[1], KEYS[i])
+        end
+        return {'ok'}
+      end
+      if redis.call('HEXISTS', KEYS[3], ARGV[3]) == 1 or redis.call('EXISTS', KEYS[4]) == 1 then
+        return {'duplicate'}
+      end
+      local missing = {'missing'}
+      for i = 5, #KEYS do
+        local v = redis.call('HMGET', KEYS[i], 'total', 'held', 'store')
+        if not v[1] then
+          missing[#missing + 1] = i - 4
+        elseif v[3] ~= ARGV[2] then
+          return {'store', i - 4}
+        elseif tonumber(v[1]) - tonumber(v[2]) < tonumber(ARGV[i + 1]) then
+          return {'insufficient', i - 4}
+        end
+      end
+      if #missing > 1 then
+        return missing
+      end
+      for i = 5, #KEYS do
+        redis.call('HINCRBY', KEYS[i], 'held', ARGV[i + 1])
+        redis.call('SADD', KEYS[1], KEYS[i])
+      end
+      redis.call('ZADD', KEYS[2], ARGV[4], ARGV[3])
+      redis.call('HSET', KEYS[3], ARGV[3], ARGV[5])
+      return {'ok'}
+      """, List.class);
+
+  // KEYS = [dirty set, 상품 키...], ARGV = [operation, 방향(1 | -1), storeId, 수량...]
+  // 방향이 -1 이면 확인 없이 반대로 적용 (롤백 보상)
+  // 결과: {'ok'} | {'missing', 위치...} | {'store' | 'invalid', 위치}
+  static final RedisScript<List> APPLY_SCRIPT = new DefaultRedisScript<>("""
+      local op = ARGV[1]
+      local sign = tonumber(ARGV[2])
+      local dTotal = ({COMMIT = -1, RELEASE = 0, REPLENISH = 1})[op]
+      local dHeld = ({COMMIT = -1, RELEASE = -1, REPLENISH = 0})[op]
+      local missing = {'missing'}
+      for i = 2, #KEYS do
+        local v = redis.call('HMGET', KEYS[i], 'total', 'held', 'store')
+        if not v[1] then
+          missing[#missing + 1] = i - 1
+        elseif sign > 0 then
+          local q = tonumber(ARGV[i + 2])
+          if v[3] ~= ARGV[3] then
+            return {'store', i - 1}
+          elseif (op == 'COMMIT' or op == 'RELEASE') and tonumber(v[2]) < q then
+            return {'invalid', i - 1}
+          end
+        end
+      end
+      if #missing > 1 then
+        return missing
+      end
+      for i = 2, #KEYS do
+        local q = tonumber(ARGV[i + 2]) * sign
+        if dTotal ~= 0 then
+          redis.call('HINCRBY', KEYS[i], 'total', dTotal * q)
+        end
+        if dHeld ~= 0 then
+          redis.call('HINCRBY', KEYS[i], 'held', dHeld * q)
+        end
+        redis.call('SADD', KEYS[1], KEYS[i])
+      end
+      return {'ok'}
+      """, List.class);
+
+  // 없는 키만 DB 값으로 적재 (ARGV = 키마다 total, held, store)
+  static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+      local seeded = 0
+      for i, key in ipairs(KEYS) do
+        if redis.call('EXISTS', key) == 0 then
+          local base = (i - 1) * 3
+          redis.call('HSET', key, 'total', ARGV[base + 1], 'held', ARGV[base + 2],
+              'store', ARGV[base + 3])
+          seeded = seeded + 1
+        end
+      end
+      return seeded
+      """, Long.class);
+
+  // 적재된 상품만 총 재고를 바꾸고 DB 반영 대상으로 표시 (KEYS = [dirty set, 상품 키])
+  static final RedisScript<Long> OVERWRITE_TOTAL_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[2]) == 0 then
+        return 0
+      end
+      redis.call('HSET', KEYS[2], 'total', ARGV[1])
+      redis.call('SADD', KEYS[1], KEYS[2])
+      return 1
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final StockRepository stockRepository;
+  private final StockReservationTracker stockReservationTracker;
+
+  private final Counter appliedCounter;
+  private final Counter rejectedCounter;
+  private final Counter duplicateCounter;
+  private final Counter compensatedCounter;
+  private final Counter seededCounter;
+
+  public RedisStockEngine(
+      StringRedisTemplate redisTemplate,
+      StockRepository stockRepository,
+      StockReservationTracker stockReservationTracker,
+      MeterRegistry meterRegistry
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.stockRepository = stockRepository;
+    this.stockReservationTracker = stockReservationTracker;
+
+    this.appliedCounter = counter(meterRegistry, "applied");
+    this.rejectedCounter = counter(meterRegistry, "rejected");
+    this.duplicateCounter = counter(meterRegistry, "duplicate");
+    this.compensatedCounter = counter(meterRegistry, "compensated");
+    this.seededCounter = Counter.builder("stock.engine.seeded").register(meterRegistry);
+  }
+
+  public static String key(Long productId) {
+    return KEY_PREFIX + productId;
+  }
+
+  static Long productId(String key) {
+    return Long.valueOf(key.substring(KEY_PREFIX.length()));
+  }
+
+  @Override
+  public void reserve(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    Map<Long, Integer> quantities = StockEngine.quantitiesByProduct(items);
+    List<Long> productIds = new ArrayList<>(quantities.keySet());
+    ReservationRecord record = stockReservationTracker.recordFor(orderId, storeId, items);
+
+    List<?> result = executeSeeding(productIds,
+        () -> executeReserve(1, storeId, record, quantities));
+    if (DUPLICATE.equals(result.get(0))) {
+      // 앞선 처리가 예약과 기록을 남긴 주문 (이벤트 재전송) - 다시 잡지 않고, 롤백되어도 그 예약은 되돌리지 않음
+      log.info("Stock already reserved for order {}", orderId);
+      duplicateCounter.increment();
+      return;
+    }
+    checkApplied(Operation.RESERVE, productIds, result);
+    compensateOnRollback(Operation.RESERVE, storeId,
+        () -> executeReserve(-1, storeId, record, quantities));
+  }
+
+  @Override
+  public void commit(Long storeId, List<OrderItemInfo> items) {
+    apply(Operation.COMMIT, storeId, items);
+  }
+
+  @Override
+  public void release(Long storeId, List<OrderItemInfo> items) {
+    apply(Operation.RELEASE, storeId, items);
+  }
+
+  @Override
+  public void replenish(Long storeId, List<OrderItemInfo> items) {
+    apply(Operation.REPLENISH, storeId, items);
+  }
+
+  @Override
+  public void overwriteTotal(Long productId, int totalQuantity) {
+    afterCommit(() -> redisTemplate.execute(OVERWRITE_TOTAL_SCRIPT,
+        List.of(DIRTY_KEY, key(productId)), String.valueOf(totalQuantity)));
+  }
+
+  // Redis 1대는 스크립트를 차례로 실행하므로 키를 나눠도 처리량이 늘지 않음 (상품 키 1개로 충분)
+  @Override
+  public void changeShardCount(Long productId, int shardCount) {
+    throw new CustomException(ErrorCode.STOCK_SHARDING_UNSUPPORTED);
+  }
+
+  // 적재된 상품은 Redis 값 (DB 는 flush 주기만큼 늦음), 적재되지 않은 상품만 DB 값 (조회로는 적재하지 않음)
+  @Override
+  public List<StockSnapshot> snapshots(Collection<Long> productIds) {
+    List<Long> ids = List.copyOf(productIds);
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (Long productId : ids) {
+        connection.hashCommands().hMGet(key(productId).getBytes(StandardCharsets.UTF_8),
+            SNAPSHOT_FIELDS);
+      }
+      return null;
+    });
+
+    List<StockSnapshot> snapshots = new ArrayList<>(ids.size());
+    List<Long> unloaded = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i++) {
+      List<?> fields = (List<?>) results.get(i);
+      if (fields == null || fields.get(0) == null || fields.get(1) == null
+          || fields.get(2) == null) {
+        unloaded.add(ids.get(i));
+        continue;
+      }
+      snapshots.add(new StockSnapshot(ids.get(i), Long.valueOf(fields.get(2).toString()),
+          Integer.valueOf(fields.get(0).toString()), Integer.valueOf(fields.get(1).toString())));
+    }
+    if (!unloaded.isEmpty()) {
+      snapshots.addAll(stockRepository.findSnapshotsByProductIdIn(unloaded));
+    }
+    return snapshots;
+  }
+
+  private void apply(Operation operation, Long storeId, List<OrderItemInfo> items) {
+    Map<Long, Integer> quantities = StockEngine.quantitiesByProduct(items);
+    List<Long> productIds = new ArrayList<>(quantities.keySet());
+
+    List<?> result = executeSeeding(productIds, () -> execute(operation, 1, storeId, quantities));
+    checkApplied(operation, productIds, result);
+    compensateOnRollback(operation, storeId, () -> execute(operation, -1, storeId, quantities));
+  }
+
+  // 처음 보는 상품이 있으면 DB 값을 적재한 뒤 다시 실행
+  private List<?> executeSeeding(List<Long> productIds, Supplier<List<?>> script) {
+    List<?> result = script.get();
+    if (MISSING.equals(result.get(0))) {
+      seed(result.subList(1, result.size()).stream()
+          .map(position -> productIds.get(((Number) position).intValue() - 1))
+          .toList());
+      result = script.get();
+    }
+    return result;
+  }
+
+  private void checkApplied(Operation operation, List<Long> productIds, List<?> result) {
+    String status = (String) result.get(0);
+    if (!OK.equals(status)) {
+      rejectedCounter.increment();
+      Long productId = productIds.get(((Number) result.get(1)).intValue() - 1);
+      log.info("Stock {} rejected for product {}: {}", operation, productId, status);
+      throw new CustomException(errorCode(status));
+    }
+    appliedCounter.increment();
+  }
+
+  private List<?> executeReserve(int sign, Long storeId, ReservationRecord record,
+      Map<Long, Integer> quantities) {
+    List<String> keys = new ArrayList<>(quantities.size() + 4);
+    keys.add(DIRTY_KEY);
+    keys.addAll(record.keys());
+    quantities.keySet().forEach(productId -> keys.add(key(productId)));
+
+    List<String> args = new ArrayList<>(quantities.size() + 5);
+    args.add(String.valueOf(sign));
+    args.add(String.valueOf(storeId));
+    args.addAll(record.args());
+    quantities.values().forEach(quantity -> args.add(String.valueOf(quantity)));
+
+    return redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+  }
+
+  private List<?> execute(Operation operation, int sign, Long storeId,
+      Map<Long, Integer> quantities) {
+    List<String> keys = new ArrayList<>(quantities.size() + 1);
+    keys.add(DIRTY_KEY);
+    quantities.keySet().forEach(productId -> keys.add(key(productId)));
+
+    List<String> args = new ArrayList<>(quantities.size() + 3);
+    args.add(operation.name());
+    args.add(String.valueOf(sign));
+    args.add(String.valueOf(storeId));
+    quantities.values().forEach(quantity -> args.add(String.valueOf(quantity)));
+
+    return redisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+  }
+
+  // 처음 보는 상품은 DB 값으로 적재 (다른 노드가 먼저 적재했으면 그 값을 유지)
+  private void seed(Collection<Long> productIds) {
+    List<StockSnapshot> snapshots = stockRepository.findSnapshotsByProductIdIn(productIds);
+    if (snapshots.size() < productIds.size()) {
+      throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    List<String> keys = new ArrayList<>(snapshots.size());
+    List<String> args = new ArrayList<>(snapshots.size() * 3);
+    for (StockSnapshot snapshot : snapshots) {
+      keys.add(key(snapshot.productId()));
+      args.add(String.valueOf(snapshot.totalQuantity()));
+      args.add(String.valueOf(snapshot.heldQuantity()));
+      args.add(String.valueOf(snapshot.storeId()));
+    }
+    Long seeded = redisTemplate.execute(SEED_SCRIPT, keys, args.toArray());
+    seededCounter.increment(seeded == null ? 0 : seeded);
+  }
+
+  private void compensateOnRollback(Operation operation, Long storeId, Runnable undo) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_ROLLED_BACK) {
+          return;
+        }
+        try {
+          undo.run();
+          compensatedCounter.increment();
+        } catch (RuntimeException e) {
+          log.error("Failed to undo stock {} for store {}: {}", operation, storeId,
+              e.getMessage(), e);
+        }
+      }
+    });
+  }
+
+  private static void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+
+  private static ErrorCode errorCode(String status) {
+    return switch (status) {
+      case "store" -> ErrorCode.PRODUCT_STORE_MISMATCH;
+      case "insufficient" -> ErrorCode.PRODUCT_OUT_OF_STOCK;
+      case MISSING -> ErrorCode.PRODUCT_NOT_FOUND;
+      default -> ErrorCode.STOCK_CHANGE_INVALID;
+    };
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("stock.engine.operations")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
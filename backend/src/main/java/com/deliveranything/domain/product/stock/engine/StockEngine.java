@@ -0,0 +1,53 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 단위 재고 변경 - 주문의 모든 품목을 한 번에 처리 (하나라도 안 되면 아무것도 바꾸지 않음) - 실패는
+ * CustomException (PRODUCT_OUT_OF_STOCK, STOCK_CHANGE_INVALID, PRODUCT_STORE_MISMATCH,
+ * PRODUCT_NOT_FOUND) - 호출한 트랜잭션이 롤백되면 변경도 되돌림 - 구현은 stock.engine.type 으로 선택 (redis | jpa)
+ */
+public interface StockEngine {
+
+  // 주문 재고 예약 (held += q, 가용 재고가 부족하면 실패) - 만료 정리가 찾을 수 있도록 예약 기록도 남김
+  void reserve(Long orderId, Long storeId, List<OrderItemInfo> items);
+
+  // 예약 확정 (held -= q, total -= q)
+  void commit(Long storeId, List<OrderItemInfo> items);
+
+  // 예약 해제 (held -= q)
+  void release(Long storeId, List<OrderItemInfo> items);
+
+  // 차감 복구 (total += q)
+  void replenish(Long storeId, List<OrderItemInfo> items);
+
+  /**
+   * 관리자가 DB 의 총 재고를 바꾼 뒤 호출 - 엔진이 따로 들고 있는 값이 있으면 맞춤
+   */
+  void overwriteTotal(Long productId, int totalQuantity);
+
+  /**
+   * 인기 상품 재고를 shardCount 개 하위 카운터로 나눔 (1 이면 분할 해제) - 지원하지 않는 엔진은
+   * STOCK_SHARDING_UNSUPPORTED
+   */
+  void changeShardCount(Long productId, int shardCount);
+
+  /**
+   * 상품별 지금 재고 값 (재고 조회 캐시 적재용) - 없는 상품은 결과에서 빠짐
+   */
+  List<StockSnapshot> snapshots(Collection<Long> productIds);
+
+  /**
+   * 상품별 수량 - 같은 상품이 여러 줄에 있으면 합쳐서 한 번에 확인 (주문 순서 유지)
+   */
+  static Map<Long, Integer> quantitiesByProduct(List<OrderItemInfo> items) {
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    items.forEach(item -> quantities.merge(item.productId(), item.quantity(), Integer::sum));
+    return quantities;
+  }
+}
@@ -0,0 +1,188 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Redis 재고 엔진 값을 DB(stocks) 에 반영 - dirty set 에서 최대 batchSize 상품을 꺼내(SPOP) 현재 값을 파이프라인으로 읽고 한
+ * 트랜잭션에서 덮어씀 (JDBC batch update) - 같은 값을 여러 번 써도 결과가 같으므로 실패하면 dirty set 에 되돌리고 다음 주기에 재시도 -
+ * 주기적으로 DB 행이 Redis 값과 다른 상품을 다시 dirty 로 표시해 Redis 값으로 덮어씀 (꺼낸 뒤 반영 전에 노드가 죽은 경우 등) - Redis
+ * 가 원본이므로 한 방향 재반영일 뿐 Redis 값 자체는 검사하지 않음 (예약 기록 없는 held 는 RedisStockEngine 이 만들지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.engine.type", havingValue = "redis", matchIfMissing = true)
+public class StockWriteBehind {
+
+  private static final byte[][] FIELDS = {
+      RedisStockEngine.TOTAL.getBytes(StandardCharsets.UTF_8),
+      RedisStockEngine.HELD.getBytes(StandardCharsets.UTF_8)
+  };
+
+  private final StringRedisTemplate redisTemplate;
+  private final StockRepository stockRepository;
+  private final TransactionOperations transactionOperations;
+  private final int batchSize;
+
+  private final Counter flushedCounter;
+  private final Counter failedCounter;
+  private final Counter driftCounter;
+
+  public StockWriteBehind(
+      StringRedisTemplate redisTemplate,
+      StockRepository stockRepository,
+      TransactionOperations transactionOperations,
+      @Value("${stock.engine.batch-size:500}") int batchSize,
+      MeterRegistry meterRegistry
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.stockRepository = stockRepository;
+    this.transactionOperations = transactionOperations;
+    this.batchSize = batchSize;
+
+    this.flushedCounter = Counter.builder("stock.write_behind.rows")
+        .tag("result", "flushed")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("stock.write_behind.rows")
+        .tag("result", "failed")
+        .register(meterRegistry);
+    this.driftCounter = Counter.builder("stock.write_behind.drift")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 바뀐 재고를 모두 반영 - 배치가 가득 차면 기다리지 않고 다음 배치 진행
+   */
+  @Scheduled(fixedDelayString = "${stock.engine.flush-interval-ms:200}")
+  public void flush() {
+    int flushed;
+    do {
+      try {
+        flushed = flushBatch();
+      } catch (Exception e) {
+        log.error("Stock write-behind failed - will retry next cycle: {}", e.getMessage(), e);
+        return;
+      }
+    } while (flushed == batchSize);
+  }
+
+  int flushBatch() {
+    List<String> keys = redisTemplate.opsForSet().pop(RedisStockEngine.DIRTY_KEY, batchSize);
+    if (keys == null || keys.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      List<int[]> values = read(keys);
+      Map<Long, int[]> byProductId = new HashMap<>();
+      for (int i = 0; i < keys.size(); i++) {
+        if (values.get(i) != null) {
+          byProductId.put(RedisStockEngine.productId(keys.get(i)), values.get(i));
+        }
+      }
+      transactionOperations.executeWithoutResult(status -> {
+        for (Stock stock : stockRepository.findAllByProductIdIn(byProductId.keySet())) {
+          int[] value = byProductId.get(stock.getProduct().getId());
+          stock.syncQuantities(value[0], value[1]);
+        }
+      });
+    } catch (RuntimeException e) {
+      redisTemplate.opsForSet().add(RedisStockEngine.DIRTY_KEY, keys.toArray(String[]::new));
+      failedCounter.increment(keys.size());
+      throw e;
+    }
+
+    flushedCounter.increment(keys.size());
+    return keys.size();
+  }
+
+  /**
+   * DB 재반영 - Redis 에 적재된 상품 중 DB 행 값이 다른 상품을 다시 반영 대상으로 표시 (적재되지 않은 상품은 DB 가 원본)
+   */
+  @Scheduled(fixedDelayString = "${stock.engine.resync-interval-ms:300000}")
+  public void resync() {
+    try {
+      int drifted = 0;
+      Pageable pageable = PageRequest.of(0, batchSize);
+      Slice<StockSnapshot> page;
+      do {
+        page = stockRepository.findSnapshots(pageable);
+        drifted += markDrifted(page.getContent());
+        pageable = page.nextPageable();
+      } while (page.hasNext());
+
+      if (drifted > 0) {
+        log.warn("Stock resync found {} DB rows behind Redis - rewriting them", drifted);
+      }
+    } catch (Exception e) {
+      log.error("Stock resync failed: {}", e.getMessage(), e);
+    }
+  }
+
+  int markDrifted(List<StockSnapshot> snapshots) {
+    if (snapshots.isEmpty()) {
+      return 0;
+    }
+    List<String> keys = snapshots.stream()
+        .map(snapshot -> RedisStockEngine.key(snapshot.productId()))
+        .toList();
+    List<int[]> values = read(keys);
+
+    List<String> drifted = new ArrayList<>();
+    for (int i = 0; i < snapshots.size(); i++) {
+      StockSnapshot snapshot = snapshots.get(i);
+      int[] value = values.get(i);
+      if (value != null && (!Objects.equals(value[0], snapshot.totalQuantity())
+          || !Objects.equals(value[1], snapshot.heldQuantity()))) {
+        drifted.add(keys.get(i));
+      }
+    }
+    if (!drifted.isEmpty()) {
+      redisTemplate.opsForSet().add(RedisStockEngine.DIRTY_KEY, drifted.toArray(String[]::new));
+      driftCounter.increment(drifted.size());
+    }
+    return drifted.size();
+  }
+
+  // 키 순서대로 {total, held} (적재되지 않은 키는 null)
+  private List<int[]> read(List<String> keys) {
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      for (String key : keys) {
+        connection.hashCommands().hMGet(key.getBytes(StandardCharsets.UTF_8), FIELDS);
+      }
+      return null;
+    });
+
+    List<int[]> values = new ArrayList<>(keys.size());
+    for (Object result : results) {
+      List<?> fields = (List<?>) result;
+      if (fields == null || fields.get(0) == null || fields.get(1) == null) {
+        values.add(null);
+      } else {
+        values.add(new int[]{Integer.parseInt(fields.get(0).toString()),
+            Integer.parseInt(fields.get(1).toString())});
+      }
+    }
+    return values;
+  }
+}
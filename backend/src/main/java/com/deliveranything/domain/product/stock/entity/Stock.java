@@ -4,14 +4,19 @@ import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.global.entity.BaseEntity;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient; // Import for @Transient
 import jakarta.persistence.Version;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -35,9 +40,36 @@ public class Stock extends BaseEntity {
   @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
   private Integer heldQuantity;
 
+  // 1 이면 이 행이 수량을 가짐, 2 이상이면 수량은 shards 에 나뉘어 있고 위 수량 컬럼은 쓰지 않음
+  @Column(nullable = false, columnDefinition = "INT DEFAULT 1")
+  private Integer shardCount;
+
+  @OneToMany(mappedBy = "stock", cascade = CascadeType.ALL, orphanRemoval = true)
+  @OrderBy("shardIndex ASC")
+  private List<StockShard> shards = new ArrayList<>();
+
+  public boolean isSharded() {
+    return this.shardCount > 1;
+  }
+
+  // 분할 재고는 샤드 합계
+  public Integer getTotalQuantity() {
+    if (!isSharded()) {
+      return this.totalQuantity;
+    }
+    return this.shards.stream().mapToInt(StockShard::getTotalQuantity).sum();
+  }
+
+  public Integer getHeldQuantity() {
+    if (!isSharded()) {
+      return this.heldQuantity;
+    }
+    return this.shards.stream().mapToInt(StockShard::getHeldQuantity).sum();
+  }
+
   @Transient
   public Integer getAvailableQuantity() {
-    return this.totalQuantity - this.heldQuantity;
+    return getTotalQuantity() - getHeldQuantity();
   }
 
   // 재고 예약
@@ -76,13 +108,63 @@ public class Stock extends BaseEntity {
   // 관리자용 재고 세팅 totalQuantity 직접 변경
   public void setTotalQuantity(int newQuantity) {
     if (newQuantity < 0) throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
+    if (isSharded()) {
+      int held = getHeldQuantity();
+      if (newQuantity < held) throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
+      spread(newQuantity, held);
+    }
     this.totalQuantity = newQuantity;
   }
 
+  // 샤드 수 변경 - 지금 수량을 shardCount 개 샤드에 고르게 나눔 (1 이면 이 행으로 합침)
+  public void reshard(int shardCount) {
+    if (shardCount < 1) throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
+    int total = getTotalQuantity();
+    int held = getHeldQuantity();
+    if (shardCount > 1 && total < held) throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
+    this.totalQuantity = total;
+    this.heldQuantity = held;
+    this.shardCount = shardCount;
+
+    if (shardCount == 1) {
+      this.shards.clear();
+      return;
+    }
+    // 남는 샤드 번호만 지우고 새 번호만 추가 (같은 번호를 지웠다 다시 넣지 않음)
+    while (this.shards.size() > shardCount) {
+      this.shards.removeLast();
+    }
+    while (this.shards.size() < shardCount) {
+      this.shards.add(new StockShard(this, this.shards.size()));
+    }
+    spread(total, held);
+  }
+
+  // 예약 수량과 가용 수량을 각각 샤드에 고르게 나눔 (나머지는 앞 샤드부터 1씩)
+  private void spread(int total, int held) {
+    int available = total - held;
+    for (int i = 0; i < this.shards.size(); i++) {
+      int shardHeld = share(held, i);
+      this.shards.get(i).setQuantities(shardHeld + share(available, i), shardHeld);
+    }
+  }
+
+  private int share(int quantity, int index) {
+    int count = this.shards.size();
+    return quantity / count + (index < quantity % count ? 1 : 0);
+  }
+
+  // 재고 엔진(Redis) 값으로 덮어쓰기 (write-behind)
+  public void syncQuantities(int totalQuantity, int heldQuantity) {
+    this.totalQuantity = totalQuantity;
+    this.heldQuantity = heldQuantity;
+  }
+
   public Stock(Product product, Integer quantity) {
     this.product = product;
     this.totalQuantity = quantity;
     this.heldQuantity = 0;
+    this.shardCount = 1;
     product.setStock(this);
   }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.deliveranything.domain.product.stock.entity;
+
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 재고의 하위 카운터 - 인기 상품 재고를 shardCount 개 행으로 나눠 예약이 한 행에 몰리지 않게 함 - 수량 변경은
+ * StockShardRepository 의 조건부 UPDATE 로만 (엔티티 변경은 샤드 수/총 재고 재분배 때만, @Version 으로 충돌 확인)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "stock_shards",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_stock_shard_index",
+        columnNames = {"stock_id", "shard_index"}
+    )
+)
+public class StockShard extends BaseEntity {
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "stock_id", nullable = false)
+  private Stock stock;
+
+  @Column(name = "shard_index", nullable = false)
+  private Integer shardIndex;
+
+  @Version
+  private Integer version;
+
+  @Column(nullable = false)
+  private Integer totalQuantity;
+
+  @Column(nullable = false)
+  private Integer heldQuantity;
+
+  StockShard(Stock stock, int shardIndex) {
+    this.stock = stock;
+    this.shardIndex = shardIndex;
+    this.totalQuantity = 0;
+    this.heldQuantity = 0;
+  }
+
+  void setQuantities(int totalQuantity, int heldQuantity) {
+    this.totalQuantity = totalQuantity;
+    this.heldQuantity = heldQuantity;
+  }
+}
@@ -0,0 +1,10 @@
+package com.deliveranything.domain.product.stock.event;
+
+import java.util.List;
+
+/**
+ * 모든 노드의 재고 조회 캐시 무효화 알림 (pub/sub) - 재고 이벤트 외의 변경(관리자 재고 수정)도 직접 발행
+ */
+public record StockAvailabilityChangedEvent(List<Long> productIds) implements StockChangedEvent {
+
+}
@@ -0,0 +1,11 @@
+package com.deliveranything.domain.product.stock.event;
+
+import java.util.List;
+
+/**
+ * 가용 재고가 바뀐 이벤트 - 커밋 후 재고 조회 캐시에서 productIds 를 무효화 (StockAvailabilityChangedSubscriber)
+ */
+public interface StockChangedEvent {
+
+  List<Long> productIds();
+}
@@ -1,5 +1,8 @@
 package com.deliveranything.domain.product.stock.event;
 
-public record StockCommittedEvent(Long orderId) {
+import java.util.List;
 
-}
\ No newline at end of file
+public record StockCommittedEvent(Long orderId, List<Long> productIds)
+    implements StockChangedEvent {
+
+}
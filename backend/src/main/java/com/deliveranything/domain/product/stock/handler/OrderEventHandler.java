@@ -2,7 +2,8 @@ package com.deliveranything.domain.product.stock.handler;
 
 import com.deliveranything.domain.order.event.*;
 import com.deliveranything.domain.product.stock.service.StockFacadeService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deliveranything.global.codec.EventMessageCodec;
+import com.deliveranything.global.idempotency.IdempotencyStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,32 +13,46 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class OrderEventHandler {
 
-  private final ObjectMapper objectMapper;
+  private static final String CONSUMER = "stock";
+
+  private final EventMessageCodec eventMessageCodec;
   private final StockFacadeService stockFacadeService;
+  private final IdempotencyStore idempotencyStore;
 
-  public void handle(String topic, String json) {
+  public void handle(String topic, byte[] payload) {
     try {
       switch (topic) {
         case "order-created-event" -> {
-          var event = objectMapper.readValue(json, OrderCreatedEvent.class);
-          stockFacadeService.handleOrderCreated(event.orderId(), event.storeId(), event.orderItems());
+          var event = eventMessageCodec.decode(payload, OrderCreatedEvent.class);
+          runOnce(topic, event.orderId(), () -> stockFacadeService.handleOrderCreated(
+              event.orderId(), event.storeId(), event.orderItems()));
         }
         case "order-cancel-succeeded-event" -> {
-          var event = objectMapper.readValue(json, OrderCancelSucceededEvent.class);
-          stockFacadeService.handleOrderCancelSucceeded(event.orderId(), event.storeId(), event.orderItems());
+          var event = eventMessageCodec.decode(payload, OrderCancelSucceededEvent.class);
+          runOnce(topic, event.orderId(), () -> stockFacadeService.handleOrderCancelSucceeded(
+              event.orderId(), event.storeId(), event.orderItems()));
         }
         case "order-payment-succeeded-event" -> {
-          var event = objectMapper.readValue(json, OrderPaymentSucceededEvent.class);
-          stockFacadeService.handleOrderPaymentSucceeded(event.orderId(), event.storeId(), event.orderItems());
+          var event = eventMessageCodec.decode(payload, OrderPaymentSucceededEvent.class);
+          runOnce(topic, event.orderId(), () -> stockFacadeService.handleOrderPaymentSucceeded(
+              event.orderId(), event.storeId(), event.orderItems()));
         }
         case "order-payment-failed-event" -> {
-          var event = objectMapper.readValue(json, OrderPaymentFailedEvent.class);
-          stockFacadeService.handleOrderPaymentFailed(event.orderId(), event.storeId(), event.orderItems());
+          var event = eventMessageCodec.decode(payload, OrderPaymentFailedEvent.class);
+          runOnce(topic, event.orderId(), () -> stockFacadeService.handleOrderPaymentFailed(
+              event.orderId(), event.storeId(), event.orderItems()));
         }
         default -> log.warn("Unknown topic: {}", topic);
       }
     } catch (Exception e) {
       log.error("Failed to process order event [{}]: {}", topic, e.getMessage(), e);
+      // ack 하지 않고 stream 에 남겨 재전달
+      throw e;
     }
   }
-}
\ No newline at end of file
+
+  // 재전달/중복 발행된 이벤트로 재고를 두 번 잡거나 확정하지 않도록 주문별 1번만 처리
+  private void runOnce(String topic, Long orderId, Runnable task) {
+    idempotencyStore.runOnce(CONSUMER, topic, orderId, task);
+  }
+}
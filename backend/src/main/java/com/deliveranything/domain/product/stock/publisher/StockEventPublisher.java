@@ -1,12 +1,14 @@
 package com.deliveranything.domain.product.stock.publisher;
 
+import com.deliveranything.domain.product.stock.event.StockAvailabilityChangedEvent;
+import com.deliveranything.domain.product.stock.event.StockChangedEvent;
 import com.deliveranything.domain.product.stock.event.StockCommittedEvent;
 import com.deliveranything.domain.product.stock.event.StockReleasedEvent;
 import com.deliveranything.domain.product.stock.event.StockReplenishedEvent;
 import com.deliveranything.domain.product.stock.event.StockReservedEvent;
 import com.deliveranything.domain.product.stock.event.StockReserveFailedEvent;
+import com.deliveranything.global.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -15,30 +17,37 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class StockEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxWriter outboxWriter;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleStockReservedEvent(StockReservedEvent event) {
-    redisTemplate.convertAndSend("stock-reserved-event", event);
+    outboxWriter.append("stock-reserved-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleStockReservedFailedEvent(StockReserveFailedEvent event) {
-    redisTemplate.convertAndSend("stock-reserve-failed-event", event);
+    outboxWriter.append("stock-reserve-failed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleStockCommittedEvent(StockCommittedEvent event) {
-    redisTemplate.convertAndSend("stock-committed-event", event);
+    outboxWriter.append("stock-committed-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleStockReleasedEvent(StockReleasedEvent event) {
-    redisTemplate.convertAndSend("stock-released-event", event);
+    outboxWriter.append("stock-released-event", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleStockReplenishedEvent(StockReplenishedEvent event) {
-    redisTemplate.convertAndSend("stock-replenished-event", event);
+    outboxWriter.append("stock-replenished-event", event);
+  }
+
+  // 재고 이벤트와 함께 모든 노드에 재고 조회 캐시 무효화 알림
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void handleStockChangedEvent(StockChangedEvent event) {
+    outboxWriter.append("stock-availability-changed-event",
+        new StockAvailabilityChangedEvent(event.productIds()));
   }
 }
\ No newline at end of file
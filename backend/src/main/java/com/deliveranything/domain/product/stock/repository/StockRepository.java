@@ -1,12 +1,18 @@
 package com.deliveranything.domain.product.stock.repository;
 
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
 import com.deliveranything.domain.product.stock.entity.Stock;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface StockRepository extends JpaRepository<Stock, Long> {
+public interface StockRepository extends JpaRepository<Stock, Long>, StockRepositoryCustom {
 
   Optional<Stock> findByProductId(Long productId);
 
@@ -14,4 +20,19 @@ public interface StockRepository extends JpaRepository<Stock, Long> {
     return findByProductId(productId)
         .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
   }
+
+  List<Stock> findAllByProductIdIn(Collection<Long> productIds);
+
+  @Query("SELECT s FROM Stock s WHERE s.product.id IN :productIds AND s.shardCount > 1")
+  List<Stock> findShardedByProductIdIn(Collection<Long> productIds);
+
+  @Query("SELECT new com.deliveranything.domain.product.stock.dto.StockSnapshot("
+      + "p.id, p.store.id, s.totalQuantity, s.heldQuantity) "
+      + "FROM Stock s JOIN s.product p WHERE p.id IN :productIds")
+  List<StockSnapshot> findSnapshotsByProductIdIn(Collection<Long> productIds);
+
+  @Query("SELECT new com.deliveranything.domain.product.stock.dto.StockSnapshot("
+      + "p.id, p.store.id, s.totalQuantity, s.heldQuantity) "
+      + "FROM Stock s JOIN s.product p ORDER BY s.id")
+  Slice<StockSnapshot> findSnapshots(Pageable pageable);
 }
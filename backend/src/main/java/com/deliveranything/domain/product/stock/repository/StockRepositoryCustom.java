@@ -0,0 +1,12 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import java.util.Map;
+
+public interface StockRepositoryCustom {
+
+  /**
+   * 여러 상품 재고를 UPDATE 1번으로 예약 - 가용 재고가 충분하고 storeId 가게 상품인 행만 held += 수량 - 바뀐 행 수 반환 (상품 수보다
+   * 적으면 일부 상품이 조건을 만족하지 않음) - 분할 재고 상품은 바꾸지 않음 (StockShardService 가 처리)
+   */
+  long reserveAll(Long storeId, Map<Long, Integer> quantities);
+}
@@ -0,0 +1,55 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import com.deliveranything.domain.product.product.entity.QProduct;
+import com.deliveranything.domain.product.stock.entity.QStock;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class StockRepositoryImpl implements StockRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+  private final QStock stock = QStock.stock;
+  private final QProduct product = QProduct.product;
+
+  @Override
+  public long reserveAll(Long storeId, Map<Long, Integer> quantities) {
+    if (quantities.isEmpty()) {
+      return 0;
+    }
+    NumberExpression<Integer> quantity = quantityOf(quantities);
+
+    // 엔티티로 같은 행을 바꾸는 쪽(관리자 재고 수정 등)이 충돌을 알 수 있도록 @Version 도 올림
+    return queryFactory
+        .update(stock)
+        .set(stock.heldQuantity, stock.heldQuantity.add(quantity))
+        .set(stock.version, stock.version.add(1))
+        .where(
+            stock.product.id.in(quantities.keySet()),
+            stock.shardCount.eq(1),
+            stock.product.id.in(JPAExpressions
+                .select(product.id)
+                .from(product)
+                .where(product.store.id.eq(storeId))),
+            stock.totalQuantity.subtract(stock.heldQuantity).goe(quantity)
+        )
+        .execute();
+  }
+
+  // CASE WHEN product_id = ? THEN ? ... ELSE 0 END
+  private NumberExpression<Integer> quantityOf(Map<Long, Integer> quantities) {
+    CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+    for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+      cases = cases == null
+          ? new CaseBuilder().when(stock.product.id.eq(entry.getKey())).then(entry.getValue())
+          : cases.when(stock.product.id.eq(entry.getKey())).then(entry.getValue());
+    }
+    return cases.otherwise(0);
+  }
+}
@@ -0,0 +1,9 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import com.deliveranything.domain.product.stock.entity.StockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StockShardRepository extends JpaRepository<StockShard, Long>,
+    StockShardRepositoryCustom {
+
+}
@@ -0,0 +1,25 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import com.deliveranything.domain.product.stock.dto.StockShardSnapshot;
+import java.util.List;
+
+/**
+ * 샤드 1개 수량을 조건부 UPDATE 1번으로 변경 - 조건을 만족하면 1, 아니면 0 반환 (행을 읽지 않음)
+ */
+public interface StockShardRepositoryCustom {
+
+  // held += q (total - held >= q 일 때)
+  long reserve(Long stockId, int shardIndex, int quantity);
+
+  // held -= q, total -= q (held >= q 일 때)
+  long commit(Long stockId, int shardIndex, int quantity);
+
+  // held -= q (held >= q 일 때)
+  long release(Long stockId, int shardIndex, int quantity);
+
+  // total += q
+  long replenish(Long stockId, int shardIndex, int quantity);
+
+  // 샤드 번호 순 수량 (한 샤드로 안 될 때 나눠 담을 곳을 고르기 위해서만 읽음)
+  List<StockShardSnapshot> findSnapshotsByStockId(Long stockId);
+}
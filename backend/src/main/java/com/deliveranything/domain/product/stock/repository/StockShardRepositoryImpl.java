@@ -0,0 +1,78 @@
+package com.deliveranything.domain.product.stock.repository;
+
+import com.deliveranything.domain.product.stock.dto.StockShardSnapshot;
+import com.deliveranything.domain.product.stock.entity.QStockShard;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class StockShardRepositoryImpl implements StockShardRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+  private final QStockShard shard = QStockShard.stockShard;
+
+  // 모든 변경에서 @Version 도 올려 샤드를 엔티티로 바꾸는 쪽(재분배)이 충돌을 알 수 있게 함
+  @Override
+  public long reserve(Long stockId, int shardIndex, int quantity) {
+    return queryFactory
+        .update(shard)
+        .set(shard.heldQuantity, shard.heldQuantity.add(quantity))
+        .set(shard.version, shard.version.add(1))
+        .where(
+            shardOf(stockId, shardIndex),
+            shard.totalQuantity.subtract(shard.heldQuantity).goe(quantity)
+        )
+        .execute();
+  }
+
+  @Override
+  public long commit(Long stockId, int shardIndex, int quantity) {
+    return queryFactory
+        .update(shard)
+        .set(shard.heldQuantity, shard.heldQuantity.subtract(quantity))
+        .set(shard.totalQuantity, shard.totalQuantity.subtract(quantity))
+        .set(shard.version, shard.version.add(1))
+        .where(shardOf(stockId, shardIndex), shard.heldQuantity.goe(quantity))
+        .execute();
+  }
+
+  @Override
+  public long release(Long stockId, int shardIndex, int quantity) {
+    return queryFactory
+        .update(shard)
+        .set(shard.heldQuantity, shard.heldQuantity.subtract(quantity))
+        .set(shard.version, shard.version.add(1))
+        .where(shardOf(stockId, shardIndex), shard.heldQuantity.goe(quantity))
+        .execute();
+  }
+
+  @Override
+  public long replenish(Long stockId, int shardIndex, int quantity) {
+    return queryFactory
+        .update(shard)
+        .set(shard.totalQuantity, shard.totalQuantity.add(quantity))
+        .set(shard.version, shard.version.add(1))
+        .where(shardOf(stockId, shardIndex))
+        .execute();
+  }
+
+  @Override
+  public List<StockShardSnapshot> findSnapshotsByStockId(Long stockId) {
+    return queryFactory
+        .select(Projections.constructor(StockShardSnapshot.class,
+            shard.shardIndex, shard.totalQuantity, shard.heldQuantity))
+        .from(shard)
+        .where(shard.stock.id.eq(stockId))
+        .orderBy(shard.shardIndex.asc())
+        .fetch();
+  }
+
+  private BooleanExpression shardOf(Long stockId, int shardIndex) {
+    return shard.stock.id.eq(stockId).and(shard.shardIndex.eq(shardIndex));
+  }
+}
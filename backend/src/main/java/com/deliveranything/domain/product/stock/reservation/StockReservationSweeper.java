@@ -0,0 +1,105 @@
+package com.deliveranything.domain.product.stock.reservation;
+
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker.ExpiredReservation;
+import com.deliveranything.domain.product.stock.service.StockFacadeService;
+import com.deliveranything.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 요청이 없는 재고 예약 정리 - 만료된 예약만 batchSize 건씩 가져와 결제 실패와 같은 방식으로 해제 (StockReleasedEvent 발행)
+ * - 결제를 요청했지만 결제 결과가 paymentTtl 안에 오지 않은 예약도 해제하고 error 로그와 payment_timeout 카운터로 알림 (결제
+ * 이벤트 유실 확인 필요) - 배치가 가득 차면 기다리지 않고 다음 배치 진행 - 일시적 실패는 retryDelay 후 다시 정리, 업무상 거절은
+ * 기록만 남김
+ */
+@Slf4j
+@Component
+public class StockReservationSweeper {
+
+  private final StockReservationTracker stockReservationTracker;
+  private final StockFacadeService stockFacadeService;
+  private final int batchSize;
+  private final Duration retryDelay;
+
+  private final Counter releasedCounter;
+  private final Counter rejectedCounter;
+  private final Counter failedCounter;
+  private final Counter paymentTimeoutCounter;
+
+  public StockReservationSweeper(
+      StockReservationTracker stockReservationTracker,
+      StockFacadeService stockFacadeService,
+      @Value("${stock.reservation.batch-size:200}") int batchSize,
+      @Value("${stock.reservation.retry-delay:1m}") Duration retryDelay,
+      MeterRegistry meterRegistry
+  ) {
+    this.stockReservationTracker = stockReservationTracker;
+    this.stockFacadeService = stockFacadeService;
+    this.batchSize = batchSize;
+    this.retryDelay = retryDelay;
+
+    this.releasedCounter = counter(meterRegistry, "released");
+    this.rejectedCounter = counter(meterRegistry, "rejected");
+    this.failedCounter = counter(meterRegistry, "failed");
+    this.paymentTimeoutCounter = counter(meterRegistry, "payment_timeout");
+  }
+
+  @Scheduled(fixedDelayString = "${stock.reservation.sweep-interval-ms:10000}")
+  public void sweep() {
+    List<ExpiredReservation> expired;
+    do {
+      try {
+        expired = stockReservationTracker.claimExpired(batchSize);
+      } catch (Exception e) {
+        log.error("Stock reservation sweep failed - will retry next cycle: {}", e.getMessage(), e);
+        return;
+      }
+      expired.forEach(this::release);
+    } while (expired.size() == batchSize);
+  }
+
+  private void release(ExpiredReservation reservation) {
+    if (reservation.paymentRequested()) {
+      log.error("Payment result for order {} did not arrive in time - releasing held stock "
+          + "(store {}, items {})", reservation.orderId(), reservation.storeId(),
+          reservation.items());
+      paymentTimeoutCounter.increment();
+    }
+    try {
+      stockFacadeService.handleReservationExpired(reservation.orderId(), reservation.storeId(),
+          reservation.items());
+      releasedCounter.increment();
+    } catch (CustomException e) {
+      log.warn("Expired stock reservation for order {} was not released: {}",
+          reservation.orderId(), e.getMessage());
+      rejectedCounter.increment();
+    } catch (Exception e) {
+      log.error("Failed to release expired stock reservation for order {}: {}",
+          reservation.orderId(), e.getMessage(), e);
+      failedCounter.increment();
+      retryLater(reservation);
+    }
+  }
+
+  // 다시 기록하지 못하면 이 예약은 정리 대상에서 빠지므로 남은 예약 처리는 계속하고 로그로 남김
+  private void retryLater(ExpiredReservation reservation) {
+    try {
+      stockReservationTracker.retryLater(reservation, retryDelay);
+    } catch (Exception e) {
+      log.error("Lost expired stock reservation for order {} (store {}, items {}): {}",
+          reservation.orderId(), reservation.storeId(), reservation.items(), e.getMessage());
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("stock.reservation.expired")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
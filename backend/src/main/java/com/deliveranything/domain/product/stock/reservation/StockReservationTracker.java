@@ -0,0 +1,309 @@
+package com.deliveranything.domain.product.stock.reservation;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 재고 예약 기록 (Redis) - 예약한 주문을 만료 시각 점수의 sorted set 에, 품목을 hash 에 기록 - 결제 결과 처리와 만료 정리는
+ * 기록을 먼저 가져간(claim) 쪽만 재고를 바꿈 (같은 예약을 두 번 해제하지 않음) - 만료로 가져간 주문은 markerTtl 동안 표시해
+ * 늦게 온 결제 이벤트가 알 수 있게 함 - 결제를 요청한 예약은 결제 대기 sorted set 으로 옮겨 paymentTtl 뒤를 만료 시각으로 고정
+ * (결제 결과가 끝내 오지 않아도 재고를 계속 잡아 두지 않음)
+ */
+@Slf4j
+@Component
+public class StockReservationTracker {
+
+  static final String RESERVATIONS_KEY = "stock:reservations";
+  static final String PINNED_KEY = "stock:reservations-pinned";
+  static final String ITEMS_KEY = "stock:reservation-items";
+  static final String EXPIRED_KEY_PREFIX = "stock:reservation-expired:";
+
+  // KEYS = [예약 set 또는 결제 대기 set, 품목 hash, 만료 표시 키], ARGV = [orderId, 만료 시각(ms), 품목]
+  static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+      redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+      redis.call('DEL', KEYS[3])
+      return 1
+      """, Long.class);
+
+  // KEYS = [예약 set, 품목 hash, 만료 표시 키, 결제 대기 set], ARGV = [orderId]
+  // 결과: {'claimed', 만료 시각, 품목, 'reserved' | 'pinned'} | {'expired'} | {'untracked'}
+  static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+      local kind = 'reserved'
+      local key = KEYS[1]
+      local score = redis.call('ZSCORE', key, ARGV[1])
+      if not score then
+        kind = 'pinned'
+        key = KEYS[4]
+        score = redis.call('ZSCORE', key, ARGV[1])
+      end
+      if score then
+        local items = redis.call('HGET', KEYS[2], ARGV[1]) or ''
+        redis.call('ZREM', key, ARGV[1])
+        redis.call('HDEL', KEYS[2], ARGV[1])
+        return {'claimed', score, items, kind}
+      end
+      if redis.call('EXISTS', KEYS[3]) == 1 then
+        return {'expired'}
+      end
+      return {'untracked'}
+      """, List.class);
+
+  // KEYS = [예약 set, 품목 hash, 만료 표시 키, 결제 대기 set], ARGV = [orderId, 결제 대기 만료 시각(ms)]
+  // 결과: {'pinned', 원래 만료 시각} | {'pinned'} (이미 고정) | {'expired'} | {'untracked'}
+  static final RedisScript<List> PIN_SCRIPT = new DefaultRedisScript<>("""
+      local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+      if score then
+        redis.call('ZREM', KEYS[1], ARGV[1])
+        redis.call('ZADD', KEYS[4], ARGV[2], ARGV[1])
+        return {'pinned', score}
+      end
+      if redis.call('ZSCORE', KEYS[4], ARGV[1]) then
+        return {'pinned'}
+      end
+      if redis.call('EXISTS', KEYS[3]) == 1 then
+        return {'expired'}
+      end
+      return {'untracked'}
+      """, List.class);
+
+  // KEYS = [예약 set, 결제 대기 set], ARGV = [orderId, 원래 만료 시각(ms)]
+  // 결제 대기 set 에 남아 있을 때만 되돌림 (그 사이 가져간 예약은 다시 만들지 않음)
+  static final RedisScript<Long> UNPIN_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('ZREM', KEYS[2], ARGV[1]) == 1 then
+        redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+        return 1
+      end
+      return 0
+      """, Long.class);
+
+  // KEYS = [예약 set, 품목 hash, 결제 대기 set]
+  // ARGV = [현재 시각(ms), 최대 건수, 만료 표시 키 prefix, 표시 유지(초)]
+  // 결과: {orderId, 품목, 'reserved' | 'pinned', ...} - 만료된 것만 읽으므로 비용은 만료 건수에 비례
+  static final RedisScript<List> CLAIM_EXPIRED_SCRIPT = new DefaultRedisScript<>("""
+      local result = {}
+      local remaining = tonumber(ARGV[2])
+      for _, key in ipairs({KEYS[1], KEYS[3]}) do
+        if remaining <= 0 then
+          break
+        end
+        local kind = key == KEYS[3] and 'pinned' or 'reserved'
+        local ids = redis.call('ZRANGEBYSCORE', key, '-inf', ARGV[1], 'LIMIT', 0, remaining)
+        for _, id in ipairs(ids) do
+          result[#result + 1] = id
+          result[#result + 1] = redis.call('HGET', KEYS[2], id) or ''
+          result[#result + 1] = kind
+          redis.call('ZREM', key, id)
+          redis.call('HDEL', KEYS[2], id)
+          redis.call('SET', ARGV[3] .. id, '1', 'EX', ARGV[4])
+        end
+        remaining = remaining - #ids
+      end
+      return result
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration ttl;
+  private final Duration paymentTtl;
+  private final Duration markerTtl;
+  private final Clock clock;
+
+  @Autowired
+  public StockReservationTracker(
+      StringRedisTemplate redisTemplate,
+      @Value("${stock.reservation.ttl:15m}") Duration ttl,
+      @Value("${stock.reservation.payment-ttl:1h}") Duration paymentTtl,
+      @Value("${stock.reservation.expired-marker-ttl:24h}") Duration markerTtl
+  ) {
+    this(redisTemplate, ttl, paymentTtl, markerTtl, Clock.systemUTC());
+  }
+
+  StockReservationTracker(StringRedisTemplate redisTemplate, Duration ttl, Duration paymentTtl,
+      Duration markerTtl, Clock clock) {
+    this.redisTemplate = redisTemplate;
+    this.ttl = ttl;
+    this.paymentTtl = paymentTtl;
+    this.markerTtl = markerTtl;
+    this.clock = clock;
+  }
+
+  /**
+   * 예약 기록 - 호출한 트랜잭션이 커밋된 뒤 ttl 후 만료로 기록 (DB 재고 엔진용 - 커밋 직후 노드가 죽으면 기록이 빠질 수 있음)
+   */
+  public void track(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    long expiresAt = clock.millis() + ttl.toMillis();
+    String encoded = encode(storeId, items);
+    afterCommit(() -> save(RESERVATIONS_KEY, orderId, expiresAt, encoded));
+  }
+
+  /**
+   * 재고 예약 스크립트가 예약과 함께 남길 기록 (Redis 재고 엔진용) - 예약과 기록 사이에 노드가 죽어도 만료 정리가 해제 - 기록 형식은
+   * SAVE_SCRIPT 와 같음
+   */
+  public ReservationRecord recordFor(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    return new ReservationRecord(
+        List.of(RESERVATIONS_KEY, ITEMS_KEY, expiredKey(orderId)),
+        List.of(String.valueOf(orderId), String.valueOf(clock.millis() + ttl.toMillis()),
+            encode(storeId, items)));
+  }
+
+  /**
+   * 결제 결과 처리 전 예약 기록 가져가기 - 호출한 트랜잭션이 롤백되면 기록을 되돌림
+   */
+  public ClaimResult claim(Long orderId) {
+    List<?> result = redisTemplate.execute(CLAIM_SCRIPT, orderKeys(orderId),
+        String.valueOf(orderId));
+    String status = (String) result.get(0);
+    if ("expired".equals(status)) {
+      return ClaimResult.EXPIRED;
+    }
+    if (!"claimed".equals(status)) {
+      return ClaimResult.UNTRACKED;
+    }
+
+    long expiresAt = (long) Double.parseDouble((String) result.get(1));
+    String encoded = (String) result.get(2);
+    // 고정된 예약은 결제 대기 만료 시각 그대로 고정된 상태로 되돌림
+    String key = "pinned".equals(result.get(3)) ? PINNED_KEY : RESERVATIONS_KEY;
+    onRollback(() -> save(key, orderId, expiresAt, encoded));
+    return ClaimResult.CLAIMED;
+  }
+
+  /**
+   * 결제 요청 전 예약 고정 - 만료 시각을 지금 + paymentTtl 로 늦춤 (결제 결과가 오지 않으면 그때 만료 정리가 해제) - 이미 만료로
+   * 해제되었으면 false - 호출한 트랜잭션이 롤백되면 원래 만료 시각으로 되돌림
+   */
+  public boolean pin(Long orderId) {
+    long paymentExpiresAt = clock.millis() + paymentTtl.toMillis();
+    List<?> result = redisTemplate.execute(PIN_SCRIPT, orderKeys(orderId),
+        String.valueOf(orderId), String.valueOf(paymentExpiresAt));
+    String status = (String) result.get(0);
+    if ("expired".equals(status)) {
+      return false;
+    }
+    if ("pinned".equals(status) && result.size() > 1) {
+      String expiresAt = (String) result.get(1);
+      onRollback(() -> redisTemplate.execute(UNPIN_SCRIPT, List.of(RESERVATIONS_KEY, PINNED_KEY),
+          String.valueOf(orderId), expiresAt));
+    }
+    return true;
+  }
+
+  /**
+   * 만료된 예약을 최대 limit 건 가져감 (여러 노드가 동시에 불러도 한 예약은 한 노드만 받음) - 결제 대기 만료 시각이 지난 고정
+   * 예약도 함께 가져감
+   */
+  public List<ExpiredReservation> claimExpired(int limit) {
+    List<?> result = redisTemplate.execute(CLAIM_EXPIRED_SCRIPT,
+        List.of(RESERVATIONS_KEY, ITEMS_KEY, PINNED_KEY), String.valueOf(clock.millis()),
+        String.valueOf(limit), EXPIRED_KEY_PREFIX, String.valueOf(markerTtl.toSeconds()));
+
+    List<ExpiredReservation> reservations = new ArrayList<>(result.size() / 3);
+    for (int i = 0; i + 2 < result.size(); i += 3) {
+      Long orderId = Long.valueOf((String) result.get(i));
+      String encoded = (String) result.get(i + 1);
+      if (encoded.isEmpty()) {
+        log.warn("Expired stock reservation for order {} has no items", orderId);
+        continue;
+      }
+      reservations.add(decode(orderId, encoded, "pinned".equals(result.get(i + 2))));
+    }
+    return reservations;
+  }
+
+  /**
+   * 해제에 실패한 만료 예약을 delay 후 다시 정리 대상으로 기록 (고정 예약은 고정된 상태로)
+   */
+  public void retryLater(ExpiredReservation reservation, Duration delay) {
+    save(reservation.paymentRequested() ? PINNED_KEY : RESERVATIONS_KEY, reservation.orderId(),
+        clock.millis() + delay.toMillis(), encode(reservation.storeId(), reservation.items()));
+  }
+
+  private void save(String key, Long orderId, long expiresAt, String encoded) {
+    redisTemplate.execute(SAVE_SCRIPT, List.of(key, ITEMS_KEY, expiredKey(orderId)),
+        String.valueOf(orderId), String.valueOf(expiresAt), encoded);
+  }
+
+  private static List<String> orderKeys(Long orderId) {
+    return List.of(RESERVATIONS_KEY, ITEMS_KEY, expiredKey(orderId), PINNED_KEY);
+  }
+
+  private static String expiredKey(Long orderId) {
+    return EXPIRED_KEY_PREFIX + orderId;
+  }
+
+  // storeId|productId:quantity,productId:quantity
+  static String encode(Long storeId, List<OrderItemInfo> items) {
+    return storeId + "|" + items.stream()
+        .map(item -> item.productId() + ":" + item.quantity())
+        .collect(Collectors.joining(","));
+  }
+
+  static ExpiredReservation decode(Long orderId, String encoded, boolean paymentRequested) {
+    int separator = encoded.indexOf('|');
+    List<OrderItemInfo> items = Arrays.stream(encoded.substring(separator + 1).split(","))
+        .map(item -> item.split(":"))
+        .map(parts -> new OrderItemInfo(Long.valueOf(parts[0]), Integer.valueOf(parts[1])))
+        .toList();
+    return new ExpiredReservation(orderId, Long.valueOf(encoded.substring(0, separator)), items,
+        paymentRequested);
+  }
+
+  private static void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+
+  private static void onRollback(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_ROLLED_BACK) {
+          task.run();
+        }
+      }
+    });
+  }
+
+  public enum ClaimResult {
+    CLAIMED,   // 예약 기록을 가져감 - 이어서 재고 변경
+    EXPIRED,   // 만료 정리가 이미 해제함
+    UNTRACKED  // 기록 없음 (기록 전 예약 등) - 기존처럼 재고 변경
+  }
+
+  // keys = [예약 set, 품목 hash, 만료 표시 키], args = [orderId, 만료 시각(ms), 품목]
+  public record ReservationRecord(List<String> keys, List<String> args) {
+
+  }
+
+  // paymentRequested - 결제를 요청했지만 결제 결과가 paymentTtl 안에 오지 않은 예약
+  public record ExpiredReservation(Long orderId, Long storeId, List<OrderItemInfo> items,
+      boolean paymentRequested) {
+
+  }
+}
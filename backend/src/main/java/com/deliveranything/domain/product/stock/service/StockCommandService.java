@@ -1,11 +1,17 @@
 package com.deliveranything.domain.product.stock.service;
 
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
 import com.deliveranything.domain.product.stock.entity.Stock;
 import com.deliveranything.domain.product.stock.repository.StockRepository;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.store.store.repository.StoreRepository;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +22,7 @@ public class StockCommandService {
 
   private final StockRepository stockRepository;
   private final StoreRepository storeRepository;
+  private final StockShardService stockShardService;
 
   @Transactional
   public Stock getStockForUpdate(Long storeId, Long productId) {
@@ -34,19 +41,90 @@ public class StockCommandService {
     }
   }
 
+  /**
+   * 주문 품목 재고를 UPDATE 1번으로 예약 - 분할 재고 상품이 있으면 남은 상품만 샤드에서 예약 - 하나라도 조건을 만족하지 않으면
+   * 원인을 찾아 예외 (호출한 트랜잭션이 롤백되며 이미 바뀐 행도 되돌아감)
+   */
+  @Transactional
+  public void reserveAll(Long storeId, Map<Long, Integer> quantities) {
+    long reserved = stockRepository.reserveAll(storeId, quantities);
+    if (reserved == quantities.size()) {
+      return;
+    }
+    Set<Long> sharded = reserveSharded(storeId, quantities);
+    if (reserved + sharded.size() < quantities.size()) {
+      throw new CustomException(reserveFailure(storeId, quantities, sharded));
+    }
+  }
+
+  /**
+   * 상품 재고 샤드 수 변경 - 1 이면 분할 해제 (동시에 바뀐 재고는 @Version 충돌로 실패)
+   */
+  @Transactional
+  public void changeShardCount(Long productId, int shardCount) {
+    stockRepository.getByProductId(productId).reshard(shardCount);
+  }
+
   public void holdStock(Stock stock, int quantity) {
+    if (stock.isSharded()) {
+      stockShardService.reserve(stock, quantity);
+      return;
+    }
     if (!stock.reserve(quantity)) throw new CustomException(ErrorCode.PRODUCT_OUT_OF_STOCK);
   }
 
   public void commitStock(Stock stock, int quantity) {
+    if (stock.isSharded()) {
+      stockShardService.commit(stock, quantity);
+      return;
+    }
     if (!stock.commit(quantity)) throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
   }
 
   public void releaseStock(Stock stock, int quantity) {
+    if (stock.isSharded()) {
+      stockShardService.release(stock, quantity);
+      return;
+    }
     if (!stock.release(quantity)) throw new CustomException(ErrorCode.STOCK_CHANGE_INVALID);
   }
 
   public void replenishStock(Stock stock, int quantity) {
+    if (stock.isSharded()) {
+      stockShardService.replenish(stock, quantity);
+      return;
+    }
     stock.replenish(quantity);
   }
-}
\ No newline at end of file
+
+  // 일괄 UPDATE 가 모두 바꾸지 못했을 때만 조회 - 분할 재고 상품을 상품 번호 순으로 예약하고 예약한 상품 번호 반환
+  private Set<Long> reserveSharded(Long storeId, Map<Long, Integer> quantities) {
+    List<Stock> sharded = stockRepository.findShardedByProductIdIn(quantities.keySet()).stream()
+        .sorted(Comparator.comparing(stock -> stock.getProduct().getId()))
+        .toList();
+    for (Stock stock : sharded) {
+      stock.getProduct().validateStore(storeId);
+      stockShardService.reserve(stock, quantities.get(stock.getProduct().getId()));
+    }
+    return sharded.stream().map(stock -> stock.getProduct().getId()).collect(Collectors.toSet());
+  }
+
+  // 실패한 경우에만 조회해 원인 구분 - 분할 재고 상품은 이미 샤드에서 예약되었고 stocks 행 수량은 분할 후 쓰지 않으므로 수량을 보지 않음
+  // - 남은 상품이 모두 충분해 보이면 UPDATE 와 조회 사이에 다른 주문이 바꾼 것
+  private ErrorCode reserveFailure(Long storeId, Map<Long, Integer> quantities,
+      Set<Long> sharded) {
+    List<StockSnapshot> snapshots = stockRepository.findSnapshotsByProductIdIn(
+        quantities.keySet());
+    if (snapshots.size() < quantities.size()) {
+      return ErrorCode.PRODUCT_NOT_FOUND;
+    }
+    if (snapshots.stream().anyMatch(snapshot -> !snapshot.storeId().equals(storeId))) {
+      return ErrorCode.PRODUCT_STORE_MISMATCH;
+    }
+    boolean shortage = snapshots.stream()
+        .filter(snapshot -> !sharded.contains(snapshot.productId()))
+        .anyMatch(snapshot -> snapshot.totalQuantity() - snapshot.heldQuantity()
+            < quantities.get(snapshot.productId()));
+    return shortage ? ErrorCode.PRODUCT_OUT_OF_STOCK : ErrorCode.STOCK_CHANGE_CONFLICT;
+  }
+}
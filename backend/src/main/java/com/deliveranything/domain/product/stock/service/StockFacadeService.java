@@ -1,15 +1,17 @@
 package com.deliveranything.domain.product.stock.service;
 
 import com.deliveranything.domain.order.event.dto.OrderItemInfo;
-import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
 import com.deliveranything.domain.product.stock.event.StockCommittedEvent;
 import com.deliveranything.domain.product.stock.event.StockReleasedEvent;
 import com.deliveranything.domain.product.stock.event.StockReplenishedEvent;
 import com.deliveranything.domain.product.stock.event.StockReserveFailedEvent;
 import com.deliveranything.domain.product.stock.event.StockReservedEvent;
-import jakarta.persistence.OptimisticLockException;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker.ClaimResult;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
 import java.util.List;
-import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -21,39 +23,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class StockFacadeService {
 
-  private static final int MAX_RETRIES = 3;
-
   private final StockCommandService stockCommandService;
+  private final StockEngine stockEngine;
+  private final StockReservationTracker stockReservationTracker;
   private final ApplicationEventPublisher eventPublisher;
 
-  private <T> void executeWithRetry(Supplier<T> action) {
-    int retries = 0;
-    while (true) {
-      try {
-        action.get();
-        return;
-      } catch (OptimisticLockException e) {
-        retries++;
-        log.warn("Optimistic lock conflict, retry {}/{}", retries, MAX_RETRIES);
-        if (retries >= MAX_RETRIES) {
-          throw e;
-        }
-      }
-    }
-  }
-
   @Transactional
   public void handleOrderCreated(Long orderId, Long storeId, List<OrderItemInfo> items) {
     try {
       stockCommandService.checkStoreOpen(storeId);
-      executeWithRetry(() -> {
-        for (var item : items) {
-          Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
-          stockCommandService.holdStock(stock, item.quantity());
-        }
-        return null;
-      });
-      eventPublisher.publishEvent(new StockReservedEvent(orderId));
+      stockEngine.reserve(orderId, storeId, items);
+      eventPublisher.publishEvent(new StockReservedEvent(orderId, productIds(items)));
     } catch (Exception e) {
       log.error("Failed to reserve stock for order, orderId={}, storeId={}", orderId, storeId, e);
       eventPublisher.publishEvent(new StockReserveFailedEvent(orderId, e.getMessage()));
@@ -63,38 +43,52 @@ public class StockFacadeService {
 
   @Transactional
   public void handleOrderCancelSucceeded(Long orderId, Long storeId, List<OrderItemInfo> items) {
-    executeWithRetry(() -> {
-      for (var item : items) {
-        Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
-        stockCommandService.replenishStock(stock, item.quantity());
-      }
-      return null;
-    });
-    eventPublisher.publishEvent(new StockReplenishedEvent(orderId));
+    stockEngine.replenish(storeId, items);
+    eventPublisher.publishEvent(new StockReplenishedEvent(orderId, productIds(items)));
   }
 
   @Transactional
   public void handleOrderPaymentSucceeded(Long orderId, Long storeId, List<OrderItemInfo> items) {
     stockCommandService.checkStoreOpen(storeId);
-    executeWithRetry(() -> {
-      for (var item : items) {
-        Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
-        stockCommandService.commitStock(stock, item.quantity());
-      }
-      return null;
-    });
-    eventPublisher.publishEvent(new StockCommittedEvent(orderId));
+    if (stockReservationTracker.claim(orderId) == ClaimResult.EXPIRED) {
+      // 고정 없이 결제되었거나 (holdForPayment) 결제 결과가 payment-ttl 보다 늦게 온 경우
+      throw new CustomException(ErrorCode.STOCK_RESERVATION_EXPIRED);
+    }
+    stockEngine.commit(storeId, items);
+    eventPublisher.publishEvent(new StockCommittedEvent(orderId, productIds(items)));
+  }
+
+  /**
+   * 결제 승인 요청 전 예약 고정 - 고정한 예약은 payment-ttl 동안 만료 정리 대상에서 빠지고 결제 결과로 확정/해제 - 이미 만료로
+   * 해제된 예약이면 결제를 막음 (승인 전이므로 고객에게 청구되지 않음)
+   */
+  public void holdForPayment(Long orderId) {
+    if (!stockReservationTracker.pin(orderId)) {
+      throw new CustomException(ErrorCode.STOCK_RESERVATION_EXPIRED);
+    }
   }
 
   @Transactional
   public void handleOrderPaymentFailed(Long orderId, Long storeId, List<OrderItemInfo> items) {
-    executeWithRetry(() -> {
-      for (var item : items) {
-        Stock stock = stockCommandService.getStockForUpdate(storeId, item.productId());
-        stockCommandService.releaseStock(stock, item.quantity());
-      }
-      return null;
-    });
-    eventPublisher.publishEvent(new StockReleasedEvent(orderId));
+    if (stockReservationTracker.claim(orderId) == ClaimResult.EXPIRED) {
+      log.info("Stock reservation for order {} already released by expiry", orderId);
+      return;
+    }
+    stockEngine.release(storeId, items);
+    eventPublisher.publishEvent(new StockReleasedEvent(orderId, productIds(items)));
+  }
+
+  /**
+   * 결제가 오지 않아 만료된 예약 해제 - 결제 실패와 같이 재고를 풀고 주문에 알림 (예약 기록은 StockReservationSweeper 가
+   * 이미 가져감)
+   */
+  @Transactional
+  public void handleReservationExpired(Long orderId, Long storeId, List<OrderItemInfo> items) {
+    stockEngine.release(storeId, items);
+    eventPublisher.publishEvent(new StockReleasedEvent(orderId, productIds(items)));
+  }
+
+  private static List<Long> productIds(List<OrderItemInfo> items) {
+    return items.stream().map(OrderItemInfo::productId).distinct().toList();
   }
-}
\ No newline at end of file
+}
@@ -1,24 +1,26 @@
 package com.deliveranything.domain.product.stock.service;
 
+import com.deliveranything.domain.product.stock.cache.StockAvailabilityCache;
 import com.deliveranything.domain.product.stock.dto.StockResponse;
-import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class StockQueryService {
 
-  private final StockRepository stockRepository;
+  private final StockAvailabilityCache stockAvailabilityCache;
 
-  @Transactional(readOnly = true)
+  // 재고 조회 캐시에서 (없거나 만료된 경우만 재고 엔진에서 적재)
   public StockResponse getProductStock(Long storeId, Long productId) {
-    var stock = stockRepository.findByProductId(productId)
+    StockSnapshot snapshot = stockAvailabilityCache.find(productId)
         .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-    stock.getProduct().validateStore(storeId);
-    return StockResponse.from(stock);
+    if (!snapshot.storeId().equals(storeId)) {
+      throw new CustomException(ErrorCode.PRODUCT_STORE_MISMATCH);
+    }
+    return StockResponse.from(snapshot);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package com.deliveranything.domain.product.stock.service;
+
+import com.deliveranything.domain.product.stock.dto.StockShardSnapshot;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.repository.StockShardRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * 분할 재고 변경 - 임의의 샤드부터 조건부 UPDATE 를 시도하고 안 되면 이웃 샤드로 넘어감 (동시 주문이 서로 다른 행을 잠그게 됨) -
+ * 한 샤드로 안 되면 샤드별 수량을 읽어 여러 샤드에 나눠 담음 - 변경은 호출한 트랜잭션과 함께 커밋/롤백
+ */
+@Service
+public class StockShardService {
+
+  // 처음 고른 샤드 외에 수량을 읽기 전 바로 시도해 보는 이웃 샤드 수
+  private static final int NEIGHBOUR_PROBES = 2;
+  // 나눠 담는 중 다른 주문이 먼저 가져가면 다시 읽는 횟수
+  private static final int MAX_SPLIT_ROUNDS = 3;
+
+  private final StockShardRepository stockShardRepository;
+  private final IntUnaryOperator shardPicker;
+
+  @Autowired
+  public StockShardService(StockShardRepository stockShardRepository) {
+    this(stockShardRepository, bound -> ThreadLocalRandom.current().nextInt(bound));
+  }
+
+  StockShardService(StockShardRepository stockShardRepository, IntUnaryOperator shardPicker) {
+    this.stockShardRepository = stockShardRepository;
+    this.shardPicker = shardPicker;
+  }
+
+  public void reserve(Stock stock, int quantity) {
+    reserve(stock.getId(), stock.getShardCount(), quantity);
+  }
+
+  public void commit(Stock stock, int quantity) {
+    commit(stock.getId(), stock.getShardCount(), quantity);
+  }
+
+  public void release(Stock stock, int quantity) {
+    release(stock.getId(), stock.getShardCount(), quantity);
+  }
+
+  // 총 재고 증가는 조건이 없으므로 임의의 샤드 1개에
+  public void replenish(Stock stock, int quantity) {
+    stockShardRepository.replenish(stock.getId(), shardPicker.applyAsInt(stock.getShardCount()),
+        quantity);
+  }
+
+  void reserve(Long stockId, int shardCount, int quantity) {
+    apply(stockId, shardCount, quantity, stockShardRepository::reserve,
+        StockShardSnapshot::availableQuantity, ErrorCode.PRODUCT_OUT_OF_STOCK);
+  }
+
+  void commit(Long stockId, int shardCount, int quantity) {
+    apply(stockId, shardCount, quantity, stockShardRepository::commit,
+        StockShardSnapshot::heldQuantity, ErrorCode.STOCK_CHANGE_INVALID);
+  }
+
+  void release(Long stockId, int shardCount, int quantity) {
+    apply(stockId, shardCount, quantity, stockShardRepository::release,
+        StockShardSnapshot::heldQuantity, ErrorCode.STOCK_CHANGE_INVALID);
+  }
+
+  private void apply(Long stockId, int shardCount, int quantity, ShardUpdate update,
+      ToIntFunction<StockShardSnapshot> capacity, ErrorCode shortage) {
+    int start = shardPicker.applyAsInt(shardCount);
+    int probes = Math.min(shardCount, NEIGHBOUR_PROBES + 1);
+    for (int i = 0; i < probes; i++) {
+      if (update.apply(stockId, (start + i) % shardCount, quantity) > 0) {
+        return;
+      }
+    }
+
+    int remaining = quantity;
+    for (int round = 0; round < MAX_SPLIT_ROUNDS; round++) {
+      List<StockShardSnapshot> shards = stockShardRepository.findSnapshotsByStockId(stockId);
+      if (shards.stream().mapToInt(capacity).sum() < remaining) {
+        throw new CustomException(shortage);
+      }
+      for (int i = 0; i < shards.size() && remaining > 0; i++) {
+        StockShardSnapshot shard = shards.get((start + i) % shards.size());
+        int part = Math.min(remaining, capacity.applyAsInt(shard));
+        if (part > 0 && update.apply(stockId, shard.shardIndex(), part) > 0) {
+          remaining -= part;
+        }
+      }
+      if (remaining == 0) {
+        return;
+      }
+    }
+    throw new CustomException(ErrorCode.STOCK_CHANGE_CONFLICT);
+  }
+
+  @FunctionalInterface
+  private interface ShardUpdate {
+
+    long apply(Long stockId, int shardIndex, int quantity);
+  }
+}
@@ -1,36 +1,39 @@
 package com.deliveranything.domain.product.stock.subscriber;
 
+import static com.deliveranything.global.enums.RedisStreamTopic.ORDER_CANCEL_SUCCEEDED;
+import static com.deliveranything.global.enums.RedisStreamTopic.ORDER_CREATED;
+import static com.deliveranything.global.enums.RedisStreamTopic.ORDER_PAYMENT_FAILED;
+import static com.deliveranything.global.enums.RedisStreamTopic.ORDER_PAYMENT_SUCCEEDED;
+
 import com.deliveranything.domain.product.stock.handler.OrderEventHandler;
+import com.deliveranything.global.stream.RedisStreamEventBus;
 import jakarta.annotation.PostConstruct;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OrderEventSubscriber implements MessageListener {
+public class OrderEventSubscriber {
+
+  // 노드 수와 관계없이 이벤트마다 재고 처리 1번
+  private static final String CONSUMER_GROUP = "stock";
 
-  private final RedisMessageListenerContainer container;
+  private final RedisStreamEventBus redisStreamEventBus;
   private final OrderEventHandler orderEventHandler;
 
   @PostConstruct
   public void registerListener() {
-    container.addMessageListener(this, new PatternTopic("order-created-event"));
-    container.addMessageListener(this, new PatternTopic("order-cancel-succeeded-event"));
-    container.addMessageListener(this, new PatternTopic("order-payment-succeeded-event"));
-    container.addMessageListener(this, new PatternTopic("order-payment-failed-event"));
+    redisStreamEventBus.subscribe(CONSUMER_GROUP,
+        List.of(ORDER_CREATED, ORDER_CANCEL_SUCCEEDED, ORDER_PAYMENT_SUCCEEDED,
+            ORDER_PAYMENT_FAILED),
+        this::onEvent);
   }
-  @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    String topic = new String(pattern);
-    String json = new String(message.getBody());
-    log.debug("Received Redis event topic={}, body={}", topic, json);
-    orderEventHandler.handle(topic, json);
+
+  private void onEvent(String topic, byte[] payload) {
+    log.debug("Received Redis stream event topic={}, bytes={}", topic, payload.length);
+    orderEventHandler.handle(topic, payload);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.deliveranything.domain.product.stock.subscriber;
+
+import com.deliveranything.domain.product.stock.cache.StockAvailabilityCache;
+import com.deliveranything.domain.product.stock.event.StockAvailabilityChangedEvent;
+import com.deliveranything.domain.product.stock.event.StockChangedEvent;
+import com.deliveranything.global.pubsub.RedisEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재고 조회 캐시 무효화 - 재고를 바꾼 노드는 커밋 직후 바로, 다른 노드는 outbox 가 발행한 pub/sub 알림으로 (모든 노드가 받음)
+ */
+@Component
+@RequiredArgsConstructor
+public class StockAvailabilityChangedSubscriber implements
+    RedisEventHandler<StockAvailabilityChangedEvent> {
+
+  private final StockAvailabilityCache stockAvailabilityCache;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStockChanged(StockChangedEvent event) {
+    stockAvailabilityCache.invalidate(event.productIds());
+  }
+
+  @Override
+  public String channel() {
+    return "stock-availability-changed-event";
+  }
+
+  @Override
+  public Class<StockAvailabilityChangedEvent> eventType() {
+    return StockAvailabilityChangedEvent.class;
+  }
+
+  @Override
+  public void handle(StockAvailabilityChangedEvent event) {
+    stockAvailabilityCache.invalidate(event.productIds());
+  }
+}
@@ -2,53 +2,47 @@ package com.deliveranything.domain.search.store.subscriber;
 
 import com.deliveranything.domain.search.store.service.StoreSyncService;
 import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
-import com.deliveranything.domain.store.store.event.StoreEventType;
+import com.deliveranything.domain.store.store.event.StoreEvent;
 import com.deliveranything.domain.store.store.event.StoreSavedEvent;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
+import com.deliveranything.global.pubsub.RedisEventHandler;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
-public class StoreEventSubscriber implements MessageListener {
+public class StoreEventSubscriber implements RedisEventHandler<StoreEvent> {
+
+  // ES 색인 요청 동시 실행 수
+  private static final int MAX_CONCURRENCY = 4;
 
-  private final RedisMessageListenerContainer container;
-  private final ObjectMapper objectMapper;
   private final StoreSyncService storeSyncService;
 
-  @PostConstruct
-  public void registerListener() {
-    container.addMessageListener(this, new PatternTopic("store-events"));
+  @Override
+  public String channel() {
+    return "store-events";
+  }
+
+  @Override
+  public Class<StoreEvent> eventType() {
+    return StoreEvent.class;
+  }
+
+  @Override
+  public int maxConcurrency() {
+    return MAX_CONCURRENCY;
+  }
+
+  // 같은 상점의 저장/삭제/키워드 동기화는 순서대로
+  @Override
+  public String orderingKey(StoreEvent event) {
+    return "store:" + event.storeId();
   }
 
   @Override
-  public void onMessage(@NonNull Message message, byte[] pattern) {
-    try {
-      String json = new String(message.getBody());
-      JsonNode node = objectMapper.readTree(json);
-      StoreEventType type = StoreEventType.valueOf(node.get("type").asText());
-
-      switch (type) {
-        case SAVED -> {
-          StoreSavedEvent event = objectMapper.treeToValue(node, StoreSavedEvent.class);
-          storeSyncService.handleSaved(event.storeId());
-        }
-        case DELETED -> {
-          StoreDeletedEvent event = objectMapper.treeToValue(node, StoreDeletedEvent.class);
-          storeSyncService.handleDeleted(event.storeId());
-        }
-      }
-    } catch (Exception e) {
-      log.error("Failed to process store event from Redis: {}", new String(message.getBody()), e);
+  public void handle(StoreEvent event) {
+    switch (event) {
+      case StoreSavedEvent saved -> storeSyncService.handleSaved(saved.storeId());
+      case StoreDeletedEvent deleted -> storeSyncService.handleDeleted(deleted.storeId());
     }
   }
-}
\ No newline at end of file
+}
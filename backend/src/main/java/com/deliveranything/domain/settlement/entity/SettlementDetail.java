@@ -6,6 +6,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,7 +15,12 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "settlement_details")
+@Table(
+    name = "settlement_details",
+    // 주문별 정산 대상 조회 (배달 내역 조인 포함)
+    indexes = @Index(name = "idx_settlement_detail_order_target",
+        columnList = "order_id, target_id")
+)
 public class SettlementDetail extends BaseEntity {
 
   @Column(nullable = false)
@@ -3,7 +3,7 @@ package com.deliveranything.domain.store.store.event;
 public record StoreDeletedEvent(
     Long storeId,
     StoreEventType type
-) {
+) implements StoreEvent {
   public StoreDeletedEvent(Long storeId) {
     this(storeId, StoreEventType.DELETED);
   }
@@ -0,0 +1,22 @@
+package com.deliveranything.domain.store.store.event;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonSubTypes.Type;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+
+/**
+ * store-events 채널 이벤트 - 메시지의 type 필드로 구체 이벤트를 골라 역직렬화
+ */
+@JsonTypeInfo(use = Id.NAME, include = As.EXISTING_PROPERTY, property = "type", visible = true)
+@JsonSubTypes({
+    @Type(value = StoreSavedEvent.class, name = "SAVED"),
+    @Type(value = StoreDeletedEvent.class, name = "DELETED")
+})
+public sealed interface StoreEvent permits StoreSavedEvent, StoreDeletedEvent {
+
+  Long storeId();
+
+  StoreEventType type();
+}
@@ -3,7 +3,7 @@ package com.deliveranything.domain.store.store.event;
 public record StoreSavedEvent(
     Long storeId,
     StoreEventType type
-) {
+) implements StoreEvent {
   public StoreSavedEvent(Long storeId) {
     this(storeId, StoreEventType.SAVED);
   }
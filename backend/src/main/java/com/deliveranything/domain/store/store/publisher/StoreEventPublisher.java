@@ -2,8 +2,8 @@ package com.deliveranything.domain.store.store.publisher;
 
 import com.deliveranything.domain.store.store.event.StoreDeletedEvent;
 import com.deliveranything.domain.store.store.event.StoreSavedEvent;
+import com.deliveranything.global.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
@@ -12,15 +12,15 @@ import org.springframework.transaction.event.TransactionPhase;
 @RequiredArgsConstructor
 public class StoreEventPublisher {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final OutboxWriter outboxWriter;
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleStoreSavedEvent(StoreSavedEvent event) {
-    redisTemplate.convertAndSend("store-events", event);
+    outboxWriter.append("store-events", event);
   }
 
-  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void handleStoreDeletedEvent(StoreDeletedEvent event) {
-    redisTemplate.convertAndSend("store-events", event);
+    outboxWriter.append("store-events", event);
   }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.deliveranything.domain.user.profile.event;
+
+import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
+
+public record RiderToggleStatusChangedEvent(
+    Long riderProfileId,
+    RiderToggleStatus status
+) {
+}
@@ -2,6 +2,7 @@ package com.deliveranything.domain.user.profile.service;
 
 import com.deliveranything.domain.user.profile.entity.RiderProfile;
 import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
+import com.deliveranything.domain.user.profile.event.RiderToggleStatusChangedEvent;
 import com.deliveranything.domain.user.profile.repository.ProfileRepository;
 import com.deliveranything.domain.user.profile.repository.RiderProfileRepository;
 import com.deliveranything.domain.user.user.repository.UserRepository;
@@ -9,6 +10,7 @@ import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class RiderProfileService {
   private final UserRepository userRepository;
   private final ProfileRepository profileRepository;
   private final RiderProfileRepository riderProfileRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   // ========== 프로필 조회 ==========
 
@@ -77,6 +80,8 @@ public class RiderProfileService {
     RiderProfile profile = getRiderProfileById(riderProfileId);
     profile.toggleStatus();
     riderProfileRepository.save(profile);
+    eventPublisher.publishEvent(
+        new RiderToggleStatusChangedEvent(riderProfileId, profile.getToggleStatus()));
     log.info("배달원 배달 상태 토글 완료 - Profile ID: {}, 현재 상태: {}",
         riderProfileId, profile.getToggleStatus());
   }
@@ -92,6 +97,7 @@ public class RiderProfileService {
     RiderToggleStatus status = RiderToggleStatus.fromString(statusStr);
     profile.updateToggleStatus(status);
     riderProfileRepository.save(profile);
+    eventPublisher.publishEvent(new RiderToggleStatusChangedEvent(riderProfileId, status));
 
     log.info("배달 상태 변경 완료 - Profile ID: {}, 상태: {}", riderProfileId, status);
   }
@@ -0,0 +1,16 @@
+package com.deliveranything.global.codec;
+
+/**
+ * 이벤트 본문 직렬화 방식 - id 는 메시지 헤더에 기록되어 수신 측이 방식을 고름 (한 번 정한 id 는 바꾸지 않음) - 본문에 타입 정보를 넣지 않고
+ * 수신 측이 타입을 지정
+ */
+public interface EventCodec {
+
+  byte id();
+
+  String name();
+
+  byte[] encode(Object event);
+
+  <T> T decode(byte[] body, int offset, int length, Class<T> type);
+}
@@ -0,0 +1,74 @@
+package com.deliveranything.global.codec;
+
+import com.deliveranything.global.stream.EventStreamProperties;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 메시지 = [codec id 1 byte][schema version 1 byte][본문] - 보낼 때는 설정한 codec(event-stream.codec),
+ * 받을 때는 헤더의 codec 으로 디코딩하므로 codec 을 바꾸는 배포 중에도 섞인 메시지를 모두 읽음 - 지원하는 버전보다 새 메시지는 실패 처리
+ * (ack 하지 않아 새 버전 노드가 재처리) - 헤더 없이 '{' 로 시작하는 메시지는 이전 JSON 형식으로 읽음
+ */
+@Component
+public class EventMessageCodec {
+
+  // 본문 구조가 호환되지 않게 바뀔 때만 올림 (필드 추가/삭제는 그대로)
+  public static final byte SCHEMA_VERSION = 1;
+
+  private static final int HEADER_LENGTH = 2;
+  private static final byte LEGACY_JSON_START = '{';
+
+  private final EventCodec encoder;
+  private final Map<Byte, EventCodec> decoders = new HashMap<>();
+  private final EventCodec legacyDecoder;
+
+  public EventMessageCodec(List<EventCodec> codecs, JsonEventCodec jsonEventCodec,
+      EventStreamProperties eventStreamProperties) {
+    for (EventCodec codec : codecs) {
+      EventCodec duplicate = decoders.put(codec.id(), codec);
+      if (duplicate != null) {
+        throw new IllegalStateException("Duplicate event codec id " + codec.id() + ": "
+            + duplicate.name() + ", " + codec.name());
+      }
+    }
+    this.encoder = codecs.stream()
+        .filter(codec -> codec.name().equals(eventStreamProperties.getCodec()))
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException(
+            "Unknown event codec: " + eventStreamProperties.getCodec()));
+    this.legacyDecoder = jsonEventCodec;
+  }
+
+  public byte[] encode(Object event) {
+    byte[] body = encoder.encode(event);
+    byte[] message = new byte[HEADER_LENGTH + body.length];
+    message[0] = encoder.id();
+    message[1] = SCHEMA_VERSION;
+    System.arraycopy(body, 0, message, HEADER_LENGTH, body.length);
+    return message;
+  }
+
+  public <T> T decode(byte[] message, Class<T> type) {
+    if (message == null || message.length == 0) {
+      throw new IllegalArgumentException("Empty event message for " + type.getName());
+    }
+    if (message[0] == LEGACY_JSON_START) {
+      return legacyDecoder.decode(message, 0, message.length, type);
+    }
+    if (message.length < HEADER_LENGTH) {
+      throw new IllegalArgumentException("Truncated event message for " + type.getName());
+    }
+
+    EventCodec codec = decoders.get(message[0]);
+    if (codec == null) {
+      throw new IllegalArgumentException("Unknown event codec id " + message[0]);
+    }
+    if (message[1] > SCHEMA_VERSION) {
+      throw new IllegalArgumentException("Unsupported event schema version " + message[1]
+          + " for " + type.getName());
+    }
+    return codec.decode(message, HEADER_LENGTH, message.length - HEADER_LENGTH, type);
+  }
+}
@@ -0,0 +1,46 @@
+package com.deliveranything.global.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON 본문 (@class 없음) - 사람이 읽을 수 있어 장애 분석용으로 전환 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonEventCodec implements EventCodec {
+
+  static final byte ID = 1;
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public byte id() {
+    return ID;
+  }
+
+  @Override
+  public String name() {
+    return "json";
+  }
+
+  @Override
+  public byte[] encode(Object event) {
+    try {
+      return objectMapper.writeValueAsBytes(event);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to encode event " + event.getClass(), e);
+    }
+  }
+
+  @Override
+  public <T> T decode(byte[] body, int offset, int length, Class<T> type) {
+    try {
+      return objectMapper.readValue(body, offset, length, type);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to decode event as " + type.getName(), e);
+    }
+  }
+}
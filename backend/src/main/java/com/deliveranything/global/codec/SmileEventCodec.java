@@ -0,0 +1,51 @@
+package com.deliveranything.global.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Smile(binary JSON) 본문 - 숫자는 varint, 반복되는 필드 이름은 back-reference 로 JSON 보다 작고 파싱이 빠름 - 필드 이름 기반이라
+ * 필드 추가/삭제에 호환 (모르는 필드는 무시, 없는 필드는 null)
+ */
+@Component
+public class SmileEventCodec implements EventCodec {
+
+  static final byte ID = 2;
+
+  private final ObjectMapper smileMapper = SmileMapper.builder()
+      .addModule(new JavaTimeModule())
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .build();
+
+  @Override
+  public byte id() {
+    return ID;
+  }
+
+  @Override
+  public String name() {
+    return "smile";
+  }
+
+  @Override
+  public byte[] encode(Object event) {
+    try {
+      return smileMapper.writeValueAsBytes(event);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to encode event " + event.getClass(), e);
+    }
+  }
+
+  @Override
+  public <T> T decode(byte[] body, int offset, int length, Class<T> type) {
+    try {
+      return smileMapper.readValue(body, offset, length, type);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to decode event as " + type.getName(), e);
+    }
+  }
+}
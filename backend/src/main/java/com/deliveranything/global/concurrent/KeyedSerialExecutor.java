@@ -0,0 +1,87 @@
+package com.deliveranything.global.concurrent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키 단위 직렬 실행기 - 같은 키(주문 등)의 작업은 들어온 순서대로 하나씩, 다른 키의 작업은 서로 기다리지 않고 병렬 실행 - 키마다 마지막
+ * 작업만 기억하고 뒤에 이어진 작업이 없으면 제거 - 같은 키 작업 안에서 같은 키로 다시 run 하면 교착되므로 금지
+ */
+@Slf4j
+@Component
+public class KeyedSerialExecutor {
+
+  private final Executor executor;
+
+  // 키 → 마지막으로 예약된 작업 (항상 정상 완료)
+  private final Map<String, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+
+  @Autowired
+  public KeyedSerialExecutor(MeterRegistry meterRegistry) {
+    this(Executors.newVirtualThreadPerTaskExecutor(), meterRegistry);
+  }
+
+  KeyedSerialExecutor(Executor executor, MeterRegistry meterRegistry) {
+    this.executor = executor;
+    Gauge.builder("event.lanes.active", lanes, Map::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 주문 단위 키 - 주문 상태를 바꾸는 핸들러는 모두 이 키로 실행 (orderId 가 없으면 null)
+   */
+  public static String orderKey(Object orderId) {
+    return orderId == null ? null : "order:" + orderId;
+  }
+
+  /**
+   * 비동기 실행 - 같은 키의 앞 작업이 끝난 뒤 executor 에서 실행 (키가 null 이면 바로)
+   */
+  public void execute(String key, Runnable task) {
+    if (key == null) {
+      executor.execute(task);
+      return;
+    }
+    CompletableFuture<Void> tail = lanes.compute(key, (k, previous) ->
+        (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+            .thenRunAsync(task, executor)
+            .exceptionally(e -> {
+              log.error("Task on lane {} failed: {}", key, e.getMessage(), e);
+              return null;
+            }));
+    tail.whenComplete((result, e) -> lanes.remove(key, tail));
+  }
+
+  /**
+   * 동기 실행 - 같은 키의 앞 작업이 끝날 때까지 호출 스레드에서 기다린 뒤 실행 (예외는 호출자에게 그대로 전달)
+   */
+  public void run(String key, Runnable task) {
+    if (key == null) {
+      task.run();
+      return;
+    }
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    CompletableFuture<Void> previous = lanes.put(key, done);
+    try {
+      if (previous != null) {
+        previous.join();
+      }
+      task.run();
+    } finally {
+      done.complete(null);
+      lanes.remove(key, done);
+    }
+  }
+
+  int activeLanes() {
+    return lanes.size();
+  }
+}
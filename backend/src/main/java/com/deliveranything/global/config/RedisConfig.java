@@ -2,19 +2,25 @@ package com.deliveranything.global.config;
 
 import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
 
+import com.deliveranything.global.stream.EventStreamProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
 
 @Configuration
 public class RedisConfig {
@@ -44,20 +50,54 @@ public class RedisConfig {
     return new StringRedisTemplate(connectionFactory);
   }
 
+  /**
+   * Redis Stream 용 - 필드 이름은 문자열, 값은 binary 이벤트 메시지 그대로
+   */
+  @Bean
+  public RedisTemplate<String, byte[]> eventStreamRedisTemplate(
+      RedisConnectionFactory connectionFactory) {
+    RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(RedisSerializer.byteArray());
+    template.setHashKeySerializer(new StringRedisSerializer());
+    template.setHashValueSerializer(RedisSerializer.byteArray());
+    return template;
+  }
+
   @Bean
   public RedisMessageListenerContainer redisMessageListenerContainer(
       RedisConnectionFactory connectionFactory) {
     RedisMessageListenerContainer container = new RedisMessageListenerContainer();
     container.setConnectionFactory(connectionFactory);
 
-    // Virtual Thread Executor 설정
-    container.setTaskExecutor(getAsyncExecutor());
+    // 구독 스레드에서 바로 RedisEventRouter 호출 (도착 순서 유지, 핸들러는 라우터가 virtual thread 에서 실행)
+    container.setTaskExecutor(new SyncTaskExecutor());
 
     return container;
   }
 
   /**
-   * Virtual Thread Executor - RedisMessageListenerContainer에서 사용
+   * Redis Stream 컨테이너 - 구독(stream + group) 마다 XREADGROUP 폴링 - 자동 ack 하지 않음 (RedisStreamEventBus 가
+   * 처리 후 ack) - 빈 생성 시 start, 종료 시 stop (시작 후 등록한 구독도 바로 폴링 시작)
+   */
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  public StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>>
+  streamMessageListenerContainer(RedisConnectionFactory connectionFactory,
+      EventStreamProperties eventStreamProperties) {
+    StreamMessageListenerContainerOptions<String, MapRecord<String, String, byte[]>> options =
+        StreamMessageListenerContainerOptions.builder()
+            .hashKeySerializer(new StringRedisSerializer())
+            .hashValueSerializer(RedisSerializer.byteArray())
+            .pollTimeout(eventStreamProperties.getPollTimeout())
+            .batchSize(eventStreamProperties.getBatchSize())
+            .executor(getAsyncExecutor())
+            .build();
+    return StreamMessageListenerContainer.create(connectionFactory, options);
+  }
+
+  /**
+   * Virtual Thread Executor - StreamMessageListenerContainer에서 사용
    */
   private AsyncTaskExecutor getAsyncExecutor() {
     return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
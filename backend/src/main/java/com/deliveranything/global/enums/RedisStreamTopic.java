@@ -0,0 +1,50 @@
+package com.deliveranything.global.enums;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis Stream 으로 전달하는 주문/재고/결제 saga 이벤트 - 기존 채널 이름을 그대로 stream key 로 사용 - consumer group 마다 1번만
+ * 처리되며 노드가 내려가 있던 동안의 이벤트도 유실되지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RedisStreamTopic {
+
+  // 주문 → 재고
+  ORDER_CREATED("order-created-event"),
+  ORDER_CANCEL_SUCCEEDED("order-cancel-succeeded-event"),
+  ORDER_PAYMENT_SUCCEEDED("order-payment-succeeded-event"),
+  ORDER_PAYMENT_FAILED("order-payment-failed-event"),
+
+  // 주문 → 결제
+  ORDER_PAYMENT_REQUESTED("order-payment-requested-event"),
+  ORDER_CANCEL("order-cancel-event"),
+  ORDER_REJECTED("order-rejected-event"),
+
+  // 재고 → 주문
+  STOCK_RESERVED("stock-reserved-event"),
+  STOCK_RESERVE_FAILED("stock-reserve-failed-event"),
+  STOCK_COMMITTED("stock-committed-event"),
+  STOCK_RELEASED("stock-released-event"),
+  STOCK_REPLENISHED("stock-replenished-event"),
+
+  // 결제 → 주문
+  PAYMENT_COMPLETED("payment-completed-event"),
+  PAYMENT_FAILED("payment-failed-event"),
+  PAYMENT_CANCEL_SUCCESS("payment-cancel-success-event"),
+  PAYMENT_CANCEL_FAILED("payment-cancel-failed-event");
+
+  private static final Map<String, RedisStreamTopic> BY_KEY = Arrays.stream(values())
+      .collect(Collectors.toUnmodifiableMap(RedisStreamTopic::getKey, Function.identity()));
+
+  private final String key;
+
+  public static boolean isStream(String channel) {
+    return BY_KEY.containsKey(channel);
+  }
+}
@@ -84,6 +84,8 @@ public enum ErrorCode {
   PRODUCT_STORE_MISMATCH(HttpStatus.BAD_REQUEST, "PRODUCT-400", "해당 상품은 지정된 상점에 속하지 않습니다."),
   STOCK_CHANGE_INVALID(HttpStatus.BAD_REQUEST, "STOCK-400", "재고 변경 수량이 유효하지 않습니다."),
   STOCK_CHANGE_CONFLICT(HttpStatus.CONFLICT, "STOCK-409", "재고 변경 충돌이 발생했습니다. 다시 시도해주세요."),
+  STOCK_RESERVATION_EXPIRED(HttpStatus.CONFLICT, "STOCK-409", "재고 예약 시간이 만료되었습니다."),
+  STOCK_SHARDING_UNSUPPORTED(HttpStatus.BAD_REQUEST, "STOCK-400", "현재 재고 엔진에서는 재고 분할을 사용할 수 없습니다."),
   STORE_CLOSED(HttpStatus.BAD_REQUEST, "STORE-400", "상점이 현재 닫혀 있어 주문을 처리할 수 없습니다."),
 
   // 정산 관련 오류
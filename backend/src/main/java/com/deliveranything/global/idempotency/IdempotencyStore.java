@@ -0,0 +1,108 @@
+package com.deliveranything.global.idempotency;
+
+import com.deliveranything.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 중복 처리 방지 (Redis) - (consumer, 이벤트 종류, 키) 마다 1번만 실행 - 실행 전 1 round-trip 으로 확인과 점유를 함께
+ * 처리 - 성공 또는 업무상 거절(CustomException) 후 완료 표시, doneTtl 동안 같은 이벤트는 건너뜀 - 그 밖의 실패는 점유를 풀어
+ * 재전달 시 다시 실행 - 다른 곳에서 처리 중이면 예외를 던져 ack 하지 않고 나중에 재처리 (점유는 processingTtl 후 만료)
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+  static final String KEY_PREFIX = "idempotency:";
+  static final String PROCESSING = "processing";
+  static final String DONE = "done";
+  static final String ACQUIRED = "acquired";
+
+  // 키가 없으면 처리 중으로 점유 후 acquired, 있으면 현재 상태(processing/done) 반환
+  static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+      local current = redis.call('GET', KEYS[1])
+      if current then
+        return current
+      end
+      redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+      return 'acquired'
+      """, String.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration processingTtl;
+  private final Duration doneTtl;
+
+  private final Counter acquiredCounter;
+  private final Counter duplicateCounter;
+  private final Counter inProgressCounter;
+
+  public IdempotencyStore(
+      StringRedisTemplate redisTemplate,
+      @Value("${idempotency.processing-ttl:5m}") Duration processingTtl,
+      @Value("${idempotency.done-ttl:24h}") Duration doneTtl,
+      MeterRegistry meterRegistry
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.processingTtl = processingTtl;
+    this.doneTtl = doneTtl;
+
+    this.acquiredCounter = counter(meterRegistry, "acquired");
+    this.duplicateCounter = counter(meterRegistry, "duplicate");
+    this.inProgressCounter = counter(meterRegistry, "in-progress");
+  }
+
+  /**
+   * 처음 받은 이벤트면 task 실행, 이미 처리한 이벤트면 건너뜀
+   */
+  public void runOnce(String consumer, String eventType, Object eventKey, Runnable task) {
+    String key = KEY_PREFIX + consumer + ":" + eventType + ":" + eventKey;
+    String state = redisTemplate.execute(CLAIM_SCRIPT, List.of(key), PROCESSING,
+        String.valueOf(processingTtl.toMillis()));
+
+    if (DONE.equals(state)) {
+      duplicateCounter.increment();
+      log.info("Skipped duplicate event {}", key);
+      return;
+    }
+    if (!ACQUIRED.equals(state)) {
+      inProgressCounter.increment();
+      throw new IllegalStateException("Event " + key + " is already being processed");
+    }
+    acquiredCounter.increment();
+
+    try {
+      task.run();
+    } catch (CustomException e) {
+      // 다시 실행해도 같은 결과
+      markDone(key);
+      throw e;
+    } catch (RuntimeException e) {
+      redisTemplate.delete(key);
+      throw e;
+    }
+    markDone(key);
+  }
+
+  private void markDone(String key) {
+    try {
+      redisTemplate.opsForValue().set(key, DONE, doneTtl);
+    } catch (RuntimeException e) {
+      // 처리는 이미 끝났으므로 실패로 돌리지 않음 (점유가 만료되기 전까지는 중복도 막힘)
+      log.warn("Failed to mark event {} as done: {}", key, e.getMessage());
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("event.idempotency.checks")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
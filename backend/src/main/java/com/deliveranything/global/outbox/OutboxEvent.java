@@ -0,0 +1,32 @@
+package com.deliveranything.global.outbox;
+
+import com.deliveranything.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발행 대기 도메인 이벤트 - 비즈니스 트랜잭션 안에서 함께 저장 - payload 는 Redis 로 보낼 바이트 그대로 저장 - 발행 후 삭제
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent extends BaseEntity {
+
+  @Column(nullable = false, length = 100)
+  private String channel;
+
+  @Lob
+  @Column(nullable = false)
+  private byte[] payload;
+
+  public OutboxEvent(String channel, byte[] payload) {
+    this.channel = channel;
+    this.payload = payload;
+  }
+}
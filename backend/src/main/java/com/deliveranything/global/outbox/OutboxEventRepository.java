@@ -0,0 +1,22 @@
+package com.deliveranything.global.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * 저장 순서대로 발행 대기 이벤트 점유 - SELECT ... FOR UPDATE SKIP LOCKED (lock timeout -2) - 다른 노드가 점유한 행은
+   * 건너뛰므로 여러 노드의 relay 가 서로 기다리지 않음
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT e FROM OutboxEvent e ORDER BY e.id")
+  List<OutboxEvent> findBatchForRelay(Pageable pageable);
+}
@@ -0,0 +1,117 @@
+package com.deliveranything.global.outbox;
+
+import com.deliveranything.global.enums.RedisStreamTopic;
+import com.deliveranything.global.stream.EventStreamProperties;
+import com.deliveranything.global.stream.RedisStreamEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * outbox 이벤트를 Redis 로 발행 - 최대 batchSize 건을 점유해 파이프라인으로 한 번에 전송 후 삭제 - saga 이벤트(RedisStreamTopic)는
+ * XADD, 나머지는 PUBLISH - 발행 중 실패하면 트랜잭션 롤백으로 행이 남아 다음 주기에 다시 발행 (at-least-once, 구독자는 중복 메시지를 받을 수
+ * 있음) - 한 노드 안에서는 저장 순서대로 발행
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+  private static final byte[] PAYLOAD_FIELD =
+      RedisStreamEventBus.PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8);
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final TransactionOperations transactionOperations;
+  private final int batchSize;
+  private final XAddOptions streamAddOptions;
+
+  private final Counter publishedCounter;
+  private final Counter failedCounter;
+
+  @Autowired
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      StringRedisTemplate redisTemplate,
+      TransactionOperations transactionOperations,
+      @Value("${outbox.batch-size:500}") int batchSize,
+      EventStreamProperties eventStreamProperties,
+      MeterRegistry meterRegistry
+  ) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.redisTemplate = redisTemplate;
+    this.transactionOperations = transactionOperations;
+    this.batchSize = batchSize;
+    this.streamAddOptions = XAddOptions.maxlen(eventStreamProperties.getMaxLength())
+        .approximateTrimming(true);
+
+    this.publishedCounter = Counter.builder("outbox.relay.events")
+        .tag("result", "published")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("outbox.relay.events")
+        .tag("result", "failed")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 쌓인 이벤트를 모두 발행 - 배치가 가득 차면 기다리지 않고 다음 배치 진행
+   */
+  @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:200}")
+  public void relay() {
+    int relayed;
+    do {
+      try {
+        Integer result = transactionOperations.execute(status -> relayBatch());
+        relayed = result == null ? 0 : result;
+      } catch (Exception e) {
+        log.error("Outbox relay failed - will retry next cycle: {}", e.getMessage(), e);
+        return;
+      }
+    } while (relayed == batchSize);
+  }
+
+  // 트랜잭션 안에서 호출 (점유 행 잠금은 커밋 시 해제)
+  int relayBatch() {
+    List<OutboxEvent> batch = outboxEventRepository.findBatchForRelay(
+        PageRequest.of(0, batchSize));
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        for (OutboxEvent event : batch) {
+          byte[] channel = event.getChannel().getBytes(StandardCharsets.UTF_8);
+          byte[] payload = event.getPayload();
+          if (RedisStreamTopic.isStream(event.getChannel())) {
+            connection.streamCommands().xAdd(
+                StreamRecords.rawBytes(Map.of(PAYLOAD_FIELD, payload)).withStreamKey(channel),
+                streamAddOptions);
+          } else {
+            connection.publish(channel, payload);
+          }
+        }
+        return null;
+      });
+    } catch (RuntimeException e) {
+      failedCounter.increment(batch.size());
+      throw e;
+    }
+
+    outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+    publishedCounter.increment(batch.size());
+    return batch.size();
+  }
+}
@@ -0,0 +1,45 @@
+package com.deliveranything.global.outbox;
+
+import com.deliveranything.global.codec.EventMessageCodec;
+import com.deliveranything.global.enums.RedisStreamTopic;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 outbox 에 기록 - 호출한 비즈니스 트랜잭션과 함께 커밋/롤백 (트랜잭션 밖 호출은 예외) - 실제 Redis 발행은 OutboxRelay 가
+ * 모아서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final EventMessageCodec eventMessageCodec;
+
+  /**
+   * 이벤트 기록 - saga stream 은 EventMessageCodec(버전 헤더 + binary 본문) - pub/sub 채널은 convertAndSend 와 같은
+   * 직렬화(RedisTemplate value serializer) 로 구독자 변경 없이 같은 메시지를 받음
+   */
+  @SuppressWarnings("unchecked")
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(String channel, Object event) {
+    byte[] payload = RedisStreamTopic.isStream(channel)
+        ? eventMessageCodec.encode(event)
+        : ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(event);
+    outboxEventRepository.save(new OutboxEvent(channel, payload));
+  }
+
+  /**
+   * 이미 직렬화한 메시지 기록 (StringRedisTemplate 으로 보내던 채널)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void appendRaw(String channel, String payload) {
+    outboxEventRepository.save(new OutboxEvent(channel, payload.getBytes(StandardCharsets.UTF_8)));
+  }
+}
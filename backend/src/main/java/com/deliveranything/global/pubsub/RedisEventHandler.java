@@ -0,0 +1,28 @@
+package com.deliveranything.global.pubsub;
+
+/**
+ * Redis Pub/Sub 이벤트 핸들러 - RedisEventRouter 가 channel 구독, eventType 역직렬화 후 handle 호출 - 예외는 라우터가
+ * 기록 (CustomException 은 업무상 거절로 구분)
+ */
+public interface RedisEventHandler<T> {
+
+  String channel();
+
+  Class<T> eventType();
+
+  void handle(T event) throws Exception;
+
+  /**
+   * 이 핸들러의 최대 동시 실행 수 (0 이하는 제한 없음)
+   */
+  default int maxConcurrency() {
+    return 0;
+  }
+
+  /**
+   * 순서 키 - 같은 키의 이벤트는 핸들러가 달라도 도착 순서대로 하나씩 실행 (null 이면 순서 없음)
+   */
+  default String orderingKey(T event) {
+    return null;
+  }
+}
@@ -0,0 +1,186 @@
+package com.deliveranything.global.pubsub;
+
+import com.deliveranything.global.concurrent.KeyedSerialExecutor;
+import com.deliveranything.global.exception.CustomException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Redis Pub/Sub 이벤트 라우터 - 핸들러가 등록한 채널을 채널마다 1번만 구독 - channel → (이벤트 타입별 reader, 핸들러) 표는
+ * 시작 시 한 번 만들어 두고, 메시지는 이벤트 타입마다 1번만 역직렬화 - 핸들러는 virtual thread 에서 실행, 핸들러별 동시 실행 수 제한 -
+ * 순서 키가 같은 이벤트는 KeyedSerialExecutor 로 도착 순서대로 하나씩 실행
+ */
+@Slf4j
+@Component
+public class RedisEventRouter implements MessageListener {
+
+  private final RedisMessageListenerContainer container;
+  private final Executor executor;
+  private final KeyedSerialExecutor keyedSerialExecutor;
+  private final Map<String, List<Binding>> routes;
+
+  private final Counter handledCounter;
+  private final Counter rejectedCounter;
+  private final Counter failedCounter;
+
+  @Autowired
+  public RedisEventRouter(
+      RedisMessageListenerContainer container,
+      ObjectMapper objectMapper,
+      List<RedisEventHandler<?>> handlers,
+      KeyedSerialExecutor keyedSerialExecutor,
+      MeterRegistry meterRegistry
+  ) {
+    this(container, objectMapper, handlers, keyedSerialExecutor, meterRegistry,
+        Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  RedisEventRouter(
+      RedisMessageListenerContainer container,
+      ObjectMapper objectMapper,
+      List<RedisEventHandler<?>> handlers,
+      KeyedSerialExecutor keyedSerialExecutor,
+      MeterRegistry meterRegistry,
+      Executor executor
+  ) {
+    this.container = container;
+    this.executor = executor;
+    this.keyedSerialExecutor = keyedSerialExecutor;
+    this.routes = buildRoutes(objectMapper, handlers);
+
+    this.handledCounter = counter(meterRegistry, "handled");
+    this.rejectedCounter = counter(meterRegistry, "rejected");
+    this.failedCounter = counter(meterRegistry, "failed");
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    if (routes.isEmpty()) {
+      return;
+    }
+    container.addMessageListener(this, routes.keySet().stream().map(ChannelTopic::new).toList());
+    log.info("Subscribed {} redis channels for {} handlers", routes.size(),
+        routes.values().stream().flatMap(List::stream).mapToInt(b -> b.routes().size()).sum());
+  }
+
+  /**
+   * 컨테이너가 도착 순서대로 호출 (역직렬화와 예약만 하고 핸들러는 다른 스레드에서 실행)
+   */
+  @Override
+  public void onMessage(@NonNull Message message, byte[] pattern) {
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+    List<Binding> bindings = routes.get(channel);
+    if (bindings == null) {
+      return;
+    }
+
+    byte[] body = message.getBody();
+    for (Binding binding : bindings) {
+      Object event;
+      try {
+        event = binding.reader().readValue(body);
+      } catch (Exception e) {
+        log.error("Failed to decode {} event on {}: {}", binding.reader().getValueType(),
+            channel, e.getMessage());
+        failedCounter.increment(binding.routes().size());
+        continue;
+      }
+      for (Route route : binding.routes()) {
+        dispatch(channel, route, event);
+      }
+    }
+  }
+
+  private void dispatch(String channel, Route route, Object event) {
+    Runnable task = () -> run(channel, route, event);
+    String key = route.handler().orderingKey(event);
+    if (key == null) {
+      executor.execute(task);
+      return;
+    }
+    keyedSerialExecutor.execute(key, task);
+  }
+
+  private void run(String channel, Route route, Object event) {
+    Semaphore permits = route.permits();
+    try {
+      if (permits != null) {
+        permits.acquire();
+      }
+      try {
+        route.handler().handle(event);
+        handledCounter.increment();
+      } finally {
+        if (permits != null) {
+          permits.release();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failedCounter.increment();
+    } catch (CustomException e) {
+      log.warn("Rejected {} event by {}: {} - {}", channel, route.name(), e.getCode(),
+          e.getMessage());
+      rejectedCounter.increment();
+    } catch (Exception e) {
+      log.error("Failed to handle {} event by {}: {}", channel, route.name(), e.getMessage(), e);
+      failedCounter.increment();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, List<Binding>> buildRoutes(ObjectMapper objectMapper,
+      List<RedisEventHandler<?>> handlers) {
+    Map<String, Map<Class<?>, List<Route>>> table = new LinkedHashMap<>();
+    for (RedisEventHandler<?> handler : handlers) {
+      int maxConcurrency = handler.maxConcurrency();
+      Route route = new Route(ClassUtils.getUserClass(handler).getSimpleName(),
+          (RedisEventHandler<Object>) handler,
+          maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null);
+      table.computeIfAbsent(handler.channel(), channel -> new LinkedHashMap<>())
+          .computeIfAbsent(handler.eventType(), type -> new ArrayList<>())
+          .add(route);
+    }
+
+    Map<String, List<Binding>> routes = new LinkedHashMap<>();
+    table.forEach((channel, byType) -> routes.put(channel, byType.entrySet().stream()
+        .map(entry -> new Binding(objectMapper.readerFor(entry.getKey()),
+            List.copyOf(entry.getValue())))
+        .toList()));
+    return Map.copyOf(routes);
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("event.router.messages")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  record Binding(ObjectReader reader, List<Route> routes) {
+
+  }
+
+  record Route(String name, RedisEventHandler<Object> handler, Semaphore permits) {
+
+  }
+}
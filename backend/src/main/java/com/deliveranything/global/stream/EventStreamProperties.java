@@ -0,0 +1,29 @@
+package com.deliveranything.global.stream;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "event-stream")
+public class EventStreamProperties {
+
+  // stream 별 최대 보관 건수 (XADD MAXLEN ~, 초과분은 오래된 것부터 삭제)
+  private long maxLength = 100_000;
+  // 1회 XREADGROUP 최대 건수
+  private int batchSize = 20;
+  // XREADGROUP 대기 시간 (BLOCK)
+  private Duration pollTimeout = Duration.ofSeconds(1);
+  // 이 시간 이상 ack 되지 않은 메시지는 다른 consumer 가 가져와 재처리
+  private Duration reclaimMinIdle = Duration.ofSeconds(60);
+  // 최대 전달 횟수 (초과 시 dead-letter stream 으로 이동)
+  private int maxDeliveries = 5;
+  // 처리하지 못한 메시지를 보관하는 stream
+  private String deadLetterKey = "event-stream:dlq";
+  // 보내는 메시지 본문 형식 (smile | json, 받을 때는 메시지 헤더를 따름)
+  private String codec = "smile";
+}
@@ -0,0 +1,226 @@
+package com.deliveranything.global.stream;
+
+import com.deliveranything.global.enums.RedisStreamTopic;
+import com.deliveranything.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Stream 이벤트 버스 (consumer group) - 같은 group 의 노드 중 1곳만 메시지를 받아 처리 후 ack - ack 되지 않은 메시지는
+ * reclaimMinIdle 이후 다른 consumer 가 가져와 재처리 (노드 장애 포함) - maxDeliveries 를 넘긴 메시지는 dead-letter
+ * stream 으로 옮기고 ack
+ */
+@Slf4j
+@Component
+public class RedisStreamEventBus {
+
+  public static final String PAYLOAD_FIELD = "payload";
+
+  private final RedisTemplate<String, byte[]> redisTemplate;
+  private final StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container;
+  private final EventStreamProperties properties;
+  private final String consumerName;
+
+  private final List<StreamSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  private final Counter processedCounter;
+  private final Counter rejectedCounter;
+  private final Counter failedCounter;
+  private final Counter deadLetteredCounter;
+
+  @Autowired
+  public RedisStreamEventBus(
+      RedisTemplate<String, byte[]> eventStreamRedisTemplate,
+      StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container,
+      EventStreamProperties properties,
+      MeterRegistry meterRegistry
+  ) {
+    // pid@host - 노드(프로세스)마다 다른 consumer
+    this(eventStreamRedisTemplate, container, properties, meterRegistry,
+        ManagementFactory.getRuntimeMXBean().getName());
+  }
+
+  RedisStreamEventBus(
+      RedisTemplate<String, byte[]> eventStreamRedisTemplate,
+      StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container,
+      EventStreamProperties properties,
+      MeterRegistry meterRegistry,
+      String consumerName
+  ) {
+    this.redisTemplate = eventStreamRedisTemplate;
+    this.container = container;
+    this.properties = properties;
+    this.consumerName = consumerName;
+
+    this.processedCounter = counter(meterRegistry, "processed");
+    this.rejectedCounter = counter(meterRegistry, "rejected");
+    this.failedCounter = counter(meterRegistry, "failed");
+    this.deadLetteredCounter = counter(meterRegistry, "dead-lettered");
+  }
+
+  /**
+   * group 으로 topics 구독 - group 이 없으면 stream 처음부터 읽도록 생성 (구독 전에 쌓인 이벤트도 처리)
+   */
+  public void subscribe(String group, Collection<RedisStreamTopic> topics,
+      StreamEventHandler handler) {
+    for (RedisStreamTopic topic : topics) {
+      StreamSubscription subscription = new StreamSubscription(topic.getKey(), group, handler);
+      createGroupIfAbsent(subscription);
+      container.register(
+          StreamReadRequest.builder(StreamOffset.create(topic.getKey(), ReadOffset.lastConsumed()))
+              .consumer(Consumer.from(group, consumerName))
+              .autoAcknowledge(false)
+              .cancelOnError(e -> false)
+              .build(),
+          record -> process(subscription, record));
+      subscriptions.add(subscription);
+      log.info("Subscribed stream {} as {}/{}", topic.getKey(), group, consumerName);
+    }
+  }
+
+  /**
+   * 오래 ack 되지 않은 메시지 재처리 - 전달 횟수를 넘긴 메시지는 dead-letter
+   */
+  @Scheduled(fixedDelayString = "${event-stream.reclaim-interval-ms:30000}")
+  public void reclaimPending() {
+    for (StreamSubscription subscription : subscriptions) {
+      try {
+        reclaim(subscription);
+      } catch (Exception e) {
+        log.error("Failed to reclaim pending messages of {}/{}: {}", subscription.key(),
+            subscription.group(), e.getMessage(), e);
+      }
+    }
+  }
+
+  void reclaim(StreamSubscription subscription) {
+    StreamOperations<String, String, byte[]> ops = redisTemplate.opsForStream();
+    PendingMessages pending = ops.pending(subscription.key(), subscription.group(),
+        Range.unbounded(), properties.getBatchSize());
+
+    List<RecordId> retry = new ArrayList<>();
+    for (PendingMessage message : pending) {
+      if (message.getElapsedTimeSinceLastDelivery().compareTo(properties.getReclaimMinIdle())
+          < 0) {
+        continue;
+      }
+      if (message.getTotalDeliveryCount() >= properties.getMaxDeliveries()) {
+        deadLetter(subscription, message);
+      } else {
+        retry.add(message.getId());
+      }
+    }
+    if (retry.isEmpty()) {
+      return;
+    }
+
+    // 다른 노드가 먼저 가져간 메시지는 claim 결과에서 빠짐
+    List<MapRecord<String, String, byte[]>> claimed = ops.claim(subscription.key(),
+        subscription.group(), consumerName, properties.getReclaimMinIdle(),
+        retry.toArray(RecordId[]::new));
+    claimed.forEach(record -> process(subscription, record));
+  }
+
+  void process(StreamSubscription subscription, MapRecord<String, String, byte[]> record) {
+    try {
+      subscription.handler().handle(subscription.key(), record.getValue().get(PAYLOAD_FIELD));
+      acknowledge(subscription, record.getId());
+      processedCounter.increment();
+    } catch (CustomException e) {
+      // 업무상 처리할 수 없는 이벤트는 재시도해도 같은 결과
+      log.warn("Rejected stream event {} {}: {}", subscription.key(), record.getId(),
+          e.getMessage());
+      acknowledge(subscription, record.getId());
+      rejectedCounter.increment();
+    } catch (Exception e) {
+      log.error("Failed to process stream event {} {} - will be redelivered: {}",
+          subscription.key(), record.getId(), e.getMessage(), e);
+      failedCounter.increment();
+    }
+  }
+
+  private void deadLetter(StreamSubscription subscription, PendingMessage message) {
+    StreamOperations<String, String, byte[]> ops = redisTemplate.opsForStream();
+    String id = message.getIdAsString();
+    List<MapRecord<String, String, byte[]>> records = ops.range(subscription.key(),
+        Range.closed(id, id));
+
+    Map<String, byte[]> fields = new HashMap<>();
+    fields.put("stream", bytes(subscription.key()));
+    fields.put("group", bytes(subscription.group()));
+    fields.put("id", bytes(id));
+    fields.put("deliveries", bytes(String.valueOf(message.getTotalDeliveryCount())));
+    // MAXLEN 으로 이미 잘려 나간 메시지는 payload 없이 기록
+    if (records != null && !records.isEmpty()) {
+      byte[] payload = records.get(0).getValue().get(PAYLOAD_FIELD);
+      if (payload != null) {
+        fields.put(PAYLOAD_FIELD, payload);
+      }
+    }
+
+    ops.add(StreamRecords.newRecord().in(properties.getDeadLetterKey()).ofMap(fields));
+    acknowledge(subscription, message.getId());
+    deadLetteredCounter.increment();
+    log.error("Moved stream event {} {} to {} after {} deliveries", subscription.key(), id,
+        properties.getDeadLetterKey(), message.getTotalDeliveryCount());
+  }
+
+  private void acknowledge(StreamSubscription subscription, RecordId id) {
+    redisTemplate.opsForStream().acknowledge(subscription.key(), subscription.group(), id);
+  }
+
+  private void createGroupIfAbsent(StreamSubscription subscription) {
+    try {
+      redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+          .xGroupCreate(bytes(subscription.key()), subscription.group(), ReadOffset.from("0-0"),
+              true));
+    } catch (DataAccessException e) {
+      String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+      if (message == null || !message.contains("BUSYGROUP")) {
+        throw e;
+      }
+    }
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("event.stream.messages")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  record StreamSubscription(String key, String group, StreamEventHandler handler) {
+
+  }
+}
@@ -0,0 +1,11 @@
+package com.deliveranything.global.stream;
+
+/**
+ * Stream 이벤트 처리 - payload 는 EventMessageCodec 메시지 - 정상 반환 또는 CustomException(업무상 처리 불가) 이면 ack
+ * - 그 밖의 예외는 ack 하지 않아 재전달
+ */
+@FunctionalInterface
+public interface StreamEventHandler {
+
+  void handle(String topic, byte[] payload) throws Exception;
+}
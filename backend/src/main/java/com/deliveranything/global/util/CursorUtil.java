@@ -1,12 +1,17 @@
 package com.deliveranything.global.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.util.Base64;
 import org.springframework.util.StringUtils;
 
 public final class CursorUtil {
 
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  // 날짜 키는 ISO 문자열로 기록 (디코딩 측에서 LocalDateTime.parse 로 복원)
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
   private CursorUtil() {}
 
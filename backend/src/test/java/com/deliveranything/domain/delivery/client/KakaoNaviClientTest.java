@@ -0,0 +1,124 @@
+package com.deliveranything.domain.delivery.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * KakaoNaviClient 단위 테스트 - 실제 HTTP 호출 대신 WebClient 의 ExchangeFunction 으로 응답을 흉내 - 요청마다 큐에서 응답을 하나씩
+ * 꺼내 씀 (응답하지 않는 요청은 Mono.never)
+ */
+@DisplayName("KakaoNaviClient 단위 테스트")
+class KakaoNaviClientTest {
+
+  private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(5);
+  private static final String ROUTE_JSON =
+      "{\"routes\":[{\"summary\":{\"distance\":1200,\"duration\":300}}]}";
+
+  private final Queue<Mono<ClientResponse>> responses = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger exchanges = new AtomicInteger();
+  private KakaoNaviProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new KakaoNaviProperties();
+    properties.setBaseUrl("http://navi.test");
+  }
+
+  @Test
+  @DisplayName("bulkhead - 동시 호출 제한을 넘으면 Kakao 를 호출하지 않고 추정치 반환, 진행 중 호출이 끝나면 반납")
+  void bulkheadFull_returnsEstimate() {
+    // Given: 동시 호출 1개, 첫 호출은 응답 없이 점유 중
+    properties.setMaxConcurrentCalls(1);
+    properties.setTimeout(Duration.ofSeconds(10));
+    KakaoNaviClient client = client();
+    responses.add(Mono.never());
+    Disposable inFlight = client.route(37.50, 127.00, 37.51, 127.01).subscribe();
+
+    // When
+    NaviRoute route = client.route(37.50, 127.00, 37.51, 127.01).block(BLOCK_TIMEOUT);
+
+    // Then
+    assertThat(route.estimated()).isTrue();
+    assertThat(exchanges).hasValue(1);
+    assertThat(client.snapshot()).containsEntry("availableConcurrentCalls", 0);
+
+    inFlight.dispose();
+    assertThat(client.snapshot()).containsEntry("availableConcurrentCalls", 1);
+  }
+
+  @Test
+  @DisplayName("제한 시간 - 응답이 늦으면 실패로 기록하고 추정치 반환")
+  void timeout_fallsBackToEstimate() {
+    // Given
+    properties.setTimeout(Duration.ofMillis(50));
+    KakaoNaviClient client = client();
+    responses.add(Mono.never());
+
+    // When
+    NaviRoute route = client.route(37.50, 127.00, 37.51, 127.01).block(BLOCK_TIMEOUT);
+
+    // Then
+    assertThat(route).isEqualTo(NaviRoute.estimate(37.50, 127.00, 37.51, 127.01));
+    Map<String, Object> snapshot = client.snapshot();
+    assertThat(snapshot).containsEntry("failureCount", 1.0);
+    assertThat(snapshot).containsEntry("fallbackCount", 1.0);
+    assertThat(snapshot).containsEntry("availableConcurrentCalls", 64);
+  }
+
+  @Test
+  @DisplayName("헤지 요청 - 첫 요청이 늦으면 헤지 요청 응답을 쓰고 첫 요청은 취소")
+  void hedge_winsAndCancelsSlowCall() {
+    // Given
+    properties.setTimeout(Duration.ofSeconds(2));
+    properties.setHedgeDelay(Duration.ofMillis(50));
+    KakaoNaviClient client = client();
+    AtomicBoolean slowCancelled = new AtomicBoolean();
+    responses.add(Mono.<ClientResponse>never().doOnCancel(() -> slowCancelled.set(true)));
+    responses.add(Mono.just(routeResponse()));
+
+    // When
+    NaviRoute route = client.route(37.50, 127.00, 37.51, 127.01).block(BLOCK_TIMEOUT);
+
+    // Then: 취소된 첫 요청은 실패로 기록하지 않고 bulkhead 도 반납
+    assertThat(route).isEqualTo(new NaviRoute(1200, 300, false));
+    assertThat(exchanges).hasValue(2);
+    assertThat(slowCancelled).isTrue();
+    Map<String, Object> snapshot = client.snapshot();
+    assertThat(snapshot).containsEntry("successCount", 1.0);
+    assertThat(snapshot).containsEntry("failureCount", 0.0);
+    assertThat(snapshot).containsEntry("availableConcurrentCalls", 64);
+  }
+
+  private KakaoNaviClient client() {
+    WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+      exchanges.incrementAndGet();
+      Mono<ClientResponse> response = responses.poll();
+      return response != null ? response : Mono.never();
+    });
+    return new KakaoNaviClient(builder, properties, new SimpleMeterRegistry(), "test-key");
+  }
+
+  private static ClientResponse routeResponse() {
+    return ClientResponse.create(HttpStatus.OK)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .body(ROUTE_JSON)
+        .build();
+  }
+}
@@ -0,0 +1,100 @@
+package com.deliveranything.domain.delivery.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deliveranything.domain.delivery.client.NaviCircuitBreaker.State;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NaviCircuitBreaker 단위 테스트")
+class NaviCircuitBreakerTest {
+
+  private final AtomicLong nowMillis = new AtomicLong(0);
+  private NaviCircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = new Clock() {
+      @Override
+      public ZoneId getZone() {
+        return ZoneId.of("UTC");
+      }
+
+      @Override
+      public Clock withZone(ZoneId zone) {
+        return this;
+      }
+
+      @Override
+      public Instant instant() {
+        return Instant.ofEpochMilli(nowMillis.get());
+      }
+    };
+    circuitBreaker = new NaviCircuitBreaker(10, 4, 50, Duration.ofSeconds(30), clock);
+  }
+
+  @Test
+  @DisplayName("최소 호출 수 미만이면 실패해도 CLOSED 유지")
+  void belowMinimumCalls_staysClosed() {
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+  }
+
+  @Test
+  @DisplayName("실패율 임계치 도달 시 OPEN - 호출 차단")
+  void failureRateOverThreshold_opens() {
+    circuitBreaker.onSuccess();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+  }
+
+  @Test
+  @DisplayName("OPEN 유지 시간 경과 후 시험 호출 1건만 허용, 성공 시 CLOSED")
+  void afterOpenDuration_halfOpenProbe_closesOnSuccess() {
+    openCircuit();
+    nowMillis.addAndGet(Duration.ofSeconds(30).toMillis());
+
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+    circuitBreaker.onSuccess();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(circuitBreaker.getFailureRate()).isZero();
+  }
+
+  @Test
+  @DisplayName("시험 호출 실패 시 다시 OPEN")
+  void halfOpenProbeFailure_reopens() {
+    openCircuit();
+    nowMillis.addAndGet(Duration.ofSeconds(30).toMillis());
+    circuitBreaker.tryAcquirePermission();
+
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+  }
+
+  private void openCircuit() {
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.onFailure();
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+  }
+}
@@ -0,0 +1,198 @@
+package com.deliveranything.domain.delivery.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deliveranything.domain.delivery.dto.CurrentDeliveringRow;
+import com.deliveranything.domain.delivery.dto.DeliveredHistoryRow;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
+import com.deliveranything.global.config.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 배달 완료 내역 키셋 페이징 테스트 - H2(MySQL 모드)에 배달/주문/상점/정산 상세를 넣고 (completedAt, id) 커서로 끝까지 넘겨 봄 -
+ * 완료 시각이 같은 배달이 페이지 경계에 걸려도 빠지거나 중복되지 않아야 함 - 조인 projection 의 행 값도 함께 확인
+ */
+@DataJpaTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:delivery_paging;MODE=MySQL;"
+        + "INIT=CREATE SCHEMA IF NOT EXISTS GIS")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(QuerydslConfig.class)
+@DisplayName("DeliveryRepository 키셋 페이징 테스트")
+class DeliveryRepositoryPagingTest {
+
+  private static final Long RIDER_ID = 7L;
+  private static final Long OTHER_RIDER_ID = 8L;
+  private static final Long STORE_ID = 1L;
+  private static final LocalDateTime T = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+  @Autowired
+  private DeliveryRepository deliveryRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    entityManager.unwrap(Session.class).doWork(this::insertDeliveries);
+  }
+
+  @Test
+  @DisplayName("LATEST - 완료 시각 내림차순, 같은 시각은 ID 내림차순으로 끝까지 빠짐/중복 없이 조회")
+  void latest_walksAllPagesAcrossTies() {
+    // When: 페이지 크기 2 - 완료 시각이 같은 배달 3건(2, 3, 4)이 페이지 경계에 걸림
+    List<Long> ids = walk(true, 2);
+
+    // Then
+    assertThat(ids).containsExactly(5L, 4L, 3L, 2L, 1L);
+  }
+
+  @Test
+  @DisplayName("OLDEST - 완료 시각 오름차순, 같은 시각은 ID 오름차순으로 끝까지 빠짐/중복 없이 조회")
+  void oldest_walksAllPagesAcrossTies() {
+    // When
+    List<Long> ids = walk(false, 2);
+
+    // Then
+    assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+
+  @Test
+  @DisplayName("페이지 경계 - 마지막 행을 커서로 넘기면 빈 페이지")
+  void pageBoundaries() {
+    // When
+    List<DeliveredHistoryRow> all = deliveryRepository.findDeliveredHistoryByRider(RIDER_ID, true,
+        null, null, 5);
+    DeliveredHistoryRow last = all.getLast();
+    List<DeliveredHistoryRow> afterLast = deliveryRepository.findDeliveredHistoryByRider(RIDER_ID,
+        true, last.completedAt(), last.deliveryId(), 5);
+
+    // Then: 다른 라이더와 진행 중 배달은 제외
+    assertThat(all).hasSize(5);
+    assertThat(afterLast).isEmpty();
+  }
+
+  @Test
+  @DisplayName("같은 완료 시각 중간 커서 - 같은 시각의 나머지 배달부터 이어서 조회")
+  void cursorInsideTie() {
+    // When: (T, 3) 다음
+    List<DeliveredHistoryRow> latest = deliveryRepository.findDeliveredHistoryByRider(RIDER_ID,
+        true, T, 3L, 10);
+    List<DeliveredHistoryRow> oldest = deliveryRepository.findDeliveredHistoryByRider(RIDER_ID,
+        false, T, 3L, 10);
+
+    // Then
+    assertThat(latest).extracting(DeliveredHistoryRow::deliveryId).containsExactly(2L, 1L);
+    assertThat(oldest).extracting(DeliveredHistoryRow::deliveryId).containsExactly(4L, 5L);
+  }
+
+  @Test
+  @DisplayName("완료 내역 projection - 주문/상점/라이더 정산 상세를 한 행으로, 정산 상세가 없으면 상태 null")
+  void deliveredHistory_projection() {
+    // When
+    List<DeliveredHistoryRow> rows = deliveryRepository.findDeliveredHistoryByRider(RIDER_ID,
+        false, null, null, 10);
+
+    // Then: 상점 정산 상세가 있어도 라이더 것만 조인되어 행이 늘지 않음
+    assertThat(rows).hasSize(5);
+    assertThat(rows.getFirst()).isEqualTo(new DeliveredHistoryRow(1L, 101L, "테스트 상점",
+        T.minusHours(1), "주소 1", SettlementStatus.PENDING, 3000));
+    assertThat(rows.get(1).settlementStatus()).isNull();
+  }
+
+  @Test
+  @DisplayName("진행 중 배달 projection - 진행 중 배달만 실제 주문 ID 와 함께 조회")
+  void currentDelivering_projection() {
+    // When
+    List<CurrentDeliveringRow> rows = deliveryRepository.findCurrentDeliveringByRider(RIDER_ID);
+
+    // Then
+    assertThat(rows).containsExactly(new CurrentDeliveringRow(6L, 106L, "테스트 상점", "주소 6",
+        T.minusHours(2), 20.0));
+  }
+
+  // 마지막 행을 커서로 다음 페이지를 이어 조회
+  private List<Long> walk(boolean latest, int size) {
+    List<Long> ids = new ArrayList<>();
+    LocalDateTime lastCompletedAt = null;
+    Long lastDeliveryId = null;
+    while (true) {
+      List<DeliveredHistoryRow> page = deliveryRepository.findDeliveredHistoryByRider(RIDER_ID,
+          latest, lastCompletedAt, lastDeliveryId, size);
+      page.forEach(row -> ids.add(row.deliveryId()));
+      if (page.size() < size) {
+        return ids;
+      }
+      lastCompletedAt = page.getLast().completedAt();
+      lastDeliveryId = page.getLast().deliveryId();
+    }
+  }
+
+  // 라이더 7: 완료 5건 (1: T-1h, 2~4: T, 5: T+1h) + 진행 중 1건 (6), 라이더 8: 완료 1건 (7)
+  // 배달마다 주문 1건 (주문 ID = 배달 ID + 100), 1번 주문만 라이더/상점 정산 상세 존재
+  // 연관 엔티티 없이 넣도록 FK 검사 중지
+  private void insertDeliveries(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+      statement.execute("INSERT INTO stores (id, seller_profile_id, store_category_id, name, "
+          + "road_addr, location, status) VALUES (" + STORE_ID + ", 1, 1, '테스트 상점', "
+          + "'서울시 강남구', 'POINT (127.0 37.5)', 'OPEN')");
+    }
+    insertDelivery(connection, 1L, RIDER_ID, "COMPLETED", T.minusHours(1));
+    insertDelivery(connection, 2L, RIDER_ID, "COMPLETED", T);
+    insertDelivery(connection, 3L, RIDER_ID, "COMPLETED", T);
+    insertDelivery(connection, 4L, RIDER_ID, "COMPLETED", T);
+    insertDelivery(connection, 5L, RIDER_ID, "COMPLETED", T.plusHours(1));
+    insertDelivery(connection, 6L, RIDER_ID, "IN_PROGRESS", null);
+    insertDelivery(connection, 7L, OTHER_RIDER_ID, "COMPLETED", T);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO settlement_details (order_id, target_id, target_amount, "
+          + "platform_fee, status) VALUES (101, " + RIDER_ID + ", 3000, 0, 'PENDING'), "
+          + "(101, 1, 15000, 500, 'COMPLETED')");
+      statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+  }
+
+  private void insertDelivery(Connection connection, Long id, Long riderId, String status,
+      LocalDateTime completedAt) throws SQLException {
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO deliveries (id, rider_profile_id, store_id, delivery_status, "
+            + "delivery_started_at, delivery_completed_at, delivery_expected_time, "
+            + "delivery_charge) VALUES (?, ?, ?, ?, ?, ?, 20, 3000)")) {
+      insert.setLong(1, id);
+      insert.setLong(2, riderId);
+      insert.setLong(3, STORE_ID);
+      insert.setString(4, status);
+      insert.setTimestamp(5, Timestamp.valueOf(T.minusHours(2)));
+      insert.setTimestamp(6, completedAt != null ? Timestamp.valueOf(completedAt) : null);
+      insert.executeUpdate();
+    }
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO orders (id, store_id, customer_id, delivery_id, status, merchant_id, "
+            + "address, destination, total_price, store_price, delivery_price) "
+            + "VALUES (?, ?, 1, ?, 'COMPLETED', ?, ?, 'POINT (127.1 37.6)', 18000, 15000, 3000)")) {
+      insert.setLong(1, id + 100);
+      insert.setLong(2, STORE_ID);
+      insert.setLong(3, id);
+      insert.setString(4, "merchant-" + id);
+      insert.setString(5, "주소 " + id);
+      insert.executeUpdate();
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.deliveranything.domain.delivery.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deliveranything.domain.delivery.entity.Delivery;
+import com.deliveranything.global.config.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * "오늘" 조회 실행 계획 회귀 테스트 - H2(MySQL 모드)에 엔티티로 스키마를 만들고 DeliveryRepository 쿼리를 실제로 실행해
+ * Hibernate 가 보낸 SQL 을 StatementInspector 로 받아 EXPLAIN - 인덱스가 빠지거나 조건이 다시 컬럼을 함수로 감싸면 실패
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:delivery_plan;MODE=MySQL;"
+        + "INIT=CREATE SCHEMA IF NOT EXISTS GIS",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.deliveranything.domain.delivery.repository"
+        + ".DeliveryRepositoryQueryPlanTest$CapturedSql"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(QuerydslConfig.class)
+@DisplayName("DeliveryRepository 실행 계획 테스트")
+class DeliveryRepositoryQueryPlanTest {
+
+  private static final String INDEX_NAME = "idx_delivery_rider_status_completed_at_id";
+  private static final Long RIDER_ID = 7L;
+
+  @Autowired
+  private DeliveryRepository deliveryRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private LocalDateTime from;
+  private LocalDateTime to;
+
+  @BeforeEach
+  void setUp() {
+    LocalDate today = LocalDate.now();
+    from = today.atStartOfDay();
+    to = today.plusDays(1).atStartOfDay();
+    session().doWork(this::insertHistory);
+    CapturedSql.clear();
+  }
+
+  @Test
+  @DisplayName("엔티티 인덱스 선언 - (라이더, 상태, 완료 시각) 순서로 시작")
+  void declaredIndex_startsWithRiderStatusCompletedAt() {
+    assertThat(declaredIndexColumns())
+        .startsWith("rider_profile_id, delivery_status, delivery_completed_at");
+  }
+
+  @Test
+  @DisplayName("오늘 완료 건수 - Hibernate 가 만든 SQL 이 인덱스 범위 스캔 (전체 스캔 아님)")
+  void countToday_usesIndexRangeScan() {
+    // When
+    Long count = deliveryRepository.countCompletedDeliveriesByRiderBetween(RIDER_ID, from, to);
+    String plan = explain(CapturedSql.lastQuery());
+
+    // Then
+    assertThat(count).isPositive();
+    assertRangeScan(plan);
+  }
+
+  @Test
+  @DisplayName("오늘 완료 목록 - Hibernate 가 만든 SQL 이 인덱스 범위 스캔 (전체 스캔 아님)")
+  void findToday_usesIndexRangeScan() {
+    // When
+    List<Delivery> deliveries = deliveryRepository.findCompletedDeliveriesByRiderBetween(RIDER_ID,
+        from, to);
+    String plan = explain(CapturedSql.lastQuery());
+
+    // Then
+    assertThat(deliveries).isNotEmpty();
+    assertRangeScan(plan);
+  }
+
+  // 인덱스 조건에 완료 시각 범위까지 포함
+  private static void assertRangeScan(String plan) {
+    assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    String indexCondition = plan.substring(plan.indexOf("/*"), plan.indexOf("*/"));
+    assertThat(indexCondition).containsIgnoringCase(INDEX_NAME);
+    assertThat(indexCondition).containsIgnoringCase("delivery_completed_at >=");
+  }
+
+  // 쿼리와 같은 순서로 (라이더, from, to) 바인딩
+  private String explain(String sql) {
+    return session().doReturningWork(connection -> {
+      try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+        statement.setLong(1, RIDER_ID);
+        statement.setTimestamp(2, Timestamp.valueOf(from));
+        statement.setTimestamp(3, Timestamp.valueOf(to));
+        try (ResultSet resultSet = statement.executeQuery()) {
+          resultSet.next();
+          // 버전에 따라 식별자에 따옴표가 붙으므로 제거 후 비교
+          return resultSet.getString(1).replace("\"", "");
+        }
+      }
+    });
+  }
+
+  // 라이더 20명 x 최근 30일 완료 배달 + 진행 중 배달 (연관 엔티티 없이 넣도록 FK 검사 중지)
+  private void insertHistory(Connection connection) throws SQLException {
+    LocalDateTime start = LocalDate.now().minusDays(30).atStartOfDay();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+    }
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO deliveries (rider_profile_id, delivery_status, delivery_completed_at, "
+            + "delivery_expected_time, created_at) VALUES (?, ?, ?, 20, ?)")) {
+      for (int rider = 1; rider <= 20; rider++) {
+        for (int i = 0; i < 150; i++) {
+          Timestamp at = Timestamp.valueOf(start.plusHours(i * 5L));
+          insert.setLong(1, rider);
+          insert.setString(2, i % 10 == 0 ? "IN_PROGRESS" : "COMPLETED");
+          insert.setTimestamp(3, at);
+          insert.setTimestamp(4, at);
+          insert.addBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+      statement.execute("ANALYZE");
+    }
+  }
+
+  private Session session() {
+    return entityManager.unwrap(Session.class);
+  }
+
+  private static String declaredIndexColumns() {
+    Table table = Delivery.class.getAnnotation(Table.class);
+    return Arrays.stream(table.indexes())
+        .filter(index -> index.name().equals(INDEX_NAME))
+        .map(Index::columnList)
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Delivery has no index " + INDEX_NAME));
+  }
+
+  /**
+   * Hibernate 가 실행하는 SQL 기록 (hibernate.session_factory.statement_inspector 로 등록)
+   */
+  public static class CapturedSql implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+
+    static void clear() {
+      STATEMENTS.clear();
+    }
+
+    // 마지막으로 실행한 deliveries 조회 (앞에 붙는 JPQL 주석 제외)
+    static String lastQuery() {
+      for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+        String sql = STATEMENTS.get(i).replaceFirst("(?s)^\\s*/\\*.*?\\*/\\s*", "");
+        if (sql.regionMatches(true, 0, "select", 0, 6) && sql.contains("deliveries")) {
+          return sql;
+        }
+      }
+      throw new AssertionError("No query on deliveries was executed: " + STATEMENTS);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.deliveranything.domain.delivery.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.deliveranything.domain.delivery.dto.TrackPointDto;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DeliveryTrackCodec 단위 테스트")
+class DeliveryTrackCodecTest {
+
+  @Test
+  @DisplayName("인코딩 후 디코딩 - 시각은 그대로, 위경도는 1e-6도 이내로 복원")
+  void roundTrip() {
+    // Given
+    List<TrackPointDto> points = createTrack(30);
+
+    // When
+    List<TrackPointDto> decoded = DeliveryTrackCodec.decode(DeliveryTrackCodec.encode(points));
+
+    // Then
+    assertThat(decoded).hasSize(points.size());
+    for (int i = 0; i < points.size(); i++) {
+      assertThat(decoded.get(i).timestamp()).isEqualTo(points.get(i).timestamp());
+      assertThat(decoded.get(i).latitude()).isCloseTo(points.get(i).latitude(), within(1e-6));
+      assertThat(decoded.get(i).longitude()).isCloseTo(points.get(i).longitude(), within(1e-6));
+    }
+  }
+
+  @Test
+  @DisplayName("차이 인코딩 - 지점당 원본(long + double 2개, 24바이트)보다 작게 저장")
+  void compactEncoding() {
+    // Given
+    List<TrackPointDto> points = createTrack(30);
+
+    // When
+    byte[] chunk = DeliveryTrackCodec.encode(points);
+
+    // Then
+    assertThat(chunk.length).isLessThan(points.size() * 24 / 3);
+  }
+
+  @Test
+  @DisplayName("빈 청크 - 빈 목록으로 복원")
+  void emptyTrack() {
+    assertThat(DeliveryTrackCodec.decode(DeliveryTrackCodec.encode(List.of()))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 버전 - 예외")
+  void unsupportedVersion() {
+    byte[] chunk = DeliveryTrackCodec.encode(createTrack(3));
+    chunk[0] = (byte) (DeliveryTrackCodec.VERSION + 1);
+
+    assertThatThrownBy(() -> DeliveryTrackCodec.decode(chunk))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  // 5초 간격으로 조금씩 이동하는 경로
+  private List<TrackPointDto> createTrack(int size) {
+    List<TrackPointDto> points = new ArrayList<>();
+    long timestamp = 1_700_000_000_000L;
+    double lat = 37.566535;
+    double lon = 126.977969;
+    for (int i = 0; i < size; i++) {
+      points.add(new TrackPointDto(timestamp + i * 5_000L, lat + i * 0.000113,
+          lon - i * 0.000087));
+    }
+    return points;
+  }
+}
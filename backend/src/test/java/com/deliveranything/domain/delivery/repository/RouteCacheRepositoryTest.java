@@ -0,0 +1,80 @@
+package com.deliveranything.domain.delivery.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deliveranything.domain.delivery.repository.RouteCacheRepository.RouteSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RouteCacheRepository 단위 테스트")
+class RouteCacheRepositoryTest {
+
+  private static final Clock FIXED_CLOCK = Clock.fixed(
+      Instant.parse("2025-01-01T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  @DisplayName("같은 격자 내 좌표는 같은 경로로 조회 - hit/miss 집계")
+  void find_sameCell_hits() {
+    // Given
+    RouteCacheRepository cache = new RouteCacheRepository(meterRegistry, 100,
+        Duration.ofMinutes(10), FIXED_CLOCK);
+    cache.save(37.50001, 127.00001, 37.60001, 127.10001, new RouteSummary(5000.0, 900.0));
+
+    // When
+    var hit = cache.find(37.50005, 127.00005, 37.60005, 127.10005);
+    var miss = cache.find(37.51, 127.01, 37.60005, 127.10005);
+
+    // Then
+    assertThat(hit).contains(new RouteSummary(5000.0, 900.0));
+    assertThat(miss).isEmpty();
+    assertThat(meterRegistry.counter("delivery.route.cache", "result", "hit").count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.counter("delivery.route.cache", "result", "miss").count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("TTL 만료 - 만료된 항목은 miss 처리 후 제거")
+  void find_expired_misses() {
+    // Given
+    RouteCacheRepository cache = new RouteCacheRepository(meterRegistry, 100, Duration.ZERO,
+        FIXED_CLOCK);
+    cache.save(37.5, 127.0, 37.6, 127.1, new RouteSummary(5000.0, 900.0));
+
+    // When & Then
+    assertThat(cache.find(37.5, 127.0, 37.6, 127.1)).isEmpty();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("최대 크기 초과 - 가장 오래 사용되지 않은 항목 제거 (LRU)")
+  void save_overCapacity_evictsLeastRecentlyUsed() {
+    // Given
+    RouteCacheRepository cache = new RouteCacheRepository(meterRegistry, 2,
+        Duration.ofMinutes(10), FIXED_CLOCK);
+    cache.save(37.50, 127.0, 37.6, 127.1, new RouteSummary(1.0, 1.0));
+    cache.save(37.52, 127.0, 37.6, 127.1, new RouteSummary(2.0, 2.0));
+    cache.find(37.50, 127.0, 37.6, 127.1); // 첫 번째 항목 최근 사용 처리
+
+    // When
+    cache.save(37.54, 127.0, 37.6, 127.1, new RouteSummary(3.0, 3.0));
+
+    // Then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.find(37.50, 127.0, 37.6, 127.1)).isPresent();
+    assertThat(cache.find(37.52, 127.0, 37.6, 127.1)).isEmpty();
+  }
+}
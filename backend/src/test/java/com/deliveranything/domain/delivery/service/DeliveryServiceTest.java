@@ -3,10 +3,15 @@ package com.deliveranything.domain.delivery.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import com.deliveranything.domain.delivery.dto.CurrentDeliveringRow;
+import com.deliveranything.domain.delivery.dto.DeliveredHistoryRow;
+import com.deliveranything.domain.delivery.dto.response.CurrentDeliveringResponseDto;
+import com.deliveranything.domain.delivery.dto.response.DeliveredDetailsDto;
 import com.deliveranything.domain.delivery.entity.Delivery;
 import com.deliveranything.domain.delivery.enums.DeliveryStatus;
 import com.deliveranything.domain.delivery.repository.DeliveryRepository;
 import com.deliveranything.domain.order.service.DeliveryOrderService;
+import com.deliveranything.domain.settlement.enums.SettlementStatus;
 import com.deliveranything.domain.settlement.service.SettlementDetailService;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.user.profile.entity.CustomerProfile;
@@ -18,6 +23,7 @@ import com.deliveranything.domain.user.profile.service.CustomerProfileService;
 import com.deliveranything.domain.user.profile.service.RiderProfileService;
 import com.deliveranything.domain.user.profile.service.SellerProfileService;
 import com.deliveranything.domain.user.user.entity.User;
+import com.deliveranything.global.common.CursorPageResponse;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -219,4 +225,97 @@ class DeliveryServiceTest {
     // Then: 오늘 배달만 카운트
     assertThat(todayCount).isEqualTo(1L);
   }
+
+  @Test
+  @DisplayName("배달 완료 내역 - 크기+1건 조회로 다음 페이지 판단, 토큰으로 마지막 행 다음부터 이어서 조회")
+  void 배달완료_내역_커서_왕복_테스트() {
+    // Given: 크기 2, 3건 조회됨 (완료 시각이 같은 2, 3번이 페이지 경계)
+    Long riderProfileId = 1L;
+    LocalDateTime completedAt = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 500_000_000);
+    when(deliveryRepository.findDeliveredHistoryByRider(riderProfileId, true, null, null, 3))
+        .thenReturn(List.of(historyRow(1L, completedAt.plusHours(1)),
+            historyRow(2L, completedAt), historyRow(3L, completedAt)));
+    when(deliveryRepository.findDeliveredHistoryByRider(riderProfileId, true, completedAt, 2L,
+        3)).thenReturn(List.of(historyRow(3L, completedAt)));
+
+    // When
+    CursorPageResponse<DeliveredDetailsDto> first = deliveryService
+        .getDeliveredSummary(riderProfileId, "LATEST", null, 2).deliveredDetails();
+    CursorPageResponse<DeliveredDetailsDto> second = deliveryService
+        .getDeliveredSummary(riderProfileId, "LATEST", first.nextPageToken(), 2)
+        .deliveredDetails();
+
+    // Then
+    assertThat(first.content()).extracting(DeliveredDetailsDto::orderId)
+        .containsExactly(101L, 102L);
+    assertThat(first.hasNext()).isTrue();
+    assertThat(second.content()).extracting(DeliveredDetailsDto::orderId)
+        .containsExactly(103L);
+    assertThat(second.hasNext()).isFalse();
+    assertThat(second.nextPageToken()).isNull();
+  }
+
+  @Test
+  @DisplayName("배달 완료 내역 - 크기만큼만 조회되면 마지막 페이지 (토큰 없음)")
+  void 배달완료_내역_마지막_페이지_테스트() {
+    // Given
+    Long riderProfileId = 1L;
+    LocalDateTime completedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+    when(deliveryRepository.findDeliveredHistoryByRider(riderProfileId, false, null, null, 3))
+        .thenReturn(List.of(historyRow(1L, completedAt), historyRow(2L, completedAt)));
+
+    // When
+    CursorPageResponse<DeliveredDetailsDto> page = deliveryService
+        .getDeliveredSummary(riderProfileId, "OLDEST", null, 2).deliveredDetails();
+
+    // Then
+    assertThat(page.content()).hasSize(2);
+    assertThat(page.hasNext()).isFalse();
+    assertThat(page.nextPageToken()).isNull();
+  }
+
+  @Test
+  @DisplayName("배달 완료 내역 - 읽을 수 없는 토큰은 첫 페이지로 조회")
+  void 배달완료_내역_잘못된_토큰_테스트() {
+    // Given
+    Long riderProfileId = 1L;
+    when(deliveryRepository.findDeliveredHistoryByRider(riderProfileId, true, null, null, 11))
+        .thenReturn(List.of());
+
+    // When
+    CursorPageResponse<DeliveredDetailsDto> page = deliveryService
+        .getDeliveredSummary(riderProfileId, null, "not-a-cursor", null).deliveredDetails();
+
+    // Then
+    assertThat(page.content()).isEmpty();
+    assertThat(page.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("진행 중 배달 - 조인 행의 주문 ID/배달 ID 를 구분해 응답, 시작 전이면 남은 시간 0")
+  void 진행중_배달_조회_테스트() {
+    // Given
+    Long riderProfileId = 1L;
+    when(deliveryRepository.findCurrentDeliveringByRider(riderProfileId)).thenReturn(List.of(
+        new CurrentDeliveringRow(6L, 106L, "테스트 상점", "주소 6", null, 20.0)));
+
+    // When
+    List<CurrentDeliveringResponseDto> current =
+        deliveryService.getCurrentDeliveringInfo(riderProfileId);
+
+    // Then
+    assertThat(current).containsExactly(CurrentDeliveringResponseDto.builder()
+        .orderId(106L)
+        .deliveryId(6L)
+        .storeName("테스트 상점")
+        .customerAddress("주소 6")
+        .remainingTime(0.0)
+        .build());
+  }
+
+  // 주문 ID = 배달 ID + 100
+  private DeliveredHistoryRow historyRow(Long deliveryId, LocalDateTime completedAt) {
+    return new DeliveredHistoryRow(deliveryId, deliveryId + 100, "테스트 상점", completedAt,
+        "주소", SettlementStatus.PENDING, 3000);
+  }
 }
@@ -0,0 +1,175 @@
+package com.deliveranything.domain.delivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deliveranything.domain.delivery.dto.RiderLocationDto;
+import com.deliveranything.domain.delivery.dto.TrackPointDto;
+import com.deliveranything.domain.delivery.dto.response.DeliveryTrackResponseDto;
+import com.deliveranything.domain.delivery.repository.DeliveryRepository;
+import com.deliveranything.domain.delivery.repository.DeliveryTrackCodec;
+import com.deliveranything.domain.delivery.repository.DeliveryTrackRepository;
+import com.deliveranything.global.exception.CustomException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeliveryTrackService 단위 테스트")
+class DeliveryTrackServiceTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+  private static final Duration RETENTION = Duration.ofDays(30);
+
+  @Mock
+  private DeliveryTrackRepository deliveryTrackRepository;
+  @Mock
+  private DeliveryRepository deliveryRepository;
+
+  private DeliveryTrackService deliveryTrackService;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+    deliveryTrackService = new DeliveryTrackService(deliveryTrackRepository, deliveryRepository,
+        Duration.ofSeconds(5), 3, Duration.ofSeconds(60), RETENTION, clock);
+  }
+
+  @Test
+  @DisplayName("최소 간격보다 촘촘한 지점은 버리고, 청크가 차면 저장")
+  void record_downsamplesAndWritesFullChunk() {
+    // Given: 라이더 1의 진행 중 배달 100
+    givenActiveDelivery();
+
+    // When: 5초 간격 3개 + 사이사이 1초 뒤 지점
+    for (int i = 0; i < 3; i++) {
+      long timestamp = NOW + i * 5_000L;
+      deliveryTrackService.record(Map.of(1L, new RiderLocationDto(37.5, 127.0, timestamp)));
+      deliveryTrackService.record(
+          Map.of(1L, new RiderLocationDto(37.5, 127.0, timestamp + 1_000L)));
+    }
+
+    // Then
+    ArgumentCaptor<byte[]> chunk = ArgumentCaptor.forClass(byte[].class);
+    verify(deliveryTrackRepository, times(1)).appendChunk(eq(100L), chunk.capture(),
+        eq(RETENTION));
+    assertThat(DeliveryTrackCodec.decode(chunk.getValue()))
+        .extracting(TrackPointDto::timestamp)
+        .containsExactly(NOW, NOW + 5_000L, NOW + 10_000L);
+  }
+
+  @Test
+  @DisplayName("배달 종료 - 남은 지점 저장 후 진행 중 목록에서 제거")
+  void stopTracking_flushesRemainingPoints() {
+    // Given
+    givenActiveDelivery();
+    deliveryTrackService.record(Map.of(1L, new RiderLocationDto(37.5, 127.0, NOW)));
+
+    // When
+    deliveryTrackService.stopTracking(1L, 100L);
+
+    // Then
+    verify(deliveryTrackRepository).removeActiveDelivery(1L, 100L);
+    verify(deliveryTrackRepository).appendChunk(eq(100L), any(byte[].class), eq(RETENTION));
+  }
+
+  @Test
+  @DisplayName("오래된 지점 저장 후 유휴 버퍼 정리 - 이후 들어온 지점은 새 버퍼에 기록되어 저장")
+  void flushAged_writesAgedThenDropsIdleBuffer() {
+    // Given: record / flushAged / flushAged / record / flushAged 순서의 시각
+    Clock clock = mock(Clock.class);
+    given(clock.millis()).willReturn(NOW, NOW + 61_000L, NOW + 122_000L, NOW + 123_000L,
+        NOW + 184_000L);
+    deliveryTrackService = new DeliveryTrackService(deliveryTrackRepository, deliveryRepository,
+        Duration.ofSeconds(5), 3, Duration.ofSeconds(60), RETENTION, clock);
+    givenActiveDelivery();
+    deliveryTrackService.record(Map.of(1L, new RiderLocationDto(37.5, 127.0, NOW)));
+
+    // When
+    deliveryTrackService.flushAged();
+    deliveryTrackService.flushAged();
+    deliveryTrackService.record(
+        Map.of(1L, new RiderLocationDto(37.6, 127.1, NOW + 123_000L)));
+    deliveryTrackService.flushAged();
+
+    // Then
+    ArgumentCaptor<byte[]> chunk = ArgumentCaptor.forClass(byte[].class);
+    verify(deliveryTrackRepository, times(2)).appendChunk(eq(100L), chunk.capture(),
+        eq(RETENTION));
+    assertThat(chunk.getAllValues())
+        .map(bytes -> DeliveryTrackCodec.decode(bytes).getFirst().timestamp())
+        .containsExactly(NOW, NOW + 123_000L);
+  }
+
+  @Test
+  @DisplayName("경로 조회 - 저장된 청크와 저장 전 지점을 합쳐 시각 순 반환")
+  void getTrack_mergesStoredAndBufferedPoints() {
+    // Given
+    givenActiveDelivery();
+    deliveryTrackService.record(Map.of(1L, new RiderLocationDto(37.6, 127.1, NOW + 10_000L)));
+    when(deliveryRepository.existsById(100L)).thenReturn(true);
+    when(deliveryTrackRepository.findChunks(100L)).thenReturn(List.of(DeliveryTrackCodec.encode(
+        List.of(new TrackPointDto(NOW, 37.5, 127.0), new TrackPointDto(NOW + 5_000L, 37.55,
+            127.05)))));
+
+    // When
+    DeliveryTrackResponseDto response = deliveryTrackService.getTrack(100L, 500);
+
+    // Then
+    assertThat(response.totalPoints()).isEqualTo(3);
+    assertThat(response.points()).extracting(TrackPointDto::timestamp)
+        .containsExactly(NOW, NOW + 5_000L, NOW + 10_000L);
+    verify(deliveryTrackRepository, never()).appendChunk(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("경로 조회 - 없는 배달이면 예외")
+  void getTrack_unknownDelivery_throws() {
+    when(deliveryRepository.existsById(999L)).thenReturn(false);
+
+    assertThatThrownBy(() -> deliveryTrackService.getTrack(999L, 500))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  @DisplayName("다운샘플링 - 처음과 마지막 지점을 포함해 maxPoints 개로 균등 추출")
+  void downsample_keepsEndpoints() {
+    // Given
+    List<TrackPointDto> points = new ArrayList<>();
+    for (int i = 0; i < 101; i++) {
+      points.add(new TrackPointDto(NOW + i, 37.5, 127.0));
+    }
+
+    // When
+    List<TrackPointDto> sampled = DeliveryTrackService.downsample(points, 5);
+
+    // Then
+    assertThat(sampled).extracting(TrackPointDto::timestamp)
+        .containsExactly(NOW, NOW + 25, NOW + 50, NOW + 75, NOW + 100);
+  }
+
+  private void givenActiveDelivery() {
+    when(deliveryTrackRepository.findActiveDeliveries(anyList()))
+        .thenReturn(Map.of(1L, List.of(100L)));
+  }
+}
@@ -0,0 +1,120 @@
+package com.deliveranything.domain.delivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.deliveranything.domain.delivery.dto.OrderDetailsDto;
+import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DispatchAssignmentSolver 단위 테스트")
+class DispatchAssignmentSolverTest {
+
+  @Test
+  @DisplayName("라이더 1명이 두 주문 모두 가장 가까움 - 한 주문만 제안, 다른 주문은 다음 라이더")
+  void sharedBestRider_offeredOnlyOnce() {
+    // Given: rider1 은 두 주문 모두 가장 가깝지만 order1 에 더 가까움
+    Map<String, List<RiderNotificationDto>> candidates = new LinkedHashMap<>();
+    candidates.put("order1", List.of(offer("order1", "rider1", 3.0),
+        offer("order1", "rider2", 10.0)));
+    candidates.put("order2", List.of(offer("order2", "rider1", 4.0),
+        offer("order2", "rider3", 6.0)));
+
+    // When
+    DispatchAssignmentSolver.Result result = DispatchAssignmentSolver.solve(candidates, Map.of(),
+        1, 1, 2);
+
+    // Then
+    assertThat(result.offers().get("order1")).extracting(RiderNotificationDto::riderId)
+        .containsExactly("rider1");
+    assertThat(result.offers().get("order2")).extracting(RiderNotificationDto::riderId)
+        .containsExactly("rider3");
+    assertThat(result.deferred()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("후보 라이더가 모두 다른 주문에 배정 - 다음 구간으로 넘김")
+  void noFreeRider_deferred() {
+    // Given
+    Map<String, List<RiderNotificationDto>> candidates = new LinkedHashMap<>();
+    candidates.put("order1", List.of(offer("order1", "rider1", 3.0)));
+    candidates.put("order2", List.of(offer("order2", "rider1", 4.0)));
+
+    // When
+    DispatchAssignmentSolver.Result result = DispatchAssignmentSolver.solve(candidates, Map.of(),
+        1, 3, 2);
+
+    // Then
+    assertThat(result.offers()).containsOnlyKeys("order1");
+    assertThat(result.deferred()).containsOnlyKeys("order2");
+  }
+
+  @Test
+  @DisplayName("대기 한도 미만 - 한 구간 넘어간 주문은 최대 2구간까지 다시 넘김")
+  void belowMaxWait_deferredAgain() {
+    // Given: order2 는 이미 한 구간 대기
+    Map<String, List<RiderNotificationDto>> candidates = new LinkedHashMap<>();
+    candidates.put("order1", List.of(offer("order1", "rider1", 3.0)));
+    candidates.put("order2", List.of(offer("order2", "rider1", 4.0)));
+
+    // When
+    DispatchAssignmentSolver.Result result = DispatchAssignmentSolver.solve(candidates,
+        Map.of("order2", 1), 1, 3, 2);
+
+    // Then
+    assertThat(result.offers()).containsOnlyKeys("order1");
+    assertThat(result.deferred()).containsOnlyKeys("order2");
+  }
+
+  @Test
+  @DisplayName("대기 한도 도달 - 라이더 제안 한도와 무관하게 가까운 후보에게 제안")
+  void maxWaitReached_offeredAnyway() {
+    // Given: order2 는 이미 최대 2구간 대기
+    Map<String, List<RiderNotificationDto>> candidates = new LinkedHashMap<>();
+    candidates.put("order1", List.of(offer("order1", "rider1", 3.0)));
+    candidates.put("order2", List.of(offer("order2", "rider1", 4.0)));
+
+    // When
+    DispatchAssignmentSolver.Result result = DispatchAssignmentSolver.solve(candidates,
+        Map.of("order2", 2), 1, 3, 2);
+
+    // Then
+    assertThat(result.offers()).containsOnlyKeys("order1", "order2");
+    assertThat(result.deferred()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("주문당 제안 라이더 수 한도")
+  void ridersPerOrderLimit() {
+    // Given
+    Map<String, List<RiderNotificationDto>> candidates = Map.of("order1", List.of(
+        offer("order1", "rider1", 5.0), offer("order1", "rider2", 3.0),
+        offer("order1", "rider3", 4.0)));
+
+    // When
+    DispatchAssignmentSolver.Result result = DispatchAssignmentSolver.solve(candidates, Map.of(),
+        1, 2, 2);
+
+    // Then: ETA 가 짧은 2명
+    assertThat(result.offers().get("order1")).extracting(RiderNotificationDto::riderId)
+        .containsExactly("rider2", "rider3");
+  }
+
+  private RiderNotificationDto offer(String orderId, String riderId, double etaMinutes) {
+    return RiderNotificationDto.builder()
+        .orderDetailsDto(OrderDetailsDto.builder()
+            .orderId(orderId)
+            .storeName("store")
+            .distance(2.0)
+            .expectedCharge(3000)
+            .build())
+        .riderId(riderId)
+        .etaMinutes(etaMinutes)
+        .orderDeliveryStatus(OrderStatus.RIDER_ASSIGNED)
+        .build();
+  }
+}
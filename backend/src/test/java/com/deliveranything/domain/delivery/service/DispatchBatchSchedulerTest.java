@@ -0,0 +1,152 @@
+package com.deliveranything.domain.delivery.service;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.deliveranything.domain.delivery.config.DispatchProperties;
+import com.deliveranything.domain.delivery.dto.OrderDetailsDto;
+import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
+import com.deliveranything.domain.delivery.repository.PendingDispatchRepository;
+import com.deliveranything.domain.notification.subscriber.delivery.OrderAcceptedNotifier;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DispatchBatchScheduler 단위 테스트")
+class DispatchBatchSchedulerTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+  private static final long LEASE_UNTIL = NOW + 30_000;
+
+  @Mock
+  private OrderAcceptedNotifier orderAcceptedNotifier;
+  @Mock
+  private PendingDispatchRepository pendingDispatchRepository;
+
+  private DispatchBatchScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    // 라이더당 1건, 주문당 라이더 3명, 최대 2구간 대기, 점유 30초
+    Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+    scheduler = new DispatchBatchScheduler(orderAcceptedNotifier, pendingDispatchRepository,
+        new DispatchProperties(), clock);
+  }
+
+  @Test
+  @DisplayName("빈 구간 - 제안 없음")
+  void emptyWindow_noOffers() {
+    // When
+    scheduler.dispatchWindow();
+
+    // Then
+    verifyNoInteractions(orderAcceptedNotifier, pendingDispatchRepository);
+  }
+
+  @Test
+  @DisplayName("구간 동안 모은 주문 - 한 번에 배정해 같은 라이더에게 몰리지 않게 제안, 제안한 주문은 비움")
+  void window_assignsTogetherAndFlushes() {
+    // Given: rider1 은 두 주문 모두 가장 가깝지만 order1 에 더 가까움
+    RiderNotificationDto order1Rider1 = offer("order1", "rider1", 3.0);
+    RiderNotificationDto order1Rider2 = offer("order1", "rider2", 10.0);
+    RiderNotificationDto order2Rider1 = offer("order2", "rider1", 4.0);
+    RiderNotificationDto order2Rider3 = offer("order2", "rider3", 6.0);
+    scheduler.submit("order1", List.of(order1Rider1, order1Rider2));
+    scheduler.submit("order2", List.of(order2Rider1, order2Rider3));
+
+    // When
+    scheduler.dispatchWindow();
+    scheduler.dispatchWindow();
+
+    // Then: 두 번째 구간에는 제안할 주문이 없음
+    verify(orderAcceptedNotifier).publish(List.of(order1Rider1, order1Rider2));
+    verify(orderAcceptedNotifier).publish(List.of(order2Rider3));
+    verify(orderAcceptedNotifier, times(2)).publish(anyList());
+    verify(pendingDispatchRepository).remove("order1");
+    verify(pendingDispatchRepository).remove("order2");
+  }
+
+  @Test
+  @DisplayName("배정받지 못한 주문 - 다음 구간으로 넘기고 대기 한도에 닿으면 제안")
+  void deferred_offeredAtMaxWait() {
+    // Given: 후보가 rider1 뿐인 두 주문
+    RiderNotificationDto order1Rider1 = offer("order1", "rider1", 3.0);
+    RiderNotificationDto order2Rider1 = offer("order2", "rider1", 4.0);
+    scheduler.submit("order1", List.of(order1Rider1));
+    scheduler.submit("order2", List.of(order2Rider1));
+
+    // When: order2 는 두 구간 넘어간 뒤 세 번째 구간에 제안
+    scheduler.dispatchWindow();
+    scheduler.dispatchWindow();
+    verify(orderAcceptedNotifier, times(1)).publish(anyList());
+    verify(pendingDispatchRepository, never()).remove("order2");
+    scheduler.dispatchWindow();
+
+    // Then: 넘어간 구간마다 대기 상태 점유 연장, 제안 후 삭제
+    verify(orderAcceptedNotifier).publish(List.of(order1Rider1));
+    verify(orderAcceptedNotifier).publish(List.of(order2Rider1));
+    verify(pendingDispatchRepository, times(2)).extendLease(List.of("order2"), LEASE_UNTIL);
+    verify(pendingDispatchRepository).remove("order2");
+  }
+
+  @Test
+  @DisplayName("제안 전송 실패 - 대기 상태를 남겨 점유 만료 후 다시 시도")
+  void publishFailed_keepsPendingRecord() {
+    // Given
+    RiderNotificationDto order1Rider1 = offer("order1", "rider1", 3.0);
+    doThrow(new IllegalStateException("broker down")).when(orderAcceptedNotifier)
+        .publish(List.of(order1Rider1));
+    scheduler.submit("order1", List.of(order1Rider1));
+
+    // When
+    scheduler.dispatchWindow();
+
+    // Then
+    verify(pendingDispatchRepository, never()).remove(anyString());
+  }
+
+  @Test
+  @DisplayName("대기 중 같은 주문 재수신 - 새 후보로 다시 계산")
+  void resubmittedWhileDeferred_usesNewCandidates() {
+    // Given: order2 는 첫 구간에서 넘어감
+    scheduler.submit("order1", List.of(offer("order1", "rider1", 3.0)));
+    scheduler.submit("order2", List.of(offer("order2", "rider1", 4.0)));
+    scheduler.dispatchWindow();
+
+    // When
+    RiderNotificationDto order2Rider4 = offer("order2", "rider4", 2.0);
+    scheduler.submit("order2", List.of(order2Rider4));
+    scheduler.dispatchWindow();
+
+    // Then
+    verify(orderAcceptedNotifier).publish(List.of(order2Rider4));
+  }
+
+  private static RiderNotificationDto offer(String orderId, String riderId, double eta) {
+    return RiderNotificationDto.builder()
+        .orderDetailsDto(OrderDetailsDto.builder()
+            .orderId(orderId)
+            .storeName("storeName")
+            .distance(2.0)
+            .expectedCharge(3000)
+            .build())
+        .riderId(riderId)
+        .etaMinutes(eta)
+        .orderDeliveryStatus(OrderStatus.RIDER_ASSIGNED)
+        .build();
+  }
+}
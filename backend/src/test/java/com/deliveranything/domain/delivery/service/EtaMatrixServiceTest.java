@@ -0,0 +1,141 @@
+package com.deliveranything.domain.delivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deliveranything.domain.delivery.client.KakaoNaviClient;
+import com.deliveranything.domain.delivery.client.NaviRoute;
+import com.deliveranything.domain.delivery.repository.RouteCacheRepository;
+import com.deliveranything.domain.delivery.repository.RouteCacheRepository.RouteSummary;
+import com.deliveranything.domain.delivery.service.LearnedEtaModel.Prediction;
+import com.deliveranything.domain.notification.subscriber.delivery.OrderAssignFailedNotifier;
+import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import com.deliveranything.global.util.GeoUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.geo.Point;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EtaMatrixService 단위 테스트")
+class EtaMatrixServiceTest {
+
+  @InjectMocks
+  private EtaMatrixService etaMatrixService;
+
+  @Mock
+  private KakaoNaviClient kakaoNaviClient;
+
+  @Mock
+  private OrderAssignFailedNotifier orderAssignFailedNotifier;
+  @Mock
+  private RouteCacheRepository routeCacheRepository;
+  @Mock
+  private LearnedEtaService learnedEtaService;
+
+  private OrderAcceptedEvent orderAcceptedEvent;
+
+  @BeforeEach
+  void setUp() {
+    orderAcceptedEvent = new OrderAcceptedEvent(
+        "order123", new ArrayList<>(), 1L, 1L, "storeName",
+        127.0, 37.5, 127.1, 37.6
+    );
+  }
+
+  @Test
+  @DisplayName("다중 출발지 미설정 - 외부 호출 없이 로컬 추정치로 전체 라이더 ETA 계산")
+  void getEtaMatrix_withoutMultiOrigin_usesLocalEstimate() {
+    // Given
+    List<Point> riderPoints = List.of(new Point(127.1, 37.59), new Point(127.05, 37.55));
+    List<String> riderIds = List.of("rider1", "rider2");
+
+    // When
+    Map<String, Double> result = etaMatrixService.getEtaMatrix(orderAcceptedEvent, riderPoints,
+        riderIds);
+
+    // Then
+    assertThat(result).hasSize(2);
+    assertThat(result.get("rider1")).isLessThan(result.get("rider2"));
+    verify(kakaoNaviClient, never()).multiOriginRoutes(any(), anyDouble(), anyDouble());
+    verify(orderAssignFailedNotifier, never()).publish(any());
+  }
+
+  @Test
+  @DisplayName("다중 출발지 설정 - 캐시에 있는 경로는 외부 호출 없이 반환")
+  void getEtaMatrix_cachedRoutes_skipsNetwork() {
+    // Given
+    when(kakaoNaviClient.isMultiOriginEnabled()).thenReturn(true);
+    List<Point> riderPoints = List.of(new Point(127.1, 37.59));
+    List<String> riderIds = List.of("rider1");
+    when(routeCacheRepository.find(37.59, 127.1, 37.6, 127.1))
+        .thenReturn(Optional.of(new RouteSummary(1200.0, 600.0)));
+
+    // When
+    Map<String, Double> result = etaMatrixService.getEtaMatrix(orderAcceptedEvent, riderPoints,
+        riderIds);
+
+    // Then
+    assertThat(result.get("rider1")).isEqualTo(10.0);
+    verify(kakaoNaviClient, never()).multiOriginRoutes(any(), anyDouble(), anyDouble());
+  }
+
+  @Test
+  @DisplayName("다중 출발지 설정 - 학습 모델 신뢰도가 높으면 외부 호출 없이 예측값 사용")
+  void getEtaMatrix_confidentLearnedEta_skipsNetwork() {
+    // Given
+    when(kakaoNaviClient.isMultiOriginEnabled()).thenReturn(true);
+    List<Point> riderPoints = List.of(new Point(127.1, 37.59));
+    List<String> riderIds = List.of("rider1");
+    when(routeCacheRepository.find(37.59, 127.1, 37.6, 127.1)).thenReturn(Optional.empty());
+    when(learnedEtaService.predict(37.59, 127.1, 37.6, 127.1, null))
+        .thenReturn(Optional.of(new Prediction(7.26, true, 120)));
+
+    // When
+    Map<String, Double> result = etaMatrixService.getEtaMatrix(orderAcceptedEvent, riderPoints,
+        riderIds);
+
+    // Then
+    assertThat(result.get("rider1")).isEqualTo(7.3);
+    verify(kakaoNaviClient, never()).multiOriginRoutes(any(), anyDouble(), anyDouble());
+  }
+
+  @Test
+  @DisplayName("로컬 추정치 - 직선 거리 x 우회 계수 / 평균 속도")
+  void estimateEtaMinutes_appliesDetourAndSpeed() {
+    // Given
+    double km = GeoUtil.distanceKm(37.5, 127.0, 37.6, 127.1);
+    double expected = km * NaviRoute.ROAD_DETOUR_FACTOR / NaviRoute.AVG_RIDER_SPEED_KMH * 60.0;
+
+    // When
+    double eta = EtaMatrixService.estimateEtaMinutes(37.5, 127.0, 37.6, 127.1);
+
+    // Then
+    assertThat(eta).isCloseTo(expected, within(0.1));
+  }
+
+  @Test
+  @DisplayName("후보 라이더 없음 - 배정 실패 알림 발행")
+  void getEtaMatrix_noRiders_publishesAssignFailed() {
+    // When
+    Map<String, Double> result = etaMatrixService.getEtaMatrix(orderAcceptedEvent, List.of(),
+        List.of());
+
+    // Then
+    assertThat(result).isEmpty();
+    verify(orderAssignFailedNotifier).publish(any());
+  }
+}
@@ -0,0 +1,99 @@
+package com.deliveranything.domain.delivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.deliveranything.domain.delivery.dto.EtaTrainingSample;
+import com.deliveranything.domain.delivery.service.LearnedEtaModel.Prediction;
+import com.deliveranything.global.util.PointUtil;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LearnedEtaModel 단위 테스트")
+class LearnedEtaModelTest {
+
+  private static final LocalDateTime NOON = LocalDateTime.of(2025, 1, 6, 12, 0);
+
+  @Test
+  @DisplayName("표본 부족 - 예측 없음")
+  void notEnoughSamples_noPrediction() {
+    LearnedEtaModel model = new LearnedEtaModel(30, 0.2);
+    model.observe(sample(1L, 1.5, 10.0, NOON));
+
+    assertThat(model.predict(12, 1.5, null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("일관된 소요 시간 - 회귀 예측값 + 신뢰도 높음")
+  void consistentSamples_confidentPrediction() {
+    // Given: 같은 시간대, 1.0 ~ 1.9km, 분 = 4 + 4 * km
+    LearnedEtaModel model = new LearnedEtaModel(30, 0.2);
+    for (int i = 0; i < 40; i++) {
+      double km = 1.0 + (i % 10) * 0.1;
+      model.observe(sample(1L, km, 4.0 + 4.0 * km, NOON));
+    }
+
+    // When
+    Optional<Prediction> prediction = model.predict(12, 1.5, null);
+
+    // Then
+    assertThat(prediction).isPresent();
+    assertThat(prediction.get().minutes()).isCloseTo(10.0, within(0.3));
+    assertThat(prediction.get().confident()).isTrue();
+  }
+
+  @Test
+  @DisplayName("다른 시간대 - 전체 수준으로 예측하되 신뢰도 낮음")
+  void otherHour_fallsBackWithoutConfidence() {
+    // Given
+    LearnedEtaModel model = new LearnedEtaModel(30, 0.2);
+    for (int i = 0; i < 40; i++) {
+      double km = 1.0 + (i % 10) * 0.1;
+      model.observe(sample(1L, km, 4.0 + 4.0 * km, NOON));
+    }
+
+    // When
+    Optional<Prediction> prediction = model.predict(3, 1.5, null);
+
+    // Then
+    assertThat(prediction).isPresent();
+    assertThat(prediction.get().confident()).isFalse();
+  }
+
+  @Test
+  @DisplayName("상점 보정 - 항상 느린 상점은 예측값이 늘어남")
+  void slowStore_adjustsPrediction() {
+    // Given: 상점 1은 기준, 상점 2는 매번 5분 더 걸림
+    LearnedEtaModel model = new LearnedEtaModel(30, 0.5);
+    for (int i = 0; i < 40; i++) {
+      double km = 1.0 + (i % 10) * 0.1;
+      model.observe(sample(1L, km, 4.0 + 4.0 * km, NOON));
+    }
+    for (int i = 0; i < 40; i++) {
+      double km = 1.0 + (i % 10) * 0.1;
+      model.observe(sample(2L, km, 9.0 + 4.0 * km, NOON));
+    }
+
+    // When
+    double normal = model.predict(12, 1.5, 1L).orElseThrow().minutes();
+    double slow = model.predict(12, 1.5, 2L).orElseThrow().minutes();
+
+    // Then
+    assertThat(slow).isGreaterThan(normal + 1.0);
+  }
+
+  // 상점에서 북쪽으로 km 떨어진 고객, 소요 시간 minutes
+  private EtaTrainingSample sample(Long storeId, double km, double minutes,
+      LocalDateTime startedAt) {
+    double storeLat = 37.5;
+    double storeLon = 127.0;
+    double customerLat = storeLat + km / 111.195;
+    return new EtaTrainingSample(storeId,
+        PointUtil.createPoint(storeLat, storeLon),
+        PointUtil.createPoint(customerLat, storeLon),
+        startedAt,
+        startedAt.plusSeconds((long) (minutes * 60)));
+  }
+}
@@ -2,13 +2,16 @@ package com.deliveranything.domain.delivery.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import com.deliveranything.domain.delivery.config.DispatchProperties;
 import com.deliveranything.domain.delivery.event.dto.OrderAssignFailedEvent;
 import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
 import com.deliveranything.domain.order.event.OrderAcceptedEvent;
 import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -18,7 +21,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OrderNotificationService 단위 테스트")
@@ -33,6 +39,9 @@ class OrderNotificationServiceTest {
   @Mock
   private EtaService etaService;
 
+  @Spy
+  private DispatchProperties dispatchProperties = new DispatchProperties();
+
   private OrderAcceptedEvent orderAcceptedEvent;
   private OrderAssignFailedEvent orderAssignFailedEvent;
 
@@ -54,13 +63,14 @@ class OrderNotificationServiceTest {
     OrderAcceptedEvent event = createOrderEvent();
 
     // Mock 설정
-    when(etaService.getDistance(event))
-        .thenReturn(Map.of("distance", 2.0));
-    when(reactiveRiderEtaService.findNearbyRidersEta(eq(event), anyDouble()))
-        .thenReturn(Map.of("rider1", 15.0));
+    when(etaService.distanceKm(event))
+        .thenReturn(Mono.just(2.0));
+    when(reactiveRiderEtaService.streamNearbyRidersEta(eq(event), anyDouble(), anyInt()))
+        .thenReturn(riders(Map.of("rider1", 15.0)));
 
     // When
-    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event);
+    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event, 3.0)
+        .block();
 
     // Then: 3000원 (기본 요금)
     assertThat(result).hasSize(1);
@@ -77,13 +87,14 @@ class OrderNotificationServiceTest {
     OrderAcceptedEvent event = createOrderEvent();
 
     // Mock 설정
-    when(etaService.getDistance(event))
-        .thenReturn(Map.of("distance", 5.0));
-    when(reactiveRiderEtaService.findNearbyRidersEta(eq(event), anyDouble()))
-        .thenReturn(Map.of("rider1", 20.0));
+    when(etaService.distanceKm(event))
+        .thenReturn(Mono.just(5.0));
+    when(reactiveRiderEtaService.streamNearbyRidersEta(eq(event), anyDouble(), anyInt()))
+        .thenReturn(riders(Map.of("rider1", 20.0)));
 
     // When
-    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event);
+    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event, 3.0)
+        .block();
 
     // Then: 5000원 (3000 + 2000)
     assertThat(result).hasSize(1);
@@ -98,13 +109,14 @@ class OrderNotificationServiceTest {
     OrderAcceptedEvent event = createOrderEvent();
 
     // Mock 설정
-    when(etaService.getDistance(event))
-        .thenReturn(Map.of("distance", 4.3));
-    when(reactiveRiderEtaService.findNearbyRidersEta(eq(event), anyDouble()))
-        .thenReturn(Map.of("rider1", 18.0));
+    when(etaService.distanceKm(event))
+        .thenReturn(Mono.just(4.3));
+    when(reactiveRiderEtaService.streamNearbyRidersEta(eq(event), anyDouble(), anyInt()))
+        .thenReturn(riders(Map.of("rider1", 18.0)));
 
     // When
-    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event);
+    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event, 3.0)
+        .block();
 
     // Then: 4300원 (3000 + 1300, Math.ceil(1.3) = 2)
     assertThat(result).hasSize(1);
@@ -118,13 +130,14 @@ class OrderNotificationServiceTest {
     OrderAcceptedEvent event = createOrderEvent();
 
     // Mock 설정
-    when(etaService.getDistance(event))
-        .thenReturn(Map.of("distance", 2.0));
-    when(reactiveRiderEtaService.findNearbyRidersEta(eq(event), anyDouble()))
-        .thenReturn(Map.of());
+    when(etaService.distanceKm(event))
+        .thenReturn(Mono.just(2.0));
+    when(reactiveRiderEtaService.streamNearbyRidersEta(eq(event), anyDouble(), anyInt()))
+        .thenReturn(Flux.empty());
 
     // When
-    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event);
+    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event, 3.0)
+        .block();
 
     // Then: 빈 리스트
     assertThat(result).isEmpty();
@@ -137,16 +150,17 @@ class OrderNotificationServiceTest {
     OrderAcceptedEvent event = createOrderEvent();
 
     // Mock 설정
-    when(etaService.getDistance(event))
-        .thenReturn(Map.of("distance", 2.0));
-    when(reactiveRiderEtaService.findNearbyRidersEta(eq(event), anyDouble()))
-        .thenReturn(Map.of(
+    when(etaService.distanceKm(event))
+        .thenReturn(Mono.just(2.0));
+    when(reactiveRiderEtaService.streamNearbyRidersEta(eq(event), anyDouble(), anyInt()))
+        .thenReturn(riders(Map.of(
             "rider1", 15.0,
             "rider2", 25.0
-        ));
+        )));
 
     // When
-    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event);
+    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event, 3.0)
+        .block();
 
     // Then: 2명의 라이더
     assertThat(result).hasSize(2);
@@ -168,13 +182,14 @@ class OrderNotificationServiceTest {
     OrderAcceptedEvent event = createOrderEvent();
 
     // Mock 설정
-    when(etaService.getDistance(event))
-        .thenReturn(Map.of()); // 빈 맵
-    when(reactiveRiderEtaService.findNearbyRidersEta(eq(event), anyDouble()))
-        .thenReturn(Map.of("rider1", 15.0));
+    when(etaService.distanceKm(event))
+        .thenReturn(Mono.empty()); // 거리 응답 없음
+    when(reactiveRiderEtaService.streamNearbyRidersEta(eq(event), anyDouble(), anyInt()))
+        .thenReturn(riders(Map.of("rider1", 15.0)));
 
     // When
-    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event);
+    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event, 3.0)
+        .block();
 
     // Then: 기본 배송비 3000원
     assertThat(result).hasSize(1);
@@ -182,6 +197,55 @@ class OrderNotificationServiceTest {
     assertThat(result.get(0).orderDetailsDto().distance()).isEqualTo(0.0);
   }
 
+  @Test
+  @DisplayName("충분한 라이더 응답 시 나머지를 기다리지 않고 반환")
+  void 충분한_라이더_부분결과_테스트() {
+    // Given: 충분한 라이더 수 1명
+    dispatchProperties.setEnoughRiders(1);
+    OrderAcceptedEvent event = createOrderEvent();
+
+    when(etaService.distanceKm(event))
+        .thenReturn(Mono.just(2.0));
+    when(reactiveRiderEtaService.streamNearbyRidersEta(eq(event), anyDouble(), anyInt()))
+        .thenReturn(Flux.concat(Flux.just(Map.entry("rider1", 15.0)), Flux.never()));
+
+    // When
+    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event, 3.0)
+        .block(Duration.ofSeconds(1));
+
+    // Then: 응답하지 않는 라이더를 기다리지 않음
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0).riderId()).isEqualTo("rider1");
+  }
+
+  @Test
+  @DisplayName("제한 시간 초과 - 그때까지 응답한 라이더로 반환")
+  void 제한시간_초과_부분결과_테스트() {
+    // Given: 제한 시간 100ms, 두 번째 라이더는 응답 없음
+    dispatchProperties.setDeadline(Duration.ofMillis(100));
+    OrderAcceptedEvent event = createOrderEvent();
+
+    when(etaService.distanceKm(event))
+        .thenReturn(Mono.never());
+    when(etaService.estimateDistanceKm(event))
+        .thenReturn(4.0);
+    when(reactiveRiderEtaService.streamNearbyRidersEta(eq(event), anyDouble(), anyInt()))
+        .thenReturn(Flux.concat(Flux.just(Map.entry("rider1", 15.0)), Flux.never()));
+
+    // When
+    List<RiderNotificationDto> result = orderNotificationService.processOrderEvent(event, 3.0)
+        .block(Duration.ofSeconds(1));
+
+    // Then: 추정 거리로 배송비 계산, 응답한 라이더만 포함
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0).orderDetailsDto().distance()).isEqualTo(4.0);
+    assertThat(result.get(0).orderDetailsDto().expectedCharge()).isEqualTo(4000);
+  }
+
+  private Flux<Map.Entry<String, Double>> riders(Map<String, Double> etas) {
+    return Flux.fromIterable(etas.entrySet());
+  }
+
   private OrderAcceptedEvent createOrderEvent() {
     List<OrderItemInfo> orderItems = new ArrayList<>();
     orderItems.add(new OrderItemInfo(1L, 2));
@@ -0,0 +1,200 @@
+package com.deliveranything.domain.delivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deliveranything.domain.delivery.config.DispatchProperties;
+import com.deliveranything.domain.delivery.dto.OrderDetailsDto;
+import com.deliveranything.domain.delivery.event.dto.OrderAssignFailedEvent;
+import com.deliveranything.domain.delivery.event.dto.RiderNotificationDto;
+import com.deliveranything.domain.delivery.repository.PendingDispatchRepository;
+import com.deliveranything.domain.delivery.repository.PendingDispatchRepository.PendingDispatch;
+import com.deliveranything.domain.notification.subscriber.delivery.OrderAssignFailedNotifier;
+import com.deliveranything.domain.order.enums.OrderStatus;
+import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RadiusExpansionDispatcher 단위 테스트")
+class RadiusExpansionDispatcherTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+  private static final long VERIFY_TIMEOUT_MS = 1000;
+
+  @Mock
+  private OrderNotificationService orderNotificationService;
+  @Mock
+  private DispatchBatchScheduler dispatchBatchScheduler;
+  @Mock
+  private OrderAssignFailedNotifier orderAssignFailedNotifier;
+  @Mock
+  private PendingDispatchRepository pendingDispatchRepository;
+
+  private final DispatchProperties dispatchProperties = new DispatchProperties();
+  private RadiusExpansionDispatcher dispatcher;
+  private OrderAcceptedEvent order;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+    dispatcher = new RadiusExpansionDispatcher(orderNotificationService, dispatchBatchScheduler,
+        orderAssignFailedNotifier, pendingDispatchRepository, dispatchProperties,
+        new SimpleMeterRegistry(), clock);
+    order = new OrderAcceptedEvent("order1", new ArrayList<>(), 1L, 1L, "storeName",
+        127.0, 37.5, 127.1, 37.6);
+  }
+
+  @Test
+  @DisplayName("첫 반경에 후보 충분 - 대기 상태는 남긴 채 배치 배정에 제출")
+  void enoughCandidates_submitted() {
+    // Given
+    List<RiderNotificationDto> riders = riders(3);
+    when(pendingDispatchRepository.start(new PendingDispatch(order, 0), NOW + 30_000,
+        Duration.ofSeconds(30))).thenReturn(true);
+    when(orderNotificationService.processOrderEvent(order, 3.0)).thenReturn(Mono.just(riders));
+
+    // When: 시작 시 점유 시간만큼 미뤄 저장
+    dispatcher.dispatch(order);
+
+    // Then
+    verify(dispatchBatchScheduler, timeout(VERIFY_TIMEOUT_MS)).submit("order1", riders);
+    verify(pendingDispatchRepository, never()).remove("order1");
+  }
+
+  @Test
+  @DisplayName("다른 노드가 먼저 시작 - 시도하지 않음")
+  void alreadyStarted_skipped() {
+    // Given
+    when(pendingDispatchRepository.start(any(), anyLong(), any())).thenReturn(false);
+
+    // When
+    dispatcher.dispatch(order);
+
+    // Then
+    verify(orderNotificationService, never()).processOrderEvent(any(), anyDouble());
+    verify(pendingDispatchRepository, never()).schedule(any(), anyLong());
+  }
+
+  @Test
+  @DisplayName("후보 없음 - 다음 반경 시도를 backoff 후로 예약")
+  void noCandidates_retryAfterBackoff() {
+    // Given
+    givenStarted();
+    when(orderNotificationService.processOrderEvent(order, 3.0)).thenReturn(Mono.just(List.of()));
+
+    // When
+    dispatcher.dispatch(order);
+
+    // Then
+    verify(pendingDispatchRepository, timeout(VERIFY_TIMEOUT_MS))
+        .schedule(new PendingDispatch(order, 1), NOW + 5_000);
+    verify(dispatchBatchScheduler, never()).submit(anyString(), anyList());
+  }
+
+  @Test
+  @DisplayName("후보 부족 - 기다리지 않고 바로 다음 반경 시도 예약")
+  void fewCandidates_expandImmediately() {
+    // Given
+    givenStarted();
+    when(orderNotificationService.processOrderEvent(order, 3.0))
+        .thenReturn(Mono.just(riders(1)));
+
+    // When
+    dispatcher.dispatch(order);
+
+    // Then
+    verify(pendingDispatchRepository, timeout(VERIFY_TIMEOUT_MS))
+        .schedule(new PendingDispatch(order, 1), NOW);
+  }
+
+  @Test
+  @DisplayName("마지막 반경에서 후보 부족 - 있는 후보로 제출")
+  void widestRing_submitsWhatItHas() {
+    // Given: 3번째 시도부터는 반경이 더 넓어지지 않음
+    List<RiderNotificationDto> riders = riders(1);
+    when(pendingDispatchRepository.claimDue(eq(NOW), anyLong(), anyInt()))
+        .thenReturn(List.of(new PendingDispatch(order, 2)));
+    when(orderNotificationService.processOrderEvent(order, 8.0)).thenReturn(Mono.just(riders));
+
+    // When
+    dispatcher.pollDue();
+
+    // Then
+    verify(dispatchBatchScheduler, timeout(VERIFY_TIMEOUT_MS)).submit("order1", riders);
+  }
+
+  @Test
+  @DisplayName("모든 시도 실패 - 배정 실패 알림 후 대기 상태 삭제")
+  void exhausted_publishesAssignFailed() {
+    // Given
+    when(pendingDispatchRepository.claimDue(eq(NOW), anyLong(), anyInt()))
+        .thenReturn(List.of(new PendingDispatch(order, 4)));
+    when(orderNotificationService.processOrderEvent(order, 8.0))
+        .thenReturn(Mono.error(new IllegalStateException("redis down")));
+
+    // When
+    dispatcher.pollDue();
+
+    // Then
+    verify(orderAssignFailedNotifier, timeout(VERIFY_TIMEOUT_MS))
+        .publish(new OrderAssignFailedEvent(order));
+    verify(pendingDispatchRepository, timeout(VERIFY_TIMEOUT_MS)).remove("order1");
+  }
+
+  @Test
+  @DisplayName("반경/backoff 계산 - 마지막 반경 유지, 최대 대기 시간 제한")
+  void radiusAndBackoff() {
+    assertThat(dispatcher.radiusFor(0)).isEqualTo(3.0);
+    assertThat(dispatcher.radiusFor(1)).isEqualTo(5.0);
+    assertThat(dispatcher.radiusFor(4)).isEqualTo(8.0);
+
+    assertThat(dispatcher.backoffMillis(0)).isEqualTo(5_000);
+    assertThat(dispatcher.backoffMillis(2)).isEqualTo(20_000);
+    assertThat(dispatcher.backoffMillis(10)).isEqualTo(60_000);
+  }
+
+  private void givenStarted() {
+    when(pendingDispatchRepository.start(any(), anyLong(), any())).thenReturn(true);
+  }
+
+  private List<RiderNotificationDto> riders(int count) {
+    List<RiderNotificationDto> riders = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      riders.add(RiderNotificationDto.builder()
+          .orderDetailsDto(OrderDetailsDto.builder()
+              .orderId("order1")
+              .storeName("storeName")
+              .distance(2.0)
+              .expectedCharge(3000)
+              .build())
+          .riderId("rider" + i)
+          .etaMinutes(5.0 + i)
+          .orderDeliveryStatus(OrderStatus.RIDER_ASSIGNED)
+          .build());
+    }
+    return riders;
+  }
+}
@@ -0,0 +1,152 @@
+package com.deliveranything.domain.delivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.deliveranything.domain.delivery.dto.RiderDailyStats;
+import com.deliveranything.domain.delivery.entity.Delivery;
+import com.deliveranything.domain.delivery.enums.DeliveryStatus;
+import com.deliveranything.domain.delivery.repository.DeliveryRepository;
+import com.deliveranything.domain.delivery.repository.RiderDailyStatsRepository;
+import com.deliveranything.domain.order.dto.OrderResponse;
+import com.deliveranything.domain.order.service.DeliveryOrderService;
+import com.deliveranything.domain.user.profile.entity.RiderProfile;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RiderDailyStatsService 단위 테스트")
+class RiderDailyStatsServiceTest {
+
+  @InjectMocks
+  private RiderDailyStatsService riderDailyStatsService;
+
+  @Mock
+  private RiderDailyStatsRepository riderDailyStatsRepository;
+  @Mock
+  private DeliveryRepository deliveryRepository;
+  @Mock
+  private DeliveryOrderService deliveryOrderService;
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("집계 있음 - 집계 1회 조회, DB 조회 없음")
+  void 집계_조회_테스트() {
+    // Given
+    RiderDailyStats stats = new RiderDailyStats(3, 2, 4800, 9000);
+    when(riderDailyStatsRepository.find(1L, LocalDate.now())).thenReturn(Optional.of(stats));
+
+    // When
+    RiderDailyStats result = riderDailyStatsService.getToday(1L);
+
+    // Then: 평균 = 4800초 / 2건 = 40분
+    assertThat(result.completedCount()).isEqualTo(3);
+    assertThat(result.avgDeliveryMinutes()).isEqualTo(40.0);
+    verifyNoInteractions(deliveryRepository, deliveryOrderService);
+  }
+
+  @Test
+  @DisplayName("집계 없음 - DB 집계로 계산 후 저장 (수익은 오늘 완료 배달의 배달비 합계, 소요 시간 없는 배달은 평균에서 제외)")
+  void 집계_없음_DB_재계산_테스트() {
+    // Given: 30분, 50분, 시작 시각 없음
+    LocalDateTime now = LocalDateTime.now();
+    List<Delivery> completed = List.of(
+        completedDelivery(now.minusMinutes(30), now),
+        completedDelivery(now.minusMinutes(50), now),
+        completedDelivery(null, now));
+    when(riderDailyStatsRepository.find(1L, LocalDate.now())).thenReturn(Optional.empty());
+    when(deliveryRepository.findTodayCompletedDeliveriesByRider(1L)).thenReturn(completed);
+    when(deliveryOrderService.sumDeliveryPriceByDeliveryIds(anyList())).thenReturn(9000L);
+
+    // When
+    RiderDailyStats result = riderDailyStatsService.getToday(1L);
+
+    // Then
+    assertThat(result).isEqualTo(new RiderDailyStats(3, 2, 4800, 9000));
+    assertThat(result.avgDeliveryMinutes()).isEqualTo(40.0);
+    verify(riderDailyStatsRepository).seed(eq(1L), eq(LocalDate.now()), any(), anyList());
+  }
+
+  @Test
+  @DisplayName("완료 반영 - 상태 변경 트랜잭션이 커밋된 뒤에 집계 증가")
+  void 완료_반영_커밋_후_테스트() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    Delivery delivery = trackedDelivery();
+
+    // When
+    riderDailyStatsService.recordCompleted(delivery);
+
+    // Then: 커밋 전에는 반영하지 않음
+    verifyNoInteractions(riderDailyStatsRepository);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(riderDailyStatsRepository).recordCompleted(1L,
+        delivery.getCompletedAt().toLocalDate(), 10L, 1800L, 3000L);
+  }
+
+  @Test
+  @DisplayName("완료 반영 - 상태 변경 트랜잭션이 롤백되면 집계 그대로")
+  void 완료_반영_롤백_테스트() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    riderDailyStatsService.recordCompleted(trackedDelivery());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // Then
+    verify(riderDailyStatsRepository, never())
+        .recordCompleted(any(), any(), any(), any(), anyLong());
+  }
+
+  // 라이더 1, 배달 10, 30분 소요, 배달비 3000원
+  private Delivery trackedDelivery() {
+    LocalDateTime now = LocalDateTime.now();
+    RiderProfile riderProfile = mock(RiderProfile.class);
+    when(riderProfile.getId()).thenReturn(1L);
+    Delivery delivery = mock(Delivery.class);
+    when(delivery.getId()).thenReturn(10L);
+    when(delivery.getRiderProfile()).thenReturn(riderProfile);
+    when(delivery.getStartedAt()).thenReturn(now.minusMinutes(30));
+    when(delivery.getCompletedAt()).thenReturn(now);
+    OrderResponse order = mock(OrderResponse.class);
+    when(order.deliveryPrice()).thenReturn(3000L);
+    when(deliveryOrderService.getOrderByDeliveryId(10L)).thenReturn(order);
+    return delivery;
+  }
+
+  private Delivery completedDelivery(LocalDateTime startedAt, LocalDateTime completedAt) {
+    return Delivery.builder()
+        .status(DeliveryStatus.COMPLETED)
+        .startedAt(startedAt)
+        .completedAt(completedAt)
+        .build();
+  }
+}
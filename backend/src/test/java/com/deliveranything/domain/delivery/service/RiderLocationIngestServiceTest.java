@@ -0,0 +1,139 @@
+package com.deliveranything.domain.delivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.domain.delivery.dto.RiderLocationDto;
+import com.deliveranything.domain.delivery.websocket.RiderWebSocketPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RiderLocationIngestService 단위 테스트")
+class RiderLocationIngestServiceTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+
+  @Mock
+  private RiderLocationService riderLocationService;
+  @Mock
+  private RiderWebSocketPublisher webSocketPublisher;
+  @Mock
+  private DeliveryTrackService deliveryTrackService;
+
+  private RiderLocationIngestService ingestService;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+    ingestService = new RiderLocationIngestService(riderLocationService, webSocketPublisher,
+        deliveryTrackService, new SimpleMeterRegistry(), Duration.ofSeconds(30), clock);
+  }
+
+  @Test
+  @DisplayName("수집 구간 내 여러 위치 - 최신 위치 1건만 저장/전송")
+  void 최신_위치만_저장_테스트() {
+    // Given
+    RiderLocationDto first = new RiderLocationDto(37.50, 127.00, NOW - 2000);
+    RiderLocationDto latest = new RiderLocationDto(37.51, 127.01, NOW - 1000);
+    ingestService.offer(1L, first);
+    ingestService.offer(1L, latest);
+
+    // When
+    ingestService.flush();
+
+    // Then
+    verify(riderLocationService, times(1)).saveRiderLocations(Map.of(1L, latest));
+    verify(webSocketPublisher, times(1)).publishLocation(1L, latest);
+    verify(webSocketPublisher, never()).publishLocation(1L, first);
+  }
+
+  @Test
+  @DisplayName("순서가 역전된 위치 - 버림")
+  void 순서_역전_위치_버림_테스트() {
+    // Given
+    RiderLocationDto latest = new RiderLocationDto(37.51, 127.01, NOW - 1000);
+    RiderLocationDto older = new RiderLocationDto(37.50, 127.00, NOW - 2000);
+    ingestService.offer(1L, latest);
+    ingestService.flush();
+
+    // When
+    boolean accepted = ingestService.offer(1L, older);
+    ingestService.flush();
+
+    // Then
+    assertThat(accepted).isFalse();
+    verify(riderLocationService, times(1)).saveRiderLocations(anyMap());
+  }
+
+  @Test
+  @DisplayName("오래된 위치 - 버림")
+  void 오래된_위치_버림_테스트() {
+    // When
+    boolean accepted = ingestService.offer(1L,
+        new RiderLocationDto(37.50, 127.00, NOW - Duration.ofMinutes(1).toMillis()));
+    ingestService.flush();
+
+    // Then
+    assertThat(accepted).isFalse();
+    verify(riderLocationService, never()).saveRiderLocations(anyMap());
+    verify(webSocketPublisher, never()).publishLocation(any(), any());
+  }
+
+  @Test
+  @DisplayName("미래 시각 위치 - 수신 시각으로 보정해 이후 위치가 버려지지 않음")
+  void 미래_시각_위치_보정_테스트() {
+    // Given: 기기 시계가 1시간 빠른 라이더
+    Clock clock = mock(Clock.class);
+    given(clock.millis()).willReturn(NOW, NOW + 1000);
+    ingestService = new RiderLocationIngestService(riderLocationService, webSocketPublisher,
+        deliveryTrackService, new SimpleMeterRegistry(), Duration.ofSeconds(30), clock);
+    ingestService.offer(1L,
+        new RiderLocationDto(37.50, 127.00, NOW + Duration.ofHours(1).toMillis()));
+
+    // When
+    RiderLocationDto next = new RiderLocationDto(37.51, 127.01, NOW + 500);
+    boolean accepted = ingestService.offer(1L, next);
+    ingestService.flush();
+
+    // Then
+    assertThat(accepted).isTrue();
+    verify(riderLocationService).saveRiderLocations(Map.of(1L, next));
+  }
+
+  @Test
+  @DisplayName("여러 라이더 - 저장 1회, 라이더별 프레임 1건")
+  void 여러_라이더_일괄_저장_테스트() {
+    // Given
+    RiderLocationDto location1 = new RiderLocationDto(37.50, 127.00, NOW);
+    RiderLocationDto location2 = new RiderLocationDto(37.60, 127.10, NOW);
+    ingestService.offer(1L, location1);
+    ingestService.offer(2L, location2);
+
+    // When
+    ingestService.flush();
+
+    // Then
+    verify(riderLocationService, times(1)).saveRiderLocations(Map.of(1L, location1, 2L,
+        location2));
+    verify(webSocketPublisher).publishLocation(1L, location1);
+    verify(webSocketPublisher).publishLocation(2L, location2);
+    verify(deliveryTrackService, times(1)).record(Map.of(1L, location1, 2L, location2));
+  }
+}
@@ -1,28 +1,39 @@
 package com.deliveranything.domain.delivery.service;
 
+import static com.deliveranything.domain.delivery.service.RiderLocationService.AVAILABLE_RIDER_GEO_KEY;
 import static com.deliveranything.domain.delivery.service.RiderLocationService.RIDER_GEO_KEY;
-import static org.mockito.ArgumentMatchers.any;
+import static com.deliveranything.domain.delivery.service.RiderLocationService.RIDER_ON_KEY;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.deliveranything.domain.delivery.dto.RiderLocationDto;
+import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.geo.Point;
-import org.springframework.data.redis.core.GeoOperations;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RiderLocationService 단위 테스트")
 class RiderLocationServiceTest {
 
+  private static final List<String> INDEX_KEYS =
+      List.of(RIDER_GEO_KEY, AVAILABLE_RIDER_GEO_KEY, RIDER_ON_KEY);
+
   @Mock
   private StringRedisTemplate redisTemplate;
 
@@ -30,7 +41,7 @@ class RiderLocationServiceTest {
   private RiderLocationService riderLocationService;
 
   @Test
-  @DisplayName("라이더 위치 저장 - Redis GEOADD 호출 확인")
+  @DisplayName("라이더 위치 저장 - 위치/가용 인덱스 갱신 스크립트 1회 호출 (longitude, latitude 순서)")
   void 라이더_위치_저장_테스트() {
     // Given
     Long riderProfileId = 123L;
@@ -40,14 +51,12 @@ class RiderLocationServiceTest {
         .timestamp(System.currentTimeMillis())
         .build();
 
-    GeoOperations<String, String> geoOps = mock(GeoOperations.class);
-    when(redisTemplate.opsForGeo()).thenReturn(geoOps);
-
     // When
     riderLocationService.saveRiderLocation(riderProfileId, location);
 
-    // Then: GEOADD 호출 검증 (longitude, latitude 순서)
-    verify(geoOps).add(eq(RIDER_GEO_KEY), eq(new Point(126.9780, 37.5665)), eq(String.valueOf(riderProfileId)));
+    // Then
+    verify(redisTemplate).execute(RiderLocationService.SAVE_LOCATION_SCRIPT, INDEX_KEYS,
+        "126.978", "37.5665", "123");
   }
 
   @Test
@@ -66,16 +75,16 @@ class RiderLocationServiceTest {
         .timestamp(System.currentTimeMillis())
         .build();
 
-    GeoOperations<String, String> geoOps = mock(GeoOperations.class);
-    when(redisTemplate.opsForGeo()).thenReturn(geoOps);
-
     // When
     riderLocationService.saveRiderLocation(riderProfileId, firstLocation);
     riderLocationService.saveRiderLocation(riderProfileId, secondLocation);
 
-    // Then: 두 번 호출되고, 마지막 호출 값이 기대와 일치
-    verify(geoOps, times(2)).add(eq(RIDER_GEO_KEY), any(Point.class), eq(String.valueOf(riderProfileId)));
-    verify(geoOps).add(eq(RIDER_GEO_KEY), eq(new Point(126.9780, 37.5665)), eq(String.valueOf(riderProfileId)));
+    // Then: 두 번 호출되고, 마지막 호출 값이 두 번째 좌표 (GEOADD 는 같은 멤버를 덮어씀)
+    InOrder inOrder = inOrder(redisTemplate);
+    inOrder.verify(redisTemplate).execute(RiderLocationService.SAVE_LOCATION_SCRIPT, INDEX_KEYS,
+        "126.9882", "37.5512", "456");
+    inOrder.verify(redisTemplate).execute(RiderLocationService.SAVE_LOCATION_SCRIPT, INDEX_KEYS,
+        "126.978", "37.5665", "456");
   }
 
   @Test
@@ -93,15 +102,61 @@ class RiderLocationServiceTest {
         .timestamp(System.currentTimeMillis())
         .build();
 
-    GeoOperations<String, String> geoOps = mock(GeoOperations.class);
-    when(redisTemplate.opsForGeo()).thenReturn(geoOps);
-
     // When
     riderLocationService.saveRiderLocation(1L, location1);
     riderLocationService.saveRiderLocation(2L, location2);
 
-    // Then: 각 라이더에 대해 GEOADD 호출 검증
-    verify(geoOps).add(eq(RIDER_GEO_KEY), eq(new Point(126.9780, 37.5665)), eq("1"));
-    verify(geoOps).add(eq(RIDER_GEO_KEY), eq(new Point(126.9882, 37.5512)), eq("2"));
+    // Then
+    verify(redisTemplate).execute(RiderLocationService.SAVE_LOCATION_SCRIPT, INDEX_KEYS,
+        "126.978", "37.5665", "1");
+    verify(redisTemplate).execute(RiderLocationService.SAVE_LOCATION_SCRIPT, INDEX_KEYS,
+        "126.9882", "37.5512", "2");
+  }
+
+  @Test
+  @DisplayName("위치 일괄 저장 - 라이더 여러 명을 스크립트 1회로 저장")
+  void 라이더_위치_일괄_저장_테스트() {
+    // Given
+    Map<Long, RiderLocationDto> locations = new LinkedHashMap<>();
+    locations.put(1L, new RiderLocationDto(37.5665, 126.9780, 1L));
+    locations.put(2L, new RiderLocationDto(37.5512, 126.9882, 1L));
+
+    // When
+    riderLocationService.saveRiderLocations(locations);
+
+    // Then
+    verify(redisTemplate, times(1)).execute(RiderLocationService.SAVE_LOCATIONS_SCRIPT,
+        INDEX_KEYS, "126.978", "37.5665", "1", "126.9882", "37.5512", "2");
+  }
+
+  @Test
+  @DisplayName("ON/OFF 전환 - 상태에 맞는 가용 인덱스 스크립트 호출")
+  void 가용_인덱스_상태_반영_테스트() {
+    // When
+    riderLocationService.updateAvailability(1L, RiderToggleStatus.ON);
+    riderLocationService.updateAvailability(2L, RiderToggleStatus.OFF);
+
+    // Then
+    verify(redisTemplate).execute(RiderLocationService.MARK_AVAILABLE_SCRIPT, INDEX_KEYS, "1");
+    verify(redisTemplate).execute(RiderLocationService.MARK_UNAVAILABLE_SCRIPT, INDEX_KEYS, "2");
+  }
+
+  @Test
+  @DisplayName("기동 시 보정 - DB에서 OFF인 라이더는 인덱스에서 제거, ON 라이더는 추가")
+  void 가용_인덱스_보정_테스트() {
+    // Given
+    SetOperations<String, String> setOps = mock(SetOperations.class);
+    when(redisTemplate.opsForSet()).thenReturn(setOps);
+    when(setOps.members(RIDER_ON_KEY)).thenReturn(Set.of("1", "2"));
+
+    // When
+    riderLocationService.reconcileAvailability(List.of(2L, 3L));
+
+    // Then
+    verify(redisTemplate).execute(RiderLocationService.MARK_UNAVAILABLE_SCRIPT, INDEX_KEYS, "1");
+    verify(redisTemplate, never())
+        .execute(RiderLocationService.MARK_UNAVAILABLE_SCRIPT, INDEX_KEYS, "2");
+    verify(redisTemplate, times(1))
+        .execute(eq(RiderLocationService.MARK_AVAILABLE_SCRIPT), eq(INDEX_KEYS), eq("3"));
   }
 }
@@ -1,13 +1,19 @@
 package com.deliveranything.domain.order.service;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.deliveranything.domain.order.entity.Order;
 import com.deliveranything.domain.order.event.OrderPaymentRequestedEvent;
 import com.deliveranything.domain.order.repository.OrderRepository;
+import com.deliveranything.domain.product.stock.service.StockFacadeService;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +40,9 @@ class PaymentOrderServiceTest {
   @Mock
   private ApplicationEventPublisher eventPublisher;
 
+  @Mock
+  private StockFacadeService stockFacadeService;
+
   @Test
   @DisplayName("주문 결제 요청 성공")
   void payOrder_success() {
@@ -50,9 +59,28 @@ class PaymentOrderServiceTest {
 
     // then
     then(spyOrder).should(times(1)).isPayable();
+    then(stockFacadeService).should(times(1)).holdForPayment(spyOrder.getId());
     then(eventPublisher).should(times(1)).publishEvent(any(OrderPaymentRequestedEvent.class));
   }
 
+  @Test
+  @DisplayName("주문 결제 요청 실패 - 재고 예약이 이미 만료되었으면 결제 승인을 요청하지 않음")
+  void payOrder_reservationExpired() {
+    // given
+    String merchantUid = "test-merchant-uid";
+    Order order = Order.builder().build();
+
+    given(orderRepository.findByMerchantId(merchantUid)).willReturn(Optional.of(order));
+    willThrow(new CustomException(ErrorCode.STOCK_RESERVATION_EXPIRED))
+        .given(stockFacadeService).holdForPayment(order.getId());
+
+    // when / then
+    assertThatThrownBy(() -> paymentOrderService.payOrder(merchantUid, "test-payment-key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.STOCK_RESERVATION_EXPIRED.getMessage());
+    then(eventPublisher).should(never()).publishEvent(any(OrderPaymentRequestedEvent.class));
+  }
+
   @Test
   @DisplayName("주문 취소 요청 성공")
   void cancelOrder_success() {
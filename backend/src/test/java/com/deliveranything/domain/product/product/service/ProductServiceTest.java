@@ -18,13 +18,19 @@ import com.deliveranything.domain.product.product.dto.ProductSearchRequest;
 import com.deliveranything.domain.product.product.dto.ProductUpdateRequest;
 import com.deliveranything.domain.product.product.entity.Product;
 import com.deliveranything.domain.product.product.repository.ProductRepository;
+import com.deliveranything.domain.product.stock.cache.StockAvailabilityCache;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
 import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.event.StockAvailabilityChangedEvent;
 import com.deliveranything.domain.store.store.entity.Store;
 import com.deliveranything.domain.store.store.service.StoreService;
 import com.deliveranything.global.exception.CustomException;
 import com.deliveranything.global.exception.ErrorCode;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -51,6 +57,12 @@ class ProductServiceTest {
   @Mock
   private ApplicationEventPublisher eventPublisher; // Add mock for event publisher
 
+  @Mock
+  private StockEngine stockEngine;
+
+  @Mock
+  private StockAvailabilityCache stockAvailabilityCache;
+
   @InjectMocks
   private ProductService productService;
 
@@ -189,6 +201,8 @@ class ProductServiceTest {
     assertThat(response.price()).isEqualTo(2000);
     assertThat(response.imageUrl()).isEqualTo("updated.jpg");
     assertThat(existingProduct.getStock().getTotalQuantity()).isEqualTo(20);
+    verify(stockEngine).overwriteTotal(productId, 20);
+    verify(eventPublisher).publishEvent(new StockAvailabilityChangedEvent(List.of(productId)));
     verify(productRepository).getById(productId);
     verify(keywordGenerationService).generateAndSaveKeywords(productId);
   }
@@ -203,6 +217,8 @@ class ProductServiceTest {
     Product product = createTestProduct(productId, store, "Test Product", "Description", 1000, "product.jpg", 10);
 
     when(productRepository.getById(productId)).thenReturn(product);
+    when(stockAvailabilityCache.find(productId))
+        .thenReturn(Optional.of(new StockSnapshot(productId, storeId, 10, 3)));
 
     // when
     ProductDetailResponse response = productService.getProduct(storeId, productId);
@@ -210,6 +226,8 @@ class ProductServiceTest {
     // then
     assertThat(response.productId()).isEqualTo(productId);
     assertThat(response.name()).isEqualTo("Test Product");
+    assertThat(response.stockTotalQuantity()).isEqualTo(10);
+    assertThat(response.availableQuantity()).isEqualTo(7);
     verify(productRepository).getById(productId);
   }
 
@@ -225,6 +243,8 @@ class ProductServiceTest {
 
     when(storeService.getStoreById(storeId)).thenReturn(store);
     when(productRepository.search(storeId, request)).thenReturn(productSlice);
+    when(stockAvailabilityCache.findAll(List.of(1L)))
+        .thenReturn(Map.of(1L, new StockSnapshot(1L, storeId, 10, 4)));
 
     // when
     var responseSlice = productService.searchProducts(storeId, request);
@@ -232,6 +252,7 @@ class ProductServiceTest {
     // then
     assertThat(responseSlice.getContent()).hasSize(1);
     assertThat(responseSlice.getContent().get(0).name()).isEqualTo("Found Product");
+    assertThat(responseSlice.getContent().get(0).availableQuantity()).isEqualTo(6);
     verify(storeService).getStoreById(storeId);
     verify(productRepository).search(storeId, request);
   }
@@ -0,0 +1,204 @@
+package com.deliveranything.domain.product.stock.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.engine.StockEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockAvailabilityCache 단위 테스트")
+class StockAvailabilityCacheTest {
+
+  private static final Long STORE_ID = 7L;
+  private static final Duration TTL = Duration.ofSeconds(3);
+
+  @Mock
+  private StockEngine stockEngine;
+
+  private MutableClock clock;
+  private StockAvailabilityCache cache;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock();
+    cache = new StockAvailabilityCache(stockEngine, new SimpleMeterRegistry(), 2, TTL, clock);
+  }
+
+  @Test
+  @DisplayName("조회 - 없는 상품만 한 번에 적재하고 이후에는 캐시에서 반환")
+  void findAll_loadsMissingOnce() {
+    // Given
+    given(stockEngine.snapshots(List.of(1L, 2L)))
+        .willReturn(List.of(snapshot(1L, 10, 3), snapshot(2L, 5, 0)));
+
+    // When
+    cache.findAll(List.of(1L, 2L));
+    Map<Long, StockSnapshot> found = cache.findAll(List.of(1L, 2L));
+
+    // Then
+    assertThat(found).containsEntry(1L, snapshot(1L, 10, 3));
+    verify(stockEngine, times(1)).snapshots(List.of(1L, 2L));
+    assertThat(cache.hitRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  @DisplayName("조회 - ttl 이 지나면 다시 적재")
+  void find_expired() {
+    // Given
+    given(stockEngine.snapshots(List.of(1L)))
+        .willReturn(List.of(snapshot(1L, 10, 3)), List.of(snapshot(1L, 10, 4)));
+    cache.find(1L);
+
+    // When
+    clock.advance(TTL);
+    StockSnapshot found = cache.find(1L).orElseThrow();
+
+    // Then
+    assertThat(found.heldQuantity()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("무효화 - 무효화한 상품은 다음 조회 때 다시 적재")
+  void invalidate() {
+    // Given
+    given(stockEngine.snapshots(List.of(1L)))
+        .willReturn(List.of(snapshot(1L, 10, 3)), List.of(snapshot(1L, 10, 5)));
+    cache.find(1L);
+
+    // When
+    cache.invalidate(List.of(1L));
+    StockSnapshot found = cache.find(1L).orElseThrow();
+
+    // Then
+    assertThat(found.heldQuantity()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("무효화 - 적재 중 무효화가 있었으면 읽은 값을 캐시에 넣지 않음")
+  void invalidate_duringLoad() {
+    // Given
+    given(stockEngine.snapshots(List.of(1L))).willAnswer(invocation -> {
+      cache.invalidate(List.of(1L));
+      return List.of(snapshot(1L, 10, 3));
+    });
+
+    // When
+    StockSnapshot found = cache.find(1L).orElseThrow();
+
+    // Then
+    assertThat(found.heldQuantity()).isEqualTo(3);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("무효화 - 적재 중 다른 상품이 무효화되어도 적재한 상품은 캐시에 넣음")
+  void invalidateOther_duringLoad() {
+    // Given: 상품 1, 2 적재 중 상품 1 만 무효화
+    given(stockEngine.snapshots(List.of(1L, 2L))).willAnswer(invocation -> {
+      cache.invalidate(List.of(1L));
+      return List.of(snapshot(1L, 10, 3), snapshot(2L, 5, 0));
+    });
+    given(stockEngine.snapshots(List.of(1L))).willReturn(List.of(snapshot(1L, 10, 4)));
+
+    // When
+    cache.findAll(List.of(1L, 2L));
+    cache.findAll(List.of(1L, 2L));
+
+    // Then: 상품 2 는 캐시에서, 상품 1 만 다시 적재
+    assertThat(cache.size()).isEqualTo(2);
+    verify(stockEngine).snapshots(List.of(1L));
+    verify(stockEngine, times(1)).snapshots(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("무효화 - 다른 상품 무효화는 진행 중인 적재에 영향 없음")
+  void invalidateUnrelated_duringLoad() {
+    // Given
+    given(stockEngine.snapshots(List.of(1L))).willAnswer(invocation -> {
+      cache.invalidate(List.of(99L));
+      return List.of(snapshot(1L, 10, 3));
+    });
+
+    // When
+    cache.find(1L);
+    cache.find(1L);
+
+    // Then
+    assertThat(cache.size()).isEqualTo(1);
+    verify(stockEngine, times(1)).snapshots(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("용량 - 최대 개수를 넘으면 가장 오래 안 쓴 상품부터 제거")
+  void evictsLeastRecentlyUsed() {
+    // Given
+    given(stockEngine.snapshots(List.of(1L, 2L)))
+        .willReturn(List.of(snapshot(1L, 10, 0), snapshot(2L, 10, 0)));
+    given(stockEngine.snapshots(List.of(3L))).willReturn(List.of(snapshot(3L, 10, 0)));
+    given(stockEngine.snapshots(List.of(2L))).willReturn(List.of(snapshot(2L, 10, 0)));
+    cache.findAll(List.of(1L, 2L));
+    cache.find(1L);
+
+    // When
+    cache.find(3L);
+    cache.find(2L);
+
+    // Then
+    assertThat(cache.size()).isEqualTo(2);
+    verify(stockEngine).snapshots(List.of(2L));
+  }
+
+  @Test
+  @DisplayName("조회 - 없는 상품은 결과에서 빠짐")
+  void find_notFound() {
+    // Given
+    given(stockEngine.snapshots(List.of(9L))).willReturn(List.of());
+
+    // When / Then
+    assertThat(cache.find(9L)).isEmpty();
+  }
+
+  private static StockSnapshot snapshot(Long productId, int total, int held) {
+    return new StockSnapshot(productId, STORE_ID, total, held);
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("UTC");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
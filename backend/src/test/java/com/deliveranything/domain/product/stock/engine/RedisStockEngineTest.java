@@ -0,0 +1,246 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker.ReservationRecord;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito.BDDMyOngoingStubbing;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStockEngine 단위 테스트")
+class RedisStockEngineTest {
+
+  private static final Long ORDER_ID = 5L;
+  private static final Long STORE_ID = 7L;
+  private static final List<String> KEYS = List.of(RedisStockEngine.DIRTY_KEY, "stock:1",
+      "stock:2");
+  private static final ReservationRecord RECORD = new ReservationRecord(
+      List.of("stock:reservations", "stock:reservation-items", "stock:reservation-expired:5"),
+      List.of("5", "1900000", "7|1:3,2:2,1:7"));
+  private static final List<String> RESERVE_KEYS = List.of(RedisStockEngine.DIRTY_KEY,
+      "stock:reservations", "stock:reservation-items", "stock:reservation-expired:5", "stock:1",
+      "stock:2");
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private StockRepository stockRepository;
+
+  @Mock
+  private StockReservationTracker stockReservationTracker;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private RedisStockEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    engine = new RedisStockEngine(redisTemplate, stockRepository, stockReservationTracker,
+        meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("예약 - 같은 상품 줄은 합쳐서 모든 품목과 예약 기록을 스크립트 1번으로 처리")
+  void reserve_allLinesInOneScript() {
+    // Given
+    givenReserve("1").willReturn(List.of(RedisStockEngine.OK));
+
+    // When
+    engine.reserve(ORDER_ID, STORE_ID, items());
+
+    // Then
+    verifyNoInteractions(stockRepository);
+    assertThat(count("applied")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("처음 보는 상품 - DB 값을 적재한 뒤 다시 실행")
+  void reserve_seedsMissingProducts() {
+    // Given
+    givenReserve("1")
+        .willReturn(List.of(RedisStockEngine.MISSING, 2L), List.of(RedisStockEngine.OK));
+    given(stockRepository.findSnapshotsByProductIdIn(List.of(2L)))
+        .willReturn(List.of(new StockSnapshot(2L, STORE_ID, 50, 4)));
+
+    // When
+    engine.reserve(ORDER_ID, STORE_ID, items());
+
+    // Then
+    verify(redisTemplate).execute(RedisStockEngine.SEED_SCRIPT, List.of("stock:2"), "50", "4",
+        "7");
+    assertThat(count("applied")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("DB 에도 없는 상품 - PRODUCT_NOT_FOUND")
+  void reserve_unknownProduct_throws() {
+    // Given
+    givenReserve("1").willReturn(List.of(RedisStockEngine.MISSING, 1L));
+    given(stockRepository.findSnapshotsByProductIdIn(List.of(1L))).willReturn(List.of());
+
+    // When / Then
+    assertThatThrownBy(() -> engine.reserve(ORDER_ID, STORE_ID, items()))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_NOT_FOUND.getMessage());
+  }
+
+  @Test
+  @DisplayName("재고 부족 - PRODUCT_OUT_OF_STOCK, 아무것도 바꾸지 않음")
+  void reserve_insufficient_throws() {
+    // Given
+    givenReserve("1").willReturn(List.of("insufficient", 2L));
+
+    // When / Then
+    assertThatThrownBy(() -> engine.reserve(ORDER_ID, STORE_ID, items()))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_OUT_OF_STOCK.getMessage());
+    assertThat(count("rejected")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("이미 예약한 주문 (이벤트 재전송) - 다시 잡지 않고 롤백되어도 앞선 예약을 되돌리지 않음")
+  void reserve_duplicate_notCompensated() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    givenReserve("1").willReturn(List.of(RedisStockEngine.DUPLICATE));
+
+    // When
+    engine.reserve(ORDER_ID, STORE_ID, items());
+
+    // Then
+    assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    assertThat(count("duplicate")).isEqualTo(1);
+    assertThat(count("applied")).isZero();
+  }
+
+  @Test
+  @DisplayName("예약 후 트랜잭션 롤백 - 예약 기록과 함께 되돌림")
+  void reserve_rollback_removesRecord() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    givenReserve("1").willReturn(List.of(RedisStockEngine.OK));
+    givenReserve("-1").willReturn(List.of(RedisStockEngine.OK));
+    engine.reserve(ORDER_ID, STORE_ID, items());
+
+    // When
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // Then
+    verify(redisTemplate).execute(RedisStockEngine.RESERVE_SCRIPT, RESERVE_KEYS, "-1", "7", "5",
+        "1900000", "7|1:3,2:2,1:7", "10", "2");
+    assertThat(count("compensated")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 롤백 - 확인 없이 반대 방향으로 되돌림")
+  void rollback_compensates() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    givenApply("COMMIT", "1").willReturn(List.of(RedisStockEngine.OK));
+    givenApply("COMMIT", "-1").willReturn(List.of(RedisStockEngine.OK));
+    engine.commit(STORE_ID, items());
+
+    // When
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // Then
+    verify(redisTemplate).execute(RedisStockEngine.APPLY_SCRIPT, KEYS, "COMMIT", "-1", "7", "10",
+        "2");
+    assertThat(count("compensated")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("관리자 총 재고 변경 - 커밋 후 적재된 값에 반영")
+  void overwriteTotal_afterCommit() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    engine.overwriteTotal(1L, 30);
+
+    // Then
+    verify(redisTemplate, never()).execute(eq(RedisStockEngine.OVERWRITE_TOTAL_SCRIPT),
+        eq(List.of(RedisStockEngine.DIRTY_KEY, "stock:1")), eq("30"));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(redisTemplate).execute(RedisStockEngine.OVERWRITE_TOTAL_SCRIPT,
+        List.of(RedisStockEngine.DIRTY_KEY, "stock:1"), "30");
+  }
+
+  @Test
+  @DisplayName("재고 조회 - 적재된 상품은 Redis 값, 적재되지 않은 상품만 DB 값")
+  void snapshots_redisFirst() {
+    // Given
+    List<Object> fields = new ArrayList<>();
+    fields.add(Arrays.asList("10", "3", "7"));
+    fields.add(Arrays.asList(null, null, null));
+    given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(fields);
+    given(stockRepository.findSnapshotsByProductIdIn(List.of(2L)))
+        .willReturn(List.of(new StockSnapshot(2L, STORE_ID, 5, 0)));
+
+    // When
+    List<StockSnapshot> snapshots = engine.snapshots(List.of(1L, 2L));
+
+    // Then
+    assertThat(snapshots).containsExactly(new StockSnapshot(1L, STORE_ID, 10, 3),
+        new StockSnapshot(2L, STORE_ID, 5, 0));
+  }
+
+  // 상품 1 은 두 줄 (3 + 7), 상품 2 는 한 줄
+  private static List<OrderItemInfo> items() {
+    return List.of(new OrderItemInfo(1L, 3), new OrderItemInfo(2L, 2), new OrderItemInfo(1L, 7));
+  }
+
+  @SuppressWarnings("rawtypes")
+  private BDDMyOngoingStubbing<List> givenReserve(String sign) {
+    given(stockReservationTracker.recordFor(ORDER_ID, STORE_ID, items())).willReturn(RECORD);
+    return given(redisTemplate.execute(RedisStockEngine.RESERVE_SCRIPT, RESERVE_KEYS, sign, "7",
+        "5", "1900000", "7|1:3,2:2,1:7", "10", "2"));
+  }
+
+  @SuppressWarnings("rawtypes")
+  private BDDMyOngoingStubbing<List> givenApply(String operation, String sign) {
+    return given(redisTemplate.execute(RedisStockEngine.APPLY_SCRIPT, KEYS, operation, sign, "7",
+        "10", "2"));
+  }
+
+  private double count(String result) {
+    return meterRegistry.counter("stock.engine.operations", "result", result).count();
+  }
+}
@@ -0,0 +1,128 @@
+package com.deliveranything.domain.product.stock.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockWriteBehind 단위 테스트")
+class StockWriteBehindTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private SetOperations<String, String> setOperations;
+
+  @Mock
+  private StockRepository stockRepository;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private StockWriteBehind writeBehind;
+
+  @BeforeEach
+  void setUp() {
+    writeBehind = new StockWriteBehind(redisTemplate, stockRepository,
+        TransactionOperations.withoutTransaction(), BATCH_SIZE, meterRegistry);
+    given(redisTemplate.opsForSet()).willReturn(setOperations);
+  }
+
+  @Test
+  @DisplayName("바뀐 상품 - Redis 현재 값으로 DB 행을 덮어씀 (사라진 키는 건너뜀)")
+  void flushBatch_overwritesRows() {
+    // Given
+    given(setOperations.pop(RedisStockEngine.DIRTY_KEY, BATCH_SIZE))
+        .willReturn(List.of("stock:1", "stock:2"));
+    givenRedisValues(List.of("10", "3"), Arrays.asList(null, null));
+    Stock stock = stock(1L);
+    given(stockRepository.findAllByProductIdIn(Set.of(1L))).willReturn(List.of(stock));
+
+    // When
+    int flushed = writeBehind.flushBatch();
+
+    // Then
+    assertThat(flushed).isEqualTo(2);
+    verify(stock).syncQuantities(10, 3);
+    assertThat(count("flushed")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("DB 반영 실패 - 꺼낸 상품을 dirty set 에 되돌림")
+  void flushBatch_failure_restoresDirtyKeys() {
+    // Given
+    given(setOperations.pop(RedisStockEngine.DIRTY_KEY, BATCH_SIZE))
+        .willReturn(List.of("stock:1"));
+    givenRedisValues(List.of("10", "3"));
+    given(stockRepository.findAllByProductIdIn(anySet()))
+        .willThrow(new QueryTimeoutException("db down"));
+
+    // When / Then
+    assertThatThrownBy(() -> writeBehind.flushBatch())
+        .isInstanceOf(QueryTimeoutException.class);
+    verify(setOperations).add(RedisStockEngine.DIRTY_KEY, "stock:1");
+    assertThat(count("failed")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("DB 재반영 - Redis 에 적재된 값과 다른 상품만 다시 반영 대상으로 표시")
+  void markDrifted_marksOnlyDifferentRows() {
+    // Given: 1 은 같음, 2 는 다름, 3 은 적재되지 않음
+    givenRedisValues(List.of("10", "3"), List.of("8", "1"), Arrays.asList(null, null));
+
+    // When
+    int drifted = writeBehind.markDrifted(List.of(
+        new StockSnapshot(1L, 7L, 10, 3),
+        new StockSnapshot(2L, 7L, 8, 0),
+        new StockSnapshot(3L, 7L, 5, 0)));
+
+    // Then
+    assertThat(drifted).isEqualTo(1);
+    verify(setOperations).add(RedisStockEngine.DIRTY_KEY, "stock:2");
+    verify(setOperations, never()).add(RedisStockEngine.DIRTY_KEY, "stock:3");
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenRedisValues(List<?>... values) {
+    given(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(List.of((Object[]) values));
+  }
+
+  private static Stock stock(Long productId) {
+    Product product = mock(Product.class);
+    given(product.getId()).willReturn(productId);
+    Stock stock = mock(Stock.class);
+    given(stock.getProduct()).willReturn(product);
+    return stock;
+  }
+
+  private double count(String result) {
+    return meterRegistry.counter("stock.write_behind.rows", "result", result).count();
+  }
+}
@@ -0,0 +1,122 @@
+package com.deliveranything.domain.product.stock.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker.ExpiredReservation;
+import com.deliveranything.domain.product.stock.service.StockFacadeService;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationSweeper 단위 테스트")
+class StockReservationSweeperTest {
+
+  private static final int BATCH_SIZE = 2;
+  private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+  @Mock
+  private StockReservationTracker stockReservationTracker;
+
+  @Mock
+  private StockFacadeService stockFacadeService;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private StockReservationSweeper sweeper;
+
+  @BeforeEach
+  void setUp() {
+    sweeper = new StockReservationSweeper(stockReservationTracker, stockFacadeService, BATCH_SIZE,
+        RETRY_DELAY, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("만료 예약 - 결제 실패처럼 해제, 배치가 가득 차면 다음 배치 진행")
+  void sweep_releasesUntilBatchNotFull() {
+    // Given
+    given(stockReservationTracker.claimExpired(BATCH_SIZE))
+        .willReturn(List.of(reservation(1L), reservation(2L)), List.of(reservation(3L)));
+
+    // When
+    sweeper.sweep();
+
+    // Then
+    verify(stockReservationTracker, times(2)).claimExpired(BATCH_SIZE);
+    verify(stockFacadeService).handleReservationExpired(3L, 7L, reservation(3L).items());
+    assertThat(count("released")).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("일시적 실패 - 나중에 다시 정리하도록 기록, 나머지 예약은 계속 처리")
+  void sweep_failure_retriesLater() {
+    // Given
+    given(stockReservationTracker.claimExpired(BATCH_SIZE))
+        .willReturn(List.of(reservation(1L)));
+    willThrow(new QueryTimeoutException("db down"))
+        .given(stockFacadeService).handleReservationExpired(1L, 7L, reservation(1L).items());
+
+    // When
+    sweeper.sweep();
+
+    // Then
+    verify(stockReservationTracker).retryLater(reservation(1L), RETRY_DELAY);
+    assertThat(count("failed")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("업무상 거절 - 다시 시도하지 않음")
+  void sweep_rejected_notRetried() {
+    // Given
+    given(stockReservationTracker.claimExpired(BATCH_SIZE))
+        .willReturn(List.of(reservation(1L)));
+    willThrow(new CustomException(ErrorCode.STOCK_CHANGE_INVALID))
+        .given(stockFacadeService).handleReservationExpired(1L, 7L, reservation(1L).items());
+
+    // When
+    sweeper.sweep();
+
+    // Then
+    verify(stockReservationTracker, never()).retryLater(reservation(1L), RETRY_DELAY);
+    assertThat(count("rejected")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("결제 결과가 오지 않은 고정 예약 - 해제하고 payment_timeout 으로 알림")
+  void sweep_paymentTimeout_releasedAndCounted() {
+    // Given
+    ExpiredReservation pinned = new ExpiredReservation(1L, 7L,
+        List.of(new OrderItemInfo(10L, 2)), true);
+    given(stockReservationTracker.claimExpired(BATCH_SIZE)).willReturn(List.of(pinned));
+
+    // When
+    sweeper.sweep();
+
+    // Then
+    verify(stockFacadeService).handleReservationExpired(1L, 7L, pinned.items());
+    assertThat(count("payment_timeout")).isEqualTo(1);
+    assertThat(count("released")).isEqualTo(1);
+  }
+
+  private static ExpiredReservation reservation(Long orderId) {
+    return new ExpiredReservation(orderId, 7L, List.of(new OrderItemInfo(10L, 2)), false);
+  }
+
+  private double count(String result) {
+    return meterRegistry.counter("stock.reservation.expired", "result", result).count();
+  }
+}
@@ -0,0 +1,201 @@
+package com.deliveranything.domain.product.stock.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker.ClaimResult;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker.ExpiredReservation;
+import com.deliveranything.domain.product.stock.reservation.StockReservationTracker.ReservationRecord;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationTracker 단위 테스트")
+class StockReservationTrackerTest {
+
+  private static final Clock FIXED_CLOCK = Clock.fixed(Instant.ofEpochMilli(1_000_000L),
+      ZoneOffset.UTC);
+  private static final List<String> ORDER_KEYS = List.of(
+      StockReservationTracker.RESERVATIONS_KEY, StockReservationTracker.ITEMS_KEY,
+      StockReservationTracker.EXPIRED_KEY_PREFIX + 1, StockReservationTracker.PINNED_KEY);
+  private static final List<String> SAVE_KEYS = List.of(
+      StockReservationTracker.RESERVATIONS_KEY, StockReservationTracker.ITEMS_KEY,
+      StockReservationTracker.EXPIRED_KEY_PREFIX + 1);
+  private static final String PAYMENT_EXPIRES_AT = String.valueOf(
+      1_000_000L + Duration.ofHours(1).toMillis());
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  private StockReservationTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    tracker = new StockReservationTracker(redisTemplate, Duration.ofMinutes(15),
+        Duration.ofHours(1), Duration.ofHours(24), FIXED_CLOCK);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("예약 기록 - 커밋 후 현재 + ttl 을 만료 시각으로 저장")
+  void track_savesAfterCommit() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    tracker.track(1L, 7L, List.of(new OrderItemInfo(10L, 2), new OrderItemInfo(11L, 1)));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    // Then
+    verify(redisTemplate).execute(StockReservationTracker.SAVE_SCRIPT, SAVE_KEYS, "1",
+        String.valueOf(1_000_000L + Duration.ofMinutes(15).toMillis()), "7|10:2,11:1");
+  }
+
+  @Test
+  @DisplayName("예약 스크립트용 기록 - 저장과 같은 키와 현재 + ttl 만료 시각")
+  void recordFor_matchesSave() {
+    // When
+    ReservationRecord record = tracker.recordFor(1L, 7L, List.of(new OrderItemInfo(10L, 2)));
+
+    // Then
+    assertThat(record).isEqualTo(new ReservationRecord(SAVE_KEYS, List.of("1",
+        String.valueOf(1_000_000L + Duration.ofMinutes(15).toMillis()), "7|10:2")));
+  }
+
+  @Test
+  @DisplayName("가져가기 - 트랜잭션이 롤백되면 원래 만료 시각으로 되돌림")
+  void claim_restoredOnRollback() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    given(redisTemplate.execute(StockReservationTracker.CLAIM_SCRIPT, ORDER_KEYS, "1"))
+        .willReturn(List.of("claimed", "1900000", "7|10:2", "reserved"));
+
+    // When
+    ClaimResult result = tracker.claim(1L);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // Then
+    assertThat(result).isEqualTo(ClaimResult.CLAIMED);
+    verify(redisTemplate).execute(StockReservationTracker.SAVE_SCRIPT, SAVE_KEYS, "1",
+        "1900000", "7|10:2");
+  }
+
+  @Test
+  @DisplayName("가져가기 - 만료 정리가 먼저 가져갔으면 EXPIRED")
+  void claim_expired() {
+    // Given
+    given(redisTemplate.execute(StockReservationTracker.CLAIM_SCRIPT, ORDER_KEYS, "1"))
+        .willReturn(List.of("expired"));
+
+    // When / Then
+    assertThat(tracker.claim(1L)).isEqualTo(ClaimResult.EXPIRED);
+  }
+
+  @Test
+  @DisplayName("고정 - 만료 정리 전이면 현재 + 결제 대기 시간으로 고정하고, 트랜잭션이 롤백되면 원래 만료 시각으로 되돌림")
+  void pin_restoredOnRollback() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    given(redisTemplate.execute(StockReservationTracker.PIN_SCRIPT, ORDER_KEYS, "1",
+        PAYMENT_EXPIRES_AT)).willReturn(List.of("pinned", "1900000"));
+
+    // When
+    boolean pinned = tracker.pin(1L);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // Then
+    assertThat(pinned).isTrue();
+    verify(redisTemplate).execute(StockReservationTracker.UNPIN_SCRIPT,
+        List.of(StockReservationTracker.RESERVATIONS_KEY, StockReservationTracker.PINNED_KEY),
+        "1", "1900000");
+  }
+
+  @Test
+  @DisplayName("고정 - 만료 정리가 먼저 가져갔으면 false")
+  void pin_expired() {
+    // Given
+    given(redisTemplate.execute(StockReservationTracker.PIN_SCRIPT, ORDER_KEYS, "1",
+        PAYMENT_EXPIRES_AT)).willReturn(List.of("expired"));
+
+    // When / Then
+    assertThat(tracker.pin(1L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("가져가기 - 고정된 예약은 롤백되면 결제 대기 만료 시각 그대로 고정 상태로 되돌림")
+  void claim_pinnedRestoredOnRollback() {
+    // Given
+    TransactionSynchronizationManager.initSynchronization();
+    given(redisTemplate.execute(StockReservationTracker.CLAIM_SCRIPT, ORDER_KEYS, "1"))
+        .willReturn(List.of("claimed", PAYMENT_EXPIRES_AT, "7|10:2", "pinned"));
+
+    // When
+    ClaimResult result = tracker.claim(1L);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // Then
+    assertThat(result).isEqualTo(ClaimResult.CLAIMED);
+    verify(redisTemplate).execute(StockReservationTracker.SAVE_SCRIPT,
+        List.of(StockReservationTracker.PINNED_KEY, StockReservationTracker.ITEMS_KEY,
+            StockReservationTracker.EXPIRED_KEY_PREFIX + 1), "1", PAYMENT_EXPIRES_AT, "7|10:2");
+  }
+
+  @Test
+  @DisplayName("만료 예약 가져가기 - 주문별 가게와 품목으로 복원, 결제 대기 시간이 지난 고정 예약 표시 (품목이 없으면 건너뜀)")
+  void claimExpired_decodes() {
+    // Given
+    given(redisTemplate.execute(StockReservationTracker.CLAIM_EXPIRED_SCRIPT,
+        List.of(StockReservationTracker.RESERVATIONS_KEY, StockReservationTracker.ITEMS_KEY,
+            StockReservationTracker.PINNED_KEY),
+        "1000000", "100", StockReservationTracker.EXPIRED_KEY_PREFIX, "86400"))
+        .willReturn(List.of("1", "7|10:2,11:1", "reserved", "2", "", "reserved",
+            "3", "7|12:1", "pinned"));
+
+    // When
+    List<ExpiredReservation> expired = tracker.claimExpired(100);
+
+    // Then
+    assertThat(expired).containsExactly(
+        new ExpiredReservation(1L, 7L,
+            List.of(new OrderItemInfo(10L, 2), new OrderItemInfo(11L, 1)), false),
+        new ExpiredReservation(3L, 7L, List.of(new OrderItemInfo(12L, 1)), true));
+  }
+
+  @Test
+  @DisplayName("만료 정리 재시도 - 고정 예약은 결제 대기 set 에 다시 기록")
+  void retryLater_pinnedStaysPinned() {
+    // When
+    tracker.retryLater(new ExpiredReservation(1L, 7L, List.of(new OrderItemInfo(10L, 2)), true),
+        Duration.ofMinutes(1));
+
+    // Then
+    verify(redisTemplate).execute(StockReservationTracker.SAVE_SCRIPT,
+        List.of(StockReservationTracker.PINNED_KEY, StockReservationTracker.ITEMS_KEY,
+            StockReservationTracker.EXPIRED_KEY_PREFIX + 1), "1", "1060000", "7|10:2");
+  }
+}
@@ -0,0 +1,177 @@
+package com.deliveranything.domain.product.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.domain.product.product.entity.Product;
+import com.deliveranything.domain.product.stock.dto.StockSnapshot;
+import com.deliveranything.domain.product.stock.entity.Stock;
+import com.deliveranything.domain.product.stock.repository.StockRepository;
+import com.deliveranything.domain.store.store.repository.StoreRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockCommandService 단위 테스트")
+class StockCommandServiceTest {
+
+  private static final Long STORE_ID = 7L;
+
+  @Mock
+  private StockRepository stockRepository;
+
+  @Mock
+  private StoreRepository storeRepository;
+
+  @Mock
+  private StockShardService stockShardService;
+
+  @InjectMocks
+  private StockCommandService stockCommandService;
+
+  @Test
+  @DisplayName("일괄 예약 - 모든 행이 바뀌면 추가 조회 없이 끝")
+  void reserveAll_success() {
+    // Given
+    Map<Long, Integer> quantities = quantities();
+    given(stockRepository.reserveAll(STORE_ID, quantities)).willReturn(2L);
+
+    // When
+    stockCommandService.reserveAll(STORE_ID, quantities);
+
+    // Then
+    verify(stockRepository, never()).findShardedByProductIdIn(anyCollection());
+    verify(stockRepository, never()).findSnapshotsByProductIdIn(anyCollection());
+  }
+
+  @Test
+  @DisplayName("일괄 예약 - 일괄 UPDATE 에서 빠진 분할 재고 상품은 샤드에서 예약")
+  void reserveAll_sharded() {
+    // Given
+    Map<Long, Integer> quantities = quantities();
+    Stock sharded = shardedStock(2L);
+    given(stockRepository.reserveAll(STORE_ID, quantities)).willReturn(1L);
+    given(stockRepository.findShardedByProductIdIn(quantities.keySet()))
+        .willReturn(List.of(sharded));
+
+    // When
+    stockCommandService.reserveAll(STORE_ID, quantities);
+
+    // Then
+    verify(sharded.getProduct()).validateStore(STORE_ID);
+    verify(stockShardService).reserve(sharded, 2);
+    verify(stockRepository, never()).findSnapshotsByProductIdIn(anyCollection());
+  }
+
+  @Test
+  @DisplayName("일괄 예약 - 가용 재고가 부족한 상품이 있으면 PRODUCT_OUT_OF_STOCK")
+  void reserveAll_outOfStock() {
+    // Given
+    Map<Long, Integer> quantities = quantities();
+    given(stockRepository.reserveAll(STORE_ID, quantities)).willReturn(1L);
+    given(stockRepository.findSnapshotsByProductIdIn(quantities.keySet()))
+        .willReturn(List.of(new StockSnapshot(1L, STORE_ID, 10, 3),
+            new StockSnapshot(2L, STORE_ID, 1, 1)));
+
+    // When / Then
+    assertThatThrownBy(() -> stockCommandService.reserveAll(STORE_ID, quantities))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_OUT_OF_STOCK.getMessage());
+  }
+
+  @Test
+  @DisplayName("일괄 예약 - 분할 재고 상품의 stocks 행 수량은 원인 구분에 쓰지 않음 (남은 상품이 충분하면 STOCK_CHANGE_CONFLICT)")
+  void reserveAll_shardedIgnoredInFailure() {
+    // Given: 상품 2 는 샤드에서 예약됨 (stocks 행 수량 0 은 분할 전 값), 상품 1 은 조회 시점에 충분
+    Map<Long, Integer> quantities = quantities();
+    given(stockRepository.reserveAll(STORE_ID, quantities)).willReturn(0L);
+    given(stockRepository.findShardedByProductIdIn(quantities.keySet()))
+        .willReturn(List.of(shardedStock(2L)));
+    given(stockRepository.findSnapshotsByProductIdIn(quantities.keySet()))
+        .willReturn(List.of(new StockSnapshot(1L, STORE_ID, 10, 3),
+            new StockSnapshot(2L, STORE_ID, 0, 0)));
+
+    // When / Then
+    assertThatThrownBy(() -> stockCommandService.reserveAll(STORE_ID, quantities))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.STOCK_CHANGE_CONFLICT.getMessage());
+  }
+
+  @Test
+  @DisplayName("일괄 예약 - 분할 재고 상품과 함께 주문한 상품이 부족하면 PRODUCT_OUT_OF_STOCK")
+  void reserveAll_shardedWithOutOfStock() {
+    // Given
+    Map<Long, Integer> quantities = quantities();
+    given(stockRepository.reserveAll(STORE_ID, quantities)).willReturn(0L);
+    given(stockRepository.findShardedByProductIdIn(quantities.keySet()))
+        .willReturn(List.of(shardedStock(2L)));
+    given(stockRepository.findSnapshotsByProductIdIn(quantities.keySet()))
+        .willReturn(List.of(new StockSnapshot(1L, STORE_ID, 2, 0),
+            new StockSnapshot(2L, STORE_ID, 0, 0)));
+
+    // When / Then
+    assertThatThrownBy(() -> stockCommandService.reserveAll(STORE_ID, quantities))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_OUT_OF_STOCK.getMessage());
+  }
+
+  @Test
+  @DisplayName("일괄 예약 - 다른 가게 상품이 있으면 PRODUCT_STORE_MISMATCH")
+  void reserveAll_storeMismatch() {
+    // Given
+    Map<Long, Integer> quantities = quantities();
+    given(stockRepository.reserveAll(STORE_ID, quantities)).willReturn(1L);
+    given(stockRepository.findSnapshotsByProductIdIn(quantities.keySet()))
+        .willReturn(List.of(new StockSnapshot(1L, STORE_ID, 10, 3),
+            new StockSnapshot(2L, 8L, 10, 0)));
+
+    // When / Then
+    assertThatThrownBy(() -> stockCommandService.reserveAll(STORE_ID, quantities))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_STORE_MISMATCH.getMessage());
+  }
+
+  @Test
+  @DisplayName("일괄 예약 - 없는 상품이 있으면 PRODUCT_NOT_FOUND")
+  void reserveAll_notFound() {
+    // Given
+    Map<Long, Integer> quantities = quantities();
+    given(stockRepository.reserveAll(STORE_ID, quantities)).willReturn(1L);
+    given(stockRepository.findSnapshotsByProductIdIn(quantities.keySet()))
+        .willReturn(List.of(new StockSnapshot(1L, STORE_ID, 10, 3)));
+
+    // When / Then
+    assertThatThrownBy(() -> stockCommandService.reserveAll(STORE_ID, quantities))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_NOT_FOUND.getMessage());
+  }
+
+  private static Stock shardedStock(Long productId) {
+    Product product = mock(Product.class);
+    given(product.getId()).willReturn(productId);
+
+    Stock stock = mock(Stock.class);
+    given(stock.getProduct()).willReturn(product);
+    return stock;
+  }
+
+  private static Map<Long, Integer> quantities() {
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    quantities.put(1L, 3);
+    quantities.put(2L, 2);
+    return quantities;
+  }
+}
@@ -0,0 +1,117 @@
+package com.deliveranything.domain.product.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.domain.product.stock.dto.StockShardSnapshot;
+import com.deliveranything.domain.product.stock.repository.StockShardRepository;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockShardService 단위 테스트")
+class StockShardServiceTest {
+
+  private static final Long STOCK_ID = 1L;
+  private static final int SHARD_COUNT = 4;
+
+  @Mock
+  private StockShardRepository stockShardRepository;
+
+  private StockShardService stockShardService;
+
+  @BeforeEach
+  void setUp() {
+    // 항상 2번 샤드부터 시도
+    stockShardService = new StockShardService(stockShardRepository, bound -> 2);
+  }
+
+  @Test
+  @DisplayName("예약 - 고른 샤드에서 되면 수량을 읽지 않음")
+  void reserve_firstShard() {
+    // Given
+    given(stockShardRepository.reserve(STOCK_ID, 2, 3)).willReturn(1L);
+
+    // When
+    stockShardService.reserve(STOCK_ID, SHARD_COUNT, 3);
+
+    // Then
+    verify(stockShardRepository, never()).reserve(STOCK_ID, 3, 3);
+    verify(stockShardRepository, never()).findSnapshotsByStockId(anyLong());
+  }
+
+  @Test
+  @DisplayName("예약 - 고른 샤드가 부족하면 이웃 샤드로 넘어감 (마지막 다음은 0번)")
+  void reserve_neighbourShard() {
+    // Given
+    given(stockShardRepository.reserve(STOCK_ID, 2, 3)).willReturn(0L);
+    given(stockShardRepository.reserve(STOCK_ID, 3, 3)).willReturn(0L);
+    given(stockShardRepository.reserve(STOCK_ID, 0, 3)).willReturn(1L);
+
+    // When
+    stockShardService.reserve(STOCK_ID, SHARD_COUNT, 3);
+
+    // Then
+    verify(stockShardRepository, never()).findSnapshotsByStockId(anyLong());
+  }
+
+  @Test
+  @DisplayName("예약 - 한 샤드로 안 되면 여러 샤드에 나눠 담음")
+  void reserve_split() {
+    // Given
+    given(stockShardRepository.reserve(anyLong(), anyInt(), anyInt())).willReturn(0L);
+    given(stockShardRepository.findSnapshotsByStockId(STOCK_ID)).willReturn(List.of(
+        new StockShardSnapshot(0, 5, 4), new StockShardSnapshot(1, 5, 5),
+        new StockShardSnapshot(2, 5, 3), new StockShardSnapshot(3, 5, 4)));
+    given(stockShardRepository.reserve(STOCK_ID, 2, 2)).willReturn(1L);
+    given(stockShardRepository.reserve(STOCK_ID, 3, 1)).willReturn(1L);
+    given(stockShardRepository.reserve(STOCK_ID, 0, 1)).willReturn(1L);
+
+    // When
+    stockShardService.reserve(STOCK_ID, SHARD_COUNT, 4);
+
+    // Then
+    verify(stockShardRepository).reserve(STOCK_ID, 0, 1);
+  }
+
+  @Test
+  @DisplayName("예약 - 샤드 가용 재고 합계가 부족하면 PRODUCT_OUT_OF_STOCK")
+  void reserve_outOfStock() {
+    // Given
+    given(stockShardRepository.reserve(anyLong(), anyInt(), anyInt())).willReturn(0L);
+    given(stockShardRepository.findSnapshotsByStockId(STOCK_ID)).willReturn(List.of(
+        new StockShardSnapshot(0, 5, 4), new StockShardSnapshot(1, 5, 5),
+        new StockShardSnapshot(2, 5, 5), new StockShardSnapshot(3, 5, 4)));
+
+    // When / Then
+    assertThatThrownBy(() -> stockShardService.reserve(STOCK_ID, SHARD_COUNT, 3))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.PRODUCT_OUT_OF_STOCK.getMessage());
+  }
+
+  @Test
+  @DisplayName("확정 - 예약 수량 합계가 부족하면 STOCK_CHANGE_INVALID")
+  void commit_invalid() {
+    // Given
+    given(stockShardRepository.commit(anyLong(), anyInt(), anyInt())).willReturn(0L);
+    given(stockShardRepository.findSnapshotsByStockId(STOCK_ID)).willReturn(List.of(
+        new StockShardSnapshot(0, 5, 1), new StockShardSnapshot(1, 5, 0),
+        new StockShardSnapshot(2, 5, 0), new StockShardSnapshot(3, 5, 1)));
+
+    // When / Then
+    assertThatThrownBy(() -> stockShardService.commit(STOCK_ID, SHARD_COUNT, 3))
+        .isInstanceOf(CustomException.class)
+        .hasMessage(ErrorCode.STOCK_CHANGE_INVALID.getMessage());
+  }
+}
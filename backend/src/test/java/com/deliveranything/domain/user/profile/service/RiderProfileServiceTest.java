@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import com.deliveranything.domain.user.profile.entity.RiderProfile;
 import com.deliveranything.domain.user.profile.enums.RiderToggleStatus;
+import com.deliveranything.domain.user.profile.event.RiderToggleStatusChangedEvent;
 import com.deliveranything.domain.user.profile.repository.RiderProfileRepository;
 import com.deliveranything.global.exception.CustomException;
 import java.util.Optional;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RiderProfileService 단위 테스트")
@@ -31,6 +33,9 @@ class RiderProfileServiceTest {
   @Mock
   private RiderProfileRepository riderProfileRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private RiderProfileService riderProfileService;
 
@@ -95,6 +100,7 @@ class RiderProfileServiceTest {
 
       verify(mockProfile, times(1)).toggleStatus();
       verify(riderProfileRepository, times(1)).save(mockProfile);
+      verify(eventPublisher, times(1)).publishEvent(any(RiderToggleStatusChangedEvent.class));
     }
   }
 
@@ -0,0 +1,113 @@
+package com.deliveranything.global.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.deliveranything.domain.order.event.OrderAcceptedEvent;
+import com.deliveranything.domain.order.event.OrderCreatedEvent;
+import com.deliveranything.domain.order.event.dto.OrderItemInfo;
+import com.deliveranything.global.stream.EventStreamProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+@DisplayName("EventMessageCodec 단위 테스트")
+class EventMessageCodecTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  private final JsonEventCodec jsonCodec = new JsonEventCodec(objectMapper);
+  private final SmileEventCodec smileCodec = new SmileEventCodec();
+
+  private final OrderAcceptedEvent event = new OrderAcceptedEvent("42",
+      List.of(new OrderItemInfo(1L, 2), new OrderItemInfo(7L, 1)), 3L, 5L, "storeName",
+      127.0276, 37.4979, 127.0396, 37.5012);
+
+  @Test
+  @DisplayName("smile - 헤더(codec id, schema version) 후 본문, 같은 값으로 복원")
+  void smile_roundTrip() {
+    // Given
+    EventMessageCodec codec = codec("smile");
+
+    // When
+    byte[] message = codec.encode(event);
+
+    // Then
+    assertThat(message[0]).isEqualTo(SmileEventCodec.ID);
+    assertThat(message[1]).isEqualTo(EventMessageCodec.SCHEMA_VERSION);
+    assertThat(codec.decode(message, OrderAcceptedEvent.class)).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("codec 전환 중 - 보내는 codec 과 관계없이 헤더의 codec 으로 읽음")
+  void decode_followsHeaderCodec() {
+    // Given
+    byte[] jsonMessage = codec("json").encode(event);
+
+    // When
+    OrderAcceptedEvent decoded = codec("smile").decode(jsonMessage, OrderAcceptedEvent.class);
+
+    // Then
+    assertThat(jsonMessage[0]).isEqualTo(JsonEventCodec.ID);
+    assertThat(decoded).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("헤더 없는 이전 JSON 메시지(RedisTemplate 직렬화)도 읽음")
+  void decode_legacyJson() {
+    // Given
+    OrderCreatedEvent created = new OrderCreatedEvent(1L, 2L, List.of(new OrderItemInfo(3L, 4)));
+    byte[] legacy = new GenericJackson2JsonRedisSerializer(objectMapper).serialize(created);
+
+    // When
+    OrderCreatedEvent decoded = codec("smile").decode(legacy, OrderCreatedEvent.class);
+
+    // Then
+    assertThat(decoded).isEqualTo(created);
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 schema version - 실패 (ack 하지 않아 새 버전 노드가 처리)")
+  void decode_newerSchemaVersion_fails() {
+    // Given
+    byte[] message = codec("smile").encode(event);
+    message[1] = EventMessageCodec.SCHEMA_VERSION + 1;
+
+    // When & Then
+    assertThatThrownBy(() -> codec("smile").decode(message, OrderAcceptedEvent.class))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("schema version");
+  }
+
+  @Test
+  @DisplayName("smile 메시지 - 기존 RedisTemplate JSON 보다 작음")
+  void smile_smallerThanRedisTemplateJson() {
+    // Given
+    byte[] json = new GenericJackson2JsonRedisSerializer(objectMapper).serialize(event);
+
+    // When
+    byte[] smile = codec("smile").encode(event);
+
+    // Then
+    assertThat(smile.length).isLessThan(json.length);
+  }
+
+  @Test
+  @DisplayName("알 수 없는 codec 설정 - 기동 실패")
+  void unknownCodec_fails() {
+    assertThatThrownBy(() -> codec("avro"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("avro");
+  }
+
+  private EventMessageCodec codec(String name) {
+    EventStreamProperties properties = new EventStreamProperties();
+    properties.setCodec(name);
+    return new EventMessageCodec(List.of(jsonCodec, smileCodec), jsonCodec, properties);
+  }
+}
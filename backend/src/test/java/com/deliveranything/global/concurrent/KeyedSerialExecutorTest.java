@@ -0,0 +1,114 @@
+package com.deliveranything.global.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeyedSerialExecutor 단위 테스트")
+class KeyedSerialExecutorTest {
+
+  private static final String KEY = KeyedSerialExecutor.orderKey(1L);
+
+  private KeyedSerialExecutor executor;
+  private final List<String> executed = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    executor = new KeyedSerialExecutor(Executors.newVirtualThreadPerTaskExecutor(),
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("같은 키 - 앞 작업이 늦게 끝나도 들어온 순서대로 실행")
+  void sameKey_runsInOrder() throws InterruptedException {
+    // Given
+    CountDownLatch done = new CountDownLatch(3);
+
+    // When
+    executor.execute(KEY, () -> record("first", 100, done));
+    executor.execute(KEY, () -> record("second", 0, done));
+    executor.execute(KEY, () -> record("third", 0, done));
+
+    // Then
+    assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(executed).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  @DisplayName("다른 키 - 서로 기다리지 않고 병렬 실행")
+  void differentKeys_runInParallel() throws InterruptedException {
+    // Given: 두 작업이 서로의 시작을 기다림 (직렬이면 끝나지 않음)
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch done = new CountDownLatch(2);
+    Runnable task = () -> {
+      started.countDown();
+      try {
+        if (started.await(1, TimeUnit.SECONDS)) {
+          done.countDown();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+
+    // When
+    executor.execute(KeyedSerialExecutor.orderKey(1L), task);
+    executor.execute(KeyedSerialExecutor.orderKey(2L), task);
+
+    // Then
+    assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("동기 실행 - 같은 키의 비동기 작업이 끝난 뒤 호출 스레드에서 실행")
+  void run_waitsForQueuedTasks() {
+    // Given
+    executor.execute(KEY, () -> record("async", 100, new CountDownLatch(1)));
+
+    // When
+    executor.run(KEY, () -> executed.add("sync"));
+
+    // Then
+    assertThat(executed).containsExactly("async", "sync");
+    assertThat(executor.activeLanes()).isZero();
+  }
+
+  @Test
+  @DisplayName("실패한 작업 - 뒤 작업은 계속 실행, 동기 실행 예외는 호출자에게 전달")
+  void failures_doNotBlockLane() throws InterruptedException {
+    // Given
+    CountDownLatch done = new CountDownLatch(1);
+    executor.execute(KEY, () -> {
+      throw new IllegalStateException("boom");
+    });
+
+    // When / Then
+    assertThatThrownBy(() -> executor.run(KEY, () -> {
+      throw new IllegalArgumentException("sync boom");
+    })).isInstanceOf(IllegalArgumentException.class);
+    executor.execute(KEY, () -> record("after", 0, done));
+
+    assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(executed).containsExactly("after");
+  }
+
+  private void record(String name, long delayMillis, CountDownLatch done) {
+    try {
+      Thread.sleep(delayMillis);
+      executed.add(name);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      done.countDown();
+    }
+  }
+}
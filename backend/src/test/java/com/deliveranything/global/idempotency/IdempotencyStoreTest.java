@@ -0,0 +1,132 @@
+package com.deliveranything.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore 단위 테스트")
+class IdempotencyStoreTest {
+
+  private static final String KEY = "idempotency:stock:order-created:1";
+  private static final Duration DONE_TTL = Duration.ofHours(24);
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger executions = new AtomicInteger();
+
+  private IdempotencyStore idempotencyStore;
+
+  @BeforeEach
+  void setUp() {
+    idempotencyStore = new IdempotencyStore(redisTemplate, Duration.ofMinutes(5), DONE_TTL,
+        meterRegistry);
+  }
+
+  @Test
+  @DisplayName("처음 받은 이벤트 - 실행 후 완료 표시")
+  void firstDelivery_runsAndMarksDone() {
+    // Given
+    givenClaimResult(IdempotencyStore.ACQUIRED);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+    // When
+    idempotencyStore.runOnce("stock", "order-created", 1L, executions::incrementAndGet);
+
+    // Then
+    assertThat(executions.get()).isEqualTo(1);
+    verify(valueOperations).set(KEY, IdempotencyStore.DONE, DONE_TTL);
+    assertThat(count("acquired")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("이미 처리한 이벤트 - 실행하지 않고 건너뜀")
+  void duplicate_skipped() {
+    // Given
+    givenClaimResult(IdempotencyStore.DONE);
+
+    // When
+    idempotencyStore.runOnce("stock", "order-created", 1L, executions::incrementAndGet);
+
+    // Then
+    assertThat(executions.get()).isZero();
+    verify(redisTemplate, never()).opsForValue();
+    assertThat(count("duplicate")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 곳에서 처리 중 - 예외를 던져 나중에 재처리")
+  void inProgress_throws() {
+    // Given
+    givenClaimResult(IdempotencyStore.PROCESSING);
+
+    // When / Then
+    assertThatThrownBy(() -> idempotencyStore.runOnce("stock", "order-created", 1L,
+        executions::incrementAndGet))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(executions.get()).isZero();
+    assertThat(count("in-progress")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("일시적 실패 - 점유를 풀어 재전달 시 다시 실행")
+  void failure_releasesClaim() {
+    // Given
+    givenClaimResult(IdempotencyStore.ACQUIRED);
+
+    // When / Then
+    assertThatThrownBy(() -> idempotencyStore.runOnce("stock", "order-created", 1L, () -> {
+      throw new IllegalStateException("db down");
+    })).isInstanceOf(IllegalStateException.class);
+    verify(redisTemplate).delete(KEY);
+    verify(redisTemplate, never()).opsForValue();
+  }
+
+  @Test
+  @DisplayName("업무상 거절 - 다시 실행해도 같으므로 완료 표시 후 예외 전달")
+  void rejected_marksDone() {
+    // Given
+    givenClaimResult(IdempotencyStore.ACQUIRED);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+    // When / Then
+    assertThatThrownBy(() -> idempotencyStore.runOnce("stock", "order-created", 1L, () -> {
+      throw new CustomException(ErrorCode.ORDER_NOT_FOUND);
+    })).isInstanceOf(CustomException.class);
+    verify(valueOperations).set(KEY, IdempotencyStore.DONE, DONE_TTL);
+    verify(redisTemplate, never()).delete(anyString());
+  }
+
+  private void givenClaimResult(String result) {
+    given(redisTemplate.execute(eq(IdempotencyStore.CLAIM_SCRIPT), eq(List.of(KEY)),
+        eq(IdempotencyStore.PROCESSING), eq("300000"))).willReturn(result);
+  }
+
+  private double count(String result) {
+    return meterRegistry.counter("event.idempotency.checks", "result", result).count();
+  }
+}
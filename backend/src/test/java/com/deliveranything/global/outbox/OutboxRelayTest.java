@@ -0,0 +1,152 @@
+package com.deliveranything.global.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deliveranything.global.stream.EventStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 단위 테스트")
+class OutboxRelayTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  private final RedisConnection connection = mock(RedisConnection.class);
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay = new OutboxRelay(outboxEventRepository, redisTemplate,
+        TransactionOperations.withoutTransaction(), BATCH_SIZE, new EventStreamProperties(),
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("대기 이벤트 - 저장 순서대로 파이프라인 발행 후 삭제")
+  void relayBatch_publishesInOrderThenDeletes() {
+    // Given
+    when(outboxEventRepository.findBatchForRelay(any(Pageable.class)))
+        .thenReturn(List.of(event(1L, "order-completed-event", "{\"a\":1}"),
+            event(2L, "store-events", "{\"b\":2}")));
+    runPipelineOnMockConnection();
+
+    // When
+    int relayed = relay.relayBatch();
+
+    // Then
+    assertThat(relayed).isEqualTo(2);
+    InOrder order = inOrder(connection, outboxEventRepository);
+    order.verify(connection).publish(bytes("order-completed-event"), bytes("{\"a\":1}"));
+    order.verify(connection).publish(bytes("store-events"), bytes("{\"b\":2}"));
+    order.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+  }
+
+  @Test
+  @DisplayName("saga 이벤트 - PUBLISH 대신 같은 이름의 stream 에 XADD")
+  @SuppressWarnings("unchecked")
+  void relayBatch_sagaTopic_addsToStream() {
+    // Given
+    when(outboxEventRepository.findBatchForRelay(any(Pageable.class)))
+        .thenReturn(List.of(event(1L, "order-created-event", "{\"a\":1}")));
+    RedisStreamCommands streamCommands = mock(RedisStreamCommands.class);
+    when(connection.streamCommands()).thenReturn(streamCommands);
+    runPipelineOnMockConnection();
+
+    // When
+    relay.relayBatch();
+
+    // Then
+    ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> captor =
+        ArgumentCaptor.forClass(MapRecord.class);
+    verify(streamCommands).xAdd(captor.capture(), any(XAddOptions.class));
+    assertThat(captor.getValue().getStream()).isEqualTo(bytes("order-created-event"));
+    assertThat(captor.getValue().getValue().values()).containsExactly(bytes("{\"a\":1}"));
+    verify(connection, never()).publish(any(byte[].class), any(byte[].class));
+    verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("발행 실패 - 삭제하지 않아 다음 주기에 다시 발행")
+  void relayBatch_publishFails_keepsRows() {
+    // Given
+    when(outboxEventRepository.findBatchForRelay(any(Pageable.class)))
+        .thenReturn(List.of(event(1L, "order-created-event", "{}")));
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenThrow(new RedisConnectionFailureException("redis down"));
+
+    // When
+    relay.relay();
+
+    // Then
+    verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyList());
+  }
+
+  @Test
+  @DisplayName("배치가 가득 참 - 빈 배치가 나올 때까지 이어서 발행")
+  void relay_drainsFullBatches() {
+    // Given
+    when(outboxEventRepository.findBatchForRelay(any(Pageable.class)))
+        .thenReturn(List.of(event(1L, "c", "1"), event(2L, "c", "2")))
+        .thenReturn(List.of(event(3L, "c", "3")));
+    runPipelineOnMockConnection();
+
+    // When
+    relay.relay();
+
+    // Then
+    verify(outboxEventRepository, times(2)).findBatchForRelay(any(Pageable.class));
+    verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+  }
+
+  private void runPipelineOnMockConnection() {
+    when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+      RedisCallback<?> callback = invocation.getArgument(0);
+      callback.doInRedis(connection);
+      return new ArrayList<>();
+    });
+  }
+
+  private static OutboxEvent event(Long id, String channel, String payload) {
+    OutboxEvent event = new OutboxEvent(channel, bytes(payload));
+    ReflectionTestUtils.setField(event, "id", id);
+    return event;
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
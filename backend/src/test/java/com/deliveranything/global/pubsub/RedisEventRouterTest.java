@@ -0,0 +1,235 @@
+package com.deliveranything.global.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.global.concurrent.KeyedSerialExecutor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisEventRouter 단위 테스트")
+class RedisEventRouterTest {
+
+  private static final String CHANNEL = "order-status-events";
+
+  @Mock
+  private RedisMessageListenerContainer container;
+
+  // Spring Boot 기본 설정처럼 모르는 필드는 무시
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("구독 - 핸들러가 여러 개여도 채널마다 1번만 구독")
+  @SuppressWarnings("unchecked")
+  void subscribe_oncePerChannel() {
+    // Given
+    RedisEventRouter router = router(Runnable::run,
+        new RecordingHandler<>(CHANNEL, StatusEvent.class),
+        new RecordingHandler<>(CHANNEL, StatusEvent.class),
+        new RecordingHandler<>("store-events", StatusEvent.class));
+
+    // When
+    router.subscribe();
+
+    // Then
+    ArgumentCaptor<Collection<? extends Topic>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(container).addMessageListener(eq(router), captor.capture());
+    assertThat(captor.getValue()).containsExactlyInAnyOrder(new ChannelTopic(CHANNEL),
+        new ChannelTopic("store-events"));
+  }
+
+  @Test
+  @DisplayName("같은 타입 핸들러 - 한 번 역직렬화한 이벤트를 함께 전달")
+  void sameType_decodedOnce() {
+    // Given
+    RecordingHandler<StatusEvent> first = new RecordingHandler<>(CHANNEL, StatusEvent.class);
+    RecordingHandler<StatusEvent> second = new RecordingHandler<>(CHANNEL, StatusEvent.class);
+    RecordingHandler<OrderIdOnly> other = new RecordingHandler<>(CHANNEL, OrderIdOnly.class);
+    RedisEventRouter router = router(Runnable::run, first, second, other);
+
+    // When
+    router.onMessage(message(CHANNEL, "{\"orderId\":\"1\",\"seq\":1}"), null);
+
+    // Then: 타입이 다른 핸들러만 따로 역직렬화
+    assertThat(first.events).containsExactly(new StatusEvent("1", 1));
+    assertThat(second.events.get(0)).isSameAs(first.events.get(0));
+    assertThat(other.events).containsExactly(new OrderIdOnly("1"));
+  }
+
+  @Test
+  @DisplayName("등록되지 않은 채널 - 무시")
+  void unknownChannel_ignored() {
+    // Given
+    RecordingHandler<StatusEvent> handler = new RecordingHandler<>(CHANNEL, StatusEvent.class);
+    RedisEventRouter router = router(Runnable::run, handler);
+
+    // When
+    router.onMessage(message("other-channel", "{\"orderId\":\"1\",\"seq\":1}"), null);
+
+    // Then
+    assertThat(handler.events).isEmpty();
+  }
+
+  @Test
+  @DisplayName("핸들러 실패/역직렬화 실패 - 다른 핸들러는 계속 처리하고 실패로 집계")
+  void failures_isolatedAndCounted() {
+    // Given
+    RecordingHandler<StatusEvent> failing = new RecordingHandler<>(CHANNEL, StatusEvent.class);
+    failing.failure = new IllegalStateException("boom");
+    RecordingHandler<StatusEvent> handler = new RecordingHandler<>(CHANNEL, StatusEvent.class);
+    RedisEventRouter router = router(Runnable::run, failing, handler);
+
+    // When
+    router.onMessage(message(CHANNEL, "{\"orderId\":\"1\",\"seq\":1}"), null);
+    router.onMessage(message(CHANNEL, "not-json"), null);
+
+    // Then
+    assertThat(handler.events).containsExactly(new StatusEvent("1", 1));
+    assertThat(count("handled")).isEqualTo(1);
+    assertThat(count("failed")).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("순서 키 - 같은 주문 이벤트는 앞 이벤트가 늦게 끝나도 도착 순서대로 실행")
+  void orderingKey_serialPerKey() throws InterruptedException {
+    // Given: 첫 이벤트만 오래 걸림
+    CountDownLatch done = new CountDownLatch(3);
+    RecordingHandler<StatusEvent> handler = new RecordingHandler<>(CHANNEL, StatusEvent.class);
+    handler.orderingKey = event -> "order:" + event.orderId();
+    handler.delayMillis = event -> event.seq() == 1 ? 100L : 0L;
+    handler.done = done;
+    RedisEventRouter router = router(Executors.newVirtualThreadPerTaskExecutor(), handler);
+
+    // When
+    for (int seq = 1; seq <= 3; seq++) {
+      router.onMessage(message(CHANNEL, "{\"orderId\":\"1\",\"seq\":" + seq + "}"), null);
+    }
+
+    // Then
+    assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(handler.events).extracting(StatusEvent::seq).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("동시 실행 제한 - maxConcurrency 를 넘겨 실행하지 않음")
+  void maxConcurrency_limitsParallelism() throws InterruptedException {
+    // Given
+    CountDownLatch done = new CountDownLatch(10);
+    RecordingHandler<StatusEvent> handler = new RecordingHandler<>(CHANNEL, StatusEvent.class);
+    handler.maxConcurrency = 2;
+    handler.delayMillis = event -> 20L;
+    handler.done = done;
+    RedisEventRouter router = router(Executors.newVirtualThreadPerTaskExecutor(), handler);
+
+    // When
+    for (int seq = 1; seq <= 10; seq++) {
+      router.onMessage(message(CHANNEL, "{\"orderId\":\"" + seq + "\",\"seq\":1}"), null);
+    }
+
+    // Then
+    assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(handler.maxRunning.get()).isEqualTo(2);
+  }
+
+  private RedisEventRouter router(Executor executor, RedisEventHandler<?>... handlers) {
+    return new RedisEventRouter(container, objectMapper, List.of(handlers),
+        new KeyedSerialExecutor(meterRegistry), meterRegistry, executor);
+  }
+
+  private double count(String result) {
+    return meterRegistry.counter("event.router.messages", "result", result).count();
+  }
+
+  private static DefaultMessage message(String channel, String body) {
+    return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  record StatusEvent(String orderId, int seq) {
+
+  }
+
+  record OrderIdOnly(String orderId) {
+
+  }
+
+  private static class RecordingHandler<T> implements RedisEventHandler<T> {
+
+    private final String channel;
+    private final Class<T> type;
+    private final List<T> events = new CopyOnWriteArrayList<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private int maxConcurrency;
+    private Function<T, String> orderingKey = event -> null;
+    private Function<T, Long> delayMillis = event -> 0L;
+    private RuntimeException failure;
+    private CountDownLatch done = new CountDownLatch(0);
+
+    RecordingHandler(String channel, Class<T> type) {
+      this.channel = channel;
+      this.type = type;
+    }
+
+    @Override
+    public String channel() {
+      return channel;
+    }
+
+    @Override
+    public Class<T> eventType() {
+      return type;
+    }
+
+    @Override
+    public int maxConcurrency() {
+      return maxConcurrency;
+    }
+
+    @Override
+    public String orderingKey(T event) {
+      return orderingKey.apply(event);
+    }
+
+    @Override
+    public void handle(T event) throws Exception {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(delayMillis.apply(event));
+        if (failure != null) {
+          throw failure;
+        }
+        events.add(event);
+      } finally {
+        running.decrementAndGet();
+        done.countDown();
+      }
+    }
+  }
+}
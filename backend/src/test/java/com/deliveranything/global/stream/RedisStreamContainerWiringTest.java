@@ -0,0 +1,134 @@
+package com.deliveranything.global.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.deliveranything.global.config.RedisConfig;
+import com.deliveranything.global.enums.RedisStreamTopic;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+
+/**
+ * RedisConfig 의 stream 컨테이너 연결 테스트 - 실제 컨테이너를 스프링 컨텍스트로 띄우고 Redis 연결만 XREADGROUP 응답을 흉내 -
+ * 컨테이너가 시작되지 않으면 구독이 폴링하지 않아 핸들러까지 오지 않음
+ */
+@DisplayName("Redis Stream 컨테이너 연결 테스트")
+class RedisStreamContainerWiringTest {
+
+  private static final String GROUP = "stock";
+  private static final String KEY = RedisStreamTopic.ORDER_CREATED.getKey();
+  private static final RecordId RECORD_ID = RecordId.of("1700000000000-0");
+  private static final byte[] PAYLOAD = {2, 1, 0x3A, 0x29};
+
+  private final AtomicBoolean delivered = new AtomicBoolean();
+  private AnnotationConfigApplicationContext context;
+
+  @BeforeEach
+  void setUp() {
+    EventStreamProperties properties = new EventStreamProperties();
+    properties.setPollTimeout(Duration.ofMillis(50));
+
+    RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+    RedisConnection connection = redisWithOneRecord();
+    given(connectionFactory.getConnection()).willReturn(connection);
+
+    context = new AnnotationConfigApplicationContext();
+    context.registerBean(RedisConnectionFactory.class, () -> connectionFactory);
+    context.registerBean(EventStreamProperties.class, () -> properties);
+    context.register(RedisConfig.class);
+    context.refresh();
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.close();
+  }
+
+  @Test
+  @DisplayName("컨텍스트 시작 - 컨테이너가 시작되어 구독한 stream 메시지가 핸들러까지 전달되고 ack")
+  @SuppressWarnings("unchecked")
+  void publishedRecordReachesHandler() throws InterruptedException {
+    // Given
+    StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container =
+        context.getBean(StreamMessageListenerContainer.class);
+    RedisTemplate<String, byte[]> eventStreamRedisTemplate = mock(RedisTemplate.class);
+    StreamOperations<String, String, byte[]> streamOperations = mock(StreamOperations.class);
+    given(eventStreamRedisTemplate.opsForStream()).willReturn(streamOperations);
+    RedisStreamEventBus eventBus = new RedisStreamEventBus(eventStreamRedisTemplate, container,
+        context.getBean(EventStreamProperties.class), new SimpleMeterRegistry(), "node-1");
+    BlockingQueue<byte[]> handled = new LinkedBlockingQueue<>();
+
+    // When
+    eventBus.subscribe(GROUP, List.of(RedisStreamTopic.ORDER_CREATED),
+        (topic, payload) -> handled.add(payload));
+
+    // Then
+    assertThat(container.isRunning()).isTrue();
+    assertThat(handled.poll(5, TimeUnit.SECONDS)).isEqualTo(PAYLOAD);
+    verify(streamOperations, timeout(5000)).acknowledge(KEY, GROUP, RECORD_ID);
+  }
+
+  @Test
+  @DisplayName("컨텍스트 종료 - 컨테이너도 멈춤")
+  @SuppressWarnings("unchecked")
+  void stopsWithContext() {
+    // Given
+    StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container =
+        context.getBean(StreamMessageListenerContainer.class);
+
+    // When
+    context.close();
+
+    // Then
+    assertThat(container.isRunning()).isFalse();
+  }
+
+  // 첫 XREADGROUP 에만 레코드 1건, 이후에는 빈 응답
+  private RedisConnection redisWithOneRecord() {
+    ByteRecord record = StreamRecords.rawBytes(
+            Map.of(RedisStreamEventBus.PAYLOAD_FIELD.getBytes(StandardCharsets.UTF_8), PAYLOAD))
+        .withStreamKey(KEY.getBytes(StandardCharsets.UTF_8))
+        .withId(RECORD_ID);
+    Answer<Object> reads = invocation -> {
+      if (!invocation.getMethod().getName().equals("xReadGroup")) {
+        return RETURNS_DEFAULTS.answer(invocation);
+      }
+      if (delivered.compareAndSet(false, true)) {
+        return List.of(record);
+      }
+      Thread.sleep(20);
+      return List.of();
+    };
+    RedisStreamCommands streamCommands = mock(RedisStreamCommands.class, reads);
+    return mock(RedisConnection.class, invocation ->
+        invocation.getMethod().getName().equals("streamCommands")
+            ? streamCommands : reads.answer(invocation));
+  }
+}
@@ -0,0 +1,185 @@
+package com.deliveranything.global.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deliveranything.global.enums.RedisStreamTopic;
+import com.deliveranything.global.exception.CustomException;
+import com.deliveranything.global.exception.ErrorCode;
+import com.deliveranything.global.stream.RedisStreamEventBus.StreamSubscription;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStreamEventBus 단위 테스트")
+class RedisStreamEventBusTest {
+
+  private static final String KEY = "order-created-event";
+  private static final String GROUP = "stock";
+  private static final String CONSUMER = "node-1";
+  private static final byte[] PAYLOAD = {2, 1, 0x3A, 0x29};
+
+  @Mock
+  private RedisTemplate<String, byte[]> redisTemplate;
+  @Mock
+  private StreamMessageListenerContainer<String, MapRecord<String, String, byte[]>> container;
+  @Mock
+  private StreamOperations<String, String, byte[]> streamOperations;
+
+  private final EventStreamProperties properties = new EventStreamProperties();
+  private final List<byte[]> handled = new ArrayList<>();
+  private RedisStreamEventBus eventBus;
+
+  @BeforeEach
+  void setUp() {
+    eventBus = new RedisStreamEventBus(redisTemplate, container, properties,
+        new SimpleMeterRegistry(), CONSUMER);
+  }
+
+  @Test
+  @DisplayName("구독 - topic 마다 group 생성 후 수동 ack 로 등록")
+  @SuppressWarnings("unchecked")
+  void subscribe_createsGroupAndRegistersPerTopic() {
+    // When
+    eventBus.subscribe(GROUP,
+        List.of(RedisStreamTopic.ORDER_CREATED, RedisStreamTopic.ORDER_PAYMENT_FAILED),
+        (topic, payload) -> handled.add(payload));
+
+    // Then
+    verify(redisTemplate, times(2)).execute(any(RedisCallback.class));
+    ArgumentCaptor<StreamReadRequest<String>> captor =
+        ArgumentCaptor.forClass(StreamReadRequest.class);
+    verify(container, times(2)).register(captor.capture(), any(StreamListener.class));
+    assertThat(captor.getAllValues())
+        .extracting(request -> request.getStreamOffset().getKey())
+        .containsExactly(KEY, "order-payment-failed-event");
+  }
+
+  @Test
+  @DisplayName("처리 성공 - ack")
+  void process_success_acknowledges() {
+    // Given
+    when(redisTemplate.<String, byte[]>opsForStream()).thenReturn(streamOperations);
+
+    // When
+    eventBus.process(subscription((topic, payload) -> handled.add(payload)), record("1-0"));
+
+    // Then
+    assertThat(handled).containsExactly(PAYLOAD);
+    verify(streamOperations).acknowledge(KEY, GROUP, RecordId.of("1-0"));
+  }
+
+  @Test
+  @DisplayName("업무 예외 - 재시도해도 같은 결과이므로 ack")
+  void process_customException_acknowledges() {
+    // Given
+    when(redisTemplate.<String, byte[]>opsForStream()).thenReturn(streamOperations);
+
+    // When
+    eventBus.process(subscription((topic, payload) -> {
+      throw new CustomException(ErrorCode.REDIS_MESSAGE_PROCESSING_ERROR);
+    }), record("1-0"));
+
+    // Then
+    verify(streamOperations).acknowledge(KEY, GROUP, RecordId.of("1-0"));
+  }
+
+  @Test
+  @DisplayName("처리 실패 - ack 하지 않아 pending 에 남음")
+  void process_failure_leavesPending() {
+    // When
+    eventBus.process(subscription((topic, payload) -> {
+      throw new IllegalStateException("db down");
+    }), record("1-0"));
+
+    // Then
+    verify(redisTemplate, never()).opsForStream();
+  }
+
+  @Test
+  @DisplayName("pending 재처리 - 오래된 메시지는 가져와 처리, 전달 횟수 초과는 dead-letter")
+  @SuppressWarnings("unchecked")
+  void reclaim_claimsIdleAndDeadLettersExhausted() {
+    // Given
+    when(redisTemplate.<String, byte[]>opsForStream()).thenReturn(streamOperations);
+    Duration idle = properties.getReclaimMinIdle();
+    PendingMessages pending = new PendingMessages(GROUP, List.of(
+        pendingMessage("1-0", Duration.ofSeconds(1), 1),
+        pendingMessage("2-0", idle.plusSeconds(1), 2),
+        pendingMessage("3-0", idle.plusSeconds(1), properties.getMaxDeliveries())));
+    when(streamOperations.pending(eq(KEY), eq(GROUP), any(Range.class), anyLong()))
+        .thenReturn(pending);
+    when(streamOperations.range(KEY, Range.closed("3-0", "3-0")))
+        .thenReturn(List.of(record("3-0")));
+    when(streamOperations.claim(KEY, GROUP, CONSUMER, idle, RecordId.of("2-0")))
+        .thenReturn(List.of(record("2-0")));
+
+    // When
+    eventBus.reclaim(subscription((topic, payload) -> handled.add(payload)));
+
+    // Then: 2-0 재처리 후 ack, 3-0 dead-letter 후 ack, 1-0 은 그대로
+    assertThat(handled).hasSize(1);
+    verify(streamOperations).acknowledge(KEY, GROUP, RecordId.of("2-0"));
+    verify(streamOperations).acknowledge(KEY, GROUP, RecordId.of("3-0"));
+    verify(streamOperations, never()).acknowledge(KEY, GROUP, RecordId.of("1-0"));
+
+    ArgumentCaptor<MapRecord<String, String, byte[]>> captor =
+        ArgumentCaptor.forClass(MapRecord.class);
+    verify(streamOperations).add(captor.capture());
+    assertThat(captor.getValue().getStream()).isEqualTo(properties.getDeadLetterKey());
+    assertThat(captor.getValue().getValue())
+        .containsEntry("stream", bytes(KEY))
+        .containsEntry("group", bytes(GROUP))
+        .containsEntry("id", bytes("3-0"))
+        .containsEntry(RedisStreamEventBus.PAYLOAD_FIELD, PAYLOAD);
+  }
+
+  private static StreamSubscription subscription(StreamEventHandler handler) {
+    return new StreamSubscription(KEY, GROUP, handler);
+  }
+
+  private static MapRecord<String, String, byte[]> record(String id) {
+    return StreamRecords.newRecord()
+        .in(KEY)
+        .withId(RecordId.of(id))
+        .ofMap(Map.of(RedisStreamEventBus.PAYLOAD_FIELD, PAYLOAD));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static PendingMessage pendingMessage(String id, Duration idle, long deliveries) {
+    return new PendingMessage(RecordId.of(id), Consumer.from(GROUP, "node-0"), idle, deliveries);
+  }
+}
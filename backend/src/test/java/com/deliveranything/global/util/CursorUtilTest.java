@@ -2,6 +2,7 @@ package com.deliveranything.global.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +33,20 @@ class CursorUtilTest {
     assertThat(decoded[0]).isEqualTo(key1);
     assertThat(decoded[1].toString()).isEqualTo(key2.toString());
   }
+
+  @Test
+  @DisplayName("날짜 + ID 키 인코딩 및 디코딩 테스트")
+  void encodeAndDecodeDateTimeKeyTest() {
+    LocalDateTime completedAt = LocalDateTime.of(2026, 1, 1, 12, 30, 15, 123_456_000);
+    String encoded = CursorUtil.encode(completedAt, 42L);
+    assertThat(encoded).isNotNull();
+
+    Object[] decoded = CursorUtil.decode(encoded);
+    assertThat(decoded).isNotNull().hasSize(2);
+    assertThat(LocalDateTime.parse(decoded[0].toString())).isEqualTo(completedAt);
+    assertThat(Long.parseLong(decoded[1].toString())).isEqualTo(42L);
+  }
+
   @Test
   @DisplayName("null 키 인코딩 시 null 반환 테스트")
   void encodeNullKeyTest() {